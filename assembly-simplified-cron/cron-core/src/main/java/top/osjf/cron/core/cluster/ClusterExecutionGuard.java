@@ -0,0 +1,395 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+import top.osjf.cron.core.repository.CronMethodRunnable;
+import top.osjf.cron.core.repository.DelegatingRunnable;
+import top.osjf.cron.core.repository.RepositoryUtils;
+import top.osjf.cron.core.support.IntervalExpression;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A distributed execution guard preventing the instances of a service from running the
+ * same fire of a cron task more than once.
+ *
+ * <p>Before each fire, the guarded task acquires a lease of its lock from the
+ * {@link CronLockStore}; the instance getting it runs the task while the others skip the
+ * fire. The lock is named after the task expression and its name, which are the same
+ * on every instance, see {@link #resolveLockName(String, Runnable)}. Since two tasks
+ * sharing a lock name would skip each other's fires, the tasks of this instance whose
+ * lock name is taken by another of its tasks are not guarded and run on every instance,
+ * until the other is {@link #unguard unguarded}; such tasks are to be told apart by a
+ * {@link top.osjf.cron.core.repository.NamedRunnable}. During the execution, the lease
+ * and its fencing token are available to the task through {@link #currentLease()}.
+ *
+ * <p>The instances fire at the same nominal time give or take their clock skew and
+ * their scheduling delay, so the lock of a fire is not released at the end of its
+ * execution but held until {@link #setMaxClockSkew maxClockSkew} before the next fire
+ * time of the expression: an instance firing the same tick late, however late, finds
+ * the lock held, while the instances firing the next tick early by less than the skew
+ * find it released. When the next fire time is unknown, the lock is held until the skew
+ * before the next fire of an {@link IntervalExpression}, and for the skew after the
+ * start of the fire otherwise. The lease lasts at most {@link #setLeaseTime leaseTime},
+ * after which the lease of an instance that died during a fire expires. A fire whose
+ * lease cannot be acquired because the store fails is skipped too, unless
+ * {@link #setRunOnStoreFailure runOnStoreFailure} is set.
+ *
+ * <p>The guard is set on a repository with
+ * {@link top.osjf.cron.core.repository.AbstractCronTaskRepository#setExecutionGuard}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class ClusterExecutionGuard {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterExecutionGuard.class);
+
+    /**
+     * The lease of the fire running in the current thread.
+     */
+    private static final ThreadLocal<CronLease> CURRENT_LEASE = new ThreadLocal<>();
+
+    private final CronLockStore lockStore;
+
+    private final String owner;
+
+    /**
+     * The number of the tasks guarded by this guard, by lock name.
+     */
+    private final ConcurrentMap<String, Integer> guardedTaskCounts = new ConcurrentHashMap<>();
+
+    private long leaseTime = TimeUnit.MINUTES.toMillis(5);
+
+    private long maxClockSkew = TimeUnit.SECONDS.toMillis(1);
+
+    private boolean runOnStoreFailure = false;
+
+    /**
+     * Creates a new {@code ClusterExecutionGuard} with a unique owner name made of the
+     * process name and a random suffix.
+     *
+     * @param lockStore the store of the locks.
+     */
+    public ClusterExecutionGuard(@NotNull CronLockStore lockStore) {
+        this(lockStore, ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID());
+    }
+
+    /**
+     * Creates a new {@code ClusterExecutionGuard} with the given owner name.
+     *
+     * @param lockStore the store of the locks.
+     * @param owner     the owner name of this instance, unique among the instances.
+     */
+    public ClusterExecutionGuard(@NotNull CronLockStore lockStore, @NotNull String owner) {
+        this.lockStore = lockStore;
+        this.owner = owner;
+    }
+
+    /**
+     * Return the lease of the guarded fire running in the current thread.
+     *
+     * @return the lease of the running fire, or {@literal null} if the current thread
+     * does not run a guarded fire.
+     */
+    @Nullable
+    public static CronLease currentLease() {
+        return CURRENT_LEASE.get();
+    }
+
+    /**
+     * @param leaseTime the maximum time in milliseconds a lock is held by a fire, five
+     *                  minutes by default, to be longer than the longest execution.
+     */
+    public void setLeaseTime(long leaseTime) {
+        if (leaseTime <= 0) {
+            throw new IllegalArgumentException("leaseTime must be positive: " + leaseTime);
+        }
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * @param maxClockSkew the maximum clock skew in milliseconds between the instances,
+     *                     one second by default, by which the lock of a fire is released
+     *                     before the next fire time.
+     */
+    public void setMaxClockSkew(long maxClockSkew) {
+        if (maxClockSkew < 0) {
+            throw new IllegalArgumentException("maxClockSkew must not be negative: " + maxClockSkew);
+        }
+        this.maxClockSkew = maxClockSkew;
+    }
+
+    /**
+     * @param runOnStoreFailure whether a fire runs when the lock store fails,
+     *                          {@code false} by default.
+     */
+    public void setRunOnStoreFailure(boolean runOnStoreFailure) {
+        this.runOnStoreFailure = runOnStoreFailure;
+    }
+
+    /**
+     * @return the owner name of this instance.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Wrap the given task so that each of its fires runs under a lease of its lock,
+     * without knowledge of the fire times of the expression.
+     *
+     * @param expression the expression of the task.
+     * @param runnable   the task.
+     * @return the guarded task, or the given task itself if it is guarded already or has
+     * no lock name stable across the instances.
+     * @see #guard(String, Runnable, LongUnaryOperator)
+     */
+    public Runnable guard(@NotNull String expression, @NotNull Runnable runnable) {
+        return guard(expression, runnable, null);
+    }
+
+    /**
+     * Wrap the given task so that each of its fires runs under a lease of its lock, held
+     * until shortly before the next fire time computed by the given function.
+     *
+     * @param expression   the expression of the task.
+     * @param runnable     the task.
+     * @param nextFireTime the function computing the first fire time of the expression
+     *                     strictly after a time, both in epoch milliseconds, returning
+     *                     {@code -1} when there is none; {@literal null} if unknown.
+     * @return the guarded task, or the given task itself if it is guarded already or has
+     * no lock name stable across the instances.
+     */
+    public Runnable guard(@NotNull String expression, @NotNull Runnable runnable,
+                          @Nullable LongUnaryOperator nextFireTime) {
+        if (runnable instanceof GuardedRunnable) {
+            return runnable;
+        }
+        String lockName = resolveLockName(expression, runnable);
+        if (lockName == null) {
+            LOGGER.warn("No cluster-wide lock name for task {}, it runs on every instance.", runnable);
+            return runnable;
+        }
+        GuardedRunnable guarded = new GuardedRunnable(runnable);
+        guarded.reset(lockName, nextFireTime, resolveHoldTime(expression, nextFireTime));
+        return guarded;
+    }
+
+    /**
+     * Follow the new expression of a task guarded by a {@code ClusterExecutionGuard} in
+     * its lock name and in the hold time of its locks.
+     *
+     * @param runnable     the scheduled task, possibly decorated by a guard.
+     * @param expression   the new expression of the task.
+     * @param nextFireTime the function computing the fire times of the new expression,
+     *                     {@literal null} if unknown.
+     */
+    public static void reguard(@Nullable Runnable runnable, @NotNull String expression,
+                               @Nullable LongUnaryOperator nextFireTime) {
+        GuardedRunnable guarded = RepositoryUtils.findDelegate(runnable, GuardedRunnable.class);
+        if (guarded != null) {
+            guarded.reguard(expression, nextFireTime);
+        }
+    }
+
+    /**
+     * Release the lock name of a removed task guarded by a {@code ClusterExecutionGuard},
+     * so that another task of the same name is guarded again.
+     *
+     * @param runnable the scheduled task, possibly decorated by a guard.
+     */
+    public static void unguard(@Nullable Runnable runnable) {
+        GuardedRunnable guarded = RepositoryUtils.findDelegate(runnable, GuardedRunnable.class);
+        if (guarded != null) {
+            guarded.unguard();
+        }
+    }
+
+    /**
+     * Resolve the name of the lock of the given task, the same on every instance: the
+     * {@link RepositoryUtils#resolveStableTaskName stable name} of the task, that is the
+     * name of its {@link top.osjf.cron.core.repository.NamedRunnable}, the signature of
+     * the method of a {@link CronMethodRunnable} or the name of a named class, followed by
+     * the expression. A task decorated by a {@link DelegatingRunnable} is named after the
+     * decorated one.
+     *
+     * @param expression the expression of the task.
+     * @param runnable   the task.
+     * @return the lock name, or {@literal null} for a lambda or a synthetic class.
+     */
+    @Nullable
+    protected String resolveLockName(String expression, Runnable runnable) {
+        String taskName = RepositoryUtils.resolveStableTaskName(runnable);
+        return taskName != null ? taskName + "@" + expression.trim() : null;
+    }
+
+    /**
+     * Return the time for which the lock of a fire is held when the next fire time is
+     * unknown: the clock skew before the next fire of an {@link IntervalExpression}, or
+     * the skew.
+     */
+    private long resolveHoldTime(String expression, @Nullable LongUnaryOperator nextFireTime) {
+        if (nextFireTime == null && IntervalExpression.isIntervalExpression(expression)) {
+            try {
+                long interval = IntervalExpression.parse(expression).getInterval(TimeUnit.MILLISECONDS);
+                return interval - Math.min(maxClockSkew, interval / 2);
+            } catch (IllegalArgumentException ignored) {
+                // Rejected by the repository on registration.
+            }
+        }
+        return maxClockSkew;
+    }
+
+    /**
+     * Count a task guarded under the given lock name, warning when the name is taken
+     * already.
+     */
+    private void acquireLockName(String lockName, Runnable runnable) {
+        int count = guardedTaskCounts.merge(lockName, 1, Integer::sum);
+        if (count > 1) {
+            LOGGER.warn("Cron lock {} is shared by {} tasks of this instance, the task {} and the others run " +
+                    "unguarded on every instance; name them apart.", lockName, count, runnable);
+        }
+    }
+
+    private void releaseLockName(String lockName) {
+        guardedTaskCounts.computeIfPresent(lockName, (name, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * A task running its fires under a lease of its lock.
+     */
+    private class GuardedRunnable implements DelegatingRunnable {
+
+        private final Runnable runnable;
+        @Nullable
+        private volatile String lockName;
+        @Nullable
+        private volatile LongUnaryOperator nextFireTime;
+        private volatile long holdTime;
+
+        GuardedRunnable(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        synchronized void reset(String newLockName, @Nullable LongUnaryOperator newNextFireTime,
+                                long newHoldTime) {
+            if (!newLockName.equals(lockName)) {
+                acquireLockName(newLockName, runnable);
+                if (lockName != null) {
+                    releaseLockName(lockName);
+                }
+                lockName = newLockName;
+            }
+            nextFireTime = newNextFireTime;
+            holdTime = newHoldTime;
+        }
+
+        synchronized void reguard(String expression, @Nullable LongUnaryOperator newNextFireTime) {
+            if (lockName == null) {
+                return;
+            }
+            String newLockName = resolveLockName(expression, runnable);
+            if (newLockName == null) {
+                unguard();
+                return;
+            }
+            reset(newLockName, newNextFireTime, resolveHoldTime(expression, newNextFireTime));
+        }
+
+        synchronized void unguard() {
+            if (lockName != null) {
+                releaseLockName(lockName);
+                lockName = null;
+            }
+        }
+
+        @Override
+        public Runnable getDelegate() {
+            return runnable;
+        }
+
+        @Override
+        public void run() {
+            String lockName = this.lockName;
+            if (lockName == null || guardedTaskCounts.getOrDefault(lockName, 0) > 1) {
+                // Unguarded, or sharing its lock name with another task of this instance.
+                runnable.run();
+                return;
+            }
+            long start = System.currentTimeMillis();
+            CronLease lease;
+            try {
+                lease = lockStore.tryAcquire(lockName, owner, leaseTime);
+            } catch (RuntimeException ex) {
+                LOGGER.error("Failed to acquire the cron lock {}.", lockName, ex);
+                if (runOnStoreFailure) {
+                    runnable.run();
+                }
+                return;
+            }
+            if (lease == null) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Cron lock {} is held by another instance, fire skipped.", lockName);
+                }
+                return;
+            }
+            CURRENT_LEASE.set(lease);
+            try {
+                runnable.run();
+            } finally {
+                CURRENT_LEASE.remove();
+                try {
+                    lockStore.release(lease, holdUntil(start, nextFireTime, holdTime));
+                } catch (RuntimeException ex) {
+                    LOGGER.warn("Failed to release the cron lock {}, it expires with its lease.", lockName, ex);
+                }
+            }
+        }
+
+        /**
+         * Return the time until which the lock of a fire started at the given time is
+         * held: the clock skew before the next fire time, or half the time to it if
+         * shorter, when the next fire time is known.
+         */
+        private long holdUntil(long start, @Nullable LongUnaryOperator nextFireTime, long holdTime) {
+            if (nextFireTime != null) {
+                long next = nextFireTime.applyAsLong(start);
+                if (next >= 0) {
+                    return next - Math.min(maxClockSkew, (next - start) / 2);
+                }
+            }
+            return start + holdTime;
+        }
+
+        @Override
+        public String toString() {
+            return runnable.toString();
+        }
+    }
+}
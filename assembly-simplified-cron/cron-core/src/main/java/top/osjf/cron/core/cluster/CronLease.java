@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.cluster;
+
+/**
+ * A lease on a named cron lock, granted by a {@link CronLockStore} to one owner until
+ * its expiration time.
+ *
+ * <p>Each grant of a lock comes with a fencing token, strictly greater than the token
+ * of any previous grant of the same lock. A task writing to a shared resource can pass
+ * the token along, letting the resource reject the writes of an owner whose lease
+ * expired in the middle of its execution.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public final class CronLease {
+
+    private final String lockName;
+
+    private final String owner;
+
+    private final long fencingToken;
+
+    private final long leaseUntil;
+
+    /**
+     * Creates a new {@code CronLease}.
+     *
+     * @param lockName     the name of the leased lock.
+     * @param owner        the owner of the lease.
+     * @param fencingToken the fencing token of this grant.
+     * @param leaseUntil   the expiration time of the lease, in epoch milliseconds.
+     */
+    public CronLease(String lockName, String owner, long fencingToken, long leaseUntil) {
+        this.lockName = lockName;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+        this.leaseUntil = leaseUntil;
+    }
+
+    /**
+     * @return the name of the leased lock.
+     */
+    public String getLockName() {
+        return lockName;
+    }
+
+    /**
+     * @return the owner of the lease.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * @return the fencing token of this grant, increasing with each grant of the lock.
+     */
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * @return the expiration time of the lease, in epoch milliseconds.
+     */
+    public long getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    @Override
+    public String toString() {
+        return "CronLease{" +
+                "lockName='" + lockName + '\'' +
+                ", owner='" + owner + '\'' +
+                ", fencingToken=" + fencingToken +
+                ", leaseUntil=" + leaseUntil +
+                '}';
+    }
+}
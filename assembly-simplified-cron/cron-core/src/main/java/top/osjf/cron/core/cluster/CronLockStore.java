@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.cluster;
+
+import top.osjf.cron.core.exception.CronInternalException;
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+
+/**
+ * A store of named cron locks shared by the instances of a service, granting each lock
+ * to one owner at a time through expiring {@link CronLease leases}.
+ *
+ * <p>Implementations must guarantee that a lock is never leased to two owners at the
+ * same time, as far as their clock allows, and that the fencing token of a lock
+ * strictly increases with each grant.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ * @see JdbcCronLockStore
+ * @see FileCronLockStore
+ */
+public interface CronLockStore {
+
+    /**
+     * Try to acquire the lease of the given lock, which succeeds only if the lock has
+     * never been leased or its last lease has expired.
+     *
+     * @param lockName    the name of the lock.
+     * @param owner       the owner asking for the lease.
+     * @param leaseMillis the duration of the lease in milliseconds.
+     * @return the granted lease, or {@literal null} if the lock is leased to another
+     * owner or to the same owner.
+     * @throws CronInternalException if the store could not be accessed.
+     */
+    @Nullable
+    CronLease tryAcquire(@NotNull String lockName, @NotNull String owner, long leaseMillis)
+            throws CronInternalException;
+
+    /**
+     * Release the given lease, keeping the lock held until the given time at most; has
+     * no effect if the lock has been leased again since.
+     *
+     * @param lease     the lease to release.
+     * @param holdUntil the time in epoch milliseconds until which the lock remains
+     *                  held, a past time releasing it at once.
+     * @throws CronInternalException if the store could not be accessed.
+     */
+    void release(@NotNull CronLease lease, long holdUntil) throws CronInternalException;
+}
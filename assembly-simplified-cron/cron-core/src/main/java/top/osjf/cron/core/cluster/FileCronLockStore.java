@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.cluster;
+
+import top.osjf.cron.core.exception.CronInternalException;
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A {@link CronLockStore} keeping each lock in a file of a directory, shared by the
+ * processes of a single host.
+ *
+ * <p>The file of a lock holds its owner, fencing token and lease expiration time. It is
+ * read and rewritten under an exclusive {@link FileLock}, held only for the time of this
+ * update, so the processes sharing the directory see the leases one after another.
+ * File locks are held on behalf of the whole JVM, so the instances of one JVM are
+ * serialized by a monitor as well.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class FileCronLockStore implements CronLockStore {
+
+    /**
+     * The monitor serializing the lock file updates of this JVM.
+     */
+    private static final Object JVM_MONITOR = new Object();
+
+    private final File directory;
+
+    /**
+     * Creates a new {@code FileCronLockStore} in the given directory, created if missing.
+     *
+     * @param directory the directory of the lock files.
+     */
+    public FileCronLockStore(@NotNull File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public CronLease tryAcquire(@NotNull String lockName, @NotNull String owner, long leaseMillis)
+            throws CronInternalException {
+        synchronized (JVM_MONITOR) {
+            try (FileChannel channel = openChannel(lockName);
+                 FileLock ignored = channel.lock()) {
+                long now = System.currentTimeMillis();
+                LockState state = read(channel);
+                if (state != null && state.leaseUntil > now) {
+                    return null;
+                }
+                long fencingToken = state != null ? state.fencingToken + 1 : 1;
+                CronLease lease = new CronLease(lockName, owner, fencingToken, now + leaseMillis);
+                write(channel, owner, fencingToken, lease.getLeaseUntil());
+                return lease;
+            } catch (IOException ex) {
+                throw new CronInternalException("Failed to acquire the cron lock " + lockName, ex);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(@NotNull CronLease lease, long holdUntil) throws CronInternalException {
+        synchronized (JVM_MONITOR) {
+            try (FileChannel channel = openChannel(lease.getLockName());
+                 FileLock ignored = channel.lock()) {
+                LockState state = read(channel);
+                if (state != null && state.fencingToken == lease.getFencingToken()
+                        && state.owner.equals(lease.getOwner())) {
+                    write(channel, lease.getOwner(), lease.getFencingToken(),
+                            Math.min(holdUntil, lease.getLeaseUntil()));
+                }
+            } catch (IOException ex) {
+                throw new CronInternalException("Failed to release the cron lock " + lease.getLockName(), ex);
+            }
+        }
+    }
+
+    private FileChannel openChannel(String lockName) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("Cannot create the cron lock directory " + directory);
+        }
+        return FileChannel.open(new File(directory, fileName(lockName)).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Lock names may contain any character, the file is named by their digest.
+     */
+    private static String fileName(String lockName) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(lockName.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(digest.length * 2 + 5);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.append(".lock").toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Nullable
+    private static LockState read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        channel.position(0);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Read the whole file.
+        }
+        String[] lines = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).split("\n");
+        if (lines.length < 3) {
+            return null;
+        }
+        try {
+            return new LockState(lines[0], Long.parseLong(lines[1].trim()), Long.parseLong(lines[2].trim()));
+        } catch (NumberFormatException ex) {
+            throw new IOException("Corrupted cron lock file", ex);
+        }
+    }
+
+    private static void write(FileChannel channel, String owner, long fencingToken, long leaseUntil)
+            throws IOException {
+        byte[] content = (owner + "\n" + fencingToken + "\n" + leaseUntil + "\n").getBytes(StandardCharsets.UTF_8);
+        channel.truncate(0);
+        channel.position(0);
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * The content of a lock file.
+     */
+    private static class LockState {
+
+        private final String owner;
+        private final long fencingToken;
+        private final long leaseUntil;
+
+        LockState(String owner, long fencingToken, long leaseUntil) {
+            this.owner = owner;
+            this.fencingToken = fencingToken;
+            this.leaseUntil = leaseUntil;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.cluster;
+
+import top.osjf.cron.core.exception.CronInternalException;
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A {@link CronLockStore} keeping the locks in a database table, shared by all the
+ * instances connected to the database.
+ *
+ * <p>The table holds one row per lock, created by {@link #initializeSchema()} or by
+ * hand with {@link #getCreateTableSql()}:
+ * <pre>
+ * CREATE TABLE cron_lock (
+ *     lock_name     VARCHAR(255) NOT NULL PRIMARY KEY,
+ *     lock_owner    VARCHAR(255) NOT NULL,
+ *     fencing_token BIGINT       NOT NULL,
+ *     lease_until   BIGINT       NOT NULL
+ * )
+ * </pre>
+ *
+ * <p>A lease is taken by one conditional {@code UPDATE} of an expired row, or by the
+ * {@code INSERT} of the row on first use, the primary key rejecting a concurrent
+ * insertion; the row update and the read of the incremented fencing token run in one
+ * transaction. Only portable SQL is used, so any database with a JDBC driver, embedded
+ * ones included, can serve as the store. Lease times are taken from the clock of the
+ * instances, which should be kept synchronized.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class JdbcCronLockStore implements CronLockStore {
+
+    /**
+     * The default name of the lock table.
+     */
+    public static final String DEFAULT_TABLE_NAME = "cron_lock";
+
+    private final DataSource dataSource;
+
+    private final String tableName;
+
+    /**
+     * Creates a new {@code JdbcCronLockStore} on the {@link #DEFAULT_TABLE_NAME} table.
+     *
+     * @param dataSource the data source of the database holding the table.
+     */
+    public JdbcCronLockStore(@NotNull DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    /**
+     * Creates a new {@code JdbcCronLockStore} on the given table.
+     *
+     * @param dataSource the data source of the database holding the table.
+     * @param tableName  the name of the lock table.
+     */
+    public JdbcCronLockStore(@NotNull DataSource dataSource, @NotNull String tableName) {
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+    }
+
+    /**
+     * @return the {@code CREATE TABLE} statement of the lock table.
+     */
+    public String getCreateTableSql() {
+        return "CREATE TABLE " + tableName + " (" +
+                "lock_name VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                "lock_owner VARCHAR(255) NOT NULL, " +
+                "fencing_token BIGINT NOT NULL, " +
+                "lease_until BIGINT NOT NULL)";
+    }
+
+    /**
+     * Create the lock table unless it already exists.
+     *
+     * @throws CronInternalException if the table neither exists nor could be created.
+     */
+    public void initializeSchema() throws CronInternalException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (ResultSet tables = connection.getMetaData().getTables(null, null, null, new String[]{"TABLE"})) {
+                while (tables.next()) {
+                    if (tableName.equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                        return;
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(getCreateTableSql());
+            }
+        } catch (SQLException ex) {
+            throw new CronInternalException("Failed to create the cron lock table " + tableName, ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nullable
+    @Override
+    public CronLease tryAcquire(@NotNull String lockName, @NotNull String owner, long leaseMillis)
+            throws CronInternalException {
+        long now = System.currentTimeMillis();
+        long leaseUntil = now + leaseMillis;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                if (!takeExpiredLock(connection, lockName, owner, leaseUntil, now)
+                        && !insertLock(connection, lockName, owner, leaseUntil)) {
+                    connection.rollback();
+                    return null;
+                }
+                long fencingToken = selectFencingToken(connection, lockName, owner);
+                connection.commit();
+                return new CronLease(lockName, owner, fencingToken, leaseUntil);
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException ex) {
+            throw new CronInternalException("Failed to acquire the cron lock " + lockName, ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(@NotNull CronLease lease, long holdUntil) throws CronInternalException {
+        String sql = "UPDATE " + tableName + " SET lease_until = ? " +
+                "WHERE lock_name = ? AND lock_owner = ? AND fencing_token = ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, Math.min(holdUntil, lease.getLeaseUntil()));
+            statement.setString(2, lease.getLockName());
+            statement.setString(3, lease.getOwner());
+            statement.setLong(4, lease.getFencingToken());
+            statement.executeUpdate();
+        } catch (SQLException ex) {
+            throw new CronInternalException("Failed to release the cron lock " + lease.getLockName(), ex);
+        }
+    }
+
+    private boolean takeExpiredLock(Connection connection, String lockName, String owner, long leaseUntil, long now)
+            throws SQLException {
+        String sql = "UPDATE " + tableName + " SET lock_owner = ?, fencing_token = fencing_token + 1, " +
+                "lease_until = ? WHERE lock_name = ? AND lease_until <= ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, owner);
+            statement.setLong(2, leaseUntil);
+            statement.setString(3, lockName);
+            statement.setLong(4, now);
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private boolean insertLock(Connection connection, String lockName, String owner, long leaseUntil)
+            throws SQLException {
+        String sql = "INSERT INTO " + tableName + " (lock_name, lock_owner, fencing_token, lease_until) " +
+                "VALUES (?, ?, 1, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, lockName);
+            statement.setString(2, owner);
+            statement.setLong(3, leaseUntil);
+            return statement.executeUpdate() > 0;
+        } catch (SQLException ex) {
+            // An integrity constraint violation: the row exists, its lease is alive.
+            if (ex.getSQLState() != null && ex.getSQLState().startsWith("23")) {
+                return false;
+            }
+            throw ex;
+        }
+    }
+
+    private long selectFencingToken(Connection connection, String lockName, String owner) throws SQLException {
+        String sql = "SELECT fencing_token FROM " + tableName + " WHERE lock_name = ? AND lock_owner = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, lockName);
+            statement.setString(2, owner);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException("Missing cron lock row " + lockName + " after its acquisition");
+                }
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
@@ -17,27 +17,68 @@
 
 package top.osjf.cron.core.listener;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
 
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * The {@code CronListenerCollector} abstract class is used to manage a set of {@code CronListener}
  * listeners and provide callback methods for startup, success, and failure.
  *
+ * <p>Since version 3.0.1, the listeners are kept in a copy-on-write registry, a change
+ * publishes a new immutable snapshot and notifications iterate the snapshot without any
+ * lock. The function creating the {@code ListenerContext} is resolved once per collector.
+ *
+ * <p>The listeners can also be notified asynchronously by {@link #enableAsyncDispatch},
+ * on a single dispatcher thread fed by a bounded queue, so that slow listeners such as
+ * audit writers no longer add latency to the task execution. The events keep their
+ * order, and when the queue is full the task thread waits for room rather than losing
+ * them. Note that an asynchronous listener observes a task after the fact, the checks
+ * relying on being notified inline with the execution should stay synchronous, which
+ * the {@link SynchronousCronListener}s always are.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.3
  */
 public abstract class CronListenerCollector {
 
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final Logger LOGGER = LoggerFactory.getLogger(CronListenerCollector.class);
+
+    /**
+     * The monitor guarding the changes of {@link #cronListeners}.
+     */
+    private final Object registryMonitor = new Object();
+
+    /**
+     * The immutable snapshot of the registered listeners, replaced on every change.
+     */
+    private volatile List<CronListener> cronListeners = Collections.emptyList();
+
+    /**
+     * The live read-only view handed out by {@link #getCronListeners()}.
+     */
+    private final List<CronListener> cronListenersView = new CronListenersView();
+
+    /**
+     * The resolved function creating the {@code ListenerContext} of this collector.
+     * @since 3.0.1
+     */
+    private volatile Function<Object, ListenerContext> listenerContextFactory;
 
-    private final LinkedList<CronListener> cronListeners = new LinkedList<>();
+    /**
+     * The dispatcher notifying the listeners asynchronously, {@code null} when they
+     * are notified on the task thread.
+     * @since 3.0.1
+     */
+    @Nullable
+    private volatile AsyncDispatcher asyncDispatcher;
 
     /**
      * Add a {@code CronListener} to the listener list if it does not already exist.
@@ -45,16 +86,7 @@ public abstract class CronListenerCollector {
      * @throws NullPointerException if input {@code CronListener} is {@literal null}.
      */
     public void addCronListener(@NotNull CronListener cronListener) {
-        listenerNotNull(cronListener);
-        final Lock writeLock = lock.writeLock();
-        writeLock.lock();
-        try {
-            if (!cronListeners.contains(cronListener)) {
-                cronListeners.add(cronListener);
-            }
-        } finally {
-            writeLock.unlock();
-        }
+        addLastCronListener(cronListener);
     }
 
     /**
@@ -65,15 +97,11 @@ public abstract class CronListenerCollector {
      */
     public void addFirstCronListener(@NotNull CronListener cronListener){
         listenerNotNull(cronListener);
-        final Lock writeLock = lock.writeLock();
-        writeLock.lock();
-        try {
-            if (!cronListeners.contains(cronListener)) {
-                cronListeners.addFirst(cronListener);
+        updateCronListeners(listeners -> {
+            if (!listeners.contains(cronListener)) {
+                listeners.add(0, cronListener);
             }
-        } finally {
-            writeLock.unlock();
-        }
+        });
     }
 
     /**
@@ -84,15 +112,11 @@ public abstract class CronListenerCollector {
      */
     public void addLastCronListener(@NotNull CronListener cronListener){
         listenerNotNull(cronListener);
-        final Lock writeLock = lock.writeLock();
-        writeLock.lock();
-        try {
-            if (!cronListeners.contains(cronListener)) {
-                cronListeners.addLast(cronListener);
+        updateCronListeners(listeners -> {
+            if (!listeners.contains(cronListener)) {
+                listeners.add(cronListener);
             }
-        } finally {
-            writeLock.unlock();
-        }
+        });
     }
 
     /**
@@ -102,28 +126,19 @@ public abstract class CronListenerCollector {
      */
     public void removeCronListener(@NotNull CronListener cronListener) {
         listenerNotNull(cronListener);
-        final Lock writeLock = lock.writeLock();
-        writeLock.lock();
-        try {
-            cronListeners.remove(cronListener);
-        } finally {
-            writeLock.unlock();
-        }
+        updateCronListeners(listeners -> listeners.remove(cronListener));
     }
 
     /**
      * Return the unmodifiable list of {@code CronListener} instances saved by this collection
      * management instance.
+     *
+     * <p>The returned list is a live view of the registry, each iteration walks the
+     * snapshot current when it starts.
      * @return the list of {@code CronListener} instances.
      */
     public List<CronListener> getCronListeners() {
-        final Lock readLock = lock.readLock();
-        readLock.lock();
-        try {
-            return Collections.unmodifiableList(cronListeners);
-        } finally {
-            readLock.unlock();
-        }
+        return cronListenersView;
     }
 
     /**
@@ -137,12 +152,103 @@ public abstract class CronListenerCollector {
      */
     public boolean hasCronListener(@NotNull CronListener cronListener) {
         listenerNotNull(cronListener);
-        final Lock readLock = lock.readLock();
-        readLock.lock();
-        try {
-            return cronListeners.contains(cronListener);
-        } finally {
-            readLock.unlock();
+        return cronListeners.contains(cronListener);
+    }
+
+    /**
+     * Notify the listeners asynchronously on a dispatcher thread fed by a bounded queue of
+     * the given capacity, replacing the dispatcher previously enabled.
+     *
+     * @param queueCapacity the capacity of the event queue.
+     * @throws IllegalArgumentException if the capacity is less than {@code 1}.
+     * @since 3.0.1
+     */
+    public void enableAsyncDispatch(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be greater than 0: " + queueCapacity);
+        }
+        AsyncDispatcher previous;
+        synchronized (registryMonitor) {
+            previous = asyncDispatcher;
+            asyncDispatcher = new AsyncDispatcher(queueCapacity);
+        }
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Notify the listeners on the task thread again, the events already queued are still
+     * dispatched before the dispatcher thread ends.
+     * @since 3.0.1
+     */
+    public void disableAsyncDispatch() {
+        disableAsyncDispatch(0);
+    }
+
+    /**
+     * Notify the listeners on the task thread again, waiting up to the given timeout for
+     * the events already queued to be dispatched and the dispatcher thread to end.
+     *
+     * @param drainTimeoutMillis the maximum time to wait, in milliseconds, {@code 0} for no wait.
+     * @return {@code true} if no dispatcher is left running.
+     * @since 3.0.1
+     */
+    public boolean disableAsyncDispatch(long drainTimeoutMillis) {
+        AsyncDispatcher previous;
+        synchronized (registryMonitor) {
+            previous = asyncDispatcher;
+            asyncDispatcher = null;
+        }
+        if (previous == null) {
+            return true;
+        }
+        previous.shutdown();
+        return drainTimeoutMillis <= 0 || previous.awaitTermination(drainTimeoutMillis);
+    }
+
+    /**
+     * @return {@code true} if the listeners are notified asynchronously.
+     * @since 3.0.1
+     */
+    public boolean isAsyncDispatch() {
+        return asyncDispatcher != null;
+    }
+
+    /**
+     * Notify the registered listeners of the given lifecycle stage, on the task thread
+     * or through the asynchronous dispatcher when enabled, except for the
+     * {@link SynchronousCronListener}s notified on the task thread in any case.
+     *
+     * @param listenerLifecycle the lifecycle stage.
+     * @param listenerContext   the context of the task being executed.
+     * @param e                 error type object thrown during task execution only when failed.
+     * @since 3.0.1
+     */
+    public void notifyListeners(@NotNull ListenerLifecycle listenerLifecycle, @NotNull ListenerContext listenerContext,
+                                @Nullable Throwable e) {
+        List<CronListener> listeners = cronListeners;
+        if (listeners.isEmpty()) {
+            return;
+        }
+        AsyncDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher != null) {
+            for (CronListener cronListener : listeners) {
+                if (cronListener instanceof SynchronousCronListener) {
+                    listenerLifecycle.consumer.accept(cronListener, listenerContext, e);
+                }
+            }
+            dispatcher.dispatch(() -> {
+                for (CronListener cronListener : listeners) {
+                    if (!(cronListener instanceof SynchronousCronListener)) {
+                        listenerLifecycle.consumer.accept(cronListener, listenerContext, e);
+                    }
+                }
+            });
+            return;
+        }
+        for (CronListener cronListener : listeners) {
+            listenerLifecycle.consumer.accept(cronListener, listenerContext, e);
         }
     }
 
@@ -222,6 +328,34 @@ public abstract class CronListenerCollector {
         listenerLifecycle.consumerListeners(sourceContext, e, this);
     }
 
+    /**
+     * Return the function creating the {@code ListenerContext} of this collector,
+     * resolved on first use.
+     *
+     * @return the function creating the {@code ListenerContext}.
+     * @since 3.0.1
+     */
+    Function<Object, ListenerContext> getListenerContextFactory() {
+        Function<Object, ListenerContext> factory = listenerContextFactory;
+        if (factory == null) {
+            factory = ListenerContextSupport.resolveListenerContextFactory(this);
+            listenerContextFactory = factory;
+        }
+        return factory;
+    }
+
+    /**
+     * Publish a new snapshot of the listeners changed by the given function.
+     * @param change the change applied to a copy of the current listeners.
+     */
+    private void updateCronListeners(Consumer<List<CronListener>> change) {
+        synchronized (registryMonitor) {
+            List<CronListener> listeners = new ArrayList<>(cronListeners);
+            change.accept(listeners);
+            cronListeners = Collections.unmodifiableList(listeners);
+        }
+    }
+
     /**
      * @param cronListener a specify {@link CronListener} to check.
      */
@@ -230,4 +364,101 @@ public abstract class CronListenerCollector {
             throw new NullPointerException("cronListener");
         }
     }
+
+    /**
+     * The live read-only view of {@link #cronListeners}.
+     */
+    private class CronListenersView extends AbstractList<CronListener> implements RandomAccess {
+
+        @Override
+        public CronListener get(int index) {
+            return cronListeners.get(index);
+        }
+
+        @Override
+        public int size() {
+            return cronListeners.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return cronListeners.contains(o);
+        }
+
+        @Override
+        @NotNull
+        public Iterator<CronListener> iterator() {
+            return cronListeners.iterator();
+        }
+
+        @Override
+        public void forEach(Consumer<? super CronListener> action) {
+            cronListeners.forEach(action);
+        }
+    }
+
+    /**
+     * Notify the listeners in order on a single daemon thread fed by a bounded queue.
+     */
+    private static class AsyncDispatcher implements Runnable {
+
+        private static final Runnable SHUTDOWN = () -> {
+        };
+
+        private final BlockingQueue<Runnable> events;
+
+        private final Thread dispatcherThread;
+
+        AsyncDispatcher(int queueCapacity) {
+            this.events = new ArrayBlockingQueue<>(queueCapacity);
+            this.dispatcherThread = new Thread(this, "cron-listener-dispatcher");
+            this.dispatcherThread.setDaemon(true);
+            this.dispatcherThread.start();
+        }
+
+        void dispatch(Runnable event) {
+            if (events.offer(event)) {
+                return;
+            }
+            // Wait for room rather than losing or reordering the event.
+            try {
+                events.put(event);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void shutdown() {
+            dispatch(SHUTDOWN);
+        }
+
+        boolean awaitTermination(long timeoutMillis) {
+            try {
+                dispatcherThread.join(timeoutMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return !dispatcherThread.isAlive();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable event;
+                try {
+                    event = events.take();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                if (event == SHUTDOWN) {
+                    return;
+                }
+                try {
+                    event.run();
+                } catch (Throwable e) {
+                    LOGGER.warn("Cron listener failed on the dispatcher thread", e);
+                }
+            }
+        }
+    }
 }
@@ -95,4 +95,15 @@ public interface ListenerContext extends Wrapper {
      * tasks.
      */
     Object getSourceContext();
+
+    /**
+     * Return the delay between the time the framework scheduled this execution for and
+     * the time it actually fired it, when the framework provides both.
+     *
+     * @return the fire lateness in milliseconds, or {@code -1} if unknown.
+     * @since 3.0.1
+     */
+    default long getFireLateness() {
+        return -1;
+    }
 }
@@ -23,10 +23,7 @@ import top.osjf.cron.core.util.ReflectUtils;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
-import java.util.Collections;
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
 
 /**
@@ -37,9 +34,6 @@ import java.util.function.Function;
  */
 public abstract class ListenerContextSupport {
 
-    private static final Map<String, Function<Object, ListenerContext>> LISTENER_CONTEXT_BUILD_FUC_CACHE
-            = Collections.synchronizedMap(new WeakHashMap<>());
-
     /**
      * Create a specific type of {@code ListenerContext} instance.
      *
@@ -48,11 +42,10 @@ public abstract class ListenerContextSupport {
      * A {@code ListenerContext} object. The creation process depends on the annotations
      * and configuration of { code CronListenerCollector}.
      *
-     * <p>Firstly, the method attempts to retrieve a function from the cache that can directly
-     * convert {@code sourceContext} to {@code ListenerContext}.
-     * If such a function exists in the cache, apply it directly and return the result.
+     * <p>Firstly, the method retrieves the function resolved once by the collector that can
+     * directly convert {@code sourceContext} to {@code ListenerContext}, and applies it.
      *
-     * <p>If the corresponding function is not found in the cache, the method will check if
+     * <p>When the function is resolved, the method will check if
      * {@code CronListenerCollector} specifies it The class of {@code ListenerContext} (set
      * directly or annotated). If not specified and there is a {@code ListenerContextTypeProvider}
      * annotation,Then use the class specified in the annotation. If neither the class is
@@ -80,11 +73,19 @@ public abstract class ListenerContextSupport {
      * @throws IllegalArgumentException     if there are errors in the execution parameters.
      */
     public static ListenerContext createListenerContext(CronListenerCollector collector, Object sourceContext) {
-        Function<Object, ListenerContext> func = LISTENER_CONTEXT_BUILD_FUC_CACHE.get(collector.getClass().getName());
-        if (func != null) {
-            return func.apply(sourceContext);
-        }
+        return collector.getListenerContextFactory().apply(sourceContext);
+    }
 
+    /**
+     * Resolve the function creating the {@code ListenerContext} of the given collector,
+     * which is then kept by the collector itself.
+     *
+     * @param collector the collection instance of the listener.
+     * @return the function creating the {@code ListenerContext}.
+     * @throws IllegalStateException if no available {@code ListenerContext} type provided.
+     * @since 3.0.1
+     */
+    static Function<Object, ListenerContext> resolveListenerContextFactory(CronListenerCollector collector) {
         Class<? extends ListenerContext> listenerContextClass = collector.getListenerContextClass();
         ListenerContextTypeProvider provider = collector.getClass().getAnnotation(ListenerContextTypeProvider.class);
         if (listenerContextClass == null) {
@@ -95,45 +96,22 @@ public abstract class ListenerContextSupport {
             }
         }
 
-        if (provider != null) {
-            switch (provider.sourceContextBuildMode()) {
-                case CONSTRUCTOR:
-                    return createListenerContextByConstructor(collector, listenerContextClass, sourceContext);
-                case SET:
-                    return createListenerContextBySet(collector, listenerContextClass, sourceContext);
-            }
+        if (provider != null && provider.sourceContextBuildMode() == ListenerContextTypeProvider.BuildMode.SET) {
+            return new SetCreatedListenerContextFunction(listenerContextClass);
         }
 
-        return createListenerContextByConstructor(collector, listenerContextClass, sourceContext);
-    }
-
-    private static ListenerContext createListenerContextByConstructor(CronListenerCollector collector,
-                                                                      Class<? extends ListenerContext> listenerContextClass,
-                                                                      Object sourceContext) {
-        ConstructorCreatedListenerContextFunction func = new ConstructorCreatedListenerContextFunction(listenerContextClass);
-        ListenerContext listenerContext = func.apply(sourceContext);
-        LISTENER_CONTEXT_BUILD_FUC_CACHE.putIfAbsent(collector.getClass().getName(), func);
-        return listenerContext;
-    }
-
-    private static ListenerContext createListenerContextBySet(CronListenerCollector collector,
-                                                              Class<? extends ListenerContext> listenerContextClass,
-                                                              Object sourceContext) {
-        SetCreatedListenerContextFunction func = new SetCreatedListenerContextFunction(listenerContextClass);
-        ListenerContext listenerContext = func.apply(sourceContext);
-        LISTENER_CONTEXT_BUILD_FUC_CACHE.putIfAbsent(collector.getClass().getName(), func);
-        return listenerContext;
+        return new ConstructorCreatedListenerContextFunction(listenerContextClass);
     }
 
     private static class ConstructorCreatedListenerContextFunction implements Function<Object, ListenerContext> {
         /**
          * Constructor instance.
          */
-        private Constructor<? extends ListenerContext> constructor;
+        private volatile Constructor<? extends ListenerContext> constructor;
         /**
          * The source context class.
          */
-        private Class<?> sourceContextClass;
+        private volatile Class<?> sourceContextClass;
         /**
          * The input {@code ListenerContext} class.
          */
@@ -199,11 +177,11 @@ public abstract class ListenerContextSupport {
         /**
          * Set method instance.
          */
-        private Method setMethod;
+        private volatile Method setMethod;
         /**
          * The source context class.
          */
-        private Class<?> sourceContextClass;
+        private volatile Class<?> sourceContextClass;
         /**
          * The input {@code ListenerContext} class.
          */
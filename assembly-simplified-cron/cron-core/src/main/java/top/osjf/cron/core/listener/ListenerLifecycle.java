@@ -72,15 +72,13 @@ public enum ListenerLifecycle {
      */
     void consumerListeners(Object sourceContext, @Nullable Throwable e, CronListenerCollector collector) {
         if (START == this) {
-            ListenerContext listenerContext = ListenerContextSupport.createListenerContext(collector, sourceContext);
+            ListenerContext listenerContext = collector.getListenerContextFactory().apply(sourceContext);
             CONTEXT_LOCAL.set(listenerContext);
         }
         ListenerContext listenerContext = CONTEXT_LOCAL.get();
         if (listenerContext != null) {
             try {
-                for (CronListener cronListener : collector.getCronListeners()) {
-                    consumer.accept(cronListener, listenerContext, e);
-                }
+                collector.notifyListeners(this, listenerContext, e);
             }
             finally {
                 if (SUCCESS == this || FAILED == this) {
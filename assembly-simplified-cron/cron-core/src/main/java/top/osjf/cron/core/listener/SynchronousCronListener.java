@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.listener;
+
+/**
+ * A marker interface of the {@link CronListener}s that are always notified on the task
+ * thread, inline with the execution, even when the {@link CronListenerCollector} notifies
+ * the other listeners asynchronously, typically because they measure the execution.
+ *
+ * <p>Such a listener must be fast, since it adds its latency to every execution.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface SynchronousCronListener extends CronListener {
+}
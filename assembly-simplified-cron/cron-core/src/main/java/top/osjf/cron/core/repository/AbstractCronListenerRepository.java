@@ -17,6 +17,8 @@
 
 package top.osjf.cron.core.repository;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.listener.CronListener;
 import top.osjf.cron.core.listener.CronListenerCollector;
@@ -34,9 +36,45 @@ import top.osjf.cron.core.listener.DefaultCronListenerCollector;
 public abstract class AbstractCronListenerRepository
         extends AbstractLifecycleRepository implements CronListenerRepository {
 
+    /** The default time to wait for the queued listener events when the repository stops, in milliseconds.
+     * @since 3.0.1 */
+    public static final long DEFAULT_ASYNC_LISTENER_DRAIN_TIMEOUT = 5000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractCronListenerRepository.class);
+
     /** Scheduling listener manager.*/
     private final CronListenerCollector listenerCollector = new DefaultCronListenerCollector();
 
+    /** The queue capacity of the asynchronous listener dispatch, {@code 0} for none.
+     * @since 3.0.1 */
+    private volatile int asyncListenerDispatchQueueCapacity;
+
+    /** The time to wait for the queued listener events when the repository stops, in milliseconds.
+     * @since 3.0.1 */
+    private volatile long asyncListenerDrainTimeout = DEFAULT_ASYNC_LISTENER_DRAIN_TIMEOUT;
+
+    /**
+     * {@inheritDoc}
+     * <p>Since 3.0.1, the asynchronous listener dispatch stopped by {@link #stop()} is
+     * enabled again.
+     */
+    @Override
+    public void start() {
+        super.start();
+        startAsyncListenerDispatch();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Since 3.0.1, the asynchronous listener dispatch is stopped once its queued events
+     * are dispatched, see {@link #stopAsyncListenerDispatch()}.
+     */
+    @Override
+    public void stop() {
+        super.stop();
+        stopAsyncListenerDispatch();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -77,6 +115,73 @@ public abstract class AbstractCronListenerRepository
         getCronListenerCollector().removeCronListener(listener);
     }
 
+    /**
+     * Set the queue capacity of the asynchronous listener dispatch, a positive capacity
+     * notifies the listeners on a dispatcher thread and {@code 0} notifies them on the
+     * task thread, which is the default.
+     *
+     * @param queueCapacity the queue capacity, {@code 0} to dispatch synchronously.
+     * @see CronListenerCollector#enableAsyncDispatch
+     * @since 3.0.1
+     */
+    public void setAsyncListenerDispatchQueueCapacity(int queueCapacity) {
+        this.asyncListenerDispatchQueueCapacity = Math.max(queueCapacity, 0);
+        if (queueCapacity > 0) {
+            getCronListenerCollector().enableAsyncDispatch(queueCapacity);
+        } else {
+            getCronListenerCollector().disableAsyncDispatch();
+        }
+    }
+
+    /**
+     * @return the queue capacity of the asynchronous listener dispatch, {@code 0} for none.
+     * @since 3.0.1
+     */
+    public int getAsyncListenerDispatchQueueCapacity() {
+        return asyncListenerDispatchQueueCapacity;
+    }
+
+    /**
+     * Set the time to wait for the queued listener events to be dispatched when the
+     * repository stops, {@link #DEFAULT_ASYNC_LISTENER_DRAIN_TIMEOUT} by default.
+     *
+     * @param asyncListenerDrainTimeout the drain timeout, in milliseconds.
+     * @since 3.0.1
+     */
+    public void setAsyncListenerDrainTimeout(long asyncListenerDrainTimeout) {
+        if (asyncListenerDrainTimeout < 0) {
+            throw new IllegalArgumentException("Drain timeout must not be negative");
+        }
+        this.asyncListenerDrainTimeout = asyncListenerDrainTimeout;
+    }
+
+    /**
+     * Enable the asynchronous listener dispatch again after {@link #stopAsyncListenerDispatch()},
+     * to be called by the subclasses not calling {@code super.start()} once started.
+     * @since 3.0.1
+     */
+    protected void startAsyncListenerDispatch() {
+        int queueCapacity = asyncListenerDispatchQueueCapacity;
+        CronListenerCollector collector = getCronListenerCollector();
+        if (queueCapacity > 0 && !collector.isAsyncDispatch()) {
+            collector.enableAsyncDispatch(queueCapacity);
+        }
+    }
+
+    /**
+     * Stop the asynchronous listener dispatch, waiting up to the drain timeout for the
+     * queued events so that the dispatcher thread ends and no event is lost, to be called
+     * by the subclasses not calling {@code super.stop()} once stopped. The events of the
+     * tasks still running are then notified on the task thread.
+     * @since 3.0.1
+     */
+    protected void stopAsyncListenerDispatch() {
+        if (!getCronListenerCollector().disableAsyncDispatch(asyncListenerDrainTimeout)) {
+            LOGGER.warn("Cron listener dispatcher did not drain its queued events within {} ms.",
+                    asyncListenerDrainTimeout);
+        }
+    }
+
     /**
      * @return A {@link CronListenerCollector} manager, default to {@link #listenerCollector},
      * supports subclass customization.
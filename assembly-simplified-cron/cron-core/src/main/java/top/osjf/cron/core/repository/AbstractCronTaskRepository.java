@@ -19,17 +19,30 @@ package top.osjf.cron.core.repository;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import top.osjf.cron.core.cluster.ClusterExecutionGuard;
 import top.osjf.cron.core.exception.CronInternalException;
 import top.osjf.cron.core.exception.UnsupportedTaskBodyException;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.lang.Nullable;
 import top.osjf.cron.core.listener.CronListener;
+import top.osjf.cron.core.listener.ListenerContext;
 import top.osjf.cron.core.listener.SimpleCronListener;
+import top.osjf.cron.core.listener.SynchronousCronListener;
+import top.osjf.cron.core.support.IntervalExpression;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
 /**
@@ -45,11 +58,60 @@ import java.util.function.Supplier;
  * and when the number of times is exhausted, the task will automatically end, in
  * order to better unify the low-level management of the task.
  *
+ * <p>Since version 3.0.1, an optional {@link ClusterExecutionGuard} can be set, the
+ * implementations then wrap the registered tasks with {@link #guardRunnable} so that
+ * each fire runs on one instance of the service only.
+ *
+ * <p>Since version 3.0.1, the implementations able to compute the fire times of an
+ * expression through {@link #getNextFireTimeFunction} handle the misfires of their
+ * tasks the same way: each fire is compared with the fire times of the expression,
+ * the fires missed since the previous one and a fire later than the
+ * {@link #setMisfireThreshold misfire threshold} are misfires, handled according to
+ * the {@link MisfirePolicy} of the repository, and counted in
+ * {@link CronTaskInfo#getMisfireCount()} when dropped and in
+ * {@link CronTaskInfo#getRecoveredMisfireCount()} when run late. The misfire handling of
+ * a fire is resolved by {@link #beginFire} ahead of its listener notifications, so that a
+ * fire skipped by {@link MisfirePolicy#SKIP_TO_NEXT} is not reported as a run.
+ *
+ * <p>Since version 3.0.1, the executions of the registered tasks are measured by a
+ * {@link SynchronousCronListener} added first by {@link #registerStatisticsListener}: the fire
+ * lateness, the duration, the outcome and the number of running instances of each task
+ * are kept in a {@link CronTaskStatistics} exposed by {@link CronTaskInfo#getStatistics()},
+ * reported to the {@link CronTaskMetricsRecorder}s, and an execution longer than the
+ * {@link #setSlowRunThreshold slow-run threshold} is logged.
+ *
+ * <p>Since version 3.0.1, the fires of the tasks can be spread over a
+ * {@link #setSpreadWindow spread window} by {@link SpreadRunnable}, so that the tasks
+ * sharing an expression do not all start at the same instant, the offsets being bounded
+ * by the period of the expression when {@link #getNextFireTimeFunction} supports it or
+ * by its interval. The implementations add the offset drawn by
+ * {@link SpreadRunnable#nextOffset(Runnable, Object)} to the delay of each fire when
+ * they schedule it, rather than parking the thread executing it.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.3
  */
 public abstract class AbstractCronTaskRepository extends AbstractCronListenerRepository implements CronTaskRepository {
 
+    /** The default misfire threshold, in milliseconds.
+     * @since 3.0.1 */
+    public static final long DEFAULT_MISFIRE_THRESHOLD = 5000;
+
+    /** The default maximum number of runs of a task for one misfire with {@link MisfirePolicy#FIRE_ALL_MISSED}.
+     * @since 3.0.1 */
+    public static final int DEFAULT_MAX_CATCH_UP_RUNS = 10;
+
+    /** The maximum number of missed fires counted for one misfire, so that a long pause of
+     * a task firing every second does not walk through all of its fire times. */
+    private static final int MAX_COUNTED_MISSED_FIRES = 10000;
+
+    /** How early a fire may arrive before its fire time, in milliseconds. */
+    private static final long EARLY_FIRE_TOLERANCE = 500;
+
+    /** The fire lateness of the execution in progress on the current thread, in milliseconds,
+     * set by the misfire handling for the statistics. */
+    private static final ThreadLocal<Long> FIRE_LATENESS = new ThreadLocal<>();
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     /** Number of runs, task scheduling listener.*/
@@ -62,6 +124,445 @@ public abstract class AbstractCronTaskRepository extends AbstractCronListenerRep
     /** Used to record tasks with specified running times. */
     private final ConcurrentMap<String, AtomicInteger> taskRunTimesMap = new ConcurrentHashMap<>(16);
 
+    /** The distributed execution guard of the registered tasks, {@code null} for none.
+     * @since 3.0.1 */
+    @Nullable
+    private volatile ClusterExecutionGuard executionGuard;
+
+    /** The policy applied to the misfired tasks.
+     * @since 3.0.1 */
+    private volatile MisfirePolicy misfirePolicy = MisfirePolicy.FIRE_ONCE_NOW;
+
+    /** The delay after its fire time beyond which a fire is a misfire, in milliseconds.
+     * @since 3.0.1 */
+    private volatile long misfireThreshold = DEFAULT_MISFIRE_THRESHOLD;
+
+    /** The maximum number of runs of a task for one misfire with {@link MisfirePolicy#FIRE_ALL_MISSED}.
+     * @since 3.0.1 */
+    private volatile int maxCatchUpRuns = DEFAULT_MAX_CATCH_UP_RUNS;
+
+    /** The number of modifications of the registered tasks.
+     * @since 3.0.1 */
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    /** The runtime statistics of the tasks, by task id.
+     * @since 3.0.1 */
+    private final ConcurrentMap<String, CronTaskStatistics> taskStatistics = new ConcurrentHashMap<>(16);
+
+    /** The listener recording {@link #taskStatistics}.
+     * @since 3.0.1 */
+    private final StatisticsRecordingCronListener statisticsListener = new StatisticsRecordingCronListener();
+
+    /** Whether {@link #statisticsListener} is registered.
+     * @since 3.0.1 */
+    private final AtomicBoolean isStatisticsListenerRegistered = new AtomicBoolean(false);
+
+    /** The recorders the task executions are reported to.
+     * @since 3.0.1 */
+    private final List<CronTaskMetricsRecorder> metricsRecorders = new CopyOnWriteArrayList<>(loadMetricsRecorders());
+
+    /** The duration beyond which an execution is a slow run, in milliseconds, {@code 0} for none.
+     * @since 3.0.1 */
+    private volatile long slowRunThreshold;
+
+    /** The window over which the fires of the tasks are spread, in milliseconds, {@code 0} for none.
+     * @since 3.0.1 */
+    private volatile long spreadWindow;
+
+    /** The policy choosing the offsets of the spread fires.
+     * @since 3.0.1 */
+    private volatile SpreadPolicy spreadPolicy = SpreadPolicy.HASH;
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Counted by the subclasses through {@link #incrementModificationCount()}.
+     */
+    @Override
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Count a modification of the registered tasks, to be called by the subclasses once a
+     * task has been registered, updated or removed.
+     * @since 3.0.1
+     */
+    protected void incrementModificationCount() {
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Register the listener measuring the executions of the tasks into their
+     * {@link CronTaskStatistics}, to be called by the subclasses before they schedule a
+     * task, only the first call registering it.
+     * @since 3.0.1
+     */
+    protected void registerStatisticsListener() {
+        if (isStatisticsListenerRegistered.compareAndSet(false, true)) {
+            super.addFirstListener(statisticsListener);
+        }
+    }
+
+    /**
+     * Set the duration beyond which an execution is a slow run, logged and counted in
+     * {@link CronTaskStatistics#getSlowRunCount()}, {@code 0} by default for none.
+     * @param slowRunThreshold the slow-run threshold, in milliseconds.
+     * @since 3.0.1
+     */
+    public void setSlowRunThreshold(long slowRunThreshold) {
+        if (slowRunThreshold < 0) {
+            throw new IllegalArgumentException("Slow-run threshold must not be negative");
+        }
+        this.slowRunThreshold = slowRunThreshold;
+    }
+
+    /**
+     * @return the slow-run threshold, in milliseconds.
+     * @since 3.0.1
+     */
+    public long getSlowRunThreshold() {
+        return slowRunThreshold;
+    }
+
+    /**
+     * Set the window over which the fires of the tasks registered afterwards are spread,
+     * {@code 0} by default for none. The tasks wrapped in a {@link SpreadRunnable} before
+     * their registration keep their own window.
+     * @param spreadWindow the spread window, in milliseconds.
+     * @since 3.0.1
+     */
+    public void setSpreadWindow(long spreadWindow) {
+        if (spreadWindow < 0) {
+            throw new IllegalArgumentException("Spread window must not be negative");
+        }
+        this.spreadWindow = spreadWindow;
+    }
+
+    /**
+     * @return the spread window, in milliseconds.
+     * @since 3.0.1
+     */
+    public long getSpreadWindow() {
+        return spreadWindow;
+    }
+
+    /**
+     * Set the policy choosing the offsets of the spread fires, {@link SpreadPolicy#HASH} by default.
+     * @param spreadPolicy the policy choosing the offsets.
+     * @since 3.0.1
+     */
+    public void setSpreadPolicy(@NotNull SpreadPolicy spreadPolicy) {
+        this.spreadPolicy = Objects.requireNonNull(spreadPolicy, "spreadPolicy");
+    }
+
+    /**
+     * @return the policy choosing the offsets of the spread fires.
+     * @since 3.0.1
+     */
+    public SpreadPolicy getSpreadPolicy() {
+        return spreadPolicy;
+    }
+
+    /**
+     * Add a recorder the task executions are reported to, in addition to the ones
+     * discovered through {@link ServiceLoader}.
+     * @param metricsRecorder the recorder of the task executions.
+     * @since 3.0.1
+     */
+    public void addMetricsRecorder(@NotNull CronTaskMetricsRecorder metricsRecorder) {
+        metricsRecorders.add(Objects.requireNonNull(metricsRecorder, "metricsRecorder"));
+    }
+
+    /**
+     * Return the runtime statistics of the given task.
+     * @param taskId the specify task id.
+     * @return the runtime statistics of the task, or {@code null} before its first execution.
+     * @since 3.0.1
+     */
+    @Nullable
+    public CronTaskStatistics getTaskStatistics(String taskId) {
+        return taskStatistics.get(taskId);
+    }
+
+    /**
+     * Drop the runtime statistics of a removed task, to be called by the subclasses.
+     * @param taskId the id of the removed task.
+     * @since 3.0.1
+     */
+    protected void removeTaskStatistics(String taskId) {
+        taskStatistics.remove(taskId);
+    }
+
+    /**
+     * Load the {@link CronTaskMetricsRecorder}s declared as services.
+     * @return the loaded recorders.
+     */
+    private List<CronTaskMetricsRecorder> loadMetricsRecorders() {
+        List<CronTaskMetricsRecorder> recorders = new ArrayList<>();
+        try {
+            for (CronTaskMetricsRecorder recorder
+                    : ServiceLoader.load(CronTaskMetricsRecorder.class, getClass().getClassLoader())) {
+                recorders.add(recorder);
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.warn("Failed to load the cron task metrics recorders.", e);
+        }
+        return recorders;
+    }
+
+    /**
+     * Set the distributed execution guard of the tasks registered afterwards.
+     * @param executionGuard the distributed execution guard, {@code null} to run every fire
+     *                       on this instance.
+     * @since 3.0.1
+     */
+    public void setExecutionGuard(@Nullable ClusterExecutionGuard executionGuard) {
+        this.executionGuard = executionGuard;
+    }
+
+    /**
+     * Wrap the given task with the {@link ClusterExecutionGuard}, if one is set, holding
+     * the lock of each fire until shortly before the next fire time when
+     * {@link #getNextFireTimeFunction} supports the given expression.
+     * @param expression the expression of the task.
+     * @param runnable   the task.
+     * @return the guarded task, or the given one without guard.
+     * @since 3.0.1
+     */
+    protected Runnable guardRunnable(String expression, Runnable runnable) {
+        ClusterExecutionGuard guard = executionGuard;
+        return guard != null ? guard.guard(expression, runnable, getNextFireTimeFunction(expression)) : runnable;
+    }
+
+    /**
+     * Release the lock name of a removed task from its {@link ClusterExecutionGuard}, to be
+     * called by the subclasses on the removal of a task wrapped by {@link #guardRunnable}.
+     * @param runnable the scheduled task, possibly decorated.
+     * @since 3.0.1
+     */
+    protected void unguardRunnable(@Nullable Runnable runnable) {
+        ClusterExecutionGuard.unguard(runnable);
+    }
+
+    /**
+     * Set the policy applied to the misfired tasks, {@link MisfirePolicy#FIRE_ONCE_NOW}
+     * by default.
+     * @param misfirePolicy the policy applied to the misfired tasks.
+     * @since 3.0.1
+     */
+    public void setMisfirePolicy(@NotNull MisfirePolicy misfirePolicy) {
+        this.misfirePolicy = Objects.requireNonNull(misfirePolicy, "misfirePolicy");
+    }
+
+    /**
+     * @return the policy applied to the misfired tasks.
+     * @since 3.0.1
+     */
+    public MisfirePolicy getMisfirePolicy() {
+        return misfirePolicy;
+    }
+
+    /**
+     * Set the delay after its fire time beyond which a fire is a misfire,
+     * {@link #DEFAULT_MISFIRE_THRESHOLD} by default.
+     * @param misfireThreshold the misfire threshold, in milliseconds.
+     * @since 3.0.1
+     */
+    public void setMisfireThreshold(long misfireThreshold) {
+        if (misfireThreshold < 0) {
+            throw new IllegalArgumentException("Misfire threshold must not be negative");
+        }
+        this.misfireThreshold = misfireThreshold;
+    }
+
+    /**
+     * @return the misfire threshold, in milliseconds.
+     * @since 3.0.1
+     */
+    public long getMisfireThreshold() {
+        return misfireThreshold;
+    }
+
+    /**
+     * Set the maximum number of runs of a task for one misfire with
+     * {@link MisfirePolicy#FIRE_ALL_MISSED}, {@link #DEFAULT_MAX_CATCH_UP_RUNS} by default.
+     * @param maxCatchUpRuns the maximum number of runs for one misfire.
+     * @since 3.0.1
+     */
+    public void setMaxCatchUpRuns(int maxCatchUpRuns) {
+        if (maxCatchUpRuns <= 0) {
+            throw new IllegalArgumentException("Max catch-up runs must be greater than 0");
+        }
+        this.maxCatchUpRuns = maxCatchUpRuns;
+    }
+
+    /**
+     * @return the maximum number of runs of a task for one misfire.
+     * @since 3.0.1
+     */
+    public int getMaxCatchUpRuns() {
+        return maxCatchUpRuns;
+    }
+
+    /**
+     * Decorate the given task with the spread of its fires, the misfire handling and the
+     * {@link ClusterExecutionGuard}, the guard being outside so that the runs of one misfire
+     * share one lease, and the spread inside so that the misfire handling allows for the
+     * offsets of the fires.
+     * @param expression the expression of the task.
+     * @param runnable   the task.
+     * @return the decorated task.
+     * @since 3.0.1
+     */
+    protected Runnable decorateRunnable(String expression, Runnable runnable) {
+        return guardRunnable(expression, misfireRunnable(expression, spreadRunnable(expression, runnable)));
+    }
+
+    /**
+     * Wrap the given task with the spread of this repository if a spread window is set,
+     * and key the offsets of the spread task on the given expression and bound them by
+     * its period.
+     * @param expression the expression of the task.
+     * @param runnable   the task, possibly already a {@link SpreadRunnable}.
+     * @return the spread task, or the given one.
+     * @since 3.0.1
+     */
+    protected Runnable spreadRunnable(String expression, Runnable runnable) {
+        SpreadRunnable spread = RepositoryUtils.findDelegate(runnable, SpreadRunnable.class);
+        if (spread == null) {
+            long window = spreadWindow;
+            if (window <= 0) {
+                return runnable;
+            }
+            spread = new SpreadRunnable(runnable, window, spreadPolicy);
+            runnable = spread;
+        }
+        spread.reset(expression, getPeriod(expression));
+        return runnable;
+    }
+
+    /**
+     * Return the shortest of the next two intervals between the fire times of the given
+     * expression, the interval of an {@link IntervalExpression}, or {@code -1} if
+     * {@link #getNextFireTimeFunction} does not support the expression.
+     * @param expression the expression of the task.
+     * @return the period of the expression, in milliseconds.
+     */
+    private long getPeriod(String expression) {
+        LongUnaryOperator nextFireTime = getNextFireTimeFunction(expression);
+        if (nextFireTime == null) {
+            if (IntervalExpression.isIntervalExpression(expression)) {
+                try {
+                    return IntervalExpression.parse(expression).getInterval(TimeUnit.MILLISECONDS);
+                } catch (IllegalArgumentException ignored) {
+                    // Rejected by the repository on registration.
+                }
+            }
+            return -1;
+        }
+        long first = nextFireTime.applyAsLong(System.currentTimeMillis());
+        long second = first < 0 ? -1 : nextFireTime.applyAsLong(first);
+        long third = second < 0 ? -1 : nextFireTime.applyAsLong(second);
+        if (second < 0) {
+            return -1;
+        }
+        return third < 0 ? second - first : Math.min(second - first, third - second);
+    }
+
+    /**
+     * Wrap the given task with the misfire handling of this repository, if
+     * {@link #getNextFireTimeFunction} supports the given expression.
+     * @param expression the expression of the task.
+     * @param runnable   the task.
+     * @return the misfire-handling task, or the given one.
+     * @since 3.0.1
+     */
+    protected Runnable misfireRunnable(String expression, Runnable runnable) {
+        if (RepositoryUtils.findDelegate(runnable, MisfireHandlingRunnable.class) != null) {
+            return runnable;
+        }
+        LongUnaryOperator nextFireTime = getNextFireTimeFunction(expression);
+        return nextFireTime != null ? new MisfireHandlingRunnable(runnable, nextFireTime) : runnable;
+    }
+
+    /**
+     * Return the function computing the first fire time of the given expression strictly
+     * after a time, both in epoch milliseconds, the function returning {@code -1} when
+     * there is none. The default implementation returns {@code null}, which leaves the
+     * misfires to the underlying scheduler.
+     * @param expression the expression of the task.
+     * @return the function computing the fire times, or {@code null} if not supported.
+     * @since 3.0.1
+     */
+    @Nullable
+    protected LongUnaryOperator getNextFireTimeFunction(String expression) {
+        return null;
+    }
+
+    /**
+     * Follow the new expression of an updated task in its misfire handling, its spread and
+     * the lock name of its {@link ClusterExecutionGuard}.
+     * @param runnable   the scheduled task, possibly decorated.
+     * @param expression the new expression of the task.
+     * @since 3.0.1
+     */
+    protected void resetMisfireHandling(@Nullable Runnable runnable, String expression) {
+        MisfireHandlingRunnable misfireHandling = RepositoryUtils.findDelegate(runnable, MisfireHandlingRunnable.class);
+        if (misfireHandling != null) {
+            misfireHandling.reset(getNextFireTimeFunction(expression));
+        }
+        ClusterExecutionGuard.reguard(runnable, expression, getNextFireTimeFunction(expression));
+        SpreadRunnable spread = RepositoryUtils.findDelegate(runnable, SpreadRunnable.class);
+        if (spread != null) {
+            spread.reset(expression, getPeriod(expression));
+        }
+    }
+
+    /**
+     * Resolve the misfire handling of the fire of the given scheduled task arriving now,
+     * ahead of the listener notifications of the fire, so that a fire skipped by
+     * {@link MisfirePolicy#SKIP_TO_NEXT} is neither run nor reported. To be called on the
+     * thread about to run the task, and followed by {@link #endFire} once the task has run
+     * or the fire has been skipped.
+     * @param runnable the scheduled task, possibly decorated.
+     * @return {@code true} if the fire is skipped, the task then running nothing.
+     * @since 3.0.1
+     */
+    public static boolean beginFire(@Nullable Runnable runnable) {
+        MisfireHandlingRunnable misfireHandling = RepositoryUtils.findDelegate(runnable, MisfireHandlingRunnable.class);
+        return misfireHandling != null && misfireHandling.begin() == 0;
+    }
+
+    /**
+     * End the fire of the given scheduled task begun by {@link #beginFire} on the current
+     * thread.
+     * @param runnable the scheduled task, possibly decorated.
+     * @since 3.0.1
+     */
+    public static void endFire(@Nullable Runnable runnable) {
+        MisfireHandlingRunnable misfireHandling = RepositoryUtils.findDelegate(runnable, MisfireHandlingRunnable.class);
+        if (misfireHandling != null) {
+            misfireHandling.resolvedRuns.remove();
+        }
+        FIRE_LATENESS.remove();
+    }
+
+    /**
+     * Add the misfire counts of the given scheduled task to the given {@link CronTaskInfo}.
+     * @param cronTaskInfo the {@link CronTaskInfo} of the task.
+     * @param runnable     the scheduled task, possibly decorated.
+     * @since 3.0.1
+     */
+    protected void addMisfireCounts(CronTaskInfo cronTaskInfo, @Nullable Runnable runnable) {
+        MisfireHandlingRunnable misfireHandling = RepositoryUtils.findDelegate(runnable, MisfireHandlingRunnable.class);
+        if (misfireHandling != null) {
+            cronTaskInfo.setMisfireCount(cronTaskInfo.getMisfireCount() + misfireHandling.misfireCount.get());
+            cronTaskInfo.setRecoveredMisfireCount(cronTaskInfo.getRecoveredMisfireCount()
+                    + misfireHandling.recoveredMisfireCount.get());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -174,6 +675,10 @@ public abstract class AbstractCronTaskRepository extends AbstractCronListenerRep
         }
         // Setting remaining number of runs.
         cronTaskInfo.setRemainingNumberOfRuns(getTaskRemainingNumberOfRuns(cronTaskInfo.getId()));
+        // Adding the misfire counts of a decorated task.
+        addMisfireCounts(cronTaskInfo, cronTaskInfo.getRunnable());
+        // Setting the runtime statistics.
+        cronTaskInfo.setStatistics(taskStatistics.get(cronTaskInfo.getId()));
 
         return cronTaskInfo;
     }
@@ -203,6 +708,200 @@ public abstract class AbstractCronTaskRepository extends AbstractCronListenerRep
         }
     }
 
+    /**
+     * A task comparing each of its fires with the fire times of its expression and
+     * applying the {@link MisfirePolicy} of the repository to the misfires.
+     */
+    private class MisfireHandlingRunnable implements DelegatingRunnable {
+
+        private final Runnable runnable;
+
+        /** The spread of the fires of the task, {@code null} if not spread. */
+        @Nullable
+        private final SpreadRunnable spread;
+
+        /** The fire times of the expression, {@code null} to run every fire as is. */
+        @Nullable
+        private LongUnaryOperator nextFireTime;
+
+        /** The fire time of the latest fire, the registration time before the first one. */
+        private long lastFireTime = System.currentTimeMillis();
+
+        private final AtomicLong misfireCount = new AtomicLong();
+
+        private final AtomicLong recoveredMisfireCount = new AtomicLong();
+
+        /** The runs of the fire begun on the current thread by {@link #beginFire}. */
+        private final ThreadLocal<Integer> resolvedRuns = new ThreadLocal<>();
+
+        MisfireHandlingRunnable(Runnable runnable, LongUnaryOperator nextFireTime) {
+            this.runnable = runnable;
+            this.spread = RepositoryUtils.findDelegate(runnable, SpreadRunnable.class);
+            this.nextFireTime = nextFireTime;
+        }
+
+        @Override
+        public Runnable getDelegate() {
+            return runnable;
+        }
+
+        @Override
+        public void run() {
+            Integer resolved = resolvedRuns.get();
+            int runs;
+            if (resolved != null) {
+                resolvedRuns.remove();
+                runs = resolved;
+            } else {
+                runs = resolveRuns(System.currentTimeMillis());
+            }
+            for (int i = 0; i < runs; i++) {
+                runnable.run();
+            }
+        }
+
+        int begin() {
+            int runs = resolveRuns(System.currentTimeMillis());
+            resolvedRuns.set(runs);
+            return runs;
+        }
+
+        synchronized void reset(@Nullable LongUnaryOperator nextFireTime) {
+            this.nextFireTime = nextFireTime;
+            this.lastFireTime = System.currentTimeMillis();
+        }
+
+        /**
+         * Find the fire time of the fire arriving at the given time, count the fire times
+         * missed before it, and return the number of runs of the task.
+         */
+        private synchronized int resolveRuns(long now) {
+            if (nextFireTime == null) {
+                return 1;
+            }
+            long fireTime = nextFireTime.applyAsLong(lastFireTime);
+            if (fireTime < 0 || fireTime > now + EARLY_FIRE_TOLERANCE) {
+                // A fire the expression does not predict, such as after the clock was moved back.
+                lastFireTime = now;
+                return 1;
+            }
+            long missed = 0;
+            boolean counted = true;
+            long next;
+            while ((next = nextFireTime.applyAsLong(fireTime)) >= 0 && next <= now + EARLY_FIRE_TOLERANCE) {
+                fireTime = next;
+                if (++missed >= MAX_COUNTED_MISSED_FIRES) {
+                    counted = false;
+                    break;
+                }
+            }
+            lastFireTime = counted ? fireTime : now;
+            // The offset of a spread fire is not a lateness of the scheduler.
+            long lateness = Math.max(now - fireTime - (spread != null ? spread.getLatenessAllowance() : 0), 0);
+            FIRE_LATENESS.set(lateness);
+            boolean late = !counted || lateness > misfireThreshold;
+            if (missed == 0 && !late) {
+                return 1;
+            }
+            long due = missed + 1;
+            long runs;
+            switch (misfirePolicy) {
+                case SKIP_TO_NEXT:
+                    runs = late ? 0 : 1;
+                    break;
+                case FIRE_ALL_MISSED:
+                    runs = Math.min(due, maxCatchUpRuns);
+                    break;
+                default:
+                    runs = 1;
+            }
+            long dropped = due - runs;
+            misfireCount.addAndGet(dropped);
+            recoveredMisfireCount.addAndGet(missed + (late ? 1 : 0) - dropped);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Task {} misfired: {} fire(s) missed, {} ms late, {} run(s), {} dropped.",
+                        runnable, missed, lateness, runs, dropped);
+            }
+            return (int) runs;
+        }
+
+        @Override
+        public String toString() {
+            return runnable.toString();
+        }
+    }
+
+    /**
+     * The listener measuring the executions of the tasks into {@link #taskStatistics} and
+     * reporting them to {@link #metricsRecorders}, notified on the task thread.
+     */
+    private class StatisticsRecordingCronListener extends SimpleCronListener implements SynchronousCronListener {
+
+        /** The start time of the execution in progress on the current thread, in nanoseconds. */
+        private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+
+        @Override
+        public void start(ListenerContext context) {
+            String id = context.getID();
+            int runningCount = taskStatistics.computeIfAbsent(id, key -> new CronTaskStatistics()).started();
+            startNanos.set(System.nanoTime());
+            for (CronTaskMetricsRecorder recorder : metricsRecorders) {
+                try {
+                    recorder.recordStart(id, runningCount);
+                } catch (Throwable e) {
+                    logger.warn("Metrics recorder {} failed on the start of task ID <{}>.", recorder, id, e);
+                }
+            }
+        }
+
+        @Override
+        public void success(ListenerContext context) {
+            finished(context, null);
+        }
+
+        @Override
+        public void failed(ListenerContext context, Throwable exception) {
+            finished(context, exception);
+        }
+
+        private void finished(ListenerContext context, @Nullable Throwable failure) {
+            Long start = startNanos.get();
+            startNanos.remove();
+            long durationNanos = start != null ? System.nanoTime() - start : -1;
+            long lateness = context.getFireLateness();
+            if (lateness < 0) {
+                Long misfireLateness = FIRE_LATENESS.get();
+                lateness = misfireLateness != null ? misfireLateness : -1;
+            }
+            FIRE_LATENESS.remove();
+
+            String id = context.getID();
+            long threshold = slowRunThreshold;
+            boolean slow = threshold > 0 && durationNanos > TimeUnit.MILLISECONDS.toNanos(threshold);
+            if (slow) {
+                logger.warn("Task ID <{}> ran for {} ms, longer than the slow-run threshold of {} ms.",
+                        id, TimeUnit.NANOSECONDS.toMillis(durationNanos), threshold);
+            }
+            CronTaskStatistics statistics = taskStatistics.get(id);
+            if (statistics != null) {
+                if (lateness >= 0) {
+                    statistics.fireLateness(lateness);
+                }
+                statistics.finished(durationNanos, failure == null, slow);
+            }
+            for (CronTaskMetricsRecorder recorder : metricsRecorders) {
+                try {
+                    if (lateness >= 0) {
+                        recorder.recordFireLateness(id, lateness);
+                    }
+                    recorder.recordExecution(id, durationNanos, failure);
+                } catch (Throwable e) {
+                    logger.warn("Metrics recorder {} failed on the end of task ID <{}>.", recorder, id, e);
+                }
+            }
+        }
+    }
+
     /**
      * Check the listener class for tasks that limit the number of runs.
      */
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.core.repository;
+
+/**
+ * The policy applied when a cron task fires while its previous execution is
+ * still running on the worker pool of a repository.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public enum ConcurrencyPolicy {
+
+    /**
+     * Run every fire, executions of the same task may overlap.
+     */
+    ALLOW_OVERLAP,
+
+    /**
+     * Skip the fire and count it as a misfire when an execution is running.
+     */
+    SKIP_IF_RUNNING,
+
+    /**
+     * Queue the fire behind the running execution, up to the queue depth limit
+     * of the repository, a fire beyond the limit is counted as a misfire.
+     */
+    QUEUE
+}
@@ -19,12 +19,17 @@ package top.osjf.cron.core.repository;
 import top.osjf.cron.core.util.ReflectUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 
 /**
  * The {@code CronMethodRunnable} class implements the Runnable interface,
  * allowing specified methods to be called on specified target objects
  * through reflection mechanisms.
  *
+ * <p>Since version 3.0.1, a direct invoker of the method is generated once at
+ * construction by {@link ReflectUtils#createMethodInvoker}, every run then calls
+ * the method without reflection, as cheap as a compiled call.
+ *
  * <p>This class is particularly suitable for scenarios where a certain object
  * method needs to be executed at regular intervals, such as when scheduling
  * tasks using cron expressions.
@@ -40,6 +45,11 @@ public class CronMethodRunnable implements Runnable {
 
     private final Method method;
 
+    /**
+     * The direct invoker of {@link #method} against {@link #target}.
+     * @since 3.0.1
+     */
+    private final Runnable invoker;
 
     /**
      * Create a {@code CronMethodRunnable} for the given target instance,
@@ -51,6 +61,7 @@ public class CronMethodRunnable implements Runnable {
     public CronMethodRunnable(Object target, Method method) {
         this.target = target;
         this.method = method;
+        this.invoker = ReflectUtils.createMethodInvoker(target, method);
     }
 
     /**
@@ -64,6 +75,7 @@ public class CronMethodRunnable implements Runnable {
     public CronMethodRunnable(Object target, String methodName) throws NoSuchMethodException {
         this.target = target;
         this.method = target.getClass().getMethod(methodName);
+        this.invoker = ReflectUtils.createMethodInvoker(target, method);
     }
 
 
@@ -88,7 +100,14 @@ public class CronMethodRunnable implements Runnable {
 
     @Override
     public void run() {
-        ReflectUtils.invokeMethod(this.target, this.method);
+        try {
+            this.invoker.run();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Exception ex) {
+            // Checked exceptions of the method are wrapped as with reflection.
+            throw new UndeclaredThrowableException(ex);
+        }
     }
 
     @Override
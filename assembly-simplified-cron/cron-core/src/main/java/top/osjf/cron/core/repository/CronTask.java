@@ -17,6 +17,8 @@
 
 package top.osjf.cron.core.repository;
 
+import top.osjf.cron.core.lang.Nullable;
+
 /**
  * The {@code CronTask} class represents a timed task execution information wrapper
  * object, which contains a cron expression and a task to be executed (implemented
@@ -31,6 +33,19 @@ public final class CronTask {
 
     private final CronMethodRunnable runnable;
 
+    /** The spread window of the task, in milliseconds, {@code -1} for the one of the repository.
+     * @since 3.0.1 */
+    private final long spreadWindow;
+
+    /** The policy choosing the offsets of the spread fires of the task.
+     * @since 3.0.1 */
+    private final SpreadPolicy spreadPolicy;
+
+    /** The name of the task, the same on every instance, {@code null} for none.
+     * @since 3.0.1 */
+    @Nullable
+    private final String name;
+
     /**
      * Construct a {@code CronTask} instance by given cron expression and {@code CronMethodRunnable}.
      *
@@ -38,8 +53,43 @@ public final class CronTask {
      * @param runnable   the task to be executed is implemented through {@code CronMethodRunnable}.
      */
     public CronTask(String expression, CronMethodRunnable runnable) {
+        this(expression, runnable, -1, SpreadPolicy.HASH);
+    }
+
+    /**
+     * Construct a {@code CronTask} instance whose fires are spread over its own window.
+     *
+     * @param expression   the cron expression defines the execution time of the task.
+     * @param runnable     the task to be executed is implemented through {@code CronMethodRunnable}.
+     * @param spreadWindow the spread window of the task, in milliseconds, {@code 0} for none
+     *                     and {@code -1} for the one of the repository.
+     * @param spreadPolicy the policy choosing the offsets of the spread fires.
+     * @since 3.0.1
+     */
+    public CronTask(String expression, CronMethodRunnable runnable, long spreadWindow, SpreadPolicy spreadPolicy) {
+        this(null, expression, runnable, spreadWindow, spreadPolicy);
+    }
+
+    /**
+     * Construct a named {@code CronTask} instance whose fires are spread over its own window.
+     *
+     * @param name         the name of the task, the same on every instance such as the name
+     *                     of the bean of the method, {@code null} for none.
+     * @param expression   the cron expression defines the execution time of the task.
+     * @param runnable     the task to be executed is implemented through {@code CronMethodRunnable}.
+     * @param spreadWindow the spread window of the task, in milliseconds, {@code 0} for none
+     *                     and {@code -1} for the one of the repository.
+     * @param spreadPolicy the policy choosing the offsets of the spread fires.
+     * @see NamedRunnable
+     * @since 3.0.1
+     */
+    public CronTask(@Nullable String name, String expression, CronMethodRunnable runnable, long spreadWindow,
+                    SpreadPolicy spreadPolicy) {
+        this.name = name;
         this.expression = expression;
         this.runnable = runnable;
+        this.spreadWindow = spreadWindow;
+        this.spreadPolicy = spreadPolicy;
     }
 
     /**
@@ -60,6 +110,49 @@ public final class CronTask {
         return runnable;
     }
 
+    /**
+     * Get the spread window of the task.
+     *
+     * @return the spread window of the task, in milliseconds, {@code -1} for the one of the repository.
+     * @since 3.0.1
+     */
+    public long getSpreadWindow() {
+        return spreadWindow;
+    }
+
+    /**
+     * Get the policy choosing the offsets of the spread fires of the task.
+     *
+     * @return the policy choosing the offsets of the spread fires.
+     * @since 3.0.1
+     */
+    public SpreadPolicy getSpreadPolicy() {
+        return spreadPolicy;
+    }
+
+    /**
+     * Get the name of the task.
+     *
+     * @return the name of the task, {@code null} for none.
+     * @since 3.0.1
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the task to be registered, wrapped in a {@link NamedRunnable} when the task has
+     * a name and in a {@link SpreadRunnable} when the task has its own spread window.
+     *
+     * @return the task to be registered.
+     * @since 3.0.1
+     */
+    public Runnable getSpreadRunnable() {
+        Runnable registered = name != null ? new NamedRunnable(name, runnable) : runnable;
+        return spreadWindow >= 0 ? new SpreadRunnable(registered, spreadWindow, spreadPolicy) : registered;
+    }
+
     @Override
     public String toString() {
         return expression + "@" + runnable.toString();
@@ -80,6 +80,28 @@ public class CronTaskInfo implements Serializable {
      */
     private long remainingNumberOfRuns;
 
+    /**
+     * The number of fires of this task that were not executed, because the previous
+     * execution was still running, the worker pool rejected them or the
+     * {@link MisfirePolicy} of its repository dropped them.
+     * @since 3.0.1
+     */
+    private long misfireCount;
+
+    /**
+     * The number of misfired fires of this task that were run late according to the
+     * {@link MisfirePolicy} of its repository.
+     * @since 3.0.1
+     */
+    private long recoveredMisfireCount;
+
+    /**
+     * The runtime statistics of this task, {@code null} before its first execution.
+     * @since 3.0.1
+     */
+    @Nullable
+    private CronTaskStatistics statistics;
+
     /**
      * Constructs a {@code CronTaskInfo} with any task info.
      * @param id                        {@link #id}
@@ -117,6 +139,36 @@ public class CronTaskInfo implements Serializable {
         this.remainingNumberOfRuns = remainingNumberOfRuns;
     }
 
+    /**
+     * Set the number of misfires for this {@code CronTaskInfo}.
+     *
+     * @param misfireCount the number of fires of this task that were not executed.
+     * @since 3.0.1
+     */
+    public void setMisfireCount(long misfireCount) {
+        this.misfireCount = misfireCount;
+    }
+
+    /**
+     * Set the number of misfired fires run late for this {@code CronTaskInfo}.
+     *
+     * @param recoveredMisfireCount the number of misfired fires of this task run late.
+     * @since 3.0.1
+     */
+    public void setRecoveredMisfireCount(long recoveredMisfireCount) {
+        this.recoveredMisfireCount = recoveredMisfireCount;
+    }
+
+    /**
+     * Set the runtime statistics for this {@code CronTaskInfo}.
+     *
+     * @param statistics the runtime statistics of this task.
+     * @since 3.0.1
+     */
+    public void setStatistics(@Nullable CronTaskStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     /**
      * Set the remaining extension parameter array for this {@code CronTaskInfo}.
      *
@@ -192,4 +244,29 @@ public class CronTaskInfo implements Serializable {
     public long getRemainingNumberOfRuns() {
         return remainingNumberOfRuns;
     }
+
+    /**
+     * @return {@link #misfireCount}
+     * @since 3.0.1
+     */
+    public long getMisfireCount() {
+        return misfireCount;
+    }
+
+    /**
+     * @return {@link #recoveredMisfireCount}
+     * @since 3.0.1
+     */
+    public long getRecoveredMisfireCount() {
+        return recoveredMisfireCount;
+    }
+
+    /**
+     * @return {@link #statistics}
+     * @since 3.0.1
+     */
+    @Nullable
+    public CronTaskStatistics getStatistics() {
+        return statistics;
+    }
 }
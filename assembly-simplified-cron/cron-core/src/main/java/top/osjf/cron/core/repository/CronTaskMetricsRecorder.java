@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.repository;
+
+import top.osjf.cron.core.lang.Nullable;
+
+/**
+ * The {@code CronTaskMetricsRecorder} interface is the SPI through which the executions of
+ * the tasks registered in an {@link AbstractCronTaskRepository} are reported to a metrics
+ * system, in addition to the {@link CronTaskStatistics} kept by the repository.
+ *
+ * <p>The implementations are discovered with {@link java.util.ServiceLoader} from
+ * {@code META-INF/services/top.osjf.cron.core.repository.CronTaskMetricsRecorder} when the
+ * repository is created, and can also be added by
+ * {@link AbstractCronTaskRepository#addMetricsRecorder}. They are called on the task
+ * thread, so they should only hand the values over to the metrics system; an exception
+ * thrown by a recorder is logged and does not affect the task.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface CronTaskMetricsRecorder {
+
+    /**
+     * Record the start of an execution of a task.
+     * @param id           the id of the task.
+     * @param runningCount the number of running instances of the task including this one.
+     */
+    default void recordStart(String id, int runningCount) {
+    }
+
+    /**
+     * Record the delay between the fire time of an execution of a task and its actual start,
+     * only called when the repository knows the fire time.
+     * @param id       the id of the task.
+     * @param lateness the fire lateness in milliseconds.
+     */
+    default void recordFireLateness(String id, long lateness) {
+    }
+
+    /**
+     * Record the end of an execution of a task.
+     * @param id            the id of the task.
+     * @param durationNanos the duration of the execution in nanoseconds, {@code -1} if unknown.
+     * @param failure       the failure of the execution, {@code null} when it succeeded.
+     */
+    void recordExecution(String id, long durationNanos, @Nullable Throwable failure);
+}
@@ -22,8 +22,10 @@ import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.lang.Nullable;
 import top.osjf.cron.core.lang.Wrapper;
 import top.osjf.cron.core.listener.CronListener;
+import top.osjf.cron.core.support.IntervalExpression;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@code CronTaskRepository} Interface is a dedicated repository for managing scheduled
@@ -49,6 +51,11 @@ import java.util.List;
  * {@link CronListenerRepository} and inherited from {@link CronListenerRepository} to ensure
  * support for {@link CronListener} management.
  *
+ * <p>In version 3.0.1, a millisecond resolution mode was added: repositories answering
+ * {@code true} to {@link #isIntervalExpressionSupported()} also accept an
+ * {@link IntervalExpression} such as {@code @every 250ms} wherever a cron expression
+ * is expected, see {@link #registerAtInterval(long, TimeUnit, Runnable)}.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.0
  */
@@ -412,6 +419,21 @@ public interface CronTaskRepository extends Repository, LifecycleRepository, Cro
      */
     List<CronTaskInfo> getAllCronTaskInfo();
 
+    /**
+     * Returns the number of modifications of the registered cron tasks, that is of the
+     * registrations, updates and removals, so that a view of {@link #getAllCronTaskInfo()}
+     * can be reused as long as this number is unchanged.
+     *
+     * <p>The number of modifications is not tracked by default, returning {@code -1}.
+     *
+     * @return the number of modifications of the registered cron tasks, {@code -1} if it
+     * is not tracked.
+     * @since 3.0.1
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
     /**
      * Update the cron expression for registered scheduled tasks.
      *
@@ -442,4 +464,44 @@ public interface CronTaskRepository extends Repository, LifecycleRepository, Cro
      * @throws NullPointerException  if input id is {@literal null}.
      */
     void remove(@NotNull String id) throws CronInternalException;
+
+    /**
+     * Return whether this repository accepts {@link IntervalExpression}s, that is whether
+     * it can schedule tasks at a millisecond resolution on drift-free absolute deadlines.
+     *
+     * @return {@code true} if interval expressions are accepted, {@code false} otherwise.
+     * @since 3.0.1
+     */
+    default boolean isIntervalExpressionSupported() {
+        return false;
+    }
+
+    /**
+     * Register a new scheduled task running at the given fixed interval, with a
+     * millisecond resolution.
+     *
+     * <p>The task fires on absolute deadlines, the n-th fire being due at
+     * {@code registration + n * interval}, so the time taken by a fire does not shift
+     * the following ones.
+     *
+     * @param interval the interval between two fires, at least one millisecond.
+     * @param unit     the time unit of the interval.
+     * @param runnable the {@code Runnable} executed at each fire.
+     * @return After successful registration, return the unique ID of the registration task,
+     * which can be used for subsequent updates and deletions.
+     * @throws CronInternalException         the internal exceptions generated by the
+     *                                       framework used for registration are detailed
+     *                                       in {@link CronInternalException#getCause()}.
+     * @throws IllegalArgumentException      if the interval is shorter than one millisecond.
+     * @throws UnsupportedOperationException if {@link #isIntervalExpressionSupported()}
+     *                                       returns {@code false}.
+     * @since 3.0.1
+     */
+    default String registerAtInterval(long interval, @NotNull TimeUnit unit, @NotNull Runnable runnable)
+            throws CronInternalException {
+        if (!isIntervalExpressionSupported()) {
+            throw new UnsupportedOperationException(getClass().getName() + " does not support interval expressions");
+        }
+        return register(IntervalExpression.of(interval, unit).asString(), runnable);
+    }
 }
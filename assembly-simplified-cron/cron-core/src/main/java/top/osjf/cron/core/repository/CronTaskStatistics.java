@@ -0,0 +1,246 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.repository;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code CronTaskStatistics} class records the runtime statistics of one registered
+ * task: the fire lateness, the execution durations with their histogram, the success
+ * and failure counts and the number of concurrently running instances.
+ *
+ * <p>The statistics are recorded by {@link AbstractCronTaskRepository} through its listener
+ * hooks and are live, the getters read the current values without locking, so the values
+ * read one after the other may belong to different executions.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class CronTaskStatistics implements Serializable {
+
+    private static final long serialVersionUID = -4206514939215542190L;
+
+    /**
+     * The upper bounds in milliseconds of the buckets of the duration histogram, the
+     * last bucket of the histogram counting the executions longer than the last bound.
+     */
+    private static final long[] DURATION_BUCKET_BOUNDS = {10, 50, 100, 500, 1000, 5000, 30000, 60000};
+
+    private final AtomicLong successCount = new AtomicLong();
+
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private final AtomicLong slowRunCount = new AtomicLong();
+
+    private final AtomicInteger runningCount = new AtomicInteger();
+
+    private final AtomicInteger maxRunningCount = new AtomicInteger();
+
+    private final AtomicLong totalDurationNanos = new AtomicLong();
+
+    private final AtomicLong maxDurationNanos = new AtomicLong();
+
+    private volatile long lastDurationNanos;
+
+    private final AtomicLongArray durationHistogram = new AtomicLongArray(DURATION_BUCKET_BOUNDS.length + 1);
+
+    private final AtomicLong fireLatenessCount = new AtomicLong();
+
+    private final AtomicLong totalFireLateness = new AtomicLong();
+
+    private final AtomicLong maxFireLateness = new AtomicLong();
+
+    private volatile long lastFireLateness;
+
+    /**
+     * Record the start of an execution.
+     * @return the number of running instances including this one.
+     */
+    int started() {
+        int running = runningCount.incrementAndGet();
+        maxRunningCount.accumulateAndGet(running, Math::max);
+        return running;
+    }
+
+    /**
+     * Record the end of an execution.
+     * @param durationNanos the duration of the execution, {@code -1} if unknown.
+     * @param success       whether the execution succeeded.
+     * @param slow          whether the execution exceeded the slow-run threshold.
+     */
+    void finished(long durationNanos, boolean success, boolean slow) {
+        runningCount.updateAndGet(running -> Math.max(running - 1, 0));
+        (success ? successCount : failureCount).incrementAndGet();
+        if (slow) {
+            slowRunCount.incrementAndGet();
+        }
+        if (durationNanos >= 0) {
+            totalDurationNanos.addAndGet(durationNanos);
+            maxDurationNanos.accumulateAndGet(durationNanos, Math::max);
+            lastDurationNanos = durationNanos;
+            durationHistogram.incrementAndGet(bucketOf(durationNanos / 1_000_000));
+        }
+    }
+
+    /**
+     * Record the delay between the fire time of an execution and its actual start.
+     * @param lateness the fire lateness in milliseconds.
+     */
+    void fireLateness(long lateness) {
+        fireLatenessCount.incrementAndGet();
+        totalFireLateness.addAndGet(lateness);
+        maxFireLateness.accumulateAndGet(lateness, Math::max);
+        lastFireLateness = lateness;
+    }
+
+    private static int bucketOf(long durationMillis) {
+        for (int i = 0; i < DURATION_BUCKET_BOUNDS.length; i++) {
+            if (durationMillis <= DURATION_BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return DURATION_BUCKET_BOUNDS.length;
+    }
+
+    /**
+     * @return the number of successful executions.
+     */
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    /**
+     * @return the number of failed executions.
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * @return the number of executions longer than the slow-run threshold of the repository.
+     */
+    public long getSlowRunCount() {
+        return slowRunCount.get();
+    }
+
+    /**
+     * @return the number of instances of the task running right now.
+     */
+    public int getRunningCount() {
+        return runningCount.get();
+    }
+
+    /**
+     * @return the highest number of instances of the task that ran at the same time.
+     */
+    public int getMaxRunningCount() {
+        return maxRunningCount.get();
+    }
+
+    /**
+     * @return the total duration of the executions, in nanoseconds.
+     */
+    public long getTotalDurationNanos() {
+        return totalDurationNanos.get();
+    }
+
+    /**
+     * @return the average duration of the executions, in nanoseconds, {@code 0} before the first one.
+     */
+    public long getAverageDurationNanos() {
+        long executions = getSuccessCount() + getFailureCount();
+        return executions == 0 ? 0 : getTotalDurationNanos() / executions;
+    }
+
+    /**
+     * @return the longest duration of an execution, in nanoseconds.
+     */
+    public long getMaxDurationNanos() {
+        return maxDurationNanos.get();
+    }
+
+    /**
+     * @return the duration of the latest execution, in nanoseconds.
+     */
+    public long getLastDurationNanos() {
+        return lastDurationNanos;
+    }
+
+    /**
+     * @return a copy of the upper bounds in milliseconds of the buckets of
+     * {@link #getDurationHistogram()}.
+     */
+    public static long[] getDurationBucketBounds() {
+        return DURATION_BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Return the number of executions per duration bucket, the bucket {@code i} counting
+     * the executions not longer than {@code getDurationBucketBounds()[i]} milliseconds and
+     * longer than the previous bound, the last bucket the executions longer than all bounds.
+     * @return a copy of the duration histogram.
+     */
+    public long[] getDurationHistogram() {
+        long[] histogram = new long[durationHistogram.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = durationHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * @return the number of executions whose fire lateness is known.
+     */
+    public long getFireLatenessCount() {
+        return fireLatenessCount.get();
+    }
+
+    /**
+     * @return the average fire lateness, in milliseconds.
+     */
+    public long getAverageFireLateness() {
+        long count = getFireLatenessCount();
+        return count == 0 ? 0 : totalFireLateness.get() / count;
+    }
+
+    /**
+     * @return the highest fire lateness, in milliseconds.
+     */
+    public long getMaxFireLateness() {
+        return maxFireLateness.get();
+    }
+
+    /**
+     * @return the fire lateness of the latest execution whose lateness is known, in milliseconds.
+     */
+    public long getLastFireLateness() {
+        return lastFireLateness;
+    }
+
+    @Override
+    public String toString() {
+        return "CronTaskStatistics{success=" + getSuccessCount() + ", failure=" + getFailureCount()
+                + ", slow=" + getSlowRunCount() + ", running=" + getRunningCount()
+                + ", maxRunning=" + getMaxRunningCount() + ", avgDurationNanos=" + getAverageDurationNanos()
+                + ", maxDurationNanos=" + getMaxDurationNanos() + ", avgFireLateness=" + getAverageFireLateness()
+                + ", maxFireLateness=" + getMaxFireLateness() + "}";
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.core.repository;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory methods of the worker pools that execute cron tasks apart from the
+ * scheduler thread.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public abstract class CronWorkerExecutors {
+
+    /**
+     * The {@code Executors#newVirtualThreadPerTaskExecutor} method of JDK 21 and above,
+     * {@code null} when not supported.
+     */
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method method;
+        try {
+            method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException ex) {
+            method = null;
+        }
+        NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = method;
+    }
+
+    /**
+     * Return whether the running JDK supports virtual threads.
+     *
+     * @return {@code true} if virtual threads are supported.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates a worker pool of a fixed number of platform threads with a bounded queue,
+     * a task submitted while the queue is full is rejected with a
+     * {@link RejectedExecutionException}.
+     *
+     * @param poolSize      the number of threads.
+     * @param queueCapacity the capacity of the queue, {@code 0} or less means unbounded.
+     * @return the worker pool.
+     */
+    public static ExecutorService newFixedWorkerExecutor(int poolSize, int queueCapacity) {
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity)
+                : new LinkedBlockingQueue<>();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue,
+                new WorkerThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Creates a worker pool starting a virtual thread for each task when the JDK supports
+     * them, otherwise a pool of {@link #newFixedWorkerExecutor} is returned.
+     *
+     * @param poolSize      the number of threads when virtual threads are not supported.
+     * @param queueCapacity the capacity of the queue when virtual threads are not supported.
+     * @return the worker pool.
+     */
+    public static ExecutorService newVirtualThreadOrFixedWorkerExecutor(int poolSize, int queueCapacity) {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException ex) {
+                // Fall back to platform threads.
+            }
+        }
+        return newFixedWorkerExecutor(poolSize, queueCapacity);
+    }
+
+    /**
+     * The thread factory of the platform worker threads.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            return new Thread(r, "cron-worker-" + threadNumber.getAndIncrement());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.repository;
+
+/**
+ * A {@link Runnable} decorating another one, such as the guarded and misfire-handling
+ * wrappers a repository puts around the registered tasks, the registered task is then
+ * found back by {@link RepositoryUtils#unwrapRunnable}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface DelegatingRunnable extends Runnable {
+
+    /**
+     * Return the decorated {@link Runnable}.
+     *
+     * @return the decorated {@link Runnable}.
+     */
+    Runnable getDelegate();
+}
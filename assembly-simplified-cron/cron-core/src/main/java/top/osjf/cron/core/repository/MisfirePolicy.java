@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.repository;
+
+/**
+ * The policy applied when a cron task misfired, that is when some of its fires were
+ * missed (the scheduler thread was starved, the JVM paused, the scheduler skipped
+ * them) or when a fire arrives later than the misfire threshold of its repository.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public enum MisfirePolicy {
+
+    /**
+     * Run the task once for all the misfired fires, then resume on the schedule.
+     */
+    FIRE_ONCE_NOW,
+
+    /**
+     * Run the task once for each misfired fire, up to the catch-up limit of the
+     * repository, the fires beyond the limit are dropped.
+     */
+    FIRE_ALL_MISSED,
+
+    /**
+     * Drop the misfired fires and wait for the next fire on the schedule.
+     */
+    SKIP_TO_NEXT
+}
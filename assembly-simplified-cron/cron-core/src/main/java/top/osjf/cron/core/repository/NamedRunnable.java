@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.repository;
+
+import top.osjf.cron.core.lang.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A task named by its caller, the name telling apart the tasks of the same class or
+ * method in {@link RepositoryUtils#resolveStableTaskName}, and so in the lock of the
+ * {@link top.osjf.cron.core.cluster.ClusterExecutionGuard} and in the offset of the
+ * {@link SpreadRunnable}. The name is to be the same on every instance of the service
+ * and across restarts, such as the bean name of the task or the key of its record.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class NamedRunnable implements DelegatingRunnable {
+
+    private final String name;
+
+    private final Runnable runnable;
+
+    /**
+     * Creates a {@code NamedRunnable} naming the given task.
+     * @param name     the name of the task, the same on every instance.
+     * @param runnable the task.
+     */
+    public NamedRunnable(@NotNull String name, @NotNull Runnable runnable) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.runnable = Objects.requireNonNull(runnable, "runnable");
+    }
+
+    /**
+     * @return the name of the task.
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Runnable getDelegate() {
+        return runnable;
+    }
+
+    @Override
+    public void run() {
+        runnable.run();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
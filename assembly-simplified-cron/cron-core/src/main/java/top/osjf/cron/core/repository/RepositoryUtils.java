@@ -21,7 +21,9 @@ import top.osjf.cron.core.exception.CronInternalException;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.lang.Nullable;
 
+import java.lang.reflect.Method;
 import java.util.Objects;
+import java.util.StringJoiner;
 
 /**
  * This class is a utility class designed to assist in executing and verifying
@@ -108,4 +110,75 @@ public abstract class RepositoryUtils {
         }
         return re;
     }
+
+    /**
+     * Return the registered task decorated by the given {@link Runnable}, following
+     * the chain of {@link DelegatingRunnable}.
+     *
+     * @param runnable the scheduled {@link Runnable}, possibly decorated.
+     * @return the innermost {@link Runnable}.
+     * @since 3.0.1
+     */
+    public static Runnable unwrapRunnable(Runnable runnable) {
+        while (runnable instanceof DelegatingRunnable) {
+            runnable = ((DelegatingRunnable) runnable).getDelegate();
+        }
+        return runnable;
+    }
+
+    /**
+     * Return the name of the registered task decorated by the given {@link Runnable},
+     * the same across restarts and instances: the name given by a {@link NamedRunnable}
+     * of the decoration chain, else the declaring class, name and parameter types of the
+     * method for a {@link CronMethodRunnable}, or the class name of a task of a named
+     * class. Only a {@link NamedRunnable} tells apart the tasks of the same class or
+     * method.
+     *
+     * @param runnable the scheduled {@link Runnable}, possibly decorated.
+     * @return the stable name of the task, or {@literal null} for a lambda or a
+     * synthetic class, whose class name changes between compilations.
+     * @since 3.0.1
+     */
+    @Nullable
+    public static String resolveStableTaskName(Runnable runnable) {
+        NamedRunnable named = findDelegate(runnable, NamedRunnable.class);
+        if (named != null) {
+            return named.getName();
+        }
+        runnable = unwrapRunnable(runnable);
+        if (runnable instanceof CronMethodRunnable) {
+            Method method = ((CronMethodRunnable) runnable).getMethod();
+            StringJoiner parameterTypes = new StringJoiner(",", "(", ")");
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                parameterTypes.add(parameterType.getName());
+            }
+            return method.getDeclaringClass().getName() + "#" + method.getName() + parameterTypes;
+        }
+        Class<?> type = runnable.getClass();
+        if (type.isSynthetic() || type.isAnonymousClass() || type.getName().contains("$$Lambda")) {
+            return null;
+        }
+        return type.getName();
+    }
+
+    /**
+     * Return the {@link Runnable} of the given type in the decoration chain of the
+     * given {@link Runnable}, the given one included.
+     *
+     * @param runnable the scheduled {@link Runnable}, possibly decorated.
+     * @param type     the type looked for.
+     * @param <T>      the type looked for.
+     * @return the {@link Runnable} of the given type, {@code null} if none.
+     * @since 3.0.1
+     */
+    @Nullable
+    public static <T extends Runnable> T findDelegate(@Nullable Runnable runnable, Class<T> type) {
+        while (runnable != null) {
+            if (type.isInstance(runnable)) {
+                return type.cast(runnable);
+            }
+            runnable = runnable instanceof DelegatingRunnable ? ((DelegatingRunnable) runnable).getDelegate() : null;
+        }
+        return null;
+    }
 }
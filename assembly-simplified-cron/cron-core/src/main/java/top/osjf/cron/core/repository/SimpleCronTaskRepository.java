@@ -25,19 +25,26 @@ import com.cronutils.parser.CronParser;
 import top.osjf.cron.core.exception.CronInternalException;
 import top.osjf.cron.core.exception.UnsupportedTaskBodyException;
 import top.osjf.cron.core.lang.NotNull;
-import top.osjf.cron.core.listener.CronListener;
+import top.osjf.cron.core.listener.CronListenerCollector;
+import top.osjf.cron.core.listener.ListenerLifecycle;
 import top.osjf.cron.core.listener.ListenerContext;
+import top.osjf.cron.core.support.IntervalExpression;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -56,6 +63,32 @@ import java.util.stream.Collectors;
  *   <li>Graceful shutdown support</li>
  * </ul>
  *
+ * <p>Since version 3.0.1, the parsed {@link Cron} and its {@link ExecutionTime} are
+ * cached per expression and shared by all tasks of the same expression, so a fire only
+ * computes the next execution time. For tens of thousands of tasks, a
+ * {@link TimingWheelScheduledExecutorService} can be given as the scheduler, which
+ * inserts and expires the tasks in constant time instead of through a delay queue.
+ *
+ * <p>Since version 3.0.1, a worker pool can be set by {@link #setTaskExecutor}, the
+ * scheduler thread then only schedules the next fire and hands the execution and its
+ * listeners over to the pool, so a slow task no longer delays the fires of the other
+ * tasks. A fire arriving while the previous execution of the same task still runs is
+ * handled according to its {@link ConcurrencyPolicy}, and the fires that were not
+ * executed are counted as misfires in {@link CronTaskInfo#getMisfireCount()}. Without
+ * a worker pool, the tasks run on the scheduler thread as before.
+ *
+ * <p>Since version 3.0.1, the tasks are scheduled on absolute deadlines at a millisecond
+ * resolution instead of a delay truncated to whole seconds, and an
+ * {@link IntervalExpression} such as {@code @every 250ms} is accepted besides cron
+ * expressions. The deadlines of an interval task follow each other by exactly one
+ * interval, the deadlines already passed when a fire completes being skipped and counted
+ * as misfires. With a {@link TimingWheelScheduledExecutorService}, the accuracy is the
+ * tick duration of the wheel, which should then be set below the shortest interval.
+ *
+ * <p>Since version 3.0.1, a cron task fired later than the misfire threshold, or after
+ * missing fire times while the scheduler threads were starved, is handled according to
+ * the {@link MisfirePolicy} of the repository.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.4
  */
@@ -78,6 +111,32 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
      */
     private final CronParser cronParser;
 
+    /**
+     * The parsed cron expressions, key: cron expression.
+     * @since 3.0.1
+     */
+    private final Map<String, ParsedCron> parsedCronCache = new ConcurrentHashMap<>(16);
+
+    /**
+     * The worker pool executing the tasks, {@code null} to execute them on the scheduler thread.
+     * @since 3.0.1
+     */
+    @Nullable
+    private ExecutorService taskExecutor;
+
+    /**
+     * The default {@link ConcurrencyPolicy} of the tasks executed by {@link #taskExecutor}.
+     * @since 3.0.1
+     */
+    private ConcurrencyPolicy concurrencyPolicy = ConcurrencyPolicy.SKIP_IF_RUNNING;
+
+    /**
+     * The maximum number of fires of one task queued behind its running execution
+     * with {@link ConcurrencyPolicy#QUEUE}.
+     * @since 3.0.1
+     */
+    private int maxQueuedRuns = 1;
+
     /**
      * When closing {@link #scheduledExecutorService}, do you wait in the pool for the task to complete.
      */
@@ -136,6 +195,17 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
         this.cronParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(cronType));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Interval expressions are scheduled on absolute deadlines at a millisecond
+     * resolution.
+     * @since 3.0.1
+     */
+    @Override
+    public boolean isIntervalExpressionSupported() {
+        return true;
+    }
+
     /**
      * @param awaitTermination {@link #awaitTermination}
      */
@@ -157,6 +227,60 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
         this.awaitTerminationTimeoutUnit = awaitTerminationTimeoutUnit;
     }
 
+    /**
+     * Set the worker pool executing the tasks apart from the scheduler thread, shut down
+     * together with this repository.
+     *
+     * @param taskExecutor the worker pool, {@code null} to execute the tasks on the scheduler thread.
+     * @see CronWorkerExecutors
+     * @since 3.0.1
+     */
+    public void setTaskExecutor(@Nullable ExecutorService taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Set the default {@link ConcurrencyPolicy} of the tasks, which is
+     * {@link ConcurrencyPolicy#SKIP_IF_RUNNING} by default.
+     *
+     * @param concurrencyPolicy the default {@link ConcurrencyPolicy}.
+     * @since 3.0.1
+     */
+    public void setConcurrencyPolicy(@NotNull ConcurrencyPolicy concurrencyPolicy) {
+        this.concurrencyPolicy = concurrencyPolicy;
+    }
+
+    /**
+     * Set the maximum number of fires of one task queued behind its running execution
+     * with {@link ConcurrencyPolicy#QUEUE}, which is {@code 1} by default.
+     *
+     * @param maxQueuedRuns the maximum number of queued fires of one task.
+     * @since 3.0.1
+     */
+    public void setMaxQueuedRuns(int maxQueuedRuns) {
+        if (maxQueuedRuns < 0) {
+            throw new IllegalArgumentException("maxQueuedRuns must not be negative: " + maxQueuedRuns);
+        }
+        this.maxQueuedRuns = maxQueuedRuns;
+    }
+
+    /**
+     * Set the {@link ConcurrencyPolicy} of the specified task, overriding the default one.
+     *
+     * @param id                the specified task id.
+     * @param concurrencyPolicy the {@link ConcurrencyPolicy} of the task.
+     * @throws CronInternalException if no task of the id is registered.
+     * @since 3.0.1
+     */
+    public void setTaskConcurrencyPolicy(@NotNull String id, @NotNull ConcurrencyPolicy concurrencyPolicy)
+            throws CronInternalException {
+        SimpleRunnabledScheduledFuture future = futureCache.get(id);
+        if (future == null) {
+            throw new CronInternalException("Missing task information according to id " + id);
+        }
+        future.concurrencyPolicy = concurrencyPolicy;
+    }
+
     /**
      * @return The next gradually increasing value serves as the ID for task registration.
      */
@@ -167,28 +291,92 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
     @Override
     public void stop() {
         super.stop();
+        shutdown(scheduledExecutorService);
+        if (taskExecutor != null) {
+            shutdown(taskExecutor);
+        }
+    }
+
+    private void shutdown(ExecutorService executorService) {
         if (awaitTermination) {
             if (logger.isDebugEnabled()) {
                 logger.debug("Closed Pool");
             }
-            scheduledExecutorService.shutdown();
+            executorService.shutdown();
             try {
-                if (!scheduledExecutorService.awaitTermination(awaitTerminationTimeout, awaitTerminationTimeoutUnit)) {
+                if (!executorService.awaitTermination(awaitTerminationTimeout, awaitTerminationTimeoutUnit)) {
                     // If the timeout is not completed, force termination.
-                    scheduledExecutorService.shutdownNow();
+                    executorService.shutdownNow();
                 }
             } catch (InterruptedException ex) {
                 // Restore interrupted state.
                 Thread.currentThread().interrupt();
             } finally {
                 // Ensure that the service has been completely terminated.
-                if (!scheduledExecutorService.isTerminated()) {
-                    scheduledExecutorService.shutdownNow();
+                if (!executorService.isTerminated()) {
+                    executorService.shutdownNow();
                 }
             }
         } else {
             // Directly force termination.
-            scheduledExecutorService.shutdownNow();
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Return the parsed {@link Cron} of the given expression from the cache, parsing it
+     * on first use.
+     *
+     * @param expression the given cron expression.
+     * @return the parsed {@link Cron} with its {@link ExecutionTime}.
+     * @throws CronInternalException if the expression is invalid.
+     */
+    private ParsedCron getParsedCron(String expression) throws CronInternalException {
+        ParsedCron parsedCron = parsedCronCache.get(expression);
+        if (parsedCron == null) {
+            Cron cron;
+            try {
+                cron = cronParser.parse(expression);
+            } catch (IllegalArgumentException ex) {
+                throw new CronInternalException(ex.getMessage(), ex);
+            }
+            parsedCron = new ParsedCron(cron, ExecutionTime.forCron(cron));
+            ParsedCron existing = parsedCronCache.putIfAbsent(expression, parsedCron);
+            if (existing != null) {
+                parsedCron = existing;
+            }
+        }
+        return parsedCron;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The fire times of a cron expression are computed by its cached
+     * {@link ExecutionTime}, the misfires of an interval expression are handled by the
+     * deadlines of its task instead.
+     */
+    @Override
+    @Nullable
+    protected LongUnaryOperator getNextFireTimeFunction(String expression) {
+        if (IntervalExpression.isIntervalExpression(expression)) {
+            return null;
+        }
+        ExecutionTime executionTime = getParsedCron(expression).executionTime;
+        return time -> executionTime.nextExecution(ZonedDateTime.ofInstant(Instant.ofEpochMilli(time),
+                ZoneId.systemDefault())).map(next -> next.toInstant().toEpochMilli()).orElse(-1L);
+    }
+
+    /**
+     * A parsed cron expression with its {@link ExecutionTime}, both immutable.
+     */
+    private static class ParsedCron {
+
+        private final Cron cron;
+        private final ExecutionTime executionTime;
+
+        ParsedCron(Cron cron, ExecutionTime executionTime) {
+            this.cron = cron;
+            this.executionTime = executionTime;
         }
     }
 
@@ -227,13 +415,44 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
          */
         private final Runnable rawRunnable;
 
+        /**
+         * The {@link #rawRunnable} decorated with the misfire handling and the distributed
+         * execution guard, if any.
+         */
+        private final Runnable decoratedRunnable;
+
         private final SimpleListenerContext listenerContext;
 
         /**
-         * The cron format instance analyzed this time.
+         * The cron format instance analyzed this time, {@code null} for an interval task.
          */
+        @Nullable
         private final Cron cron;
 
+        /**
+         * The shared execution time calculator of {@link #cron}.
+         */
+        @Nullable
+        private final ExecutionTime executionTime;
+
+        /**
+         * The interval of an interval task, {@code null} for a cron task.
+         */
+        @Nullable
+        private final IntervalExpression interval;
+
+        /**
+         * The deadline of the latest scheduled fire, in epoch milliseconds for a cron task
+         * and as a {@link System#nanoTime()} value for an interval task, guarded by
+         * {@link #scheduleLock}.
+         */
+        private long deadline;
+
+        /**
+         * Whether {@link #deadline} has been set.
+         */
+        private boolean deadlineSet;
+
         /**
          * {@link #scheduledFuture} Real instances, {@link Lock} lock instances that ensure
          * thread safety through changes.
@@ -242,6 +461,28 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
 
         private ScheduledFuture<?> scheduledFuture;
 
+        /**
+         * The {@link ConcurrencyPolicy} of this task, {@code null} for the default one.
+         */
+        @Nullable
+        private volatile ConcurrencyPolicy concurrencyPolicy;
+
+        /**
+         * Whether an execution of this task runs on the worker pool, used by
+         * {@link ConcurrencyPolicy#SKIP_IF_RUNNING} and {@link ConcurrencyPolicy#QUEUE}.
+         */
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        /**
+         * The number of fires queued behind the running execution.
+         */
+        private final AtomicInteger queuedRuns = new AtomicInteger();
+
+        /**
+         * The number of fires that were not executed.
+         */
+        private final AtomicLong misfireCount = new AtomicLong();
+
         /**
          * Creates a new {@link SimpleRunnabledScheduledFuture} with ron expression
          * and source {@link Runnable}.
@@ -252,28 +493,45 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
         public SimpleRunnabledScheduledFuture(String expression, Runnable rawRunnable) {
             this.rawRunnable = rawRunnable;
             this.listenerContext = new SimpleListenerContext(getNextId(), this);
-            this.cron = parseToCron(expression);
-            schedule();
-        }
-
-        // Parse cron express to {@link Cron} instance.
-        private Cron parseToCron(String expression) throws CronInternalException {
-            try {
-                return cronParser.parse(expression);
-            } catch (IllegalArgumentException ex) {
-                throw new CronInternalException(ex.getMessage(), ex);
+            if (IntervalExpression.isIntervalExpression(expression)) {
+                try {
+                    this.interval = IntervalExpression.parse(expression);
+                } catch (IllegalArgumentException ex) {
+                    throw new CronInternalException(ex.getMessage(), ex);
+                }
+                this.cron = null;
+                this.executionTime = null;
+            } else {
+                ParsedCron parsedCron = getParsedCron(expression);
+                this.cron = parsedCron.cron;
+                this.executionTime = parsedCron.executionTime;
+                this.interval = null;
             }
+            this.decoratedRunnable = decorateRunnable(expression, rawRunnable);
         }
 
         /**
          * Execute a task that parses the next run time based on the cron expression and is
          * delayed from the current time interval.
+         *
+         * @return {@code true} if the next fire was scheduled, {@code false} if the
+         * expression has no next execution time.
          */
-        private void schedule() {
+        private boolean schedule() {
             scheduleLock.lock();
             try {
-                this.scheduledFuture
-                        = scheduledExecutorService.schedule(this, getNextDelaySeconds(), TimeUnit.SECONDS);
+                long delayNanos = getNextDelayNanos();
+                if (delayNanos < 0) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Task {} has no next execution time", listenerContext.id);
+                    }
+                    return false;
+                }
+                // The spread offset delays the fire without moving its deadline.
+                delayNanos += TimeUnit.MILLISECONDS.toNanos(
+                        SpreadRunnable.nextOffset(decoratedRunnable, listenerContext.id));
+                this.scheduledFuture = scheduledExecutorService.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+                return true;
             } finally {
                 scheduleLock.unlock();
             }
@@ -289,41 +547,159 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
         }
 
         /**
-         * @return Resolve the second interval between the next run time and the current time based on
-         * the cron expression.
+         * Move {@link #deadline} to the next fire and return the delay until it.
+         *
+         * @return the delay in nanoseconds between the current time and the next deadline,
+         * {@code -1} if there is none.
          */
-        private long getNextDelaySeconds() {
+        private long getNextDelayNanos() {
+            if (interval != null) {
+                long now = System.nanoTime();
+                if (!deadlineSet) {
+                    deadline = now + interval.getInterval(TimeUnit.NANOSECONDS);
+                    deadlineSet = true;
+                } else {
+                    long next = interval.nextDeadline(deadline, now);
+                    long skipped = interval.skippedDeadlines(deadline, next);
+                    if (skipped > 0) {
+                        misfireCount.addAndGet(skipped);
+                    }
+                    deadline = next;
+                }
+                return deadline - now;
+            }
             // Get the current time.
-            ZonedDateTime now = ZonedDateTime.now();
-            // Calculate the next execution time.
-            ExecutionTime executionTime = ExecutionTime.forCron(cron);
-            ZonedDateTime nextExecution = executionTime.nextExecution(now).orElse(null);
-            return nextExecution != null ? nextExecution.toEpochSecond() - now.toEpochSecond() : -1;
+            long now = System.currentTimeMillis();
+            // Never before the previous deadline, a fire arriving a bit early must not
+            // compute the same deadline again.
+            long from = deadlineSet ? Math.max(now, deadline) : now;
+            ZonedDateTime nextExecution = executionTime.nextExecution(
+                    ZonedDateTime.ofInstant(Instant.ofEpochMilli(from), ZoneId.systemDefault())).orElse(null);
+            if (nextExecution == null) {
+                return -1;
+            }
+            deadline = nextExecution.toInstant().toEpochMilli();
+            deadlineSet = true;
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, deadline - now));
         }
 
         /**
          * @return A new {@link CronTaskInfo} by this.
          */
         public CronTaskInfo toCronTaskInfo() {
-            return customizeCronTaskInfo(new CronTaskInfo(listenerContext.id, cron.asString(), rawRunnable));
+            CronTaskInfo cronTaskInfo = new CronTaskInfo(listenerContext.id,
+                    cron != null ? cron.asString() : interval.asString(), rawRunnable);
+            cronTaskInfo.setMisfireCount(misfireCount.get());
+            addMisfireCounts(cronTaskInfo, decoratedRunnable);
+            return customizeCronTaskInfo(cronTaskInfo);
         }
 
         @Override
         public void run() {
-            List<CronListener> cronListeners = getCronListenerCollector().getCronListeners();
+            ExecutorService executor = taskExecutor;
+            if (executor == null) {
+                execute();
+                // A task removed while running is not scheduled again.
+                if (futureCache.containsKey(listenerContext.id)) {
+                    schedule();
+                }
+                return;
+            }
+            // Schedule the next fire before the execution, which no longer delays it.
+            if (futureCache.containsKey(listenerContext.id)) {
+                schedule();
+            }
+            ConcurrencyPolicy policy = concurrencyPolicy != null ? concurrencyPolicy
+                    : SimpleCronTaskRepository.this.concurrencyPolicy;
+            if (policy == ConcurrencyPolicy.ALLOW_OVERLAP) {
+                submit(executor, this::execute);
+            } else if (running.compareAndSet(false, true)) {
+                if (!submit(executor, policy == ConcurrencyPolicy.QUEUE ? this::executeQueued : this::executeExclusive)) {
+                    running.set(false);
+                }
+            } else if (policy != ConcurrencyPolicy.QUEUE || !tryQueue()) {
+                misfireCount.incrementAndGet();
+            }
+        }
+
+        private boolean submit(ExecutorService executor, Runnable execution) {
             try {
-                // Notify all cron listeners that the task is about to start
-                cronListeners.forEach(c -> c.start(listenerContext));
-                // Execute the main logic of the runnable
-                rawRunnable.run();
-                // Notify all cron listeners that the task has completed successfully
-                cronListeners.forEach(c -> c.success(listenerContext));
-            } catch (Throwable e) {
-                // If an error occurs during task execution, notify all cron listeners
-                // of the failure, passing the exception context for further handling
-                cronListeners.forEach(c -> c.failed(listenerContext, e));
+                executor.execute(execution);
+                return true;
+            } catch (RejectedExecutionException ex) {
+                misfireCount.incrementAndGet();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Task {} misfired, rejected by the worker pool", listenerContext.id);
+                }
+                return false;
+            }
+        }
+
+        private boolean tryQueue() {
+            int queued;
+            do {
+                queued = queuedRuns.get();
+                if (queued >= maxQueuedRuns) {
+                    return false;
+                }
+            } while (!queuedRuns.compareAndSet(queued, queued + 1));
+            return true;
+        }
+
+        private void executeExclusive() {
+            try {
+                execute();
+            } finally {
+                running.set(false);
+            }
+        }
+
+        /**
+         * Execute this fire and then the queued ones, a fire queued right after the
+         * release of {@link #running} is picked up again here unless another execution
+         * has taken over.
+         */
+        private void executeQueued() {
+            do {
+                execute();
+                if (queuedRuns.get() > 0) {
+                    queuedRuns.decrementAndGet();
+                    continue;
+                }
+                running.set(false);
+                if (queuedRuns.get() > 0 && running.compareAndSet(false, true)) {
+                    queuedRuns.decrementAndGet();
+                    continue;
+                }
+                return;
+            } while (true);
+        }
+
+        /**
+         * Execute the source {@link Runnable} and notify the listeners.
+         */
+        private void execute() {
+            CronListenerCollector collector = getCronListenerCollector();
+            try {
+                // A fire skipped by the misfire handling is not a run of the task
+                if (beginFire(decoratedRunnable)) {
+                    return;
+                }
+                try {
+                    // Notify all cron listeners that the task is about to start
+                    collector.notifyListeners(ListenerLifecycle.START, listenerContext, null);
+                    // Execute the main logic of the runnable
+                    decoratedRunnable.run();
+                    // Notify all cron listeners that the task has completed successfully
+                    collector.notifyListeners(ListenerLifecycle.SUCCESS, listenerContext, null);
+                } catch (Throwable e) {
+                    // If an error occurs during task execution, notify all cron listeners
+                    // of the failure, passing the exception context for further handling
+                    collector.notifyListeners(ListenerLifecycle.FAILED, listenerContext, e);
+                }
+            } finally {
+                endFire(decoratedRunnable);
             }
-            schedule();
         }
 
         /**
@@ -389,7 +765,16 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public String register(@NotNull String expression, @NotNull Runnable runnable) throws CronInternalException {
-        return new SimpleRunnabledScheduledFuture(expression, runnable).listenerContext.id;
+        registerStatisticsListener();
+        SimpleRunnabledScheduledFuture future = new SimpleRunnabledScheduledFuture(expression, runnable);
+        // Cached before the first fire, which may come within a millisecond.
+        futureCache.put(future.listenerContext.id, future);
+        if (!future.schedule()) {
+            futureCache.remove(future.listenerContext.id);
+            throw new CronInternalException("No next execution time for expression " + expression);
+        }
+        incrementModificationCount();
+        return future.listenerContext.id;
     }
 
     /**
@@ -424,7 +809,7 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public String register(@NotNull CronTask task) throws CronInternalException {
-        return register(task.getExpression(), task.getRunnable());
+        return register(task.getExpression(), task.getSpreadRunnable());
     }
 
     @Override
@@ -474,5 +859,10 @@ public class SimpleCronTaskRepository extends AbstractCronTaskRepository {
         if (future != null && !future.isCancelled()) {
             future.cancel(true);
         }
+        if (future != null) {
+            unguardRunnable(future.decoratedRunnable);
+            removeTaskStatistics(id);
+            incrementModificationCount();
+        }
     }
 }
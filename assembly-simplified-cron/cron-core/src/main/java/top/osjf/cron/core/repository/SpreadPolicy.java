@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.repository;
+
+/**
+ * The policy choosing the offset by which the repository delays each fire of a
+ * {@link SpreadRunnable} task within the spread window.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public enum SpreadPolicy {
+
+    /**
+     * A fixed offset derived from a hash of the task name, or of the task id when the
+     * task has no stable name, so that a task keeps firing at the same point of the
+     * window while different tasks are spread over it.
+     */
+    HASH,
+
+    /**
+     * A random offset drawn again for each fire.
+     */
+    RANDOM
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.repository;
+
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.lang.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A task whose fires are delayed by an offset within a spread window, so that the
+ * tasks sharing an expression such as {@code 0 * * * * ?} no longer all start in the
+ * same millisecond. The offset is chosen by the {@link SpreadPolicy} and bounded by
+ * the period of the expression when the repository knows it, so that the task still
+ * runs once per period.
+ *
+ * <p>The offset is not waited by this task, which runs its delegate at once: the
+ * repository draws it with {@link #nextOffset(Runnable, Object)} when it schedules
+ * a fire and adds it to the delay of the trigger, so that no thread is parked during
+ * the offset. A task can be wrapped before its registration to spread it with its own
+ * window, a window of {@code 0} exempting it from the spread of the repository.
+ *
+ * <p>The {@link SpreadPolicy#HASH} offset hashes the
+ * {@link RepositoryUtils#resolveStableTaskName stable name} of the task together with
+ * its expression, both the same on every instance and across restarts, so that the
+ * tasks of one method on different expressions get different offsets. The tasks of one
+ * class or method on the same expression are told apart by a {@link NamedRunnable},
+ * without which they share their offset.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ * @see AbstractCronTaskRepository#setSpreadWindow
+ */
+public class SpreadRunnable implements DelegatingRunnable {
+
+    private final Runnable runnable;
+
+    /** The spread window, in milliseconds. */
+    private final long window;
+
+    private final SpreadPolicy spreadPolicy;
+
+    /** The name of the registered task, stable across restarts, {@code null} if none. */
+    @Nullable
+    private final String taskName;
+
+    /** The expression of the task, {@code null} until registered. */
+    @Nullable
+    private volatile String expression;
+
+    /** The period of the expression of the task, in milliseconds. */
+    private volatile long period = Long.MAX_VALUE;
+
+    /**
+     * Creates a {@code SpreadRunnable} delaying the fires of the given task.
+     * @param runnable     the task.
+     * @param window       the spread window, in milliseconds, {@code 0} for no delay.
+     * @param spreadPolicy the policy choosing the offsets.
+     */
+    public SpreadRunnable(@NotNull Runnable runnable, long window, @NotNull SpreadPolicy spreadPolicy) {
+        if (window < 0) {
+            throw new IllegalArgumentException("Spread window must not be negative");
+        }
+        this.runnable = Objects.requireNonNull(runnable, "runnable");
+        this.window = window;
+        this.spreadPolicy = Objects.requireNonNull(spreadPolicy, "spreadPolicy");
+        this.taskName = RepositoryUtils.resolveStableTaskName(runnable);
+    }
+
+    @Override
+    public Runnable getDelegate() {
+        return runnable;
+    }
+
+    /**
+     * @return the spread window, in milliseconds.
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * @return the policy choosing the offsets.
+     */
+    public SpreadPolicy getSpreadPolicy() {
+        return spreadPolicy;
+    }
+
+    /**
+     * Follow the expression of the task, hashed by the {@link SpreadPolicy#HASH} policy,
+     * and bound the offsets by its period.
+     * @param expression the expression of the task.
+     * @param period     the period of the expression, in milliseconds.
+     */
+    void reset(String expression, long period) {
+        this.expression = expression.trim();
+        this.period = period > 0 ? period : Long.MAX_VALUE;
+    }
+
+    /**
+     * Return the offset by which to delay the next fire of the given scheduled task, to
+     * be called by the repository when it schedules the fire.
+     * @param runnable the scheduled task, possibly decorated by a {@code SpreadRunnable}.
+     * @param taskId   the id of the task, hashed by the {@link SpreadPolicy#HASH} policy
+     *                 with the expression when the task has no stable name.
+     * @return the offset of the next fire, in milliseconds, {@code 0} if the task is not
+     * spread.
+     */
+    public static long nextOffset(@Nullable Runnable runnable, @Nullable Object taskId) {
+        SpreadRunnable spread = RepositoryUtils.findDelegate(runnable, SpreadRunnable.class);
+        return spread != null ? spread.nextOffset(taskId) : 0;
+    }
+
+    /**
+     * @param taskId the id of the task, hashed with the expression when the task has no
+     *               stable name.
+     * @return the offset of the next fire, in milliseconds.
+     */
+    long nextOffset(@Nullable Object taskId) {
+        long bound = getBound();
+        if (bound <= 1) {
+            return 0;
+        }
+        if (spreadPolicy == SpreadPolicy.RANDOM) {
+            return ThreadLocalRandom.current().nextLong(bound);
+        }
+        String name = taskName != null ? taskName : taskId != null ? taskId.toString() : null;
+        int hash = name != null ? (name + "@" + expression).hashCode() : System.identityHashCode(this);
+        // Spread the nearby string hashes of the similar task names over the whole range.
+        return Math.floorMod(hash * 0x9E3779B97F4A7C15L, bound);
+    }
+
+    /**
+     * Return the lateness of a fire that may be due to its offset rather than to a delay
+     * of the scheduler, that is the largest offset.
+     * @return the allowed lateness of the fires, in milliseconds.
+     */
+    long getLatenessAllowance() {
+        return Math.max(getBound() - 1, 0);
+    }
+
+    private long getBound() {
+        return Math.min(window, period);
+    }
+
+    @Override
+    public void run() {
+        runnable.run();
+    }
+
+    @Override
+    public String toString() {
+        return runnable.toString();
+    }
+}
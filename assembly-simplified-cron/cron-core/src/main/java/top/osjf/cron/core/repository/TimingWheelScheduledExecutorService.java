@@ -0,0 +1,509 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.cron.core.repository;
+
+import top.osjf.cron.core.lang.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link ScheduledExecutorService} backed by a hierarchical timing wheel, which can
+ * replace the delay queue of a {@link ScheduledThreadPoolExecutor} when a large number
+ * of cron tasks are registered.
+ *
+ * <p>A single ticker thread advances the wheels every tick duration. The lowest wheel
+ * holds the tasks due within one revolution, and each upper wheel covers a whole
+ * revolution of the wheel below it per slot. The wheel of a task is the lowest one whose
+ * slot range still contains its deadline, so inserting a task is a constant time link
+ * into a slot, and the tasks of an upper slot are cascaded down when the lower wheel
+ * wraps around. The expired tasks are handed over to the task executor, so the ticker
+ * is never blocked by the tasks themselves.
+ *
+ * <p>The scheduling is accurate to one tick duration. Schedule requests and
+ * cancellations from other threads are queued without lock and applied by the ticker
+ * at the beginning of the next tick.
+ *
+ * <p>When shut down, the tasks still waiting in the wheels are cancelled and the task
+ * executor is shut down, the tasks already handed over complete as usual.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class TimingWheelScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    /**
+     * The default tick duration in milliseconds.
+     */
+    public static final long DEFAULT_TICK_DURATION_MILLIS = 100;
+
+    /**
+     * The default number of slots of each wheel.
+     */
+    public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final int ST_RUNNING = 0;
+    private static final int ST_SHUTDOWN = 1;
+
+    /**
+     * The duration of one tick in nanoseconds.
+     */
+    private final long tickNanos;
+
+    /**
+     * The number of bits of the slot index of one wheel.
+     */
+    private final int wheelBits;
+
+    private final long wheelMask;
+
+    /**
+     * The slots of all wheels, allocated on first use, index 0 is the lowest wheel.
+     */
+    private final Bucket[][] wheels;
+
+    private final Queue<TimerTask<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+
+    private final Queue<TimerTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The executor that runs the expired tasks.
+     */
+    private final ExecutorService taskExecutor;
+
+    private final AtomicInteger state = new AtomicInteger(ST_RUNNING);
+
+    private final long startNanos;
+
+    private final Thread tickerThread;
+
+    /**
+     * Creates a new {@code TimingWheelScheduledExecutorService} with the default tick
+     * duration and wheel size, running the tasks on a single thread.
+     */
+    public TimingWheelScheduledExecutorService() {
+        this(DEFAULT_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Creates a new {@code TimingWheelScheduledExecutorService} with the given tick
+     * duration and wheel size, running the tasks on a single thread.
+     *
+     * @param tickDuration  the duration of one tick.
+     * @param unit          the time unit of the tick duration.
+     * @param ticksPerWheel the number of slots of each wheel, rounded up to a power of two.
+     */
+    public TimingWheelScheduledExecutorService(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this(tickDuration, unit, ticksPerWheel, Executors.newSingleThreadExecutor());
+    }
+
+    /**
+     * Creates a new {@code TimingWheelScheduledExecutorService} with the given tick
+     * duration and wheel size, running the tasks on the given executor.
+     *
+     * @param tickDuration  the duration of one tick.
+     * @param unit          the time unit of the tick duration.
+     * @param ticksPerWheel the number of slots of each wheel, rounded up to a power of two.
+     * @param taskExecutor  the executor that runs the expired tasks, shut down together
+     *                      with this executor.
+     */
+    public TimingWheelScheduledExecutorService(long tickDuration, TimeUnit unit, int ticksPerWheel,
+                                               ExecutorService taskExecutor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel < 2 || ticksPerWheel > (1 << 16)) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 2 and 65536: " + ticksPerWheel);
+        }
+        if (taskExecutor == null) {
+            throw new NullPointerException("taskExecutor == null");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheelBits = 32 - Integer.numberOfLeadingZeros(ticksPerWheel - 1);
+        this.wheelMask = (1L << wheelBits) - 1;
+        this.wheels = new Bucket[(63 + wheelBits - 1) / wheelBits][];
+        this.taskExecutor = taskExecutor;
+        this.startNanos = System.nanoTime();
+        this.tickerThread = new Thread(this::runTicker, "cron-timing-wheel");
+        this.tickerThread.setDaemon(true);
+        this.tickerThread.start();
+    }
+
+    @Override
+    @NotNull
+    public ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
+        return enqueue(new TimerTask<>(Executors.callable(command), triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    @NotNull
+    public <V> ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
+        return enqueue(new TimerTask<>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    @NotNull
+    public ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command, long initialDelay, long period,
+                                                  @NotNull TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be greater than 0: " + period);
+        }
+        return enqueue(new TimerTask<>(Executors.callable(command), triggerTime(initialDelay, unit),
+                unit.toNanos(period)));
+    }
+
+    @Override
+    @NotNull
+    public ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command, long initialDelay, long delay,
+                                                     @NotNull TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be greater than 0: " + delay);
+        }
+        return enqueue(new TimerTask<>(Executors.callable(command), triggerTime(initialDelay, unit),
+                -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        taskExecutor.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        if (state.compareAndSet(ST_RUNNING, ST_SHUTDOWN)) {
+            LockSupport.unpark(tickerThread);
+        }
+    }
+
+    @Override
+    @NotNull
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return taskExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state.get() != ST_RUNNING;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown() && !tickerThread.isAlive() && taskExecutor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis > 0) {
+            tickerThread.join(remainingMillis);
+        }
+        if (tickerThread.isAlive()) {
+            return false;
+        }
+        return taskExecutor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private long triggerTime(long delay, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(Math.max(0, delay));
+    }
+
+    private <V> TimerTask<V> enqueue(TimerTask<V> task) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        pendingTasks.add(task);
+        return task;
+    }
+
+    /**
+     * The ticker loop, tick {@code t} is processed once the time reaches
+     * {@code startNanos + t * tickNanos}.
+     */
+    private void runTicker() {
+        long tick = 0;
+        while (state.get() == ST_RUNNING) {
+            long waitNanos = startNanos + tick * tickNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+                continue;
+            }
+            transferPendingTasks(tick);
+            removeCancelledTasks();
+            cascade(tick);
+            expire(tick);
+            tick++;
+        }
+        cancelUnexpiredTasks();
+        taskExecutor.shutdown();
+    }
+
+    private void transferPendingTasks(long tick) {
+        TimerTask<?> task;
+        while ((task = pendingTasks.poll()) != null) {
+            if (!task.isCancelled()) {
+                place(task, tick);
+            }
+        }
+    }
+
+    private void removeCancelledTasks() {
+        TimerTask<?> task;
+        while ((task = cancelledTasks.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    /**
+     * Link the task into the lowest wheel whose current slot range contains its
+     * deadline tick, that is the wheel above which the deadline and the current tick
+     * share the same slot indexes.
+     */
+    private void place(TimerTask<?> task, long tick) {
+        long deadlineTick = Math.max(tick, ceilTicks(task.deadlineNanos - startNanos));
+        int level = 0;
+        while (true) {
+            int shift = (level + 1) * wheelBits;
+            if (shift >= 63 || (deadlineTick >>> shift) == (tick >>> shift)) {
+                break;
+            }
+            level++;
+        }
+        Bucket[] wheel = wheels[level];
+        if (wheel == null) {
+            wheel = new Bucket[(int) wheelMask + 1];
+            wheels[level] = wheel;
+        }
+        int slot = (int) ((deadlineTick >>> (level * wheelBits)) & wheelMask);
+        Bucket bucket = wheel[slot];
+        if (bucket == null) {
+            bucket = new Bucket();
+            wheel[slot] = bucket;
+        }
+        task.deadlineTick = deadlineTick;
+        bucket.add(task);
+    }
+
+    private long ceilTicks(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + tickNanos - 1) / tickNanos;
+    }
+
+    /**
+     * Move the tasks of the upper slots that begin at this tick down to the lower wheels,
+     * from the highest wheel to the lowest.
+     */
+    private void cascade(long tick) {
+        for (int level = wheels.length - 1; level > 0; level--) {
+            int shift = level * wheelBits;
+            if (wheels[level] == null || shift >= 63 || (tick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            Bucket bucket = wheels[level][(int) ((tick >>> shift) & wheelMask)];
+            if (bucket != null) {
+                TimerTask<?> task = bucket.clear();
+                while (task != null) {
+                    TimerTask<?> next = task.unlink();
+                    if (!task.isCancelled()) {
+                        place(task, tick);
+                    }
+                    task = next;
+                }
+            }
+        }
+    }
+
+    private void expire(long tick) {
+        Bucket[] wheel = wheels[0];
+        if (wheel == null) {
+            return;
+        }
+        Bucket bucket = wheel[(int) (tick & wheelMask)];
+        if (bucket == null) {
+            return;
+        }
+        TimerTask<?> task = bucket.clear();
+        while (task != null) {
+            TimerTask<?> next = task.unlink();
+            if (!task.isCancelled()) {
+                if (task.deadlineTick > tick) {
+                    place(task, tick);
+                } else {
+                    try {
+                        taskExecutor.execute(task);
+                    } catch (RejectedExecutionException ex) {
+                        task.cancel(false);
+                    }
+                }
+            }
+            task = next;
+        }
+    }
+
+    private void cancelUnexpiredTasks() {
+        for (Bucket[] wheel : wheels) {
+            if (wheel == null) {
+                continue;
+            }
+            for (Bucket bucket : wheel) {
+                if (bucket == null) {
+                    continue;
+                }
+                TimerTask<?> task = bucket.clear();
+                while (task != null) {
+                    TimerTask<?> next = task.unlink();
+                    task.cancel(false);
+                    task = next;
+                }
+            }
+        }
+        TimerTask<?> task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.cancel(false);
+        }
+        cancelledTasks.clear();
+    }
+
+    /**
+     * A slot of a wheel, a doubly linked list of tasks only accessed by the ticker thread.
+     */
+    private static final class Bucket {
+
+        private TimerTask<?> head;
+
+        private TimerTask<?> tail;
+
+        void add(TimerTask<?> task) {
+            task.bucket = this;
+            if (tail == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void remove(TimerTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            } else {
+                tail = task.prev;
+            }
+            task.unlink();
+        }
+
+        /**
+         * Detach all tasks of this slot and return the first one.
+         */
+        TimerTask<?> clear() {
+            TimerTask<?> first = head;
+            head = tail = null;
+            return first;
+        }
+    }
+
+    /**
+     * A task scheduled into the wheels, periodic ones are put back once run.
+     */
+    private final class TimerTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /**
+         * The {@link System#nanoTime()} at which the task is due.
+         */
+        private volatile long deadlineNanos;
+
+        /**
+         * Positive for a fixed rate, negative for a fixed delay, 0 for a one-shot task.
+         */
+        private final long period;
+
+        // Wheel position, only accessed by the ticker thread.
+        private long deadlineTick;
+        private Bucket bucket;
+        private TimerTask<?> prev;
+        private TimerTask<?> next;
+
+        TimerTask(Callable<V> callable, long deadlineNanos, long period) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.period = period;
+        }
+
+        /**
+         * Clear the wheel position and return the next task of the former slot.
+         */
+        TimerTask<?> unlink() {
+            TimerTask<?> next = this.next;
+            this.bucket = null;
+            this.prev = null;
+            this.next = null;
+            return next;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset() && !isShutdown()) {
+                deadlineNanos = period > 0 ? deadlineNanos + period : System.nanoTime() - period;
+                pendingTasks.add(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && !isShutdown()) {
+                cancelledTasks.add(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(@NotNull TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@NotNull Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.core.support;
+
+import top.osjf.cron.core.lang.NotNull;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An interval expression, the millisecond resolution counterpart of a cron expression
+ * for the tasks running at a fixed cadence, such as {@code 250ms} polling.
+ *
+ * <p>The syntax is {@code @every <duration>}, the duration being a sequence of
+ * positive amounts each followed by one of the units {@code d}, {@code h},
+ * {@code m}, {@code s} or {@code ms}, for example {@code @every 250ms},
+ * {@code @every 1s500ms} or {@code @every 1h30m}.
+ *
+ * <p>An interval task fires on absolute deadlines: the n-th fire is due at
+ * {@code start + n * interval}, whatever the time taken by the previous fires, so the
+ * scheduling latency does not accumulate into drift. Deadlines that have already
+ * passed when a fire completes are skipped rather than fired in a burst, see
+ * {@link #nextDeadline(long, long)}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public final class IntervalExpression {
+
+    /**
+     * The prefix of an interval expression.
+     */
+    public static final String PREFIX = "@every";
+
+    private final String expression;
+
+    private final long intervalNanos;
+
+    private IntervalExpression(String expression, long intervalNanos) {
+        this.expression = expression;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Return whether the given expression is an interval expression, that is whether it
+     * starts with {@link #PREFIX}; its validity is checked by {@link #parse(String)}.
+     *
+     * @param expression the given expression.
+     * @return {@code true} if the expression is an interval expression, {@code false} otherwise.
+     */
+    public static boolean isIntervalExpression(String expression) {
+        return expression != null && expression.trim().startsWith(PREFIX);
+    }
+
+    /**
+     * Create an {@code IntervalExpression} with the given interval.
+     *
+     * @param interval the interval, at least one millisecond.
+     * @param unit     the time unit of the interval.
+     * @return the {@code IntervalExpression} of the interval.
+     * @throws IllegalArgumentException if the interval is shorter than one millisecond.
+     */
+    public static IntervalExpression of(long interval, @NotNull TimeUnit unit) {
+        long millis = unit.toMillis(interval);
+        if (millis < 1) {
+            throw new IllegalArgumentException("The interval must be at least 1ms: " + interval + " " + unit);
+        }
+        return new IntervalExpression(PREFIX + " " + millis + "ms", TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Parse the given interval expression.
+     *
+     * @param expression the given interval expression.
+     * @return the parsed {@code IntervalExpression}.
+     * @throws IllegalArgumentException if the expression is not a valid interval expression.
+     */
+    public static IntervalExpression parse(@NotNull String expression) {
+        String trimmed = expression.trim();
+        if (!trimmed.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Interval expression must start with " + PREFIX + ": " + expression);
+        }
+        String duration = trimmed.substring(PREFIX.length()).trim().toLowerCase(Locale.ROOT);
+        if (duration.isEmpty()) {
+            throw new IllegalArgumentException("Missing interval duration: " + expression);
+        }
+        long millis = 0;
+        int i = 0;
+        int length = duration.length();
+        while (i < length) {
+            int start = i;
+            while (i < length && Character.isDigit(duration.charAt(i))) {
+                i++;
+            }
+            if (start == i) {
+                throw new IllegalArgumentException("Missing amount at index " + start + ": " + expression);
+            }
+            long amount = Long.parseLong(duration.substring(start, i));
+            TimeUnit unit;
+            if (duration.startsWith("ms", i)) {
+                unit = TimeUnit.MILLISECONDS;
+                i += 2;
+            } else if (i < length && duration.charAt(i) == 's') {
+                unit = TimeUnit.SECONDS;
+                i++;
+            } else if (i < length && duration.charAt(i) == 'm') {
+                unit = TimeUnit.MINUTES;
+                i++;
+            } else if (i < length && duration.charAt(i) == 'h') {
+                unit = TimeUnit.HOURS;
+                i++;
+            } else if (i < length && duration.charAt(i) == 'd') {
+                unit = TimeUnit.DAYS;
+                i++;
+            } else {
+                throw new IllegalArgumentException("Missing or unknown unit at index " + i + ": " + expression);
+            }
+            millis += unit.toMillis(amount);
+        }
+        if (millis < 1) {
+            throw new IllegalArgumentException("The interval must be at least 1ms: " + expression);
+        }
+        return new IntervalExpression(trimmed, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Return the interval in the given time unit.
+     *
+     * @param unit the given time unit.
+     * @return the interval in the given time unit.
+     */
+    public long getInterval(@NotNull TimeUnit unit) {
+        return unit.convert(intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Return the deadline following the given one, skipping those already passed.
+     *
+     * @param deadlineNanos the previous deadline, as a {@link System#nanoTime()} value.
+     * @param nowNanos      the current {@link System#nanoTime()}.
+     * @return the first {@code deadlineNanos + n * interval} after {@code nowNanos},
+     * {@code n} being at least one.
+     */
+    public long nextDeadline(long deadlineNanos, long nowNanos) {
+        long next = deadlineNanos + intervalNanos;
+        if (next - nowNanos <= 0) {
+            next += ((nowNanos - next) / intervalNanos + 1) * intervalNanos;
+        }
+        return next;
+    }
+
+    /**
+     * Return the number of deadlines skipped when moving from the given deadline to the
+     * given next one.
+     *
+     * @param deadlineNanos     the previous deadline.
+     * @param nextDeadlineNanos the next deadline, as returned by {@link #nextDeadline(long, long)}.
+     * @return the number of skipped deadlines.
+     */
+    public long skippedDeadlines(long deadlineNanos, long nextDeadlineNanos) {
+        return (nextDeadlineNanos - deadlineNanos) / intervalNanos - 1;
+    }
+
+    /**
+     * Return the expression as a string.
+     *
+     * @return the expression as a string.
+     */
+    public String asString() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
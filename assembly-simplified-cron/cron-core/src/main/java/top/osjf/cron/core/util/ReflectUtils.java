@@ -19,10 +19,15 @@ package top.osjf.cron.core.util;
 
 import top.osjf.cron.core.lang.Nullable;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Simple utility class for working with the reflection API and handling
@@ -208,4 +213,118 @@ public abstract class ReflectUtils {
         }
         return candidates;
     }
+
+    /**
+     * Create a {@link Runnable} directly invoking the specified no-argument {@link Method}
+     * against the supplied target object, the target object can be {@code null} when
+     * invoking a static {@link Method}.
+     *
+     * <p>When the method is public in a public class visible to this class loader, the
+     * invoker is a class generated by {@link LambdaMetafactory} and calls the method
+     * like compiled code. Otherwise, it is a {@link MethodHandle} bound to the target,
+     * which still avoids the access checks and argument array of {@link Method#invoke}.
+     *
+     * <p>The exceptions thrown by the method are propagated as is, checked ones included.
+     *
+     * @param target the target object to invoke the method on
+     * @param method the no-argument method to invoke
+     * @return the invoker of the method.
+     * @throws IllegalArgumentException if the method has parameters.
+     * @since 3.0.1
+     */
+    public static Runnable createMethodInvoker(@Nullable Object target, Method method) {
+        return createMethodInvokerFactory(method).apply(target);
+    }
+
+    /**
+     * Create a factory of the {@link Runnable} directly invoking the specified no-argument
+     * {@link Method} against a target object, as {@link #createMethodInvoker} does.
+     *
+     * <p>The lambda class or the method handle of the method is generated once by this
+     * call, the factory then only binding it to each target object, so that the factory
+     * can be cached to create the invokers of several targets of the same method.
+     *
+     * @param method the no-argument method to invoke
+     * @return the factory of the invokers of the method, by target object.
+     * @throws IllegalArgumentException if the method has parameters.
+     * @since 3.0.1
+     */
+    public static Function<Object, Runnable> createMethodInvokerFactory(Method method) {
+        if (method.getParameterCount() != 0) {
+            throw new IllegalArgumentException("Only no-argument methods can be invoked directly: " + method);
+        }
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            if (isLambdaAccessible(method)) {
+                MethodHandle implMethod = lookup.unreflect(method);
+                MethodType factoryType = isStatic ? MethodType.methodType(Runnable.class)
+                        : MethodType.methodType(Runnable.class, method.getDeclaringClass());
+                MethodHandle factory = LambdaMetafactory.metafactory(lookup, "run", factoryType,
+                        MethodType.methodType(void.class), implMethod, MethodType.methodType(void.class)).getTarget();
+                if (isStatic) {
+                    Runnable invoker = (Runnable) factory.invoke();
+                    return target -> invoker;
+                }
+                return target -> {
+                    try {
+                        return (Runnable) factory.invoke(target);
+                    } catch (Throwable ex) {
+                        throw sneakyThrow(ex);
+                    }
+                };
+            }
+        } catch (Throwable ex) {
+            // Fall back to a bound method handle.
+        }
+        makeAccessible(method);
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException ex) {
+            throw new UndeclaredThrowableException(ex);
+        }
+        if (isStatic) {
+            MethodHandle invoker = handle.asType(MethodType.methodType(void.class));
+            return target -> () -> invokeExact(invoker);
+        }
+        return target -> {
+            MethodHandle invoker = handle.bindTo(target).asType(MethodType.methodType(void.class));
+            return () -> invokeExact(invoker);
+        };
+    }
+
+    private static boolean isLambdaAccessible(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> clazz = declaringClass; clazz != null; clazz = clazz.getEnclosingClass()) {
+            if (!Modifier.isPublic(clazz.getModifiers()) || clazz.isAnonymousClass() || clazz.isSynthetic()) {
+                return false;
+            }
+        }
+        // The generated class resolves the declaring class through this class loader.
+        try {
+            return Class.forName(declaringClass.getName(), false, ReflectUtils.class.getClassLoader())
+                    == declaringClass;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    private static void invokeExact(MethodHandle invoker) {
+        try {
+            invoker.invokeExact();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw sneakyThrow(ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> RuntimeException sneakyThrow(Throwable ex) throws T {
+        throw (T) ex;
+    }
 }
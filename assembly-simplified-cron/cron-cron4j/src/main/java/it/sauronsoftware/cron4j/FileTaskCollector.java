@@ -18,26 +18,50 @@
  */
 package it.sauronsoftware.cron4j;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.TimeZone;
 
 /**
  * <p>
  * A {@link TaskCollector} implementation, reading the task list from a group of
  * files.
  * </p>
+ * <p>
+ * Files are parsed only when their last modification time or their length
+ * changes. The parsed lines are cached, and a changed file is applied as a
+ * diff: lines still in the file keep their tasks and their place in the
+ * {@link NextFireIndex}, only removed and added lines are dropped and parsed.
+ * Minute ticks on unchanged files cost two file attribute reads.
+ * </p>
  * 
  * @author Carlo Pelliccia
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 2.0
  */
-class FileTaskCollector implements TaskCollector {
+class FileTaskCollector implements IndexedTaskCollector {
 
 	/**
 	 * File list.
 	 */
 	private ArrayList files = new ArrayList();
 
+	/**
+	 * The loading state of each file of the list.
+	 */
+	private ArrayList states = new ArrayList();
+
+	/**
+	 * The next fire index of the tasks of every file.
+	 */
+	private NextFireIndex nextFireIndex = new NextFireIndex();
+
 	/**
 	 * Adds a file.
 	 * 
@@ -46,6 +70,7 @@ class FileTaskCollector implements TaskCollector {
 	 */
 	public synchronized void addFile(File file) {
 		files.add(file);
+		states.add(new FileState(file));
 	}
 
 	/**
@@ -55,7 +80,11 @@ class FileTaskCollector implements TaskCollector {
 	 *            The file.
 	 */
 	public synchronized void removeFile(File file) {
-		files.remove(file);
+		int index = files.indexOf(file);
+		if (index > -1) {
+			files.remove(index);
+			((FileState) states.remove(index)).clear();
+		}
 	}
 
 	/**
@@ -76,26 +105,212 @@ class FileTaskCollector implements TaskCollector {
 	 * Implements {@link TaskCollector#getTasks()}.
 	 */
 	public synchronized TaskTable getTasks() {
+		refresh();
 		TaskTable ret = new TaskTable();
-		int size = files.size();
+		int size = states.size();
+		for (int i = 0; i < size; i++) {
+			ArrayList lines = ((FileState) states.get(i)).lines;
+			for (int j = 0; j < lines.size(); j++) {
+				TaskTable aux = ((CronLine) lines.get(j)).table;
+				int auxSize = aux.size();
+				for (int k = 0; k < auxSize; k++) {
+					ret.add(aux.getSchedulingPattern(k), aux.getTask(k));
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Implements
+	 * {@link IndexedTaskCollector#getDueTasks(TimeZone, long, boolean)}.
+	 */
+	public synchronized TaskTable getDueTasks(TimeZone timezone,
+			long referenceTimeInMillis, boolean includeMissed) {
+		refresh();
+		return nextFireIndex.due(timezone, referenceTimeInMillis, includeMissed);
+	}
+
+	/**
+	 * Reloads the files changed since their last loading.
+	 */
+	private void refresh() {
+		int size = states.size();
 		for (int i = 0; i < size; i++) {
-			File f = (File) files.get(i);
-			TaskTable aux = null;
+			((FileState) states.get(i)).refresh();
+		}
+	}
+
+	/**
+	 * The loading state of a file.
+	 */
+	private class FileState {
+
+		/**
+		 * The file.
+		 */
+		private final File file;
+
+		/**
+		 * The last modification time at the last loading.
+		 */
+		private long lastModified;
+
+		/**
+		 * The length at the last loading.
+		 */
+		private long length;
+
+		/**
+		 * Has the file been loaded?
+		 */
+		private boolean loaded = false;
+
+		/**
+		 * The parsed lines, in file order.
+		 */
+		private ArrayList lines = new ArrayList();
+
+		private FileState(File file) {
+			this.file = file;
+		}
+
+		/**
+		 * Reloads the file if it has changed, applying the difference between
+		 * the cached lines and the new ones.
+		 */
+		private void refresh() {
+			long lastModified = file.lastModified();
+			long length = file.length();
+			if (loaded && lastModified == this.lastModified && length == this.length) {
+				return;
+			}
+			ArrayList texts;
 			try {
-				aux = CronParser.parse(f);
+				texts = readLines();
 			} catch (IOException e) {
 				Exception e1 = new Exception("Cannot parse cron file: "
-						+ f.getAbsolutePath(), e);
+						+ file.getAbsolutePath(), e);
 				e1.printStackTrace();
+				// Retried at the next tick.
+				clear();
+				return;
 			}
-			if (aux != null) {
-				int auxSize = aux.size();
-				for (int j = 0; j < auxSize; j++) {
-					ret.add(aux.getSchedulingPattern(j), aux.getTask(j));
+			// Old lines by text, to be reused when still in the file.
+			HashMap old = new HashMap();
+			for (int i = 0; i < lines.size(); i++) {
+				CronLine line = (CronLine) lines.get(i);
+				ArrayList same = (ArrayList) old.get(line.text);
+				if (same == null) {
+					same = new ArrayList(1);
+					old.put(line.text, same);
 				}
+				same.add(line);
 			}
+			ArrayList newLines = new ArrayList(texts.size());
+			for (int i = 0; i < texts.size(); i++) {
+				String text = (String) texts.get(i);
+				ArrayList same = (ArrayList) old.get(text);
+				if (same != null && !same.isEmpty()) {
+					newLines.add(same.remove(0));
+					continue;
+				}
+				TaskTable table = new TaskTable();
+				try {
+					CronParser.parseLine(table, text);
+				} catch (Exception e) {
+					e.printStackTrace();
+					continue;
+				}
+				newLines.add(new CronLine(text, table));
+			}
+			// Drops the lines no longer in the file.
+			for (Iterator i = old.values().iterator(); i.hasNext();) {
+				ArrayList same = (ArrayList) i.next();
+				for (int j = 0; j < same.size(); j++) {
+					((CronLine) same.get(j)).unindex();
+				}
+			}
+			lines = newLines;
+			this.lastModified = lastModified;
+			this.length = length;
+			loaded = true;
 		}
-		return ret;
+
+		/**
+		 * Reads the task lines of the file, the same way
+		 * {@link CronParser#parse(File)} does.
+		 */
+		private ArrayList readLines() throws IOException {
+			ArrayList ret = new ArrayList();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(
+					new FileInputStream(file), "UTF-8"));
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					line = line.trim();
+					if (line.length() > 0 && line.charAt(0) != '#') {
+						ret.add(line);
+					}
+				}
+			} finally {
+				reader.close();
+			}
+			return ret;
+		}
+
+		/**
+		 * Drops every cached line.
+		 */
+		private void clear() {
+			for (int i = 0; i < lines.size(); i++) {
+				((CronLine) lines.get(i)).unindex();
+			}
+			lines = new ArrayList();
+			loaded = false;
+		}
+
+	}
+
+	/**
+	 * A parsed line of a file, with its entries in the next fire index.
+	 */
+	private class CronLine {
+
+		/**
+		 * The trimmed line.
+		 */
+		private final String text;
+
+		/**
+		 * The tasks parsed from the line.
+		 */
+		private final TaskTable table;
+
+		/**
+		 * The index entries of the tasks.
+		 */
+		private final NextFireIndex.Entry[] entries;
+
+		private CronLine(String text, TaskTable table) {
+			this.text = text;
+			this.table = table;
+			int size = table.size();
+			entries = new NextFireIndex.Entry[size];
+			for (int i = 0; i < size; i++) {
+				entries[i] = nextFireIndex.add(table.getSchedulingPattern(i), table.getTask(i));
+			}
+		}
+
+		/**
+		 * Removes the tasks of the line from the next fire index.
+		 */
+		private void unindex() {
+			for (int i = 0; i < entries.length; i++) {
+				nextFireIndex.remove(entries[i]);
+			}
+		}
+
 	}
 
 }
@@ -0,0 +1,56 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ * 
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+import java.util.TimeZone;
+
+/**
+ * <p>
+ * A {@link TaskCollector} able to tell, on its own, which of its tasks are due
+ * at a given minute. When a collector implements this interface the
+ * {@link Scheduler} launcher asks it for the due tasks only, instead of
+ * retrieving the whole {@link TaskTable} and matching every scheduling pattern
+ * against the reference time. Implementations are expected to keep an index of
+ * the next fire time of each task, so that a launch costs in proportion to the
+ * tasks that are due rather than to the size of the collection.
+ * </p>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface IndexedTaskCollector extends TaskCollector {
+
+	/**
+	 * Returns the tasks whose scheduling pattern matches the minute of the
+	 * given reference time. Every returned task is launched by the scheduler
+	 * without any further matching.
+	 *
+	 * @param timezone
+	 *            The time zone the scheduler works in.
+	 * @param referenceTimeInMillis
+	 *            The reference time of the current launch.
+	 * @param includeMissed
+	 *            Whether the tasks whose fire minute passed without a launch,
+	 *            since the previous call, are returned too.
+	 * @return The due tasks, never null.
+	 */
+	public TaskTable getDueTasks(TimeZone timezone, long referenceTimeInMillis,
+			boolean includeMissed);
+
+}
@@ -25,15 +25,19 @@ import java.util.ArrayList;
  * A ValueMatcher whose rules are in a plain array of integer values. When asked
  * to validate a value, this ValueMatcher checks if it is in the array.
  * </p>
+ * <p>
+ * Since every cron field value is lower than 64, the array is kept as a bit
+ * mask and a match is a single bitwise test.
+ * </p>
  * 
  * @author Carlo Pelliccia
  */
 class IntArrayValueMatcher implements ValueMatcher {
 
 	/**
-	 * The accepted values.
+	 * The accepted values, bit n set if n is accepted.
 	 */
-	private int[] values;
+	private long values;
 
 	/**
 	 * Builds the ValueMatcher.
@@ -45,13 +49,17 @@ class IntArrayValueMatcher implements ValueMatcher {
 	 */
 	public IntArrayValueMatcher(ArrayList integers) {
 		int size = integers.size();
-		values = new int[size];
 		for (int i = 0; i < size; i++) {
+			int value;
 			try {
-				values[i] = ((Integer) integers.get(i)).intValue();
+				value = ((Integer) integers.get(i)).intValue();
 			} catch (Exception e) {
 				throw new IllegalArgumentException(e.getMessage());
 			}
+			if (value < 0 || value > 63) {
+				throw new IllegalArgumentException("value out of range: " + value);
+			}
+			values |= 1L << value;
 		}
 	}
 
@@ -59,12 +67,7 @@ class IntArrayValueMatcher implements ValueMatcher {
 	 * Returns true if the given value is included in the matcher list.
 	 */
 	public boolean match(int value) {
-		for (int i = 0; i < values.length; i++) {
-			if (values[i] == value) {
-				return true;
-			}
-		}
-		return false;
+		return value >= 0 && value < 64 && (values & (1L << value)) != 0;
 	}
 
 }
@@ -0,0 +1,49 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ * 
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+/**
+ * <p>
+ * Resolves the delay by which the scheduler postpones a launch of a task
+ * after the minute its scheduling pattern matches, so that the tasks
+ * matching the same minute do not all start at once. The delayed launches
+ * are started by a timer thread of the scheduler, no thread waiting for
+ * them meanwhile.
+ * </p>
+ * 
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ * @see Scheduler#setLaunchDelayResolver(LaunchDelayResolver)
+ */
+public interface LaunchDelayResolver {
+
+	/**
+	 * This one is called by the scheduler when a task is due to be launched.
+	 * 
+	 * @param task
+	 *            The due task.
+	 * @param runnable
+	 *            The runnable wrapped by the task if it was scheduled as a
+	 *            {@link Runnable}, null otherwise.
+	 * @return The delay of the launch, in milliseconds, 0 or less to launch
+	 *         the task at once.
+	 */
+	public long getLaunchDelay(Task task, Runnable runnable);
+
+}
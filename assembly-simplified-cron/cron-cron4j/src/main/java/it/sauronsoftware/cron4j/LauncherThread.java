@@ -18,11 +18,14 @@
  */
 package it.sauronsoftware.cron4j;
 
+import java.util.TimeZone;
+
 /**
  * LauncherThreads are used by {@link Scheduler} instances. A LauncherThread
  * retrieves a list of task from a set of {@link TaskCollector}s. Then it
  * launches, within a separate {@link TaskExecutor}, every retrieved task whose
- * scheduling pattern matches the given reference time.
+ * scheduling pattern matches the given reference time. Collectors implementing
+ * {@link IndexedTaskCollector} are asked for their due tasks only.
  * 
  * @author Carlo Pelliccia
  * @since 2.0
@@ -83,17 +86,23 @@ class LauncherThread extends Thread {
 	 * Overrides {@link Thread#run()}.
 	 */
 	public void run() {
+		TimeZone timezone = scheduler.getTimeZone();
+		boolean includeMissed = scheduler.isLaunchMissedTasks();
 		outer: for (int i = 0; i < collectors.length; i++) {
-			TaskTable taskTable = collectors[i].getTasks();
+			TaskCollector collector = collectors[i];
+			boolean indexed = collector instanceof IndexedTaskCollector;
+			TaskTable taskTable = indexed
+					? ((IndexedTaskCollector) collector).getDueTasks(timezone, referenceTimeInMillis, includeMissed)
+					: collector.getTasks();
 			int size = taskTable.size();
 			for (int j = 0; j < size; j++) {
 				if (isInterrupted()) {
 					break outer;
 				}
 				SchedulingPattern pattern = taskTable.getSchedulingPattern(j);
-				if (pattern.match(scheduler.getTimeZone(), referenceTimeInMillis)) {
+				if (indexed || pattern.match(timezone, referenceTimeInMillis)) {
 					Task task = taskTable.getTask(j);
-					scheduler.spawnExecutor(task);
+					scheduler.spawnScheduledExecutor(task);
 				}
 			}
 		}
@@ -19,17 +19,22 @@
 package it.sauronsoftware.cron4j;
 
 import java.util.ArrayList;
+import java.util.TimeZone;
 
 /**
  * <p>
  * A {@link TaskCollector} implementation managing a task list in memory.
  * </p>
+ * <p>
+ * The collector also keeps a {@link NextFireIndex} of its tasks, so the
+ * scheduler launcher retrieves only the tasks due at each minute.
+ * </p>
  * 
  * @author Carlo Pelliccia
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 2.0
  */
-class MemoryTaskCollector implements TaskCollector {
+class MemoryTaskCollector implements IndexedTaskCollector {
 
 	/**
 	 * Size.
@@ -51,6 +56,16 @@ class MemoryTaskCollector implements TaskCollector {
 	 */
 	private ArrayList ids = new ArrayList();
 
+	/**
+	 * Index entries for task-pattern couples.
+	 */
+	private ArrayList entries = new ArrayList();
+
+	/**
+	 * The next fire index.
+	 */
+	private NextFireIndex nextFireIndex = new NextFireIndex();
+
 	/**
 	 * Counts how many task are currently collected by this collector.
 	 * 
@@ -76,6 +91,7 @@ class MemoryTaskCollector implements TaskCollector {
 		patterns.add(pattern);
 		tasks.add(task);
 		ids.add(id);
+		entries.add(nextFireIndex.add(pattern, task));
 		return id;
 	}
 
@@ -89,6 +105,8 @@ class MemoryTaskCollector implements TaskCollector {
 		int index = ids.indexOf(id);
 		if (index > -1) {
 			patterns.set(index, pattern);
+			nextFireIndex.remove((NextFireIndex.Entry) entries.get(index));
+			entries.set(index, nextFireIndex.add(pattern, (Task) tasks.get(index)));
 		}
 	}
 
@@ -104,6 +122,7 @@ class MemoryTaskCollector implements TaskCollector {
 			tasks.remove(index);
 			patterns.remove(index);
 			ids.remove(index);
+			nextFireIndex.remove((NextFireIndex.Entry) entries.remove(index));
 		}
 	}
 
@@ -155,4 +174,13 @@ class MemoryTaskCollector implements TaskCollector {
 		return ret;
 	}
 
+	/**
+	 * Implements
+	 * {@link IndexedTaskCollector#getDueTasks(TimeZone, long, boolean)}.
+	 */
+	public synchronized TaskTable getDueTasks(TimeZone timezone,
+			long referenceTimeInMillis, boolean includeMissed) {
+		return nextFireIndex.due(timezone, referenceTimeInMillis, includeMissed);
+	}
+
 }
@@ -0,0 +1,232 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ * 
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * An index of task-pattern couples ordered by their next fire minute. It is
+ * used by {@link IndexedTaskCollector} implementations to answer
+ * {@link IndexedTaskCollector#getDueTasks(TimeZone, long, boolean)} looking
+ * only at the head of the index.
+ * </p>
+ * <p>
+ * Newly added entries are indexed lazily, on the first launch following their
+ * insertion, so that adding a task never needs to know the scheduler time
+ * zone. Once fired, an entry is moved to its following fire minute, computed
+ * with {@link SchedulingPattern#nextMatchingTime(TimeZone, long)}. The whole
+ * index is rebuilt when the time zone changes or when the clock is moved
+ * backwards.
+ * </p>
+ * <p>
+ * This class is not thread-safe: callers synchronize on their own monitor.
+ * </p>
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+class NextFireIndex {
+
+	/**
+	 * One minute in milliseconds.
+	 */
+	private static final long MINUTE = 60L * 1000L;
+
+	/**
+	 * Entries waiting for their first fire minute to be computed.
+	 */
+	private ArrayList pending = new ArrayList();
+
+	/**
+	 * Indexed entries: fire minute (Long) to a list of entries.
+	 */
+	private TreeMap index = new TreeMap();
+
+	/**
+	 * The time zone the index has been computed in.
+	 */
+	private TimeZone timezone;
+
+	/**
+	 * The minute of the last launch, -1 if none.
+	 */
+	private long lastMinute = -1;
+
+	/**
+	 * Number of entries in the index, pending ones included.
+	 */
+	private int size = 0;
+
+	/**
+	 * Adds a task-pattern couple to the index.
+	 *
+	 * @param pattern
+	 *            The scheduling pattern.
+	 * @param task
+	 *            The task.
+	 * @return The entry, to be used for a later removal.
+	 */
+	public Entry add(SchedulingPattern pattern, Task task) {
+		Entry entry = new Entry(pattern, task);
+		pending.add(entry);
+		size++;
+		return entry;
+	}
+
+	/**
+	 * Removes an entry from the index.
+	 *
+	 * @param entry
+	 *            The entry returned by {@link #add(SchedulingPattern, Task)}.
+	 */
+	public void remove(Entry entry) {
+		if (entry.indexed) {
+			Long key = Long.valueOf(entry.fireMinute);
+			ArrayList list = (ArrayList) index.get(key);
+			if (list != null && list.remove(entry)) {
+				if (list.isEmpty()) {
+					index.remove(key);
+				}
+				size--;
+			}
+		} else if (pending.remove(entry)) {
+			size--;
+		}
+	}
+
+	/**
+	 * Returns the number of entries in the index.
+	 *
+	 * @return The number of entries in the index.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Collects the entries due at the minute of the given reference time and
+	 * moves them to their following fire minute.
+	 *
+	 * @param timezone
+	 *            The time zone the scheduler works in.
+	 * @param referenceTimeInMillis
+	 *            The reference time of the current launch.
+	 * @param includeMissed
+	 *            Whether the entries left behind by a missed launch are due
+	 *            even if they do not match the current minute.
+	 * @return The due tasks.
+	 */
+	public TaskTable due(TimeZone timezone, long referenceTimeInMillis,
+			boolean includeMissed) {
+		long minute = referenceTimeInMillis - (referenceTimeInMillis % MINUTE);
+		if (!timezone.equals(this.timezone) || minute < lastMinute) {
+			// Time zone changed or clock moved back: everything is recomputed.
+			for (Iterator i = index.values().iterator(); i.hasNext();) {
+				ArrayList list = (ArrayList) i.next();
+				for (int j = 0; j < list.size(); j++) {
+					((Entry) list.get(j)).indexed = false;
+				}
+				pending.addAll(list);
+			}
+			index.clear();
+			this.timezone = timezone;
+		}
+		lastMinute = minute;
+		if (!pending.isEmpty()) {
+			for (int i = 0; i < pending.size(); i++) {
+				Entry entry = (Entry) pending.get(i);
+				schedule(entry, entry.pattern.nextMatchingTime(timezone, minute), minute);
+			}
+			pending.clear();
+		}
+		TaskTable ret = new TaskTable();
+		while (!index.isEmpty()) {
+			Map.Entry first = index.firstEntry();
+			long key = ((Long) first.getKey()).longValue();
+			if (key > minute) {
+				break;
+			}
+			index.remove(first.getKey());
+			ArrayList list = (ArrayList) first.getValue();
+			for (int i = 0; i < list.size(); i++) {
+				Entry entry = (Entry) list.get(i);
+				// Entries left behind by a missed launch fire late if asked,
+				// otherwise only if they still match, as the linear matching
+				// did.
+				boolean fire = key == minute ? !entry.recheck
+						: (includeMissed && !entry.recheck)
+								|| entry.pattern.match(timezone, referenceTimeInMillis);
+				if (fire) {
+					ret.add(entry.pattern, entry.task);
+				}
+				schedule(entry, entry.pattern.nextMatchingTime(timezone, minute + MINUTE), minute);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Puts an entry at the given fire minute. An entry never matching within
+	 * the search window is parked at the end of the window and rechecked
+	 * there.
+	 */
+	private void schedule(Entry entry, long fireMinute, long minute) {
+		entry.recheck = fireMinute < 0;
+		if (entry.recheck) {
+			fireMinute = minute + (SchedulingPattern.MAX_SEARCH_DAYS - 1) * 24L * MINUTE * 60L;
+		}
+		entry.fireMinute = fireMinute;
+		entry.indexed = true;
+		Long key = Long.valueOf(fireMinute);
+		ArrayList list = (ArrayList) index.get(key);
+		if (list == null) {
+			list = new ArrayList(2);
+			index.put(key, list);
+		}
+		list.add(entry);
+	}
+
+	/**
+	 * A task-pattern couple of the index.
+	 */
+	static class Entry {
+
+		private final SchedulingPattern pattern;
+
+		private final Task task;
+
+		private long fireMinute;
+
+		private boolean indexed;
+
+		private boolean recheck;
+
+		private Entry(SchedulingPattern pattern, Task task) {
+			this.pattern = pattern;
+			this.task = task;
+		}
+
+	}
+
+}
@@ -21,6 +21,14 @@ package it.sauronsoftware.cron4j;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -93,6 +101,47 @@ public class Scheduler {
 	 */
 	private ArrayList executors = null;
 
+	/**
+	 * The size of the executor pool; 0 spawns a new thread for every launch.
+	 */
+	private int executorPoolSize = 0;
+
+	/**
+	 * The default capacity of the queue of the executor pool.
+	 */
+	public static final int DEFAULT_EXECUTOR_QUEUE_CAPACITY = 100;
+
+	/**
+	 * The capacity of the queue of the launches waiting for a thread of the
+	 * executor pool.
+	 */
+	private int executorQueueCapacity = DEFAULT_EXECUTOR_QUEUE_CAPACITY;
+
+	/**
+	 * The pool running the tasks, when {@link #executorPoolSize} is positive.
+	 */
+	private ThreadPoolExecutor executorPool = null;
+
+	/**
+	 * The number of launches rejected by the executor pool.
+	 */
+	private final AtomicLong rejectedLaunchCount = new AtomicLong();
+
+	/**
+	 * Whether the tasks whose launch was missed are launched late.
+	 */
+	private volatile boolean launchMissedTasks = false;
+
+	/**
+	 * The resolver of the delays of the scheduled launches, null for none.
+	 */
+	private volatile LaunchDelayResolver launchDelayResolver = null;
+
+	/**
+	 * The timer starting the delayed launches, created on the first one.
+	 */
+	private ScheduledExecutorService launchDelayTimer = null;
+
 	/**
 	 * Internal lock, used to synchronize status-aware operations.
 	 */
@@ -185,6 +234,149 @@ public class Scheduler {
 		}
 	}
 
+	/**
+	 * Returns the size of the pool executing the launched tasks.
+	 * 
+	 * @return The size of the executor pool, 0 if every launch spawns its own
+	 *         thread.
+	 * @since 3.0.1
+	 */
+	public int getExecutorPoolSize() {
+		return executorPoolSize;
+	}
+
+	/**
+	 * Sets the size of the pool executing the launched tasks. With a positive
+	 * size the launched tasks are run by a fixed set of reusable threads,
+	 * queueing up to {@link #getExecutorQueueCapacity()} launches when all of
+	 * them are busy, further launches being rejected; with 0, the default,
+	 * every launch spawns a brand new thread.
+	 * 
+	 * This method must be called before the scheduler is started.
+	 * 
+	 * @param executorPoolSize
+	 *            The size of the executor pool, 0 to disable pooling.
+	 * @throws IllegalArgumentException
+	 *             If the size is negative.
+	 * @throws IllegalStateException
+	 *             If the scheduler is started.
+	 * @since 3.0.1
+	 */
+	public void setExecutorPoolSize(int executorPoolSize)
+			throws IllegalArgumentException, IllegalStateException {
+		if (executorPoolSize < 0) {
+			throw new IllegalArgumentException("Negative executor pool size");
+		}
+		synchronized (lock) {
+			if (started) {
+				throw new IllegalStateException("Scheduler already started");
+			}
+			this.executorPoolSize = executorPoolSize;
+		}
+	}
+
+	/**
+	 * Returns the capacity of the queue of the launches waiting for a thread of
+	 * the executor pool.
+	 * 
+	 * @return The capacity of the executor queue.
+	 * @since 3.0.1
+	 */
+	public int getExecutorQueueCapacity() {
+		return executorQueueCapacity;
+	}
+
+	/**
+	 * Sets the capacity of the queue of the launches waiting for a thread of
+	 * the executor pool, {@link #DEFAULT_EXECUTOR_QUEUE_CAPACITY} by default.
+	 * A launch finding the queue full is rejected: it is not executed, it is
+	 * counted in {@link #getRejectedLaunchCount()} and the
+	 * {@link TaskRejectionListener}s are notified.
+	 * 
+	 * This method must be called before the scheduler is started.
+	 * 
+	 * @param executorQueueCapacity
+	 *            The capacity of the executor queue.
+	 * @throws IllegalArgumentException
+	 *             If the capacity is not positive.
+	 * @throws IllegalStateException
+	 *             If the scheduler is started.
+	 * @since 3.0.1
+	 */
+	public void setExecutorQueueCapacity(int executorQueueCapacity)
+			throws IllegalArgumentException, IllegalStateException {
+		if (executorQueueCapacity < 1) {
+			throw new IllegalArgumentException("Executor queue capacity must be positive");
+		}
+		synchronized (lock) {
+			if (started) {
+				throw new IllegalStateException("Scheduler already started");
+			}
+			this.executorQueueCapacity = executorQueueCapacity;
+		}
+	}
+
+	/**
+	 * Returns the number of launches rejected by the executor pool since the
+	 * scheduler was created.
+	 * 
+	 * @return The number of rejected launches.
+	 * @since 3.0.1
+	 */
+	public long getRejectedLaunchCount() {
+		return rejectedLaunchCount.get();
+	}
+
+	/**
+	 * Tests if the tasks of an {@link IndexedTaskCollector} whose launch was
+	 * missed are launched late.
+	 * 
+	 * @return true if the missed tasks are launched late.
+	 * @since 3.0.1
+	 */
+	public boolean isLaunchMissedTasks() {
+		return launchMissedTasks;
+	}
+
+	/**
+	 * Sets whether the tasks of an {@link IndexedTaskCollector} whose launch
+	 * was missed, because the timer thread or the whole JVM has been paused
+	 * over their fire minute, are launched late, once, at the next launch. By
+	 * default a missed task is launched only if its pattern matches the minute
+	 * of the next launch too.
+	 * 
+	 * @param launchMissedTasks
+	 *            true to launch the missed tasks late.
+	 * @since 3.0.1
+	 */
+	public void setLaunchMissedTasks(boolean launchMissedTasks) {
+		this.launchMissedTasks = launchMissedTasks;
+	}
+
+	/**
+	 * Returns the resolver of the delays of the scheduled launches.
+	 * 
+	 * @return The launch delay resolver, or null if the tasks are launched at
+	 *         once.
+	 * @since 3.0.1
+	 */
+	public LaunchDelayResolver getLaunchDelayResolver() {
+		return launchDelayResolver;
+	}
+
+	/**
+	 * Sets the resolver of the delays by which the launches of the scheduled
+	 * tasks are postponed. The tasks launched by {@link #launch(Task)} are
+	 * never delayed.
+	 * 
+	 * @param launchDelayResolver
+	 *            The launch delay resolver, null to launch the tasks at once.
+	 * @since 3.0.1
+	 */
+	public void setLaunchDelayResolver(LaunchDelayResolver launchDelayResolver) {
+		this.launchDelayResolver = launchDelayResolver;
+	}
+
 	/**
 	 * Tests if this scheduler is started.
 	 * 
@@ -560,6 +752,13 @@ public class Scheduler {
 			// Initializes required lists.
 			launchers = new ArrayList();
 			executors = new ArrayList();
+			// Builds the executor pool, if required.
+			if (executorPoolSize > 0) {
+				executorPool = new ThreadPoolExecutor(executorPoolSize,
+						executorPoolSize, 0L, TimeUnit.MILLISECONDS,
+						new ArrayBlockingQueue(executorQueueCapacity),
+						new PoolThreadFactory());
+			}
 			// Starts the timer thread.
 			timer = new TimerThread(this);
 			timer.setDaemon(daemon);
@@ -615,6 +814,25 @@ public class Scheduler {
 				tillExecutorDies(executor);
 			}
 			executors = null;
+			// Drops the pending delayed launches.
+			if (launchDelayTimer != null) {
+				launchDelayTimer.shutdownNow();
+				launchDelayTimer = null;
+			}
+			// Releases the executor pool threads.
+			if (executorPool != null) {
+				executorPool.shutdown();
+				boolean terminated = false;
+				do {
+					try {
+						terminated = executorPool.awaitTermination(1,
+								TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						;
+					}
+				} while (!terminated);
+				executorPool = null;
+			}
 			// Change the state of the object.
 			started = false;
 		}
@@ -660,10 +878,52 @@ public class Scheduler {
 		synchronized (executors) {
 			executors.add(e);
 		}
-		e.start(daemon);
+		e.start(daemon, executorPool);
 		return e;
 	}
 
+	/**
+	 * Starts the given due task within a task executor, after the delay given
+	 * by the {@link LaunchDelayResolver} if any. The delayed launches are
+	 * started by the launch delay timer, unless the scheduler is stopped
+	 * meanwhile.
+	 * 
+	 * @param task
+	 *            The due task.
+	 * @since 3.0.1
+	 */
+	void spawnScheduledExecutor(final Task task) {
+		LaunchDelayResolver resolver = launchDelayResolver;
+		long delay = 0;
+		if (resolver != null) {
+			Runnable runnable = task instanceof RunnableTask ? ((RunnableTask) task)
+					.getRunnable() : null;
+			delay = resolver.getLaunchDelay(task, runnable);
+		}
+		if (delay <= 0) {
+			spawnExecutor(task);
+			return;
+		}
+		synchronized (lock) {
+			if (!started) {
+				return;
+			}
+			if (launchDelayTimer == null) {
+				launchDelayTimer = new ScheduledThreadPoolExecutor(1,
+						new LaunchDelayThreadFactory());
+			}
+			launchDelayTimer.schedule(new Runnable() {
+				public void run() {
+					synchronized (lock) {
+						if (started) {
+							spawnExecutor(task);
+						}
+					}
+				}
+			}, delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
 	/**
 	 * This method is called by a launcher thread to notify that the execution
 	 * is completed.
@@ -723,6 +983,34 @@ public class Scheduler {
 		}
 	}
 
+	/**
+	 * Counts a launch rejected by the executor pool and notifies every
+	 * registered {@link TaskRejectionListener}.
+	 * 
+	 * @param executor
+	 *            The task executor whose launch was rejected.
+	 * @since 3.0.1
+	 */
+	void notifyTaskRejected(TaskExecutor executor) {
+		rejectedLaunchCount.incrementAndGet();
+		boolean notified = false;
+		synchronized (listeners) {
+			int size = listeners.size();
+			for (int i = 0; i < size; i++) {
+				Object l = listeners.get(i);
+				if (l instanceof TaskRejectionListener) {
+					((TaskRejectionListener) l).taskRejected(executor);
+					notified = true;
+				}
+			}
+		}
+		if (!notified) {
+			// Logs on console if no one has been notified about it.
+			System.err.println("cron4j: launch of task " + executor.getTask()
+					+ " rejected, the executor pool and its queue are full");
+		}
+	}
+
 	/**
 	 * Notifies every registered listener that a task execution has failed due
 	 * to an uncaught exception.
@@ -789,4 +1077,40 @@ public class Scheduler {
 		} while (!dead);
 	}
 
+	/**
+	 * Builds the threads of the executor pool, named and flagged as daemon the
+	 * same way of the threads spawned for non-pooled launches.
+	 */
+	private class PoolThreadFactory implements ThreadFactory {
+
+		/**
+		 * Thread counter.
+		 */
+		private final AtomicInteger counter = new AtomicInteger();
+
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r);
+			thread.setDaemon(daemon);
+			thread.setName("cron4j::scheduler[" + guid + "]::executor-pool-"
+					+ counter.incrementAndGet());
+			return thread;
+		}
+
+	}
+
+	/**
+	 * Builds the thread of the launch delay timer, flagged as daemon the same
+	 * way of the timer thread.
+	 */
+	private class LaunchDelayThreadFactory implements ThreadFactory {
+
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r);
+			thread.setDaemon(daemon);
+			thread.setName("cron4j::scheduler[" + guid + "]::launch-delay");
+			return thread;
+		}
+
+	}
+
 }
@@ -145,6 +145,14 @@ import java.util.*;
  */
 public class SchedulingPattern {
 
+	/**
+	 * The number of days searched by {@link #nextMatchingTime(TimeZone, long)},
+	 * long enough to find a 29th of February across a non-leap century year.
+	 * 
+	 * @since 3.0.1
+	 */
+	public static final int MAX_SEARCH_DAYS = 8 * 366 + 1;
+
 	/**
 	 * The parser for the minute values.
 	 */
@@ -222,6 +230,44 @@ public class SchedulingPattern {
 	 */
 	protected int matcherSize = 0;
 
+	/**
+	 * The compiled "minute" field of each group: bit n set if minute n matches.
+	 */
+	private long[] minuteMasks;
+
+	/**
+	 * The compiled "hour" field of each group: bit n set if hour n matches.
+	 */
+	private int[] hourMasks;
+
+	/**
+	 * The compiled "day of month" field of each group: bit n set if day n
+	 * matches.
+	 */
+	private int[] dayOfMonthMasks;
+
+	/**
+	 * For each group, does the "day of month" field match the last day of the
+	 * month?
+	 */
+	private boolean[] lastDayOfMonthFlags;
+
+	/**
+	 * The compiled "month" field of each group: bit n set if month n matches.
+	 */
+	private int[] monthMasks;
+
+	/**
+	 * The compiled "day of week" field of each group: bit n set if day n
+	 * matches, 0 being sunday.
+	 */
+	private int[] dayOfWeekMasks;
+
+	/**
+	 * The months matched by any group.
+	 */
+	private int anyMonthMask;
+
 	/**
 	 * Builds a SchedulingPattern parsing it from a string.
 	 * 
@@ -281,6 +327,55 @@ public class SchedulingPattern {
 			}
 			matcherSize++;
 		}
+		compile();
+	}
+
+	/**
+	 * Compiles the matchers of every group into bit masks, so that matching a
+	 * time takes a handful of bitwise operations.
+	 */
+	private void compile() {
+		minuteMasks = new long[matcherSize];
+		hourMasks = new int[matcherSize];
+		dayOfMonthMasks = new int[matcherSize];
+		lastDayOfMonthFlags = new boolean[matcherSize];
+		monthMasks = new int[matcherSize];
+		dayOfWeekMasks = new int[matcherSize];
+		for (int i = 0; i < matcherSize; i++) {
+			minuteMasks[i] = mask((ValueMatcher) minuteMatchers.get(i), 0, 59);
+			hourMasks[i] = (int) mask((ValueMatcher) hourMatchers.get(i), 0, 23);
+			ValueMatcher dayOfMonthMatcher = (ValueMatcher) dayOfMonthMatchers.get(i);
+			dayOfMonthMasks[i] = (int) mask(dayOfMonthMatcher, 1, 31);
+			lastDayOfMonthFlags[i] = dayOfMonthMatcher instanceof DayOfMonthValueMatcher
+					&& dayOfMonthMatcher.match(32);
+			monthMasks[i] = (int) mask((ValueMatcher) monthMatchers.get(i), 1, 12);
+			dayOfWeekMasks[i] = (int) mask((ValueMatcher) dayOfWeekMatchers.get(i), 0, 6);
+			anyMonthMask |= monthMasks[i];
+		}
+	}
+
+	/**
+	 * Returns a bit mask with bit n set for every value n in the given range
+	 * accepted by the given matcher.
+	 */
+	private static long mask(ValueMatcher matcher, int min, int max) {
+		long mask = 0;
+		for (int value = min; value <= max; value++) {
+			if (matcher.match(value)) {
+				mask |= 1L << value;
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Tests whether the day fields of the given group match a day.
+	 */
+	private boolean matchDay(int group, int dayOfMonth, int month, int dayOfWeek, boolean lastDayOfMonth) {
+		return ((dayOfMonthMasks[group] & (1 << dayOfMonth)) != 0
+				|| (lastDayOfMonth && lastDayOfMonthFlags[group]))
+				&& (monthMasks[group] & (1 << month)) != 0
+				&& (dayOfWeekMasks[group] & (1 << dayOfWeek)) != 0;
 	}
 
 	/**
@@ -462,21 +557,12 @@ public class SchedulingPattern {
 		int dayOfMonth = gc.get(Calendar.DAY_OF_MONTH);
 		int month = gc.get(Calendar.MONTH) + 1;
 		int dayOfWeek = gc.get(Calendar.DAY_OF_WEEK) - 1;
-		int year = gc.get(Calendar.YEAR);
+		boolean lastDayOfMonth = dayOfMonth == gc.getActualMaximum(Calendar.DAY_OF_MONTH);
+		long minuteBit = 1L << minute;
+		int hourBit = 1 << hour;
 		for (int i = 0; i < matcherSize; i++) {
-			ValueMatcher minuteMatcher = (ValueMatcher) minuteMatchers.get(i);
-			ValueMatcher hourMatcher = (ValueMatcher) hourMatchers.get(i);
-			ValueMatcher dayOfMonthMatcher = (ValueMatcher) dayOfMonthMatchers.get(i);
-			ValueMatcher monthMatcher = (ValueMatcher) monthMatchers.get(i);
-			ValueMatcher dayOfWeekMatcher = (ValueMatcher) dayOfWeekMatchers.get(i);
-			boolean eval = minuteMatcher.match(minute)
-					&& hourMatcher.match(hour)
-					&& ((dayOfMonthMatcher instanceof DayOfMonthValueMatcher) ? ((DayOfMonthValueMatcher) dayOfMonthMatcher)
-							.match(dayOfMonth, month, gc.isLeapYear(year))
-							: dayOfMonthMatcher.match(dayOfMonth))
-					&& monthMatcher.match(month)
-					&& dayOfWeekMatcher.match(dayOfWeek);
-			if (eval) {
+			if ((minuteMasks[i] & minuteBit) != 0 && (hourMasks[i] & hourBit) != 0
+					&& matchDay(i, dayOfMonth, month, dayOfWeek, lastDayOfMonth)) {
 				return true;
 			}
 		}
@@ -496,6 +582,150 @@ public class SchedulingPattern {
 		return match(TimeZone.getDefault(), millis);
 	}
 
+	/**
+	 * It returns the first minute at or after the given timestamp matching the
+	 * pattern, according to the given time zone. The search walks the days of
+	 * the calendar and only looks at the hours and minutes of the days matching
+	 * the pattern, and gives up after {@link #MAX_SEARCH_DAYS} days, so that a
+	 * pattern never matching any date (such as the 30th of February) can not
+	 * hang the caller.
+	 * 
+	 * @param timezone
+	 *            A time zone.
+	 * @param millis
+	 *            The timestamp, as a UNIX-era millis value.
+	 * @return The first matching minute as a UNIX-era millis value, or -1 if
+	 *         the pattern does not match within {@link #MAX_SEARCH_DAYS} days.
+	 * @since 3.0.1
+	 */
+	public long nextMatchingTime(TimeZone timezone, long millis) {
+		// Round up to the minute.
+		long from = ((millis + 59999) / 60000) * 60000;
+		long time = searchMatchingTime(timezone, from);
+		int fromOffset = timezone.getOffset(from);
+		if (time > 0 && timezone.getOffset(time) < fromOffset) {
+			// The clock has been moved back in between, repeating some local
+			// times the calendar walk went past: search again from the shift.
+			long lo = from;
+			long hi = time;
+			while (hi - lo > 60000) {
+				long mid = lo + ((hi - lo) / 120000) * 60000;
+				if (timezone.getOffset(mid) < fromOffset) {
+					hi = mid;
+				} else {
+					lo = mid;
+				}
+			}
+			long repeated = searchMatchingTime(timezone, hi);
+			if (repeated >= 0 && repeated < time) {
+				time = repeated;
+			}
+		}
+		return time;
+	}
+
+	/**
+	 * Walks the calendar from the given minute, as described in
+	 * {@link #nextMatchingTime(TimeZone, long)}. Months matched by no group are
+	 * skipped at once, and the first matching minute of a day is read from the
+	 * compiled masks.
+	 */
+	private long searchMatchingTime(TimeZone timezone, long from) {
+		long limit = from + MAX_SEARCH_DAYS * 24L * 60L * 60000L;
+		GregorianCalendar gc = new GregorianCalendar(timezone);
+		gc.setTimeInMillis(from);
+		int startMinuteOfDay = gc.get(Calendar.HOUR_OF_DAY) * 60 + gc.get(Calendar.MINUTE);
+		while (gc.getTimeInMillis() < limit) {
+			int month = gc.get(Calendar.MONTH) + 1;
+			if ((anyMonthMask & (1 << month)) == 0) {
+				// No group runs this month: jump to the next one.
+				gc.set(Calendar.DAY_OF_MONTH, 1);
+				gc.add(Calendar.MONTH, 1);
+				startOfDay(gc);
+				startMinuteOfDay = 0;
+				continue;
+			}
+			int dayOfMonth = gc.get(Calendar.DAY_OF_MONTH);
+			int dayOfWeek = gc.get(Calendar.DAY_OF_WEEK) - 1;
+			boolean lastDayOfMonth = dayOfMonth == gc.getActualMaximum(Calendar.DAY_OF_MONTH);
+			int best = -1;
+			for (int i = 0; i < matcherSize; i++) {
+				if (!matchDay(i, dayOfMonth, month, dayOfWeek, lastDayOfMonth)) {
+					continue;
+				}
+				int minuteOfDay = firstMatchingMinuteOfDay(i, startMinuteOfDay);
+				if (minuteOfDay >= 0 && (best < 0 || minuteOfDay < best)) {
+					best = minuteOfDay;
+				}
+			}
+			if (best >= 0) {
+				GregorianCalendar candidate = (GregorianCalendar) gc.clone();
+				candidate.set(Calendar.HOUR_OF_DAY, best / 60);
+				candidate.set(Calendar.MINUTE, best % 60);
+				candidate.set(Calendar.SECOND, 0);
+				candidate.set(Calendar.MILLISECOND, 0);
+				long time = candidate.getTimeInMillis();
+				// A local time repeated by a daylight saving shift resolves to
+				// one of its occurrences only: look at the other one too.
+				long other = time + timezone.getOffset(time) - timezone.getOffset(from);
+				if (other != time && other >= from && (other < time || time < from)) {
+					GregorianCalendar check = new GregorianCalendar(timezone);
+					check.setTimeInMillis(other);
+					if (check.get(Calendar.HOUR_OF_DAY) == best / 60
+							&& check.get(Calendar.MINUTE) == best % 60
+							&& check.get(Calendar.DAY_OF_MONTH) == dayOfMonth) {
+						time = other;
+					}
+				}
+				// A local time skipped by a daylight saving shift never matches.
+				if (time >= from && match(timezone, time)) {
+					return time;
+				}
+				if (best < 24 * 60 - 1) {
+					startMinuteOfDay = best + 1;
+					continue;
+				}
+			}
+			// Next day, from midnight.
+			gc.add(Calendar.DAY_OF_MONTH, 1);
+			startOfDay(gc);
+			startMinuteOfDay = 0;
+		}
+		return -1;
+	}
+
+	/**
+	 * Moves the given calendar to the start of its day.
+	 */
+	private static void startOfDay(GregorianCalendar gc) {
+		gc.set(Calendar.HOUR_OF_DAY, 0);
+		gc.set(Calendar.MINUTE, 0);
+		gc.set(Calendar.SECOND, 0);
+		gc.set(Calendar.MILLISECOND, 0);
+	}
+
+	/**
+	 * Returns the first minute of the day, as hour * 60 + minute, at or after
+	 * the given one matched by the hour and minute masks of the given group, or
+	 * -1 if none.
+	 */
+	private int firstMatchingMinuteOfDay(int group, int startMinuteOfDay) {
+		int startHour = startMinuteOfDay / 60;
+		int hours = hourMasks[group] & (-1 << startHour);
+		while (hours != 0) {
+			int hour = Integer.numberOfTrailingZeros(hours);
+			long minutes = minuteMasks[group];
+			if (hour == startHour) {
+				minutes &= -1L << (startMinuteOfDay % 60);
+			}
+			if (minutes != 0) {
+				return hour * 60 + Long.numberOfTrailingZeros(minutes);
+			}
+			hours &= hours - 1;
+		}
+		return -1;
+	}
+
 	/**
 	 * Returns the pattern as a string.
 	 * 
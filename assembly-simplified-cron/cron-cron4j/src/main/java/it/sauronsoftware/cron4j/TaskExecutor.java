@@ -20,6 +20,9 @@ package it.sauronsoftware.cron4j;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * <p>
@@ -27,7 +30,9 @@ import java.util.Iterator;
  * </p>
  * <p>
  * Each time a task is launched, a new executor is spawned, executing and
- * watching the task
+ * watching the task. The task runs in a dedicated thread, or in a thread of
+ * the scheduler executor pool when one has been configured with
+ * {@link Scheduler#setExecutorPoolSize(int)}.
  * </p>
  * <p>
  * Alive task executors can be retrieved with the
@@ -81,6 +86,16 @@ public class TaskExecutor {
 	 */
 	private Thread thread;
 
+	/**
+	 * Released when the execution ends; null until the executor is started.
+	 */
+	private CountDownLatch done;
+
+	/**
+	 * Does the task run in a pooled thread?
+	 */
+	private boolean pooled = false;
+
 	/**
 	 * Is this executor paused now?
 	 */
@@ -183,6 +198,20 @@ public class TaskExecutor {
 		return task;
 	}
 
+	/**
+	 * Returns the runnable of the executed task, if scheduled as a runnable.
+	 * 
+	 * @return The runnable of the task, or null if the task is not a runnable.
+	 * @since 3.0.1
+	 */
+	public Runnable getTaskRunnable() {
+		if (task instanceof RunnableTask) {
+			return ((RunnableTask) task).getRunnable();
+		} else {
+			return null;
+		}
+	}
+
 	/**
 	 * Returns a time stamp reporting the start time of this executor, or a
 	 * value less than 0 if this executor has not been yet started.
@@ -238,13 +267,45 @@ public class TaskExecutor {
 	 *            true to spawn a daemon thread; false otherwise.
 	 */
 	void start(boolean daemon) {
+		start(daemon, null);
+	}
+
+	/**
+	 * Starts executing the task, within the given pool if not null or within a
+	 * secondary thread otherwise.
+	 * 
+	 * @param daemon
+	 *            true to spawn a daemon thread; false otherwise.
+	 * @param pool
+	 *            The pool running the task, or null to spawn a thread.
+	 */
+	void start(boolean daemon, Executor pool) {
+		boolean rejected = false;
 		synchronized (lock) {
 			startTime = System.currentTimeMillis();
-			String name = "cron4j::scheduler[" + scheduler.getGuid() + "]::executor[" + guid + "]";
-			thread = new Thread(new Runner());
-			thread.setDaemon(daemon);
-			thread.setName(name);
-			thread.start();
+			done = new CountDownLatch(1);
+			if (pool != null) {
+				pooled = true;
+				try {
+					pool.execute(new Runner());
+				} catch (RejectedExecutionException e) {
+					// The pool and its queue are full: the launch is dropped.
+					scheduler.notifyExecutorCompleted(myself);
+					done.countDown();
+					rejected = true;
+				}
+			} else {
+				String name = "cron4j::scheduler[" + scheduler.getGuid() + "]::executor[" + guid + "]";
+				thread = new Thread(new Runner());
+				thread.setDaemon(daemon);
+				thread.setName(name);
+				thread.start();
+			}
+		}
+		if (rejected) {
+			// Notified out of the lock, the listeners being free to query this
+			// executor.
+			scheduler.notifyTaskRejected(myself);
 		}
 	}
 
@@ -260,7 +321,7 @@ public class TaskExecutor {
 			throw new UnsupportedOperationException("Pause not supported");
 		}
 		synchronized (lock) {
-			if (thread != null && !paused) {
+			if (done != null && !paused) {
 				notifyExecutionPausing();
 				paused = true;
 			}
@@ -272,7 +333,7 @@ public class TaskExecutor {
 	 */
 	public void resume() {
 		synchronized (lock) {
-			if (thread != null && paused) {
+			if (done != null && paused) {
 				notifyExecutionResuming();
 				paused = false;
 				lock.notifyAll();
@@ -293,20 +354,22 @@ public class TaskExecutor {
 		}
 		boolean joinit = false;
 		synchronized (lock) {
-			if (thread != null && !stopped) {
+			if (done != null && !stopped) {
 				stopped = true;
 				if (paused) {
 					resume();
 				}
 				notifyExecutionStopping();
-				thread.interrupt();
+				if (thread != null) {
+					thread.interrupt();
+				}
 				joinit = true;
 			}
 		}
 		if (joinit) {
 			do {
 				try {
-					thread.join();
+					done.await();
 					break;
 				} catch (InterruptedException e) {
 					continue;
@@ -325,8 +388,9 @@ public class TaskExecutor {
 	 *             exception is thrown.
 	 */
 	public void join() throws InterruptedException {
-		if (thread != null) {
-			thread.join();
+		CountDownLatch done = this.done;
+		if (done != null) {
+			done.await();
 		}
 	}
 
@@ -337,8 +401,9 @@ public class TaskExecutor {
 	 * @return true if this executor is alive; false otherwise.
 	 */
 	public boolean isAlive() {
-		if (thread != null) {
-			return thread.isAlive();
+		CountDownLatch done = this.done;
+		if (done != null) {
+			return done.getCount() > 0;
 		} else {
 			return false;
 		}
@@ -489,6 +554,11 @@ public class TaskExecutor {
 		 */
 		public void run() {
 			Throwable error = null;
+			synchronized (lock) {
+				if (pooled) {
+					thread = Thread.currentThread();
+				}
+			}
 			startTime = System.currentTimeMillis();
 			try {
 				// Notify.
@@ -505,6 +575,15 @@ public class TaskExecutor {
 				// Notify.
 				notifyExecutionTerminated(error);
 				scheduler.notifyExecutorCompleted(myself);
+				synchronized (lock) {
+					if (pooled) {
+						// The pooled thread is released: a late stop request
+						// must not interrupt the next task it runs.
+						thread = null;
+						Thread.interrupted();
+					}
+				}
+				done.countDown();
 			}
 		}
 	}
@@ -0,0 +1,44 @@
+/*
+ * cron4j - A pure Java cron-like scheduler
+ * 
+ * Copyright (C) 2007-2010 Carlo Pelliccia (www.sauronsoftware.it)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License version
+ * 2.1, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License 2.1 for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License version 2.1 along with this program.
+ * If not, see <http://www.gnu.org/licenses/>.
+ */
+package it.sauronsoftware.cron4j;
+
+/**
+ * <p>
+ * A {@link SchedulerListener} also notified of the launches rejected by the
+ * scheduler executor pool, when all its threads are busy and its queue is
+ * full. A rejected launch is not executed: it is neither notified as
+ * launching nor as failed.
+ * </p>
+ * 
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ * @see Scheduler#setExecutorQueueCapacity(int)
+ */
+public interface TaskRejectionListener extends SchedulerListener {
+
+	/**
+	 * This one is called by the scheduler when the launch of a task is
+	 * rejected by the executor pool.
+	 * 
+	 * @param executor
+	 *            The task executor whose launch was rejected.
+	 */
+	public void taskRejected(TaskExecutor executor);
+
+}
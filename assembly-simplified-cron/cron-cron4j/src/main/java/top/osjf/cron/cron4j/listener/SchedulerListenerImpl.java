@@ -17,34 +17,109 @@
 
 package top.osjf.cron.cron4j.listener;
 
-import it.sauronsoftware.cron4j.SchedulerListener;
 import it.sauronsoftware.cron4j.TaskExecutor;
+import it.sauronsoftware.cron4j.TaskRejectionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import top.osjf.cron.core.listener.CronListenerCollector;
 import top.osjf.cron.core.listener.DefaultCronListenerCollector;
 import top.osjf.cron.core.listener.ListenerContextTypeProvider;
+import top.osjf.cron.core.repository.AbstractCronTaskRepository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The default Cron4j task listener implementation class extends {@link CronListenerCollector}
  * to implement broadcast mode for {@link top.osjf.cron.core.listener.CronListener}.
  *
+ * <p>Since version 3.0.1, a fire skipped by the misfire handling of the repository
+ * is not notified, its task running nothing.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.3
  */
 @ListenerContextTypeProvider(Cron4jListenerContent.class)
-public class SchedulerListenerImpl extends DefaultCronListenerCollector implements SchedulerListener {
+public class SchedulerListenerImpl extends DefaultCronListenerCollector implements TaskRejectionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerListenerImpl.class);
+
+    /**
+     * The number of launches rejected by the executor pool of the scheduler,
+     * by task id.
+     * @since 3.0.1
+     */
+    private final ConcurrentMap<String, AtomicLong> rejectedLaunchCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the fire in progress on the current thread is skipped.
+     * @since 3.0.1
+     */
+    private final ThreadLocal<Boolean> skippedFire = new ThreadLocal<>();
 
     @Override
     public void taskLaunching(TaskExecutor executor) {
+        if (AbstractCronTaskRepository.beginFire(executor.getTaskRunnable())) {
+            skippedFire.set(Boolean.TRUE);
+            return;
+        }
         doStartListener(executor);
     }
 
     @Override
     public void taskSucceeded(TaskExecutor executor) {
-        doSuccessListener(executor);
+        try {
+            if (skippedFire.get() == null) {
+                doSuccessListener(executor);
+            }
+        } finally {
+            endFire(executor);
+        }
     }
 
     @Override
     public void taskFailed(TaskExecutor executor, Throwable exception) {
-        doFailedListener(executor, exception);
+        try {
+            if (skippedFire.get() == null) {
+                doFailedListener(executor, exception);
+            }
+        } finally {
+            endFire(executor);
+        }
+    }
+
+    private void endFire(TaskExecutor executor) {
+        skippedFire.remove();
+        AbstractCronTaskRepository.endFire(executor.getTaskRunnable());
+    }
+
+    @Override
+    public void taskRejected(TaskExecutor executor) {
+        String id = String.valueOf(executor.getTask().getId());
+        rejectedLaunchCounts.computeIfAbsent(id, k -> new AtomicLong()).incrementAndGet();
+        LOGGER.warn("Launch of cron4j task {} rejected: the executor queue is full.", id);
+    }
+
+    /**
+     * Returns the number of launches of the given task rejected by the executor pool.
+     *
+     * @param id the id of the task.
+     * @return the number of rejected launches of the task.
+     * @since 3.0.1
+     */
+    public long getRejectedLaunchCount(String id) {
+        AtomicLong count = rejectedLaunchCounts.get(id);
+        return count != null ? count.get() : 0L;
+    }
+
+    /**
+     * Forgets the rejected launches of the given task, once descheduled.
+     *
+     * @param id the id of the task.
+     * @since 3.0.1
+     */
+    public void removeRejectedLaunchCount(String id) {
+        rejectedLaunchCounts.remove(id);
     }
 }
@@ -34,6 +34,7 @@ import java.io.File;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +43,12 @@ import java.util.stream.Collectors;
  * <p>This implementation class includes the construction and lifecycle management
  * of the cron4j build scheduler, as well as operations related to tasks and listeners.
  *
+ * <p>Since version 3.0.1, the scheduler launches late the tasks whose fire minute was
+ * missed, and the registered {@link Runnable} tasks apply the {@link MisfirePolicy} of
+ * the repository to these late launches, the fire times being computed by
+ * {@link SchedulingPattern#nextMatchingTime}. The scheduled files are launched late
+ * once, without policy.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.0
  */
@@ -57,6 +64,26 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
      */
     public static final String PROPERTY_NAME_OF_TIMEZONE = "timezone";
     private static final TimeZone DEFAULT_VALUE_OF_TIMEZONE = TimeZone.getDefault();
+    /**
+     * The {@link #executorPoolSize} property name of cron4j.
+     *
+     * @since 3.0.1
+     */
+    public static final String PROPERTY_NAME_OF_EXECUTOR_POOL_SIZE = "executorPoolSize";
+    /**
+     * The default size of the pool executing the launched tasks.
+     *
+     * @since 3.0.1
+     */
+    public static final int DEFAULT_EXECUTOR_POOL_SIZE = 10;
+    private static final int DEFAULT_VALUE_OF_EXECUTOR_POOL_SIZE = DEFAULT_EXECUTOR_POOL_SIZE;
+    /**
+     * The {@link #executorQueueCapacity} property name of cron4j.
+     *
+     * @since 3.0.1
+     */
+    public static final String PROPERTY_NAME_OF_EXECUTOR_QUEUE_CAPACITY = "executorQueueCapacity";
+    private static final int DEFAULT_VALUE_OF_EXECUTOR_QUEUE_CAPACITY = Scheduler.DEFAULT_EXECUTOR_QUEUE_CAPACITY;
     /**
      * The daemon flag. If true the scheduler and its spawned threads acts like
      * daemons.
@@ -68,10 +95,28 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
      */
     private TimeZone timezone = DEFAULT_VALUE_OF_TIMEZONE;
 
+    /**
+     * The size of the pool executing the launched tasks, {@link #DEFAULT_EXECUTOR_POOL_SIZE}
+     * by default, 0 to spawn a thread for every launch.
+     *
+     * @since 3.0.1
+     */
+    private int executorPoolSize = DEFAULT_VALUE_OF_EXECUTOR_POOL_SIZE;
+
+    /**
+     * The capacity of the queue of the launches waiting for a thread of the
+     * executor pool, the further launches being rejected as misfires.
+     *
+     * @since 3.0.1
+     */
+    private int executorQueueCapacity = DEFAULT_VALUE_OF_EXECUTOR_QUEUE_CAPACITY;
+
     private Scheduler scheduler;
 
     private boolean setDaemon;
     private boolean setTimeZone;
+    private boolean setExecutorPoolSize;
+    private boolean setExecutorQueueCapacity;
 
     /**
      * @since 1.0.3
@@ -154,6 +199,37 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
         setTimeZone = true;
     }
 
+    /**
+     * Sets the size of the pool executing the launched tasks. With a positive
+     * size, {@link #DEFAULT_EXECUTOR_POOL_SIZE} by default, the tasks are run by
+     * a fixed set of reusable threads; with 0, every launch spawns its own thread
+     * without bound, as the original cron4j scheduler does.
+     * <p>
+     * This method must be called before the scheduler is started.
+     *
+     * @param executorPoolSize the size of the executor pool, 0 to disable pooling.
+     * @since 3.0.1
+     */
+    public void setExecutorPoolSize(int executorPoolSize) {
+        this.executorPoolSize = executorPoolSize;
+        setExecutorPoolSize = true;
+    }
+
+    /**
+     * Sets the capacity of the queue of the launches waiting for a thread of the
+     * executor pool. A launch finding the queue full is not executed and is counted
+     * in the {@link CronTaskInfo#getMisfireCount() misfire count} of its task.
+     * <p>
+     * This method must be called before the scheduler is started.
+     *
+     * @param executorQueueCapacity the capacity of the executor queue.
+     * @since 3.0.1
+     */
+    public void setExecutorQueueCapacity(int executorQueueCapacity) {
+        this.executorQueueCapacity = executorQueueCapacity;
+        setExecutorQueueCapacity = true;
+    }
+
     /**
      * Set the parameter {@link SuperiorProperties} object for building the cron4j task
      * scheduler, compatible with the Cron framework startup parameter series.
@@ -182,6 +258,12 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
                     setTimeZone(timeZone);
                 }
             }
+            if (!setExecutorPoolSize)
+                setExecutorPoolSize(superiorProperties.getProperty(PROPERTY_NAME_OF_EXECUTOR_POOL_SIZE,
+                        DEFAULT_VALUE_OF_EXECUTOR_POOL_SIZE));
+            if (!setExecutorQueueCapacity)
+                setExecutorQueueCapacity(superiorProperties.getProperty(PROPERTY_NAME_OF_EXECUTOR_QUEUE_CAPACITY,
+                        DEFAULT_VALUE_OF_EXECUTOR_QUEUE_CAPACITY));
         }
     }
 
@@ -192,7 +274,12 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
             scheduler = new Scheduler();
             scheduler.setDaemon(daemon);
             scheduler.setTimeZone(timezone);
+            scheduler.setExecutorPoolSize(executorPoolSize);
+            scheduler.setExecutorQueueCapacity(executorQueueCapacity);
         }
+        scheduler.setLaunchMissedTasks(true);
+        // The spread offsets postpone the launches instead of parking the executing threads.
+        scheduler.setLaunchDelayResolver((task, runnable) -> SpreadRunnable.nextOffset(runnable, task.getId()));
         scheduler.addSchedulerListener(schedulerListener);
     }
 
@@ -210,8 +297,11 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public String register(@NotNull String expression, @NotNull Runnable runnable) throws CronInternalException {
-        return RepositoryUtils.doRegister(() -> getInitializedScheduler().schedule(expression, runnable),
-                InvalidPatternException.class);
+        registerStatisticsListener();
+        String id = RepositoryUtils.doRegister(() -> getInitializedScheduler().schedule(expression,
+                decorateRunnable(expression, runnable)), InvalidPatternException.class);
+        incrementModificationCount();
+        return id;
     }
 
     /**
@@ -265,9 +355,11 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
         if (body.isWrapperFor(FileTaskBody.class)) {
             FileTaskBody fileTaskBody = body.unwrap(FileTaskBody.class);
             File file = fileTaskBody.getFile();
+            registerStatisticsListener();
             getInitializedScheduler().scheduleFile(file);
             String fileID = FILE_ID_PREFIX + UUID.randomUUID();
             fileIdMap.putIfAbsent(fileID, file);
+            incrementModificationCount();
             return fileID;
         } else if (body.isWrapperFor(RunnableTaskBody.class)) {
             return register(expression, body.unwrap(RunnableTaskBody.class));
@@ -288,7 +380,7 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public String register(@NotNull CronTask task) {
-        return register(task.getExpression(), new RunnableTaskBody(task.getRunnable()));
+        return register(task.getExpression(), new RunnableTaskBody(task.getSpreadRunnable()));
     }
 
     @Override
@@ -324,12 +416,17 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
         Runnable runnable = getInitializedScheduler().getTaskRunnable(id);
         Object target = null;
         Method method = null;
-        if (runnable instanceof CronMethodRunnable) {
-            CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) runnable;
+        Runnable registered = RepositoryUtils.unwrapRunnable(runnable);
+        if (registered instanceof CronMethodRunnable) {
+            CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) registered;
             target = cronMethodRunnable.getTarget();
             method = cronMethodRunnable.getMethod();
         }
-        return customizeCronTaskInfo(new CronTaskInfo(id, schedulingPattern.toString(), runnable, target, method));
+        CronTaskInfo cronTaskInfo = customizeCronTaskInfo(new CronTaskInfo(id, schedulingPattern.toString(),
+                runnable, target, method));
+        // The launches rejected by the full executor pool are misfires.
+        cronTaskInfo.setMisfireCount(cronTaskInfo.getMisfireCount() + schedulerListener.getRejectedLaunchCount(id));
+        return cronTaskInfo;
     }
 
     /**
@@ -345,8 +442,24 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public void update(@NotNull String taskId, @NotNull String newExpression) {
-        RepositoryUtils.doVoidInvoke(() ->
-                getInitializedScheduler().reschedule(taskId, newExpression), InvalidPatternException.class);
+        RepositoryUtils.doVoidInvoke(() -> {
+            getInitializedScheduler().reschedule(taskId, newExpression);
+            resetMisfireHandling(getInitializedScheduler().getTaskRunnable(taskId), newExpression);
+        }, InvalidPatternException.class);
+        incrementModificationCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The fire times are the matching minutes of the {@link SchedulingPattern}, in the
+     * time zone of the scheduler.
+     */
+    @Override
+    @Nullable
+    protected LongUnaryOperator getNextFireTimeFunction(String expression) {
+        SchedulingPattern pattern = new SchedulingPattern(expression);
+        return time -> pattern.nextMatchingTime(scheduler != null ? scheduler.getTimeZone()
+                : TimeZone.getDefault(), time + 1);
     }
 
     /**
@@ -363,8 +476,13 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
                 getInitializedScheduler().descheduleFile(file);
             }
         }
+        Runnable runnable = getInitializedScheduler().getTaskRunnable(taskId);
         RepositoryUtils.doVoidInvoke(() ->
                 getInitializedScheduler().deschedule(taskId), null);
+        unguardRunnable(runnable);
+        removeTaskStatistics(taskId);
+        schedulerListener.removeRejectedLaunchCount(taskId);
+        incrementModificationCount();
     }
 
     @Override
@@ -378,6 +496,7 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
     @Override
     public void start() {
         getInitializedScheduler().start();
+        startAsyncListenerDispatch();
     }
 
     /**
@@ -386,6 +505,7 @@ public class Cron4jCronTaskRepository extends AbstractCronTaskRepository {
     @Override
     public void stop() {
         getInitializedScheduler().stop();
+        stopAsyncListenerDispatch();
     }
 
     /**
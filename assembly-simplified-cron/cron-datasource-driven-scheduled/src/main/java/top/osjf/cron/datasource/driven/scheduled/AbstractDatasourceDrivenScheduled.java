@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.core.repository.CronTaskInfo;
 import top.osjf.cron.core.repository.CronTaskRepository;
+import top.osjf.cron.core.repository.NamedRunnable;
 import top.osjf.cron.core.util.CollectionUtils;
 import top.osjf.cron.core.util.ReflectUtils;
 import top.osjf.cron.core.util.StringUtils;
@@ -29,11 +30,23 @@ import top.osjf.cron.core.util.StringUtils;
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Abstract base class for datasource-driven scheduled task management systems.
@@ -78,11 +91,35 @@ import java.util.concurrent.locks.ReentrantLock;
  *   <li>On update detection: Applies configuration changes or stops/starts tasks as needed</li>
  * </ul>
  *
+ * <h2>Incremental Checks:</h2>
+ * <p>When the {@link DatasourceTaskElementsOperation} is an enabled
+ * {@link IncrementalDatasourceTaskElementsOperation}, each check only queries the task elements
+ * changed since the watermark of the previous check, and the full check of
+ * {@link DatasourceTaskElementsOperation#getRuntimeNeedCheckDatasourceTaskElements()} is only
+ * performed every {@link #setFullReconcileInterval(long) full reconcile interval}.</p>
+ *
+ * <h2>Change Notifications:</h2>
+ * <p>Besides the scheduled checks, a check is performed as soon as a
+ * {@link TaskElementsChangeNotifier} (see {@link #addChangeNotifier}) reports a change, or
+ * {@link #onTaskElementsChanged()} is called. Such checks run on a dedicated thread and
+ * notifications arriving while one is pending are coalesced into it.</p>
+ *
+ * <h2>Concurrency:</h2>
+ * <p>Only {@link #init()}, {@link #start()} and {@link #stop()} are exclusive. Checks run
+ * concurrently with each other: the registered task of every element is tracked in memory
+ * and each element is checked under a lock striped by its ID, so that a change is applied
+ * once even when two checks see it. The elements of a check can be checked in parallel
+ * (see {@link #setReconcileParallelism(int)}), and their status is written back
+ * asynchronously through {@link DatasourceTaskElementsOperation#afterRun(List)} in batches
+ * (see {@link #setWriteBackBatchSize(int)}), so that a slow datasource does not hold up
+ * the checks.</p>
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.4
  */
 public abstract class AbstractDatasourceDrivenScheduled
-        implements DatasourceDrivenScheduledLifecycle, ManagerTaskUniqueIdentifiersProvider, Runnable {
+        implements DatasourceDrivenScheduledLifecycle, ManagerTaskUniqueIdentifiersProvider, Runnable,
+        TaskElementsChangeListener {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -90,18 +127,76 @@ public abstract class AbstractDatasourceDrivenScheduled
     private final DatasourceTaskElementsOperation datasourceTaskElementsOperation;
 
     /** Flag that indicates whether this driven scheduler is currently init. */
-    private boolean inited = false;
+    private volatile boolean inited = false;
     /** Flag that indicates whether this driven scheduler is currently start. */
-    private boolean started = false;
+    private volatile boolean started = false;
+
+    /** Lifecycle lock, held exclusively by the lifecycle transitions and shared by the checks. */
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
 
-    private final Lock lock = new ReentrantLock();
+    /** The locks of the task elements, striped by {@link TaskElement#getId()}. */
+    private final Lock[] elementLocks = new Lock[64];
+
+    /** The IDs of the registered tasks by {@link TaskElement#getId()}. */
+    private final Map<String, String> registeredTaskIds = new ConcurrentHashMap<>();
+
+    /** The prefix of the {@link NamedRunnable} name of a task element, followed by its id.
+     * @since 3.0.1 */
+    public static final String TASK_ELEMENT_NAME_PREFIX = "task-element:";
 
     private String[] mangerTaskUniqueIds;
 
+    /** The default interval in milliseconds between two full checks when checks are incremental.
+     * @since 3.0.1 */
+    public static final long DEFAULT_FULL_RECONCILE_INTERVAL = 60 * 60 * 1000L;
+
+    /** The interval in milliseconds between two full checks when checks are incremental. */
+    private volatile long fullReconcileInterval = DEFAULT_FULL_RECONCILE_INTERVAL;
+
+    /** The watermark the datasource has been checked up to, negative if unknown. */
+    private final AtomicLong watermark = new AtomicLong(-1);
+
+    /** The time of the latest full check. */
+    private volatile long lastFullCheckTime;
+
+    /** The default maximum number of task elements written back in one batch.
+     * @since 3.0.1 */
+    public static final int DEFAULT_WRITE_BACK_BATCH_SIZE = 500;
+
+    /** The maximum number of task elements written back in one batch. */
+    private volatile int writeBackBatchSize = DEFAULT_WRITE_BACK_BATCH_SIZE;
+
+    /** The task elements waiting for their status to be written back, by {@link TaskElement#getId()}. */
+    private final Map<String, TaskElement> pendingWriteBacks = new ConcurrentHashMap<>();
+
+    /** Flag that indicates whether a write-back is scheduled. */
+    private final AtomicBoolean writeBackScheduled = new AtomicBoolean();
+
+    /** The executor of the status write-backs, {@code null} when not started. */
+    private volatile ExecutorService writeBackExecutor;
+
+    /** The number of task elements of a check checked in parallel. */
+    private volatile int reconcileParallelism = 1;
+
+    /** The executor of the parallel checks of task elements, {@code null} if sequential. */
+    private volatile ExecutorService reconcileExecutor;
+
+    /** The notifiers of changes in addition to the datasource operation. */
+    private final List<TaskElementsChangeNotifier> changeNotifiers = new CopyOnWriteArrayList<>();
+
+    /** The notifiers started along with this driven scheduler. */
+    private final List<TaskElementsChangeNotifier> startedChangeNotifiers = new ArrayList<>();
+
+    /** The executor of the checks triggered by change notifications, {@code null} when not started. */
+    private volatile ExecutorService changeCheckExecutor;
+
+    /** Flag that indicates whether a check triggered by change notifications is pending. */
+    private final AtomicBoolean changeCheckPending = new AtomicBoolean();
+
     /** Property name that determines the task execution environment can be configured in the system
      * variable {@link System#setProperty}. */
     public static final String PROFILES_SYSTEM_PROPERTY_NAME = "cron.datasource.driven.scheduled.profiles";
-    private static List<String> SYSTEM_PROFILES;
+    private static Set<String> SYSTEM_PROFILES;
 
     static {  loadRegisterProfiles(); }
 
@@ -111,9 +206,12 @@ public abstract class AbstractDatasourceDrivenScheduled
     static void loadRegisterProfiles() {
         String property = System.getProperty(PROFILES_SYSTEM_PROPERTY_NAME);
         SYSTEM_PROFILES = StringUtils.isBlank(property)
-                ? Collections.emptyList() : Arrays.asList(property.split(","));
+                ? Collections.emptySet() : new HashSet<>(Arrays.asList(property.split(",")));
     }
 
+    /** The invoker factories of the resolved "class@method" task names, by task name. */
+    private final Map<String, TaskInvokerFactory> taskInvokerFactories = new ConcurrentHashMap<>();
+
     /**
      * Constructs a new {@code AbstractDatasourceDrivenScheduled} with {@code CronTaskRepository}
      * as its task Manager and {@code DatasourceTaskElementsOperation} as its task information access.
@@ -125,39 +223,48 @@ public abstract class AbstractDatasourceDrivenScheduled
                                              DatasourceTaskElementsOperation datasourceTaskElementsOperation) {
         this.cronTaskRepository = cronTaskRepository;
         this.datasourceTaskElementsOperation = datasourceTaskElementsOperation;
+        for (int i = 0; i < elementLocks.length; i++) {
+            elementLocks[i] = new ReentrantLock();
+        }
     }
 
     @Override
     public void init() {
 
-        lockExecuteLifecycle(this::initInternal, false, null);
+        lockExecuteLifecycle(this::initInternal, lifecycleLock.writeLock(), false, null);
     }
 
     @Override
     public void start() {
 
-        lockExecuteLifecycle(this::startInternal, false, null);
+        lockExecuteLifecycle(this::startInternal, lifecycleLock.writeLock(), false, null);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Checks only exclude the lifecycle transitions, not each other.
+     */
     @Override
     public void run() {
 
-        lockExecuteLifecycle(this::runInternal, true, "run");
+        lockExecuteLifecycle(this::runInternal, lifecycleLock.readLock(), true, "run");
     }
 
     @Override
     public void stop() {
 
-        lockExecuteLifecycle(this::stopInternal, false, null);
+        lockExecuteLifecycle(this::stopInternal, lifecycleLock.writeLock(), false, null);
     }
 
     /**
      * Synchronize the execution of various stages of the lifecycle.
      * @param r {@link DatasourceDrivenScheduledLifecycle} action.
+     * @param lock            the lock of the lifecycle stage.
      * @param loggerCatch     the boolean flag of catch do error logger.
      * @param lifecycleName   the specify lifecycle name.
      */
-    private void lockExecuteLifecycle(Runnable r, boolean loggerCatch, String lifecycleName) {
+    private void lockExecuteLifecycle(Runnable r, Lock lock, boolean loggerCatch, String lifecycleName) {
         lock.lock();
         try {
             r.run();
@@ -204,6 +311,9 @@ public abstract class AbstractDatasourceDrivenScheduled
             throw new IllegalStateException("Driven Scheduler already started !");
         }
 
+        // Read the watermark before the elements so that concurrent changes are checked again.
+        IncrementalDatasourceTaskElementsOperation incrementalOperation = getIncrementalOperation();
+        long startWatermark = incrementalOperation != null ? incrementalOperation.getLatestWatermark() : -1;
         List<TaskElement> taskElements = datasourceTaskElementsOperation.getDatasourceTaskElements();
         if (CollectionUtils.isEmpty(taskElements)) {
             debug("No registrable data source task objects were obtained from the data source.");
@@ -229,6 +339,17 @@ public abstract class AbstractDatasourceDrivenScheduled
 
         datasourceTaskElementsOperation.afterStart(taskElements);
 
+        watermark.set(startWatermark);
+        lastFullCheckTime = System.currentTimeMillis();
+
+        writeBackExecutor = Executors.newSingleThreadExecutor(newDaemonThreadFactory("datasource-driven-write-back"));
+        if (reconcileParallelism > 1) {
+            reconcileExecutor = Executors.newFixedThreadPool(reconcileParallelism,
+                    newDaemonThreadFactory("datasource-driven-reconcile"));
+        }
+
+        startChangeNotifiers();
+
         // The marking has been start.
         started = true;
 
@@ -245,22 +366,73 @@ public abstract class AbstractDatasourceDrivenScheduled
         debug("[Time-{}] => Drive scheduler service checks on scheduled information.",
                 getActiveTime());
 
-        List<TaskElement> runtimeCheckedDatasourceTaskElements =
-                datasourceTaskElementsOperation.getRuntimeNeedCheckDatasourceTaskElements();
+        RuntimeCheck runtimeCheck = getRuntimeCheck();
+        List<TaskElement> runtimeCheckedDatasourceTaskElements = runtimeCheck.elements;
 
         if (CollectionUtils.isEmpty(runtimeCheckedDatasourceTaskElements)) {
+            advanceWatermark(runtimeCheck.watermark);
             debug("[Time-{}] => Drive scheduler service check of timing information has " +
                             "ended : No processable data provided.", getActiveTime());
             return;
         }
 
-        for (TaskElement element : runtimeCheckedDatasourceTaskElements) {
+        List<TaskElement> processedElements = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+        Consumer<TaskElement> elementCheck = element -> {
+            try {
+                if (checkElement(element)) {
+                    processedElements.add(element);
+                }
+            }
+            catch (Exception ex) {
+                // Not written back, so checked again by the next check.
+                failures.incrementAndGet();
+                getLogger().error("[Runtime-checked-Task-{}] Failed to check the task element.", element.getId(), ex);
+            }
+        };
+        ExecutorService executor = reconcileExecutor;
+        if (executor == null || runtimeCheckedDatasourceTaskElements.size() == 1) {
+            runtimeCheckedDatasourceTaskElements.forEach(elementCheck);
+        }
+        else {
+            CompletableFuture.allOf(runtimeCheckedDatasourceTaskElements.stream()
+                    .map(element -> CompletableFuture.runAsync(() -> elementCheck.accept(element), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        writeBack(processedElements);
+
+        // Only move the watermark forward once the changes have been applied.
+        if (failures.get() == 0) {
+            advanceWatermark(runtimeCheck.watermark);
+        }
+
+        debug("[Time-{}] => Drive scheduler service check of timing information has ended.",
+                getActiveTime());
+    }
+
+    /**
+     * Check a task element of a runtime check and apply its changes to the task repository,
+     * under the lock of the element so that concurrent checks apply each change once.
+     *
+     * @param element the task element to check.
+     * @return {@code true} if the element has been processed and its status needs to be
+     * written back, {@code false} otherwise.
+     */
+    private boolean checkElement(TaskElement element) {
+        Lock elementLock = getElementLock(element.getId());
+        elementLock.lock();
+        try {
+            // The task registered for the element, possibly by a concurrent check whose
+            // status write-back is still pending.
+            String registeredTaskId = registeredTaskIds.get(element.getId());
 
             // Pre-check for dynamic changes in markers.
             if (element.isAfterUpdate()) {
 
                 // Here it is judged to be terminated.
-                if (element.willBePaused()) {
+                if (Status.PAUSED.name().equals(element.getStatus())
+                        && (registeredTaskId != null || element.willBePaused())) {
                     if (isManagerTask(element)) {
 
                         // The stopping of the main inspection task is quite serious and may lead to
@@ -270,8 +442,11 @@ public abstract class AbstractDatasourceDrivenScheduled
                                 " capability with a frequency of [{}]. If multiple main tasks are configured," +
                                 " please ignore this reminder.", element.getId(), element.getExpression());
                     }
-                    String taskId = element.getTaskId();
-                    cronTaskRepository.remove(taskId);
+                    // A paused element whose task is no longer registered only needs its status cleared.
+                    if (registeredTaskId != null) {
+                        cronTaskRepository.remove(registeredTaskId);
+                        registeredTaskIds.remove(element.getId());
+                    }
                     element.pausedClear();
                     debug("[Runtime-checked-Task-{}] [{}] execution has been stopped.",
                             element.getId(), element.getTaskDescription());
@@ -284,12 +459,12 @@ public abstract class AbstractDatasourceDrivenScheduled
 
                 else {
                     // Check for changes in expressions.
-                    String taskId = element.getTaskId();
+                    String taskId = registeredTaskId != null ? registeredTaskId : element.getTaskId();
                     if (!StringUtils.isBlank(taskId)) {
                         CronTaskInfo cronTaskInfo = cronTaskRepository.getCronTaskInfo(taskId);
                         String oldExpression = cronTaskInfo != null ? cronTaskInfo.getExpression() : null;
                         if (element.expressionNoSame(oldExpression)) {
-                            cronTaskRepository.update(element.getTaskId(), element.getExpression());
+                            cronTaskRepository.update(taskId, element.getExpression());
                             debug("[Runtime-checked-Task-{}] Task name [{}] description [{}] change " +
                                             "expression old [{}] to new [{}].", element.getId(), element.getTaskName(),
                                     element.getTaskDescription(), oldExpression, element.getExpression());
@@ -299,18 +474,262 @@ public abstract class AbstractDatasourceDrivenScheduled
 
                 // Reset update tag.
                 element.resetUpdateStatus();
+                return true;
             }
 
             // Check the status of dynamically added tasks.
             else if (element.isAfterInsert()) {
                 registerTask(element);
+                return true;
             }
+            return false;
         }
+        finally {
+            elementLock.unlock();
+        }
+    }
 
-        datasourceTaskElementsOperation.afterRun(runtimeCheckedDatasourceTaskElements);
+    /**
+     * @param elementId the ID of a task element.
+     * @return the lock of the task element with the given ID.
+     */
+    private Lock getElementLock(String elementId) {
+        int hash = elementId != null ? elementId.hashCode() : 0;
+        return elementLocks[(hash & Integer.MAX_VALUE) % elementLocks.length];
+    }
 
-        debug("[Time-{}] => Drive scheduler service check of timing information has ended.",
-                getActiveTime());
+    /**
+     * Move the watermark forward to the given watermark of a finished check, or reset it when
+     * the datasource reported no watermark.
+     *
+     * @param checkedWatermark the watermark the finished check has checked up to.
+     */
+    private void advanceWatermark(long checkedWatermark) {
+        watermark.updateAndGet(current -> checkedWatermark < 0 ? -1 : Math.max(current, checkedWatermark));
+    }
+
+    /**
+     * Queue the status write-back of the given processed task elements, replacing the pending
+     * write-back of the same elements, and schedule it on the write-back thread.
+     *
+     * @param processedElements the processed task elements.
+     */
+    private void writeBack(List<TaskElement> processedElements) {
+        if (processedElements.isEmpty()) {
+            return;
+        }
+        for (TaskElement element : processedElements) {
+            pendingWriteBacks.put(element.getId(), element);
+        }
+        ExecutorService executor = writeBackExecutor;
+        if (executor == null) {
+            flushWriteBacks();
+        }
+        else if (writeBackScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flushWriteBacks);
+            }
+            catch (RejectedExecutionException ex) {
+                writeBackScheduled.set(false);
+                flushWriteBacks();
+            }
+        }
+    }
+
+    /**
+     * Write back the status of the pending task elements through
+     * {@link DatasourceTaskElementsOperation#afterRun(List)}, in batches of at most
+     * {@link #writeBackBatchSize} elements.
+     */
+    private synchronized void flushWriteBacks() {
+        // Elements queued from now on need a new write-back.
+        writeBackScheduled.set(false);
+        while (!pendingWriteBacks.isEmpty()) {
+            List<TaskElement> batch = new ArrayList<>();
+            for (String elementId : pendingWriteBacks.keySet()) {
+                TaskElement element = pendingWriteBacks.get(elementId);
+                // Only take the queued element, not a newer one replacing it meanwhile.
+                if (element != null && pendingWriteBacks.remove(elementId, element)) {
+                    batch.add(element);
+                    if (batch.size() >= writeBackBatchSize) {
+                        break;
+                    }
+                }
+            }
+            try {
+                datasourceTaskElementsOperation.afterRun(batch);
+            }
+            catch (Exception ex) {
+                // The elements keep their update markers in the datasource and are checked again.
+                getLogger().error("Failed to write back the status of {} task element(s).", batch.size(), ex);
+            }
+        }
+    }
+
+    /**
+     * Return the task elements for the running check: the elements changed since the last
+     * watermark when checks are incremental, otherwise those of
+     * {@link DatasourceTaskElementsOperation#getRuntimeNeedCheckDatasourceTaskElements()}.
+     *
+     * @return the task elements to check and the watermark they are checked up to.
+     */
+    private RuntimeCheck getRuntimeCheck() {
+        IncrementalDatasourceTaskElementsOperation incrementalOperation = getIncrementalOperation();
+        if (incrementalOperation == null) {
+            return new RuntimeCheck(datasourceTaskElementsOperation.getRuntimeNeedCheckDatasourceTaskElements(), -1);
+        }
+        long checkingWatermark = incrementalOperation.getLatestWatermark();
+        long lastWatermark = watermark.get();
+        long now = System.currentTimeMillis();
+        if (lastWatermark < 0 || checkingWatermark < 0 || now - lastFullCheckTime >= fullReconcileInterval) {
+            lastFullCheckTime = now;
+            debug("[Time-{}] => Drive scheduler service performs a full check up to watermark [{}].",
+                    getActiveTime(), checkingWatermark);
+            return new RuntimeCheck(datasourceTaskElementsOperation.getRuntimeNeedCheckDatasourceTaskElements(),
+                    checkingWatermark);
+        }
+        if (checkingWatermark <= lastWatermark) {
+            return new RuntimeCheck(Collections.emptyList(), lastWatermark);
+        }
+        List<TaskElement> changedElements =
+                incrementalOperation.getChangedDatasourceTaskElements(lastWatermark, checkingWatermark);
+        debug("[Time-{}] => Drive scheduler service found {} changed element(s) within watermark ({}, {}].",
+                getActiveTime(), changedElements.size(), lastWatermark, checkingWatermark);
+        List<TaskElement> checkedElements = new ArrayList<>();
+        for (TaskElement element : changedElements) {
+            // The same filter as the full check, so unrelated changes are not written back.
+            if (element.isAfterUpdate() || element.isAfterInsert()) {
+                checkedElements.add(element);
+            }
+        }
+        return new RuntimeCheck(checkedElements, checkingWatermark);
+    }
+
+    /**
+     * @return the {@link IncrementalDatasourceTaskElementsOperation} if checks are incremental,
+     * otherwise {@code null}.
+     */
+    private IncrementalDatasourceTaskElementsOperation getIncrementalOperation() {
+        if (datasourceTaskElementsOperation instanceof IncrementalDatasourceTaskElementsOperation) {
+            IncrementalDatasourceTaskElementsOperation incrementalOperation
+                    = (IncrementalDatasourceTaskElementsOperation) datasourceTaskElementsOperation;
+            if (incrementalOperation.isIncrementalEnabled()) {
+                return incrementalOperation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Schedule a check on the change check thread, unless one is already pending. Ignored
+     * when this driven scheduler is not started.
+     */
+    @Override
+    public void onTaskElementsChanged() {
+        ExecutorService executor = changeCheckExecutor;
+        if (executor == null || !changeCheckPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                // Notifications from now on need a new check.
+                changeCheckPending.set(false);
+                run();
+            });
+        }
+        catch (RejectedExecutionException ex) {
+            changeCheckPending.set(false);
+        }
+    }
+
+    /**
+     * Start the change check thread and the notifiers of changes.
+     */
+    private void startChangeNotifiers() {
+        List<TaskElementsChangeNotifier> notifiers = new ArrayList<>();
+        if (datasourceTaskElementsOperation instanceof TaskElementsChangeNotifier) {
+            notifiers.add((TaskElementsChangeNotifier) datasourceTaskElementsOperation);
+        }
+        for (TaskElementsChangeNotifier notifier : changeNotifiers) {
+            if (notifier != datasourceTaskElementsOperation) {
+                notifiers.add(notifier);
+            }
+        }
+        if (notifiers.isEmpty()) {
+            return;
+        }
+        changeCheckExecutor = Executors.newSingleThreadExecutor(newDaemonThreadFactory("datasource-driven-change-check"));
+        for (TaskElementsChangeNotifier notifier : notifiers) {
+            try {
+                notifier.startNotifying(this);
+                startedChangeNotifiers.add(notifier);
+            }
+            catch (Exception ex) {
+                // The scheduled checks still cover the changes.
+                getLogger().warn("Failed to start change notifier {}, changes are only applied by " +
+                        "scheduled checks.", notifier, ex);
+            }
+        }
+    }
+
+    /**
+     * Stop the notifiers of changes and the change check thread.
+     */
+    private void stopChangeNotifiers() {
+        for (TaskElementsChangeNotifier notifier : startedChangeNotifiers) {
+            try {
+                notifier.stopNotifying();
+            }
+            catch (Exception ex) {
+                debug("Failed to stop change notifier " + notifier, ex);
+            }
+        }
+        startedChangeNotifiers.clear();
+        ExecutorService executor = changeCheckExecutor;
+        if (executor != null) {
+            changeCheckExecutor = null;
+            executor.shutdownNow();
+        }
+        changeCheckPending.set(false);
+    }
+
+    /**
+     * Shut down the write-back thread, write back the remaining task elements and shut down
+     * the parallel checks of task elements.
+     */
+    private void stopWriteBacks() {
+        ExecutorService executor = writeBackExecutor;
+        if (executor != null) {
+            writeBackExecutor = null;
+            executor.shutdown();
+            try {
+                executor.awaitTermination(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushWriteBacks();
+        ExecutorService reconcile = reconcileExecutor;
+        if (reconcile != null) {
+            reconcileExecutor = null;
+            reconcile.shutdown();
+        }
+    }
+
+    /**
+     * @param name the name prefix of the threads.
+     * @return a factory of daemon threads named after the given prefix.
+     */
+    private static ThreadFactory newDaemonThreadFactory(String name) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
     private static String getActiveTime() {
@@ -324,17 +743,19 @@ public abstract class AbstractDatasourceDrivenScheduled
 
         assertStarted();
 
+        stopChangeNotifiers();
+        stopWriteBacks();
+
         for (String mangerTaskUniqueId : mangerTaskUniqueIds) {
             cronTaskRepository.remove(mangerTaskUniqueId);
         }
 
-        for (TaskElement element : datasourceTaskElementsOperation.getDatasourceTaskElements()) {
-            String taskId = element.getTaskId();
-            if (!StringUtils.isBlank(taskId)) {
-                cronTaskRepository.remove(taskId);
-            }
+        for (String taskId : registeredTaskIds.values()) {
+            cronTaskRepository.remove(taskId);
         }
+        registeredTaskIds.clear();
         datasourceTaskElementsOperation.purgeDatasourceTaskElements();
+        clearResolvedTaskCaches();
 
         // The marking has been stopped.
         started = false;
@@ -360,6 +781,13 @@ public abstract class AbstractDatasourceDrivenScheduled
      * @param taskElement the Task element information.
      */
     private void registerTask(@NotNull TaskElement taskElement) {
+        String registeredTaskId = registeredTaskIds.get(taskElement.getId());
+        if (registeredTaskId != null) {
+            // Registered by a concurrent check whose status write-back is still pending.
+            taskElement.setTaskId(registeredTaskId);
+            taskElement.setStatusDescription(true, "Running");
+            return;
+        }
         if (taskElement.noActive()) {
             if (taskElement.noActiveDescriptionExist()) {
                 taskElement.setStatusDescription(false, "Status not activated");
@@ -372,8 +800,12 @@ public abstract class AbstractDatasourceDrivenScheduled
             debug("[Task-{}] Failed to register : Environment mismatch", taskElement.getId());
             return;
         }
-        Runnable taskRunnable = isManagerTask(taskElement) ? this : resolveTaskRunnable(taskElement);
+        // The element tasks are named by their id, which tells apart the elements running the
+        // same method in the cluster locks and the spread of the fires.
+        Runnable taskRunnable = isManagerTask(taskElement) ? this
+                : new NamedRunnable(TASK_ELEMENT_NAME_PREFIX + taskElement.getId(), resolveTaskRunnable(taskElement));
         String taskId = cronTaskRepository.register(taskElement.getExpression(), taskRunnable);
+        registeredTaskIds.put(taskElement.getId(), taskId);
         taskElement.setTaskId(taskId);
         taskElement.setStatusDescription(true, "Running");
         debug("[Task-{}] Successfully to register : name [{}] ||  description [{}] || expression [{}]",
@@ -392,6 +824,72 @@ public abstract class AbstractDatasourceDrivenScheduled
         return Arrays.binarySearch(mangerTaskUniqueIds, taskElement.getId()) >= 0;
     }
 
+    /**
+     * Set the number of task elements of a check that are checked in parallel, effective from
+     * the next {@link #start()}. The default of {@code 1} checks them one after another.
+     *
+     * @param reconcileParallelism the number of task elements checked in parallel.
+     * @throws IllegalArgumentException if the given number is not positive.
+     * @since 3.0.1
+     */
+    public void setReconcileParallelism(int reconcileParallelism) {
+        if (reconcileParallelism <= 0) {
+            throw new IllegalArgumentException("reconcileParallelism must be positive");
+        }
+        this.reconcileParallelism = reconcileParallelism;
+    }
+
+    /**
+     * Set the maximum number of task elements whose status is written back in one call of
+     * {@link DatasourceTaskElementsOperation#afterRun(List)}.
+     *
+     * @param writeBackBatchSize the maximum number of task elements written back in one batch.
+     * @throws IllegalArgumentException if the given number is not positive.
+     * @since 3.0.1
+     */
+    public void setWriteBackBatchSize(int writeBackBatchSize) {
+        if (writeBackBatchSize <= 0) {
+            throw new IllegalArgumentException("writeBackBatchSize must be positive");
+        }
+        this.writeBackBatchSize = writeBackBatchSize;
+    }
+
+    /**
+     * Add a notifier of changes of the task elements, started and stopped along with this
+     * driven scheduler. A {@link DatasourceTaskElementsOperation} that is a notifier itself
+     * does not need to be added.
+     *
+     * @param changeNotifier the notifier of changes to add.
+     * @since 3.0.1
+     */
+    public void addChangeNotifier(TaskElementsChangeNotifier changeNotifier) {
+        changeNotifiers.add(changeNotifier);
+    }
+
+    /**
+     * Set the interval in milliseconds between two full checks when the datasource supports
+     * incremental checks, see {@link IncrementalDatasourceTaskElementsOperation}. The checks
+     * in between only query the task elements changed since the previous check.
+     *
+     * @param fullReconcileInterval the interval in milliseconds between two full checks.
+     * @throws IllegalArgumentException if the given interval is negative.
+     * @since 3.0.1
+     */
+    public void setFullReconcileInterval(long fullReconcileInterval) {
+        if (fullReconcileInterval < 0) {
+            throw new IllegalArgumentException("fullReconcileInterval must not be negative");
+        }
+        this.fullReconcileInterval = fullReconcileInterval;
+    }
+
+    /**
+     * @return the interval in milliseconds between two full checks when checks are incremental.
+     * @since 3.0.1
+     */
+    public long getFullReconcileInterval() {
+        return fullReconcileInterval;
+    }
+
     /**
      * Return the cron expression when the data source is not provided by the main task,
      * i.e. {@link #getManagerTaskUniqueIdentifiers()} is {@code null}. This framework
@@ -429,6 +927,11 @@ public abstract class AbstractDatasourceDrivenScheduled
      * <p>The fully qualified name interval "@" of the default class plus the name of
      * the method is used as a candidate resolution for {@link TaskElement#getTaskName()}.
      *
+     * <p>The class and method of a task name are resolved once and cached by the task name
+     * until the stop, so that reloads of the task elements do not resolve them again and a
+     * changed task name is resolved anew. Each resolved task element still gets its own
+     * instance of the class.
+     *
      * @param element the task element information.
      * @return the Task execution function.
      * @throws DataSourceDrivenException If the parsing rules are not met or the task fails to run.
@@ -442,12 +945,12 @@ public abstract class AbstractDatasourceDrivenScheduled
             throw new DataSourceDrivenException(taskName + " does not comply with parsing rules " +
                     "[class's qualified name @ method name].");
         }
-        Object target;
-        Method targetMethod;
+        Runnable invoker;
         try {
-            Class<?> clazz = ReflectUtils.forName(sp[0]);
-            target = ReflectUtils.newInstance(clazz);
-            targetMethod = ReflectUtils.getMethod(clazz, sp[1]);
+            invoker = taskInvokerFactories.computeIfAbsent(taskName, name -> {
+                Class<?> clazz = ReflectUtils.forName(sp[0]);
+                return new TaskInvokerFactory(clazz, ReflectUtils.getMethod(clazz, sp[1]));
+            }).newInvoker();
         }
         catch (Exception ex) {
             debug("Failed to resolve task [" + element.getId() + "] to runnable.", ex);
@@ -455,7 +958,7 @@ public abstract class AbstractDatasourceDrivenScheduled
         }
         return () -> {
             try {
-                ReflectUtils.invokeMethod(target, targetMethod);
+                invoker.run();
             }
             catch (Exception ex) {
                 debug("Failed to invoke task [" + element.getId() + "].", ex);
@@ -464,6 +967,15 @@ public abstract class AbstractDatasourceDrivenScheduled
         };
     }
 
+    /**
+     * Clear the caches of {@link #resolveTaskRunnable(TaskElement)} on the stop, the
+     * subclasses caching their own resolutions being expected to clear them as well.
+     * @since 3.0.1
+     */
+    protected void clearResolvedTaskCaches() {
+        taskInvokerFactories.clear();
+    }
+
     /**
      * @return {@code boolean} flag that the logger instance enabled for the DEBUG level.
      */
@@ -494,4 +1006,39 @@ public abstract class AbstractDatasourceDrivenScheduled
             getLogger().debug(msg, t);
         }
     }
+
+    /**
+     * The resolved class and method of a "class@method" task name, creating the invokers
+     * of the method on new instances of the class.
+     */
+    private static class TaskInvokerFactory {
+
+        private final Class<?> clazz;
+
+        private final Function<Object, Runnable> invokerFactory;
+
+        TaskInvokerFactory(Class<?> clazz, Method method) {
+            this.clazz = clazz;
+            this.invokerFactory = ReflectUtils.createMethodInvokerFactory(method);
+        }
+
+        Runnable newInvoker() {
+            return invokerFactory.apply(ReflectUtils.newInstance(clazz));
+        }
+    }
+
+    /**
+     * The task elements of a runtime check and the watermark they are checked up to.
+     */
+    private static class RuntimeCheck {
+
+        private final List<TaskElement> elements;
+
+        private final long watermark;
+
+        RuntimeCheck(List<TaskElement> elements, long watermark) {
+            this.elements = elements;
+            this.watermark = watermark;
+        }
+    }
 }
@@ -36,4 +36,20 @@ public interface Constants {
      * @since 3.0.1
      */
     String TASK_NAME = "ZT_TASK_SCHEDULER";
+
+    /**
+     * The column of the {@link #TASK_NAME} table that records the version of each task, either
+     * a version counter or an updated-at timestamp, raised on every insert and update of the task.
+     * Only required when incremental checks are enabled.
+     * @see IncrementalDatasourceTaskElementsOperation
+     * @since 3.0.1
+     */
+    String VERSION_COLUMN = "UPDATE_VERSION";
+
+    /**
+     * The default name of the outbox table recording changes of the {@link #TASK_NAME} table.
+     * @see JdbcOutboxChangeNotifier
+     * @since 3.0.1
+     */
+    String CHANGE_TABLE_NAME = "ZT_TASK_SCHEDULER_CHANGE";
 }
@@ -109,6 +109,10 @@ public interface DatasourceTaskElementsOperation {
      * After the changes and updates are completed, the data source needs to be updated and returned
      * to the update.
      *
+     * <p>Since 3.0.1, this method is called asynchronously on a dedicated thread with batches of
+     * at most {@link AbstractDatasourceDrivenScheduled#setWriteBackBatchSize(int)} elements, so it
+     * should write the given elements back in one batched statement rather than one by one.
+     *
      * @param runtimeCheckedDatasourceTaskElement Dynamically check and update the {@link TaskElement} collection
      *                                            of tasks during runtime.
      */
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.datasource.driven.scheduled;
+
+import java.util.List;
+
+/**
+ * Extension of {@link DatasourceTaskElementsOperation} for datasources that record a
+ * monotonically increasing version of every task element, such as a version counter or
+ * an updated-at timestamp column maintained on each insert and update.
+ *
+ * <p>With it, the runtime check of {@link AbstractDatasourceDrivenScheduled#run()} only
+ * queries the task elements changed since the watermark of the previous check, instead
+ * of {@link #getRuntimeNeedCheckDatasourceTaskElements()} on every check. The full check
+ * is still performed on a long interval (see
+ * {@link AbstractDatasourceDrivenScheduled#setFullReconcileInterval(long)}), which also
+ * covers the changes an incremental check may miss, for example rows committed late with
+ * a version below the watermark.
+ *
+ * <p>Watermarks are {@code long} values: a version counter is used as is and a timestamp
+ * as its epoch nanoseconds (see {@link WatermarkUtils}). A negative watermark means that no
+ * version is known.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface IncrementalDatasourceTaskElementsOperation extends DatasourceTaskElementsOperation {
+
+    /**
+     * Return whether incremental checks are enabled for this datasource, for example only
+     * when the version column is configured.
+     *
+     * @return {@code true} if incremental checks are enabled, {@code false} to always perform
+     * the full check.
+     */
+    default boolean isIncrementalEnabled() {
+        return true;
+    }
+
+    /**
+     * Return the highest version currently recorded in the datasource.
+     *
+     * @return the highest version, or a negative value if the datasource records none.
+     */
+    long getLatestWatermark();
+
+    /**
+     * Return the task elements whose version is greater than {@code fromWatermark} and not
+     * greater than {@code toWatermark}.
+     *
+     * <p>The returned elements are filtered by the caller in the same way as those of
+     * {@link #getRuntimeNeedCheckDatasourceTaskElements()}, so implementations only need to
+     * query by version.
+     *
+     * @param fromWatermark the exclusive lower bound, the watermark of the previous check.
+     * @param toWatermark   the inclusive upper bound, the result of {@link #getLatestWatermark()}.
+     * @return the task elements changed within the given watermarks.
+     */
+    List<TaskElement> getChangedDatasourceTaskElements(long fromWatermark, long toWatermark);
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.datasource.driven.scheduled;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskElementsChangeNotifier} implementation of the outbox pattern for JDBC datasources.
+ *
+ * <p>Every change of the task table is recorded as a row of an outbox table, typically by
+ * database triggers or by the application in the same transaction. This notifier polls the
+ * highest {@code ID} of the outbox table on a short interval, a query on the primary key that
+ * is far cheaper than checking the task table itself, and notifies when it has changed. A
+ * lower {@code ID} is a change too: once the outbox table has been emptied by the purge, the
+ * {@code ID} sequence may start over, as MySQL before 8.0 does on restart.
+ *
+ * <p>Example for MySQL:
+ * <pre>
+ * CREATE TABLE ZT_TASK_SCHEDULER_CHANGE (
+ *     ID         BIGINT AUTO_INCREMENT PRIMARY KEY,
+ *     CHANGED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+ * );
+ * CREATE TRIGGER ZT_TASK_SCHEDULER_AI AFTER INSERT ON ZT_TASK_SCHEDULER FOR EACH ROW
+ *     INSERT INTO ZT_TASK_SCHEDULER_CHANGE (CHANGED_AT) VALUES (CURRENT_TIMESTAMP);
+ * CREATE TRIGGER ZT_TASK_SCHEDULER_AU AFTER UPDATE ON ZT_TASK_SCHEDULER FOR EACH ROW
+ *     IF NEW.UPDATE_SIGN = 1 THEN
+ *         INSERT INTO ZT_TASK_SCHEDULER_CHANGE (CHANGED_AT) VALUES (CURRENT_TIMESTAMP);
+ *     END IF;
+ * </pre>
+ *
+ * <p>Rows are never consumed, so that any number of schedulers can share the outbox table;
+ * rows older than the {@link #setRetention retention} are deleted instead.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class JdbcOutboxChangeNotifier implements TaskElementsChangeNotifier {
+
+    /** The default interval in milliseconds between two polls of the outbox table. */
+    public static final long DEFAULT_POLL_INTERVAL = 1000;
+
+    /** The default retention in milliseconds of the rows of the outbox table. */
+    public static final long DEFAULT_RETENTION = TimeUnit.DAYS.toMillis(1);
+
+    /** The interval in milliseconds between two deletions of expired rows. */
+    private static final long PURGE_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final DataSource dataSource;
+
+    private final String tableName;
+
+    private long pollInterval = DEFAULT_POLL_INTERVAL;
+
+    private long retention = DEFAULT_RETENTION;
+
+    private ScheduledExecutorService executor;
+
+    /** The highest {@code ID} seen, {@code 0} for an empty table, negative before the first poll. */
+    private long lastChangeId = -1;
+
+    private long lastPurgeTime;
+
+    /**
+     * Constructs a new {@code JdbcOutboxChangeNotifier} polling the {@link Constants#CHANGE_TABLE_NAME}
+     * table of the given {@code DataSource}.
+     *
+     * @param dataSource the {@code DataSource} of the outbox table.
+     */
+    public JdbcOutboxChangeNotifier(DataSource dataSource) {
+        this(dataSource, Constants.CHANGE_TABLE_NAME);
+    }
+
+    /**
+     * Constructs a new {@code JdbcOutboxChangeNotifier} polling the given table of the given
+     * {@code DataSource}.
+     *
+     * @param dataSource the {@code DataSource} of the outbox table.
+     * @param tableName  the name of the outbox table, with {@code ID} and {@code CHANGED_AT} columns.
+     */
+    public JdbcOutboxChangeNotifier(DataSource dataSource, String tableName) {
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Set the interval in milliseconds between two polls of the outbox table.
+     *
+     * @param pollInterval the interval in milliseconds between two polls.
+     * @throws IllegalArgumentException if the given interval is not positive.
+     */
+    public void setPollInterval(long pollInterval) {
+        if (pollInterval <= 0) {
+            throw new IllegalArgumentException("pollInterval must be positive");
+        }
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Set the retention in milliseconds of the rows of the outbox table, older rows being
+     * deleted; zero or negative to never delete rows.
+     *
+     * @param retention the retention in milliseconds of the rows.
+     */
+    public void setRetention(long retention) {
+        this.retention = retention;
+    }
+
+    @Override
+    public synchronized void startNotifying(TaskElementsChangeListener listener) {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "datasource-driven-outbox-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> poll(listener), 0, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stopNotifying() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Poll the highest {@code ID} of the outbox table and notify the listener if it has changed
+     * since the previous poll.
+     *
+     * @param listener the listener to notify.
+     */
+    private void poll(TaskElementsChangeListener listener) {
+        try (Connection connection = dataSource.getConnection()) {
+            long changeId = -1;
+            try (PreparedStatement statement = connection.prepareStatement("SELECT MAX(ID) FROM " + tableName);
+                 ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    changeId = resultSet.getLong(1);
+                    if (resultSet.wasNull()) {
+                        changeId = -1;
+                    }
+                }
+            }
+            if (changeId < 0) {
+                // Emptied by the purge, which is no change of the tasks, any row added
+                // next being a change whatever its restarted ID.
+                lastChangeId = 0;
+            }
+            else {
+                // The first poll only records where the scheduler started from.
+                if (lastChangeId >= 0 && changeId != lastChangeId) {
+                    listener.onTaskElementsChanged();
+                }
+                lastChangeId = changeId;
+            }
+            purgeExpired(connection);
+        }
+        catch (SQLException ex) {
+            logger.warn("Failed to poll the change outbox table {}.", tableName, ex);
+        }
+    }
+
+    /**
+     * Delete the rows of the outbox table older than the retention, at most once per
+     * {@link #PURGE_INTERVAL}.
+     *
+     * @param connection the connection to the outbox table.
+     * @throws SQLException if the deletion fails.
+     */
+    private void purgeExpired(Connection connection) throws SQLException {
+        long now = System.currentTimeMillis();
+        if (retention <= 0 || now - lastPurgeTime < PURGE_INTERVAL) {
+            return;
+        }
+        lastPurgeTime = now;
+        try (PreparedStatement statement
+                     = connection.prepareStatement("DELETE FROM " + tableName + " WHERE CHANGED_AT < ?")) {
+            statement.setTimestamp(1, new Timestamp(now - retention));
+            statement.executeUpdate();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JdbcOutboxChangeNotifier{tableName=" + tableName + "}";
+    }
+}
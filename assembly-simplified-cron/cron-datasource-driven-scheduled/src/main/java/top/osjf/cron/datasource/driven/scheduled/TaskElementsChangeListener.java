@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.datasource.driven.scheduled;
+
+/**
+ * Listener notified by a {@link TaskElementsChangeNotifier} when the task elements of a
+ * datasource may have changed, so that the changes can be checked right away instead of
+ * at the next scheduled check.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+@FunctionalInterface
+public interface TaskElementsChangeListener {
+
+    /**
+     * Notify that the task elements of the datasource may have changed.
+     *
+     * <p>Implementations should return quickly, as notifications are sent from the threads
+     * of the notifiers, and tolerate spurious notifications.
+     */
+    void onTaskElementsChanged();
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.datasource.driven.scheduled;
+
+/**
+ * Source of push notifications about changes of the task elements of a datasource, such as
+ * an outbox table filled by database triggers or a watch on a configuration file.
+ *
+ * <p>Notifiers are started by {@link AbstractDatasourceDrivenScheduled} once started and
+ * stopped with it; a {@link DatasourceTaskElementsOperation} implementing this interface is
+ * used as a notifier as well. Notifications only trigger an earlier check, so the scheduled
+ * checks keep covering the changes a notifier may miss.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface TaskElementsChangeNotifier {
+
+    /**
+     * Start notifying the given listener of changes.
+     *
+     * @param listener the listener to notify.
+     * @throws DataSourceDrivenException if notifications cannot be started.
+     */
+    void startNotifying(TaskElementsChangeListener listener);
+
+    /**
+     * Stop notifying and release the resources of this notifier.
+     */
+    void stopNotifying();
+}
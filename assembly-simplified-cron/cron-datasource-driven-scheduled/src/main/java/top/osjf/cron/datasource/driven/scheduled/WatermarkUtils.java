@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.datasource.driven.scheduled;
+
+import top.osjf.cron.core.lang.Nullable;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Watermark conversion utility class for {@link IncrementalDatasourceTaskElementsOperation}
+ * implementations, mapping the values of a version column, a number or a timestamp, to
+ * {@code long} watermarks and back.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public abstract class WatermarkUtils {
+
+    /** The number of nanoseconds in a second. */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Convert a value read from a version column to a watermark.
+     *
+     * <p>Timestamps are converted to their epoch nanoseconds, keeping the full precision of
+     * the column, so that a row written later within the same millisecond as the returned
+     * watermark is still above it.
+     *
+     * @param version the value read from a version column, may be {@code null}.
+     * @return the watermark of the value, or {@code -1} if the value is {@code null}.
+     * @throws IllegalArgumentException if the value is neither a number nor a timestamp.
+     */
+    public static long toWatermark(@Nullable Object version) {
+        if (version == null) {
+            return -1;
+        }
+        if (version instanceof Number) {
+            return ((Number) version).longValue();
+        }
+        Instant instant;
+        if (version instanceof Date) {
+            // java.sql.Date does not support toInstant().
+            instant = version instanceof Timestamp ? ((Timestamp) version).toInstant()
+                    : Instant.ofEpochMilli(((Date) version).getTime());
+        }
+        else if (version instanceof LocalDateTime) {
+            instant = ((LocalDateTime) version).atZone(ZoneId.systemDefault()).toInstant();
+        }
+        else if (version instanceof OffsetDateTime) {
+            instant = ((OffsetDateTime) version).toInstant();
+        }
+        else if (version instanceof Instant) {
+            instant = (Instant) version;
+        }
+        else {
+            throw new IllegalArgumentException("Unsupported version value type " + version.getClass().getName());
+        }
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    /**
+     * Convert a watermark to a value bindable to a version column, of the same kind as the
+     * given sample value read from that column.
+     *
+     * @param watermark the watermark to convert.
+     * @param sample    a value read from the version column, {@code null} if none is known.
+     * @return a {@link Timestamp} if the sample is a timestamp, otherwise the watermark itself.
+     */
+    public static Object toColumnValue(long watermark, @Nullable Object sample) {
+        if (sample == null || sample instanceof Number) {
+            return watermark;
+        }
+        Timestamp timestamp = new Timestamp(Math.floorDiv(watermark, NANOS_PER_SECOND) * 1000);
+        timestamp.setNanos((int) Math.floorMod(watermark, NANOS_PER_SECOND));
+        return timestamp;
+    }
+}
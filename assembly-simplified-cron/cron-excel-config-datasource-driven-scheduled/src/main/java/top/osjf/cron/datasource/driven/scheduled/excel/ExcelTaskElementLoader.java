@@ -24,6 +24,7 @@ import top.osjf.cron.datasource.driven.scheduled.DataSourceDrivenException;
 import top.osjf.cron.datasource.driven.scheduled.external.file.ExternalFileTaskElementLoader;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -49,8 +50,8 @@ public class ExcelTaskElementLoader extends ExternalFileTaskElementLoader<ExcelT
 
     @Override
     protected void refresh() throws DataSourceDrivenException {
-        try {
-            EasyExcel.write(getConfigFile())
+        try (OutputStream os = openConfigFileOutputStream()) {
+            EasyExcel.write(os)
                     .head(ExcelTaskElement.class).excelType(excelType).sheet().doWrite(taskElements);
         }
         catch (Throwable ex) {
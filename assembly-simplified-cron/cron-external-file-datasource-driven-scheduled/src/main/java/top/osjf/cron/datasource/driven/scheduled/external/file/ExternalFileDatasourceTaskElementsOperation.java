@@ -19,11 +19,15 @@ package top.osjf.cron.datasource.driven.scheduled.external.file;
 
 import top.osjf.cron.core.lang.Nullable;
 import top.osjf.cron.core.lifecycle.InitializeAble;
+import top.osjf.cron.datasource.driven.scheduled.DataSourceDrivenException;
 import top.osjf.cron.datasource.driven.scheduled.DatasourceTaskElementsOperation;
 import top.osjf.cron.datasource.driven.scheduled.TaskElement;
+import top.osjf.cron.datasource.driven.scheduled.TaskElementsChangeListener;
+import top.osjf.cron.datasource.driven.scheduled.TaskElementsChangeNotifier;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -46,6 +50,8 @@ import java.util.stream.Collectors;
  *   <li>Provides thread-safe operation through loader synchronization</li>
  *   <li>Supports both batch and individual element operations
  *   {@link #getDatasourceTaskElements()} and {@link #getElementById(String)}</li>
+ *   <li>Notifies changes of the configuration file as a {@link TaskElementsChangeNotifier},
+ *   watching it through a {@link FileChangeWatcher}</li>
  * </ul>
  *
  * <p>Typical usage:
@@ -69,10 +75,12 @@ import java.util.stream.Collectors;
  */
 public abstract
 class ExternalFileDatasourceTaskElementsOperation<T extends TaskElement> implements DatasourceTaskElementsOperation,
-        InitializeAble {
+        InitializeAble, TaskElementsChangeNotifier {
 
     private final ExternalFileTaskElementLoader<T> loader;
 
+    private FileChangeWatcher watcher;
+
     /**
      * Constructs an {@code ExternalFileDatasourceTaskElementsOperation} with the given
      * {@link ExternalFileTaskElementLoader}.
@@ -103,9 +111,44 @@ class ExternalFileDatasourceTaskElementsOperation<T extends TaskElement> impleme
      */
     @PreDestroy
     public void destroy() {
+        stopNotifying();
         loader.close();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Watch the configuration file of {@link #loader}. The writes of this operation itself
+     * are notified as well, their check finding nothing to apply.
+     */
+    @Override
+    public synchronized void startNotifying(TaskElementsChangeListener listener) {
+        if (watcher != null) {
+            return;
+        }
+        FileChangeWatcher fileChangeWatcher
+                = new FileChangeWatcher(loader.getConfigFile(), listener::onTaskElementsChanged);
+        try {
+            fileChangeWatcher.start();
+        }
+        catch (IOException ex) {
+            throw new DataSourceDrivenException("Failed to watch " + loader.getConfigFile().getPath(), ex);
+        }
+        watcher = fileChangeWatcher;
+    }
+
+    @Override
+    public synchronized void stopNotifying() {
+        if (watcher != null) {
+            try {
+                watcher.close();
+            }
+            catch (IOException ignored) {
+            }
+            watcher = null;
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
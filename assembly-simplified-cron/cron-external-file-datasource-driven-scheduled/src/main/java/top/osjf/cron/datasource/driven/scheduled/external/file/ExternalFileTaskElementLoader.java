@@ -29,10 +29,16 @@ import javax.annotation.concurrent.ThreadSafe;
 import java.io.*;
 import java.lang.reflect.ParameterizedType;
 import java.nio.file.Files;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Function;
@@ -69,6 +75,13 @@ import java.util.function.Function;
  * process level file operations and JVM access thread safety control (according
  * to {@link FileReadWriteLock}).
  *
+ * <p>Since 3.0.1, the loaded task elements are only replaced when the content of the file
+ * has changed: a change of its modification time alone (a touch, or a write of this loader)
+ * is recognized by the SHA-256 hash of its content, computed while the file is parsed or
+ * written through {@link #openConfigFileOutputStream()}, without reading it again. Updates of task elements can also be coalesced into
+ * one rewrite of the file per {@link #setWriteCoalescingInterval(long) interval}, rather
+ * than a rewrite per update.
+ *
  * @param <T> the type of task elements this operation handles, must extend {@link TaskElement}.
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 3.0.1
@@ -87,7 +100,28 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
     private File configFile;
 
     /** The timestamp of the last modification.*/
-    private Long lastModifiedMill;
+    private volatile long lastModifiedMill;
+
+    /** The SHA-256 hash of the content of the loaded file. */
+    private volatile byte[] contentHash;
+
+    /** The SHA-256 hash of the content written by the last {@link #refresh()}, if known. */
+    private byte[] writtenHash;
+
+    /** The interval in milliseconds to coalesce the updates of task elements, {@code 0} to write each. */
+    private long writeCoalescingInterval;
+
+    /** Flag that indicates whether updated task elements are not yet written to the file. */
+    private volatile boolean dirty;
+
+    /** Flag that indicates whether a write of the updated task elements is scheduled. */
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
+    /** The scheduler of the coalesced writes, {@code null} if each update is written. */
+    private volatile ScheduledExecutorService writeScheduler;
+
+    /** The monitor of reloading the file by concurrent readers. */
+    private final Object reloadMonitor = new Object();
 
     /** The boolean flag indicates first loading. */
     private volatile boolean loadingFlag;
@@ -129,6 +163,26 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
         this.configFileName = configFileName;
     }
 
+    /**
+     * Sets the interval to coalesce the updates of task elements into one rewrite of the
+     * configuration file, to be called before {@link #initialize()}.
+     *
+     * <p>Updates are applied to the loaded task elements at once and written within the given
+     * interval. Updates not yet written are lost when the file is changed externally in the
+     * meantime, the content of the file taking precedence; they are written on {@link #close()}
+     * otherwise. The default of {@code 0} writes each update at once.
+     *
+     * @param writeCoalescingInterval the interval in milliseconds, {@code 0} to write each update.
+     * @throws IllegalArgumentException if the given interval is negative.
+     * @since 3.0.1
+     */
+    public void setWriteCoalescingInterval(long writeCoalescingInterval) {
+        if (writeCoalescingInterval < 0) {
+            throw new IllegalArgumentException("writeCoalescingInterval must not be negative");
+        }
+        this.writeCoalescingInterval = writeCoalescingInterval;
+    }
+
     /**
      * Obtain and verify the existence of the configuration file and initialize the
      * file lock for the initialization operation.
@@ -147,13 +201,30 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
         catch (IOException ex) {
             throw new DataSourceDrivenException("Failed to initialize " + getClass(), ex);
         }
+
+        if (writeCoalescingInterval > 0) {
+            writeScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "external-file-write-" + configFile.getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
     }
 
     /**
-     * Release relevant file resources promptly when the JVM is shut down.
+     * Release relevant file resources promptly when the JVM is shut down, after writing the
+     * updated task elements not yet written.
      */
     @Override
     public void close() {
+        ScheduledExecutorService scheduler = writeScheduler;
+        if (scheduler != null) {
+            writeScheduler = null;
+            scheduler.shutdownNow();
+        }
+        if (dirty && readWriteLock != null) {
+            flush();
+        }
         if (readWriteLock instanceof FileReadWriteLock) {
             try {
                 ((FileReadWriteLock) readWriteLock).close();
@@ -192,8 +263,8 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
                     updateFlag = true;
                 }
             }
-            if (updateFlag) {
-                refresh();
+            if (updateFlag || dirty) {
+                write();
             }
         }
         finally {
@@ -250,6 +321,7 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
      */
     public void update(List<T> updateElements) {
 
+        ScheduledExecutorService scheduler;
         final Lock writeLock = getReadWriteLock().writeLock();
         writeLock.lock();
         try {
@@ -257,13 +329,93 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
                 updateInternal(updateElement);
             }
 
-            refresh();
+            scheduler = writeScheduler;
+            if (scheduler == null) {
+                write();
+                return;
+            }
+            dirty = true;
+        }
+        finally {
+            writeLock.unlock();
+        }
+
+        if (writeScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(this::flush, writeCoalescingInterval, TimeUnit.MILLISECONDS);
+                return;
+            }
+            catch (RejectedExecutionException ex) {
+                // Closed meanwhile.
+            }
+        }
+        else if (!scheduler.isShutdown()) {
+            return;
+        }
+        // Closed meanwhile, the scheduled write being cancelled.
+        flush();
+    }
+
+    /**
+     * Write the updated task elements not yet written to the configuration file.
+     */
+    private void flush() {
+        // Updates from now on need a new write.
+        writeScheduled.set(false);
+        final Lock writeLock = getReadWriteLock().writeLock();
+        writeLock.lock();
+        try {
+            if (dirty) {
+                write();
+            }
         }
         finally {
             writeLock.unlock();
         }
     }
 
+    /**
+     * Write the loaded task elements to the configuration file by {@link #refresh()} and
+     * record the state of the written file, so that it is not parsed again.
+     * @throws DataSourceDrivenException If the write fails to occur.
+     */
+    private void write() throws DataSourceDrivenException {
+        writtenHash = null;
+        refresh();
+        dirty = false;
+        // Unknown if not written through openConfigFileOutputStream(), then parsed again by the next loading.
+        contentHash = writtenHash;
+        try {
+            lastModifiedMill = Files.getLastModifiedTime(getConfigFile().toPath()).toMillis();
+        }
+        catch (IOException ex) {
+            contentHash = null;
+        }
+    }
+
+    /**
+     * Open the configuration file for writing its content in {@link #refresh()}, the
+     * content being hashed as it is written so that the next loading recognizes it.
+     * @return the {@link OutputStream} writing the configuration file.
+     * @throws IOException if the file cannot be opened.
+     */
+    protected OutputStream openConfigFileOutputStream() throws IOException {
+        final MessageDigest digest = newDigest();
+        return new DigestOutputStream(new BufferedOutputStream(new FileOutputStream(getConfigFile())), digest) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                super.close();
+                writtenHash = digest.digest();
+            }
+        };
+    }
+
     /**
      * Internal method for cleaning specified task elements.
      * @param taskElement Task elements to be cleaned.
@@ -286,7 +438,8 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
     }
 
     /**
-     * Refresh the latest content of the configuration file.
+     * Refresh the latest content of the configuration file, preferably written through
+     * {@link #openConfigFileOutputStream()}.
      * @throws DataSourceDrivenException If the refresh fails to occur.
      */
     protected abstract void refresh() throws DataSourceDrivenException;
@@ -302,41 +455,88 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
         readLock.lock();
 
         try {
-            if (loadingFlag && !isModifiedRecently()) {
-
-                return Optional.ofNullable(loadingElementsFilterFunction).map(lf -> lf.apply(taskElements))
-                        .orElse(Collections.emptyList());
+            if (!loadingFlag || isModifiedRecently()) {
+                synchronized (reloadMonitor) {
+                    reload();
+                }
             }
-            else {
 
-                try (InputStream is = new FileInputStream(getConfigFile())) {
+            return Optional.ofNullable(loadingElementsFilterFunction).map(lf -> lf.apply(taskElements))
+                    .orElse(Collections.emptyList());
+        }
 
-                    taskElements = loadingInternal(is);
+        finally {
+            readLock.unlock();
+        }
+    }
 
-                    if (!loadingFlag) {
-                        loadingFlag = true;
+    /**
+     * Parse the configuration file again, hashing its content in the same pass, and keep
+     * the loaded task elements if the content is the same as the one loaded.
+     * @throws DataSourceDrivenException if loading fails to occur.
+     */
+    private void reload() {
+        try {
+            final MessageDigest digest = newDigest();
+            List<T> loadedElements;
+            try (InputStream is = new DigestInputStream(new BufferedInputStream(
+                    new FileInputStream(getConfigFile())), digest) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    if (closed) {
+                        return;
                     }
-
-                    return Optional.ofNullable(loadingElementsFilterFunction).map(lf -> lf.apply(taskElements))
-                            .orElse(Collections.emptyList());
-                }
-                catch (ClassCastException ex) {
-                    throw new DataSourceDrivenException("Failed to load task list type conversion.", ex);
-                }
-                catch (DataSourceDrivenException ex) {
-                    throw ex;
-                }
-                catch (FileNotFoundException ex) {
-                    throw new DataSourceDrivenException("Missing Yaml file " + getConfigFile().getPath());
-                }
-                catch (Throwable ex) {
-                    throw new DataSourceDrivenException("Failed to load Yaml file : " + getConfigFile().getPath(), ex);
+                    closed = true;
+                    // Digest the bytes left unread by the parser.
+                    byte[] buffer = new byte[8192];
+                    while (read(buffer) != -1) {
+                        // Digested while read.
+                    }
+                    super.close();
                 }
+            }) {
+                loadedElements = loadingInternal(is);
+            }
+
+            byte[] hash = digest.digest();
+            if (loadingFlag && Arrays.equals(hash, contentHash)) {
+                return;
+            }
+
+            // The content of the file takes precedence over the updates not yet written.
+            taskElements = loadedElements;
+            contentHash = hash;
+            dirty = false;
+
+            if (!loadingFlag) {
+                loadingFlag = true;
             }
         }
+        catch (ClassCastException ex) {
+            throw new DataSourceDrivenException("Failed to load task list type conversion.", ex);
+        }
+        catch (DataSourceDrivenException ex) {
+            throw ex;
+        }
+        catch (FileNotFoundException ex) {
+            throw new DataSourceDrivenException("Missing Yaml file " + getConfigFile().getPath());
+        }
+        catch (Throwable ex) {
+            throw new DataSourceDrivenException("Failed to load Yaml file : " + getConfigFile().getPath(), ex);
+        }
+    }
 
-        finally {
-            readLock.unlock();
+    /**
+     * @return a new SHA-256 {@link MessageDigest} of the content of the configuration file.
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
         }
     }
 
@@ -383,7 +583,7 @@ public abstract class ExternalFileTaskElementLoader<T extends TaskElement> imple
     private boolean isModifiedRecently() {
         try {
             long modifiedMillis = Files.getLastModifiedTime(getConfigFile().toPath()).toMillis();
-            if (lastModifiedMill.compareTo(modifiedMillis) != 0) {
+            if (lastModifiedMill != modifiedMillis) {
                 lastModifiedMill = modifiedMillis;
                 return true;
             }
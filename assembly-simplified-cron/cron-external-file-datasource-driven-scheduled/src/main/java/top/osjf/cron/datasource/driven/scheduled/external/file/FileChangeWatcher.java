@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.datasource.driven.scheduled.external.file;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watch a single file through a {@link WatchService} on its directory and run a callback
+ * on a daemon thread when the file is created or modified.
+ *
+ * <p>Events arriving within 200 milliseconds of each other, such as those of an
+ * editor saving in several writes, are reported as a single change.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class FileChangeWatcher implements Closeable {
+
+    /** The quiet period in milliseconds after the last event before reporting a change. */
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private final Path file;
+
+    private final Runnable onChange;
+
+    private WatchService watchService;
+
+    private Thread thread;
+
+    /**
+     * Constructs a new {@code FileChangeWatcher} watching the given file.
+     *
+     * @param file     the file to watch.
+     * @param onChange the callback run when the file changes.
+     */
+    public FileChangeWatcher(File file, Runnable onChange) {
+        this.file = file.getAbsoluteFile().toPath();
+        this.onChange = onChange;
+    }
+
+    /**
+     * Start watching the file.
+     *
+     * @throws IOException if the directory of the file cannot be watched.
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        thread = new Thread(this::watch, "file-change-watcher-" + file.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Wait for the events of the file until closed.
+     */
+    private void watch() {
+        WatchService watchService = this.watchService;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!drainFileEvents(watchService.take())) {
+                    continue;
+                }
+                // Wait for the quiet period so that a change in several writes is reported once.
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    drainFileEvents(key);
+                }
+                onChange.run();
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException ex) {
+            // Closed.
+        }
+    }
+
+    /**
+     * Drain the events of the given key and reset it.
+     *
+     * @param key the signalled key.
+     * @return {@code true} if some event concerns the watched file.
+     */
+    private boolean drainFileEvents(WatchKey key) {
+        boolean fileEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || file.getFileName().equals(event.context())) {
+                fileEvent = true;
+            }
+        }
+        key.reset();
+        return fileEvent;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        thread = null;
+        watchService.close();
+        watchService = null;
+    }
+}
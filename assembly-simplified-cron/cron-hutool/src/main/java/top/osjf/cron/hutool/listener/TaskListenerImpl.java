@@ -22,28 +22,65 @@ import cn.hutool.cron.listener.TaskListener;
 import top.osjf.cron.core.listener.CronListenerCollector;
 import top.osjf.cron.core.listener.DefaultCronListenerCollector;
 import top.osjf.cron.core.listener.ListenerContextTypeProvider;
+import top.osjf.cron.core.repository.AbstractCronTaskRepository;
+import top.osjf.cron.hutool.repository.CronTaskInfoBuildUtils;
 
 /**
  * The default Hutool task listener implementation class extends {@link CronListenerCollector}
  * to implement broadcast mode for {@link top.osjf.cron.core.listener.CronListener}.
  *
+ * <p>Since version 3.0.1, a fire skipped by the misfire handling of the repository
+ * is not notified, its task running nothing.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.3
  */
 @ListenerContextTypeProvider(HutoolListenerContent.class)
 public class TaskListenerImpl extends DefaultCronListenerCollector implements TaskListener {
+
+    /**
+     * Whether the fire in progress on the current thread is skipped.
+     * @since 3.0.1
+     */
+    private final ThreadLocal<Boolean> skippedFire = new ThreadLocal<>();
+
     @Override
     public void onStart(TaskExecutor executor) {
+        if (AbstractCronTaskRepository.beginFire(getRunnable(executor))) {
+            skippedFire.set(Boolean.TRUE);
+            return;
+        }
         doStartListener(executor);
     }
 
     @Override
     public void onSucceeded(TaskExecutor executor) {
-        doSuccessListener(executor);
+        try {
+            if (skippedFire.get() == null) {
+                doSuccessListener(executor);
+            }
+        } finally {
+            endFire(executor);
+        }
     }
 
     @Override
     public void onFailed(TaskExecutor executor, Throwable exception) {
-        doFailedListener(executor, exception);
+        try {
+            if (skippedFire.get() == null) {
+                doFailedListener(executor, exception);
+            }
+        } finally {
+            endFire(executor);
+        }
+    }
+
+    private void endFire(TaskExecutor executor) {
+        skippedFire.remove();
+        AbstractCronTaskRepository.endFire(getRunnable(executor));
+    }
+
+    private static Runnable getRunnable(TaskExecutor executor) {
+        return CronTaskInfoBuildUtils.getRunnable(executor.getCronTask());
     }
 }
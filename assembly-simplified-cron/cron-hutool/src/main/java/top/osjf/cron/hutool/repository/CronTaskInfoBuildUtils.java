@@ -27,6 +27,7 @@ import cn.hutool.cron.task.Task;
 import top.osjf.cron.core.lang.Nullable;
 import top.osjf.cron.core.repository.CronMethodRunnable;
 import top.osjf.cron.core.repository.CronTaskInfo;
+import top.osjf.cron.core.repository.RepositoryUtils;
 
 import java.lang.reflect.Method;
 
@@ -55,30 +56,19 @@ public abstract class CronTaskInfoBuildUtils {
         Object target = null;
         Method method = null;
         try {
-            if (task instanceof RunnableTask) {
-                runnable = (Runnable) ReflectUtil.getFieldValue(task, "runnable");
-                if (runnable instanceof CronMethodRunnable) {
-                    CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) runnable;
+            Task raw = task instanceof CronTask ? ((CronTask) task).getRaw() : task;
+            if (raw instanceof RunnableTask) {
+                runnable = getRunnable(raw);
+                // The registered task may be decorated by the repository.
+                Runnable registered = RepositoryUtils.unwrapRunnable(runnable);
+                if (registered instanceof CronMethodRunnable) {
+                    CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) registered;
                     target = cronMethodRunnable.getTarget();
                     method = cronMethodRunnable.getMethod();
                 }
-            } else if (task instanceof InvokeTask) {
-                target = ReflectUtil.getFieldValue(task, "obj");
-                method = (Method) ReflectUtil.getFieldValue(task, "method");
-            } else if (task instanceof CronTask) {
-                CronTask cronTask = (CronTask) task;
-                Task raw = cronTask.getRaw();
-                if (raw instanceof RunnableTask) {
-                    runnable = (Runnable) ReflectUtil.getFieldValue(task, "runnable");
-                    if (runnable instanceof CronMethodRunnable) {
-                        CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) runnable;
-                        target = cronMethodRunnable.getTarget();
-                        method = cronMethodRunnable.getMethod();
-                    }
-                } else if (raw instanceof InvokeTask) {
-                    target = ReflectUtil.getFieldValue(task, "obj");
-                    method = (Method) ReflectUtil.getFieldValue(task, "method");
-                }
+            } else if (raw instanceof InvokeTask) {
+                target = ReflectUtil.getFieldValue(raw, "obj");
+                method = (Method) ReflectUtil.getFieldValue(raw, "method");
             }
         } catch (Exception e) {
             runnable = task::execute;
@@ -88,4 +78,20 @@ public abstract class CronTaskInfoBuildUtils {
         }
         return new CronTaskInfo(id, pattern.toString(), runnable, target, method);
     }
+
+    /**
+     * Return the {@link Runnable} scheduled as the given task.
+     * @param task the task of the scheduler, possibly a {@link CronTask}.
+     * @return the scheduled {@link Runnable}, {@code null} if the task is not a
+     * {@link RunnableTask}.
+     * @since 3.0.1
+     */
+    @Nullable
+    public static Runnable getRunnable(Task task) {
+        Task raw = task instanceof CronTask ? ((CronTask) task).getRaw() : task;
+        if (raw instanceof RunnableTask) {
+            return (Runnable) ReflectUtil.getFieldValue(raw, "runnable");
+        }
+        return null;
+    }
 }
@@ -16,6 +16,8 @@
 
 package top.osjf.cron.hutool.repository;
 
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
 import cn.hutool.cron.CronException;
 import cn.hutool.cron.Scheduler;
 import cn.hutool.cron.pattern.CronPattern;
@@ -31,10 +33,12 @@ import top.osjf.cron.core.repository.*;
 import top.osjf.cron.hutool.listener.TaskListenerImpl;
 
 import javax.annotation.Nonnull;
+import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +47,16 @@ import java.util.stream.Collectors;
  * <p>This implementation class includes the construction and lifecycle management
  * of the hutool build scheduler, as well as operations related to tasks and listeners.
  *
+ * <p>Since version 3.0.1, the registered {@link Runnable} tasks apply the
+ * {@link MisfirePolicy} of the repository, the fire times being computed by
+ * {@link CronPattern#nextMatchAfter}. The hutool timer does not launch the missed
+ * seconds or minutes, a misfire is thus found and handled at the next launch of
+ * the task.
+ *
+ * <p>Since version 3.0.1, the launches of the tasks spread by a {@link SpreadRunnable}
+ * are handed over to the thread executor after their offset by a timer thread, when
+ * the scheduler is built by this repository rather than given to its constructor.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.0
  */
@@ -86,6 +100,13 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
 
     private Scheduler scheduler;
 
+    /**
+     * Whether the scheduler is built by this repository, which then gives it the thread
+     * executor spreading the launches.
+     * @since 3.0.1
+     */
+    private boolean ownScheduler;
+
     private boolean setMatchSecond;
     private boolean setDaemon;
     private boolean setTimeZone;
@@ -232,7 +253,7 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
             scheduler.setDaemon(daemon);
             scheduler.setMatchSecond(isMatchSecond);
             scheduler.setTimeZone(timeZone);
-            scheduler.setThreadExecutor(executorService);
+            ownScheduler = true;
         }
         scheduler.addListener(taskListener);
     }
@@ -242,8 +263,12 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public String register(@NotNull String expression, @NotNull Runnable runnable) throws CronInternalException {
-        return RepositoryUtils.doRegister(() ->
-                getInitializedScheduler().schedule(expression, runnable), CronException.class);
+        registerStatisticsListener();
+        String id = RepositoryUtils.doRegister(() ->
+                getInitializedScheduler().schedule(expression, decorateRunnable(expression, runnable)),
+                CronException.class);
+        incrementModificationCount();
+        return id;
     }
 
     /**
@@ -272,6 +297,7 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public String register(@NotNull String expression, @NotNull TaskBody body) {
+        registerStatisticsListener();
         if (body.isWrapperFor(DefineIDRunnableTaskBody.class)) {
             DefineIDRunnableTaskBody defineIDRunnableTaskBody = body.unwrap(DefineIDRunnableTaskBody.class);
             String id = defineIDRunnableTaskBody.getId();
@@ -279,18 +305,23 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
             if (task != null) {
                 throw new CronInternalException("The task corresponding to id " + id + "already exists!");
             }
-            return RepositoryUtils.doRegister(() -> {
-                getInitializedScheduler().schedule(id, expression, defineIDRunnableTaskBody.getRunnable());
+            RepositoryUtils.doRegister(() -> {
+                getInitializedScheduler().schedule(id, expression,
+                        decorateRunnable(expression, defineIDRunnableTaskBody.getRunnable()));
                 return id;
             }, CronException.class);
+            incrementModificationCount();
+            return id;
         } else if (body.isWrapperFor(InvokeTaskBody.class)) {
             InvokeTask invokeTask = body.unwrap(InvokeTaskBody.class).getInvokeTask();
-            return RepositoryUtils.doRegister(() -> getInitializedScheduler().schedule(expression, invokeTask),
+            String id = RepositoryUtils.doRegister(() -> getInitializedScheduler().schedule(expression, invokeTask),
                     CronException.class);
+            incrementModificationCount();
+            return id;
         } else if (body.isWrapperFor(RunnableTaskBody.class)) {
             return register(expression, body.unwrap(RunnableTaskBody.class));
         } else if (body.isWrapperFor(SettingTaskBody.class)) {
-            return RepositoryUtils.doRegister(() -> {
+            String ids = RepositoryUtils.doRegister(() -> {
                 SettingTaskBody settingTaskBody = body.unwrap(SettingTaskBody.class);
                 getInitializedScheduler().schedule(settingTaskBody.getSetting());
                 /* the IDs in the order of configuration. */
@@ -298,13 +329,15 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
                         .filter(id -> id.startsWith("id_"))
                         .collect(Collectors.joining(","));
             }, CronException.class);
+            incrementModificationCount();
+            return ids;
         }
         throw new UnsupportedTaskBodyException(body.getClass());
     }
 
     @Override
     public String register(@NotNull CronTask task) {
-        return register(task.getExpression(), new RunnableTaskBody(task.getRunnable()));
+        return register(task.getExpression(), new RunnableTaskBody(task.getSpreadRunnable()));
     }
 
     @Override
@@ -338,8 +371,58 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public void update(@NotNull String taskId, @NotNull String newExpression) {
-        RepositoryUtils.doVoidInvoke(() ->
-                getInitializedScheduler().updatePattern(taskId, new CronPattern(newExpression)), CronException.class);
+        RepositoryUtils.doVoidInvoke(() -> {
+            getInitializedScheduler().updatePattern(taskId, new CronPattern(newExpression));
+            Task task = getInitializedScheduler().getTask(taskId);
+            if (task != null) {
+                resetMisfireHandling(CronTaskInfoBuildUtils.getRunnable(task), newExpression);
+            }
+        }, CronException.class);
+        incrementModificationCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The fire times are the matching seconds of the {@link CronPattern}, or its
+     * matching minutes when the scheduler does not match the seconds, in the time zone
+     * of the scheduler.
+     */
+    @Override
+    @Nullable
+    protected LongUnaryOperator getNextFireTimeFunction(String expression) {
+        CronPattern pattern = new CronPattern(expression);
+        return time -> {
+            boolean matchSecond = scheduler != null ? scheduler.isMatchSecond() : isMatchSecond;
+            TimeZone zone = scheduler != null ? scheduler.getTimeZone() : timeZone;
+            long next = nextMatchAfter(pattern, zone, time);
+            if (matchSecond || next < 0) {
+                return next;
+            }
+            // Launched once in a matching minute, at its start.
+            if (next - next % 60000 <= time) {
+                next = nextMatchAfter(pattern, zone, time - time % 60000 + 59999);
+            }
+            return next < 0 ? next : next - next % 60000;
+        };
+    }
+
+    /**
+     * Return the first time strictly after the given one matching the given pattern.
+     * @param pattern the pattern.
+     * @param zone    the time zone.
+     * @param time    the time, in epoch milliseconds.
+     * @return the first matching time, in epoch milliseconds, {@code -1} if none.
+     */
+    private static long nextMatchAfter(CronPattern pattern, TimeZone zone, long time) {
+        Calendar calendar = Calendar.getInstance(zone);
+        calendar.setTimeInMillis(time);
+        Calendar next = pattern.nextMatchAfter(calendar);
+        if (next != null && next.getTimeInMillis() <= time) {
+            // The matching second of the given time itself, search from the following one.
+            calendar.setTimeInMillis(time - time % 1000 + 1000);
+            next = pattern.nextMatchAfter(calendar);
+        }
+        return next != null ? next.getTimeInMillis() : -1;
     }
 
     /**
@@ -347,9 +430,14 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
      */
     @Override
     public void remove(@NotNull String taskId) {
+        Task task = getInitializedScheduler().getTask(taskId);
         RepositoryUtils.doVoidInvoke(() -> getInitializedScheduler().descheduleWithStatus(taskId),
                 null);
-
+        if (task != null) {
+            unguardRunnable(CronTaskInfoBuildUtils.getRunnable(task));
+        }
+        removeTaskStatistics(taskId);
+        incrementModificationCount();
     }
 
     @Override
@@ -365,7 +453,16 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
         if (isStarted()) {
             throw new IllegalStateException("Scheduler has been started, please stop it first!");
         }
-        getInitializedScheduler().start();
+        Scheduler scheduler = getInitializedScheduler();
+        if (ownScheduler) {
+            // Hutool shuts its thread executor down on each stop, a new one is given to each start.
+            ExecutorService delegate = executorService != null && !executorService.isShutdown() ? executorService
+                    : ExecutorBuilder.create().useSynchronousQueue().setThreadFactory(ThreadFactoryBuilder.create()
+                    .setNamePrefix("hutool-cron-").setDaemon(daemon).build()).build();
+            scheduler.setThreadExecutor(new SpreadThreadExecutor(delegate, daemon));
+        }
+        scheduler.start();
+        startAsyncListenerDispatch();
     }
 
     /**
@@ -377,6 +474,7 @@ public class HutoolCronTaskRepository extends AbstractCronTaskRepository {
             throw new IllegalStateException("Scheduler not started !");
         }
         getInitializedScheduler().stop(ifStopClearTasks);
+        stopAsyncListenerDispatch();
     }
 
     /**
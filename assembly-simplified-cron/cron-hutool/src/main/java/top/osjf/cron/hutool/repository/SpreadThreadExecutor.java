@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.hutool.repository;
+
+import cn.hutool.cron.Scheduler;
+import cn.hutool.cron.TaskExecutor;
+import cn.hutool.cron.task.CronTask;
+import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.repository.SpreadRunnable;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The thread executor of the hutool {@link Scheduler}, handing the launch of a task
+ * spread by a {@link SpreadRunnable} over to the pool after the offset of the fire,
+ * on a timer thread, rather than parking a thread of the pool during the offset. The
+ * launches of the other tasks are handed over at once.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+class SpreadThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService executorService;
+
+    private final ScheduledThreadPoolExecutor timer;
+
+    /**
+     * Creates a new {@code SpreadThreadExecutor} handing the launches over to the given pool.
+     * @param executorService the pool executing the launches.
+     * @param daemon          whether the timer thread is a daemon thread.
+     */
+    SpreadThreadExecutor(ExecutorService executorService, boolean daemon) {
+        this.executorService = executorService;
+        this.timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "hutool-cron-spread");
+            thread.setDaemon(daemon);
+            return thread;
+        });
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        long offset = 0;
+        if (command instanceof TaskExecutor) {
+            CronTask task = ((TaskExecutor) command).getCronTask();
+            offset = SpreadRunnable.nextOffset(CronTaskInfoBuildUtils.getRunnable(task), task.getId());
+        }
+        if (offset > 0) {
+            timer.schedule(() -> executorService.execute(command), offset, TimeUnit.MILLISECONDS);
+        } else {
+            executorService.execute(command);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        // The launches not handed over yet are dropped, as those of a stopped scheduler.
+        timer.shutdownNow();
+        executorService.shutdown();
+    }
+
+    @NotNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        timer.shutdownNow();
+        return executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return timer.isTerminated() && executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        return timer.awaitTermination(timeout, unit)
+                && executorService.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+}
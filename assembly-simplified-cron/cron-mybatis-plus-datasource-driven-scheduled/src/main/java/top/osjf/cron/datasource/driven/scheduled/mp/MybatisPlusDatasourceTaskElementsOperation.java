@@ -20,8 +20,11 @@ package top.osjf.cron.datasource.driven.scheduled.mp;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.service.IService;
 import top.osjf.cron.core.lang.Nullable;
+import top.osjf.cron.datasource.driven.scheduled.Constants;
 import top.osjf.cron.datasource.driven.scheduled.DatasourceTaskElementsOperation;
+import top.osjf.cron.datasource.driven.scheduled.IncrementalDatasourceTaskElementsOperation;
 import top.osjf.cron.datasource.driven.scheduled.TaskElement;
+import top.osjf.cron.datasource.driven.scheduled.WatermarkUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -50,15 +53,22 @@ import java.util.List;
  *   <li>Runtime Checks: {@link #getRuntimeNeedCheckDatasourceTaskElements()} implements optimized
  *       database query for update detection</li>
  *   <li>Timely update, maintenance, and callback after data changes.</li>
+ *   <li>Incremental Checks: once {@link #setIncrementalEnabled(boolean) enabled}, runtime checks
+ *       only query rows whose {@link Constants#VERSION_COLUMN} is above the last watermark</li>
  * </ul>
  *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.4
  */
-public class MybatisPlusDatasourceTaskElementsOperation implements DatasourceTaskElementsOperation {
+public class MybatisPlusDatasourceTaskElementsOperation implements IncrementalDatasourceTaskElementsOperation {
 
     private final IService<DatabaseTaskElement> taskElementService;
 
+    private boolean incrementalEnabled;
+
+    /** The latest value read from the version column, to bind watermarks in its type. */
+    private volatile Object latestVersion;
+
     /**
      * Constructs a new {@code MybatisPlusDatasourceTaskElementsOperation}let {@code IService<DatabaseTaskElement>}
      * as its task information storage.
@@ -103,6 +113,41 @@ public class MybatisPlusDatasourceTaskElementsOperation implements DatasourceTas
         updateBatchElements(runtimeCheckedDatasourceTaskElement);
     }
 
+    @Override
+    public boolean isIncrementalEnabled() {
+        return incrementalEnabled;
+    }
+
+    /**
+     * Set whether runtime checks are incremental, which requires the {@link Constants#VERSION_COLUMN}
+     * column in the task table.
+     *
+     * @param incrementalEnabled {@code true} to enable incremental checks.
+     * @since 3.0.1
+     */
+    public void setIncrementalEnabled(boolean incrementalEnabled) {
+        this.incrementalEnabled = incrementalEnabled;
+    }
+
+    @Override
+    public long getLatestWatermark() {
+        List<Object> versions = taskElementService.getBaseMapper().selectObjs(Wrappers.<DatabaseTaskElement>query()
+                .select("MAX(" + Constants.VERSION_COLUMN + ")"));
+        Object version = versions.isEmpty() ? null : versions.get(0);
+        if (version != null) {
+            latestVersion = version;
+        }
+        return WatermarkUtils.toWatermark(version);
+    }
+
+    @Override
+    public List<TaskElement> getChangedDatasourceTaskElements(long fromWatermark, long toWatermark) {
+        Object sample = latestVersion;
+        return Collections.unmodifiableList(taskElementService.query()
+                .gt(Constants.VERSION_COLUMN, WatermarkUtils.toColumnValue(fromWatermark, sample))
+                .le(Constants.VERSION_COLUMN, WatermarkUtils.toColumnValue(toWatermark, sample)).list());
+    }
+
     @Override
     @Nullable
     public TaskElement getElementById(String id) {
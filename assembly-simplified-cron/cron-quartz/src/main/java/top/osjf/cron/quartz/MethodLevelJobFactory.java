@@ -34,7 +34,8 @@ import java.util.concurrent.ConcurrentMap;
  * <p>The production factory requires that the {@link JobDetail} attribute {@link JobKey}
  * be set when using the {@link Scheduler#scheduleJob} API, with the following setting rules:
  * <ul>
- * <li>{@link JobKey#getName()} set as the name of the execution method.</li>
+ * <li>{@link JobKey#getName()} set as the name of the execution method, followed by its
+ * parameter types if any (see {@link QuartzUtils#getJobName}).</li>
  * <li>{@link JobKey#getGroup()} set as fully qualified name of the class defining
  * the execution method.</li>
  * </ul>
@@ -119,7 +120,7 @@ public class MethodLevelJobFactory implements JobFactory {
         return JOB_CACHE.computeIfAbsent(hopeJobIdentity, s -> {
             Class<?> declaringClass = ReflectUtils.forName(declaringClassName);
             Object target = ReflectUtils.newInstance(declaringClass);
-            Method method = ReflectUtils.getMethod(declaringClass, methodName);
+            Method method = QuartzUtils.resolveMethod(declaringClass, methodName);
             return new MethodLevelJob(target, method);
         });
     }
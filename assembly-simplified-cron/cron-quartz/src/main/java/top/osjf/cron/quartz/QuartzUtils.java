@@ -24,6 +24,8 @@ import top.osjf.cron.core.util.ReflectUtils;
 import top.osjf.cron.core.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Coordinate Quartz's easy-to-use tool class and provide relevant
@@ -34,6 +36,16 @@ import java.lang.reflect.Method;
  */
 public abstract class QuartzUtils {
 
+    /** The primitive types by name, which {@link Class#forName} does not resolve. */
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+    static {
+        for (Class<?> primitiveType : new Class<?>[]{boolean.class, byte.class, char.class, short.class,
+                int.class, long.class, float.class, double.class}) {
+            PRIMITIVE_TYPES.put(primitiveType.getName(), primitiveType);
+        }
+    }
+
     /**
      * This is a rule method check that specifies the framework setting {@link JobDetail#getJobClass()}.
      *
@@ -63,7 +75,7 @@ public abstract class QuartzUtils {
      * .</li>
      * <li>{@link JobKey#getName()} must be the name of the method that defines the class dependency,
      * i.e. {@link Method#getName()}, and is a method that can be found by the current defined class.
-     * Please refer to {@link ReflectUtils#getMethod} for specific search rules.</li>
+     * Please refer to {@link #resolveMethod} for specific search rules.</li>
      * </ul>
      *
      * @param key the setting {@link JobKey}.
@@ -93,7 +105,7 @@ public abstract class QuartzUtils {
                             "<org.quartz.JobKey> is the fully qualified name of the executing class.");
         }
         try {
-            ReflectUtils.getMethod(declaringClass, methodName);
+            resolveMethod(declaringClass, methodName);
         } catch (Exception e) {
             throw new IllegalStateException
                     ("The input requirement for the <org.quartz.JobKey#name> attribute of " +
@@ -113,6 +125,80 @@ public abstract class QuartzUtils {
         return JobBuilder.newJob(MethodLevelJob.class).withIdentity(methodName, declaringClassName).build();
     }
 
+    /**
+     * Create a standard {@link JobDetail} instance of the given method, identified by the
+     * {@link #getJobName job name} of the method and the name of its declaring class.
+     *
+     * @param method the method executed by the job.
+     * @return {@link JobDetail} instance after standard build.
+     * @since 3.0.1
+     */
+    public static JobDetail buildStandardJobDetail(Method method) {
+        return buildStandardJobDetail(getJobName(method), method.getDeclaringClass().getName());
+    }
+
+    /**
+     * Return the name of the {@link JobKey} of the given method, unique among the methods of
+     * its declaring class: the name of the method when it has no parameter, followed by its
+     * parameter types otherwise, such as {@code doTask(java.lang.String,int)}, so that
+     * overloaded methods do not collide.
+     *
+     * @param method the method executed by the job.
+     * @return the name of the {@link JobKey} of the method.
+     * @since 3.0.1
+     */
+    public static String getJobName(Method method) {
+        if (method.getParameterCount() == 0) {
+            return method.getName();
+        }
+        StringBuilder builder = new StringBuilder(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(parameterTypes[i].getName());
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Resolve the method of the given class with the given {@link JobKey} name, the reverse of
+     * {@link #getJobName(Method)}.
+     *
+     * <p>A name with parameter types resolves the public method with these parameter types.
+     * A plain method name resolves the public method without parameter of this name if any,
+     * so that it is not ambiguous with its overloads, and the unique method of this name
+     * according to {@link ReflectUtils#getMethod} otherwise.
+     *
+     * @param clazz   the class declaring the method.
+     * @param jobName the name of the {@link JobKey}.
+     * @return the resolved method.
+     * @throws IllegalStateException if the method cannot be found.
+     * @since 3.0.1
+     */
+    public static Method resolveMethod(Class<?> clazz, String jobName) {
+        int parametersStart = jobName.indexOf('(');
+        if (parametersStart < 0) {
+            try {
+                return clazz.getMethod(jobName);
+            } catch (NoSuchMethodException ex) {
+                return ReflectUtils.getMethod(clazz, jobName);
+            }
+        }
+        if (!jobName.endsWith(")")) {
+            throw new IllegalStateException("Malformed job name: " + jobName);
+        }
+        String parameters = jobName.substring(parametersStart + 1, jobName.length() - 1);
+        String[] parameterTypeNames = parameters.isEmpty() ? new String[0] : parameters.split(",");
+        Class<?>[] parameterTypes = new Class<?>[parameterTypeNames.length];
+        for (int i = 0; i < parameterTypeNames.length; i++) {
+            Class<?> primitiveType = PRIMITIVE_TYPES.get(parameterTypeNames[i]);
+            parameterTypes[i] = primitiveType != null ? primitiveType : ReflectUtils.forName(parameterTypeNames[i]);
+        }
+        return ReflectUtils.getMethod(clazz, jobName.substring(0, parametersStart), parameterTypes);
+    }
+
     /**
      * Returns a unique identity string formatted according to {@link JobKey}.
      *
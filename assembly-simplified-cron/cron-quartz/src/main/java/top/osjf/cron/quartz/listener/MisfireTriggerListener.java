@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.quartz.listener;
+
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.listeners.TriggerListenerSupport;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Quartz {@link org.quartz.TriggerListener} counting the misfires of each trigger,
+ * reported by the job store each time it applies the misfire instruction of a trigger
+ * fired later than its misfire threshold.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class MisfireTriggerListener extends TriggerListenerSupport {
+
+    private final Map<TriggerKey, AtomicLong> misfireCounts = new ConcurrentHashMap<>(16);
+
+    @Override
+    public String getName() {
+        return this.getClass().getName();
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        misfireCounts.computeIfAbsent(trigger.getKey(), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Return the number of misfires of the given trigger.
+     *
+     * @param triggerKey the key of the trigger.
+     * @return the number of misfires of the trigger.
+     */
+    public long getMisfireCount(TriggerKey triggerKey) {
+        AtomicLong count = misfireCounts.get(triggerKey);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Forget the misfires of the given trigger, once removed.
+     *
+     * @param triggerKey the key of the trigger.
+     */
+    public void clear(TriggerKey triggerKey) {
+        misfireCounts.remove(triggerKey);
+    }
+}
@@ -52,4 +52,17 @@ public class QuartzListenerContent implements ListenerContext {
     public Object getSourceContext() {
         return context;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>Computed from the scheduled and actual fire times of the Quartz trigger.
+     * @since 3.0.1
+     */
+    @Override
+    public long getFireLateness() {
+        if (context.getScheduledFireTime() == null || context.getFireTime() == null) {
+            return -1;
+        }
+        return Math.max(context.getFireTime().getTime() - context.getScheduledFireTime().getTime(), 0);
+    }
 }
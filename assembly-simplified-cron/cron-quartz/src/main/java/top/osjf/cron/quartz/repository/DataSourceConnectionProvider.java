@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.quartz.repository;
+
+import org.quartz.utils.ConnectionProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A Quartz {@link ConnectionProvider} obtaining the connections of a JDBC job store from
+ * a given {@link DataSource}, whose lifecycle is managed by its owner.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+class DataSourceConnectionProvider implements ConnectionProvider {
+
+    private final DataSource dataSource;
+
+    /**
+     * Creates a new {@code DataSourceConnectionProvider} on the given {@link DataSource}.
+     *
+     * @param dataSource the {@link DataSource} of the connections.
+     */
+    DataSourceConnectionProvider(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void shutdown() {
+        // The data source is closed by its owner.
+    }
+
+    @Override
+    public void initialize() {
+    }
+}
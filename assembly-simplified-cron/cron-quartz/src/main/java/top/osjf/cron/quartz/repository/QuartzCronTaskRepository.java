@@ -20,7 +20,10 @@ import org.quartz.*;
 import org.quartz.impl.StdScheduler;
 import org.quartz.impl.StdSchedulerFactory;
 import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.impl.jdbcjobstore.JobStoreTX;
+import org.quartz.impl.jdbcjobstore.StdJDBCDelegate;
 import org.quartz.simpl.SimpleThreadPool;
+import org.quartz.utils.DBConnectionManager;
 import top.osjf.cron.core.exception.CronInternalException;
 import top.osjf.cron.core.exception.UnsupportedTaskBodyException;
 import top.osjf.cron.core.lang.NotNull;
@@ -34,11 +37,15 @@ import top.osjf.cron.quartz.MethodLevelJob;
 import top.osjf.cron.quartz.MethodLevelJobFactory;
 import top.osjf.cron.quartz.QuartzUtils;
 import top.osjf.cron.quartz.listener.JobListenerImpl;
+import top.osjf.cron.quartz.listener.MisfireTriggerListener;
 
+import javax.sql.DataSource;
 import java.lang.reflect.Method;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -48,6 +55,26 @@ import java.util.stream.Collectors;
  * <p>This implementation class includes the construction and lifecycle management
  * of the quartz build scheduler, as well as operations related to tasks and listeners.
  *
+ * <p>Since version 3.0.1, the {@link MisfirePolicy} of the repository is mapped onto the
+ * misfire instruction of the cron triggers, {@link MisfirePolicy#FIRE_ALL_MISSED} firing
+ * all the missed fires as Quartz does not limit them, and its misfire threshold onto the
+ * {@code org.quartz.jobStore.misfireThreshold} property when not given. The misfires
+ * reported by Quartz are counted in {@link CronTaskInfo#getMisfireCount()} with
+ * {@link MisfirePolicy#SKIP_TO_NEXT}, in {@link CronTaskInfo#getRecoveredMisfireCount()}
+ * otherwise.
+ *
+ * <p>Since version 3.0.1, the size of the default thread pool and the batch acquisition of
+ * triggers can be tuned (see {@link #setThreadCount}, {@link #setMaxBatchSize} and
+ * {@link #setBatchTimeWindow}), and the jobs can be stored in a database shared by a cluster
+ * (see {@link #setDataSource}). Jobs are keyed by their method including its parameter
+ * types (see {@link QuartzUtils#getJobName}), so that overloaded methods do not collide.
+ *
+ * <p>Since version 3.0.1, the spread of a task (see {@link SpreadRunnable}) delays its cron
+ * trigger by a fixed offset (see {@link SpreadCronTriggerImpl}), drawn when the task is
+ * registered or updated, so that a {@link SpreadPolicy#RANDOM} offset stays the same for
+ * the following fires. The jobs registered by their {@link JobDetailTaskBody} take the
+ * spread of the repository, hashed on their id by {@link SpreadPolicy#HASH}.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.0
  */
@@ -63,6 +90,16 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
      */
     private static final int DEFAULT_THREAD_COUNT = 10;
 
+    /**
+     * The clustered job store property name.
+     */
+    private static final String PROP_JOB_STORE_IS_CLUSTERED = "org.quartz.jobStore.isClustered";
+
+    /**
+     * The misfire threshold property name.
+     */
+    public static final String PROP_MISFIRE_THRESHOLD = "org.quartz.jobStore.misfireThreshold";
+
     /**
      * The factory class property name.
      */
@@ -78,6 +115,13 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
      */
     public static final boolean DEFAULT_IF_STOP_WAIT_JOB_COMPLETE_VALUE = false;
 
+    /**
+     * The property name of whether to store the jobs in the {@link DataSource} of the
+     * application, for the integrations providing one to {@link #setDataSource}.
+     * @since 3.0.1
+     */
+    public static final String PROP_NAME_OF_USE_DATA_SOURCE = "quartz.customize.useDataSource";
+
     private String schedulerName = Scheduler.class.getName() + UUID.randomUUID();
 
     private Properties quartzProperties = System.getProperties();
@@ -102,6 +146,14 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
 
     private boolean waitForJobsToCompleteWhenStop;
 
+    private Integer threadCount;
+
+    private Integer maxBatchSize;
+
+    private Long batchTimeWindow;
+
+    private DataSource dataSource;
+
     private boolean setSchedulerName;
     private boolean setSchedulerFactoryClass;
     private boolean setWaitForJobsToCompleteWhenStop;
@@ -112,6 +164,17 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
      */
     private final JobListenerImpl jobListener = new JobListenerImpl();
 
+    /**
+     * @since 3.0.1
+     */
+    private final MisfireTriggerListener misfireTriggerListener = new MisfireTriggerListener();
+
+    /**
+     * The spread tasks by their ids, to draw their offsets again on update.
+     * @since 3.0.1
+     */
+    private final Map<String, Runnable> spreadRunnables = new ConcurrentHashMap<>();
+
     /**
      * @since 1.0.3
      */
@@ -230,6 +293,74 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
         setWaitForJobsToCompleteWhenStop = true;
     }
 
+    /**
+     * Set the number of threads of the default {@link SimpleThreadPool}, as an alternative to
+     * the {@code org.quartz.threadPool.threadCount} property. Ignored when a
+     * {@link #setTaskExecutor task executor} or another thread pool class is given.
+     *
+     * @param threadCount the number of threads executing the jobs.
+     * @throws IllegalArgumentException if the given number is not positive.
+     * @since 3.0.1
+     */
+    public void setThreadCount(int threadCount) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("threadCount must be positive");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Set the maximum number of triggers the scheduler acquires and fires at once, as an
+     * alternative to the {@code org.quartz.scheduler.batchTriggerAcquisitionMaxCount} property.
+     * Quartz acquires one trigger at a time by default; a larger batch reduces the round
+     * trips to the job store when many triggers fire together, at most as many as there are
+     * available threads.
+     *
+     * @param maxBatchSize the maximum number of triggers acquired at once.
+     * @throws IllegalArgumentException if the given number is not positive.
+     * @since 3.0.1
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Set the time window in milliseconds within which triggers firing ahead of the next
+     * one are acquired in the same batch, as an alternative to the
+     * {@code org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow} property.
+     *
+     * @param batchTimeWindow the time window in milliseconds of a batch acquisition.
+     * @throws IllegalArgumentException if the given window is negative.
+     * @since 3.0.1
+     */
+    public void setBatchTimeWindow(long batchTimeWindow) {
+        if (batchTimeWindow < 0) {
+            throw new IllegalArgumentException("batchTimeWindow must not be negative");
+        }
+        this.batchTimeWindow = batchTimeWindow;
+    }
+
+    /**
+     * Set the {@link DataSource} to store the jobs in with a {@link JobStoreTX}, instead of
+     * the memory, unless another job store class is given by the
+     * {@code org.quartz.jobStore.class} property.
+     *
+     * <p>The tables of Quartz must exist in the database, see the scripts under
+     * {@code org/quartz/impl/jdbcjobstore} of the Quartz distribution. The scheduler is
+     * clustered when the {@code org.quartz.jobStore.isClustered} property is {@code true},
+     * the instance ID of each node being generated unless given. The jobs stored already are
+     * replaced on registration.
+     *
+     * @param dataSource the {@link DataSource} of the job store.
+     * @since 3.0.1
+     */
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
     /**
      * Initialize the scheduled task manager based on the provided attributes.
      *
@@ -250,6 +381,9 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
             } else {
                 SchedulerFactory schedulerFactory = ReflectUtils.newInstance(schedulerFactoryClass);
                 if (schedulerFactory instanceof StdSchedulerFactory) {
+                    // Do not write the following properties to the system properties.
+                    Properties quartzProperties = new Properties();
+                    quartzProperties.putAll(this.quartzProperties);
                     if (!quartzProperties.containsKey(StdSchedulerFactory.PROP_THREAD_POOL_CLASS)) {
                         if (this.taskExecutor != null) {
                             // Set the thread pool instance for proxy task execution and assign values
@@ -262,12 +396,28 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
                             // its default configuration when explicitly given properties.
                             quartzProperties.setProperty(StdSchedulerFactory.PROP_THREAD_POOL_CLASS,
                                     SimpleThreadPool.class.getName());
-                            quartzProperties.setProperty(PROP_THREAD_COUNT, Integer.toString(DEFAULT_THREAD_COUNT));
+                            quartzProperties.putIfAbsent(PROP_THREAD_COUNT, Integer.toString(DEFAULT_THREAD_COUNT));
                         }
                     }
+                    if (threadCount != null && SimpleThreadPool.class.getName()
+                            .equals(quartzProperties.getProperty(StdSchedulerFactory.PROP_THREAD_POOL_CLASS))) {
+                        quartzProperties.setProperty(PROP_THREAD_COUNT, Integer.toString(threadCount));
+                    }
+                    if (maxBatchSize != null) {
+                        quartzProperties.setProperty(StdSchedulerFactory.PROP_SCHED_MAX_BATCH_SIZE,
+                                Integer.toString(maxBatchSize));
+                    }
+                    if (batchTimeWindow != null) {
+                        quartzProperties.setProperty(StdSchedulerFactory.PROP_SCHED_BATCH_TIME_WINDOW,
+                                Long.toString(batchTimeWindow));
+                    }
+                    if (dataSource != null) {
+                        applyDataSource(quartzProperties);
+                    }
                     // Set the name of the production task manager for the factory instance created
                     // in this class and specify it for retrieval later.
                     quartzProperties.putIfAbsent(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, schedulerName);
+                    quartzProperties.putIfAbsent(PROP_MISFIRE_THRESHOLD, Long.toString(getMisfireThreshold()));
                     ((StdSchedulerFactory) schedulerFactory).initialize(quartzProperties);
                     schedulerFactory.getScheduler();
                     scheduler = schedulerFactory.getScheduler(schedulerName);
@@ -280,6 +430,29 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
         }
         listenerManager = scheduler.getListenerManager();
         listenerManager.addJobListener(jobListener);
+        listenerManager.addTriggerListener(misfireTriggerListener);
+    }
+
+    /**
+     * Configure the JDBC job store on {@link #dataSource}, registering it to Quartz under a
+     * name of its own.
+     *
+     * @param quartzProperties the properties of the scheduler factory.
+     */
+    private void applyDataSource(Properties quartzProperties) {
+        if (!quartzProperties.containsKey(StdSchedulerFactory.PROP_JOB_STORE_CLASS)) {
+            quartzProperties.setProperty(StdSchedulerFactory.PROP_JOB_STORE_CLASS, JobStoreTX.class.getName());
+        }
+        String dataSourceName = "dataSource-" + schedulerName;
+        DBConnectionManager.getInstance()
+                .addConnectionProvider(dataSourceName, new DataSourceConnectionProvider(dataSource));
+        quartzProperties.putIfAbsent(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".dataSource", dataSourceName);
+        quartzProperties.putIfAbsent(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".driverDelegateClass",
+                StdJDBCDelegate.class.getName());
+        if (Boolean.parseBoolean(quartzProperties.getProperty(PROP_JOB_STORE_IS_CLUSTERED))) {
+            quartzProperties.putIfAbsent(StdSchedulerFactory.PROP_SCHED_INSTANCE_ID,
+                    StdSchedulerFactory.AUTO_GENERATE_INSTANCE_ID);
+        }
     }
 
     /**
@@ -287,21 +460,20 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
      */
     @Override
     public String register(@NotNull String expression, @NotNull Runnable runnable) throws CronInternalException {
+        // The jobs run the method of the task, its spread delays their trigger.
+        Runnable task = RepositoryUtils.unwrapRunnable(runnable);
         Method method = null;
-        if (runnable instanceof CronMethodRunnable) {
-            CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) runnable;
+        if (task instanceof CronMethodRunnable) {
+            CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) task;
             method = cronMethodRunnable.getMethod();
-        } else if (runnable instanceof MethodProviderRunnable) {
-            method = ((MethodProviderRunnable) runnable).getMethod();
+        } else if (task instanceof MethodProviderRunnable) {
+            method = ((MethodProviderRunnable) task).getMethod();
         }
         if (method == null) {
-            throw new CronInternalException("Only supported resolve " + runnable.getClass());
+            throw new CronInternalException("Only supported resolve " + task.getClass());
         }
-        String name = method.getName();
-        String group = method.getDeclaringClass().getName();
-        JobKey jobKey = new JobKey(name, group);
-        JobDetail jobDetail = QuartzUtils.buildStandardJobDetail(name, group);
-        return doRegister(expression, jobKey, jobDetail);
+        JobDetail jobDetail = QuartzUtils.buildStandardJobDetail(method);
+        return doRegister(expression, jobDetail.getKey(), jobDetail, runnable);
     }
 
     /**
@@ -334,7 +506,8 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
         QuartzUtils.checkJobClassRules(jobDetail.getJobClass());
         JobKey key = jobDetail.getKey();
         QuartzUtils.checkJobKeyRules(key);
-        return doRegister(expression, key, jobDetail);
+        // No task to name the spread, hashed on the id of the job.
+        return doRegister(expression, key, jobDetail, () -> { });
     }
 
     /**
@@ -342,21 +515,35 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
      */
     @Override
     public String register(@NotNull CronTask task) {
-        Method method = task.getRunnable().getMethod();
-        return register(task.getExpression(), new JobDetailTaskBody(
-                QuartzUtils.buildStandardJobDetail(method.getName(), method.getDeclaringClass().getName())));
+        return register(task.getExpression(), task.getSpreadRunnable());
     }
 
-    private String doRegister(String expression, JobKey key, JobDetail jobDetail) {
-        return RepositoryUtils.doRegister(() -> {
+    private String doRegister(String expression, JobKey key, JobDetail jobDetail, Runnable runnable) {
+        registerStatisticsListener();
+        String taskId = QuartzUtils.getIdBySerializeJobKey(key);
+        Runnable spread = spreadRunnable(expression, runnable);
+        String id = RepositoryUtils.doRegister(() -> {
             TriggerKey triggerKey = new TriggerKey(key.getName(), key.getGroup());
             TriggerBuilder<CronTrigger> triggerBuilder = TriggerBuilder.newTrigger()
                     .withIdentity(triggerKey)
                     .startNow()
-                    .withSchedule(CronScheduleBuilder.cronSchedule(expression));
-            getInitializedScheduler().scheduleJob(jobDetail, triggerBuilder.build());
-            return QuartzUtils.getIdBySerializeJobKey(key);
+                    .withSchedule(cronSchedule(expression, SpreadRunnable.nextOffset(spread, taskId)));
+            Scheduler scheduler = getInitializedScheduler();
+            if (scheduler.getMetaData().isJobStoreSupportsPersistence()) {
+                // Stored by a previous run or another node of the cluster.
+                scheduler.scheduleJob(jobDetail, Collections.singleton(triggerBuilder.build()), true);
+            } else {
+                scheduler.scheduleJob(jobDetail, triggerBuilder.build());
+            }
+            return taskId;
         }, ParseException.class);
+        if (RepositoryUtils.findDelegate(spread, SpreadRunnable.class) != null) {
+            spreadRunnables.put(id, spread);
+        } else {
+            spreadRunnables.remove(id);
+        }
+        incrementModificationCount();
+        return id;
     }
 
     @Override
@@ -418,8 +605,8 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
         String group = jobKey.getGroup();
         try {
             Set<JobKey> jobKeys = getInitializedScheduler().getJobKeys(GroupMatcher.groupEquals(group));
-            Trigger trigger = getInitializedScheduler().getTrigger(new TriggerKey(jobKey.getName(),
-                    jobKey.getGroup()));
+            TriggerKey triggerKey = new TriggerKey(jobKey.getName(), jobKey.getGroup());
+            Trigger trigger = getInitializedScheduler().getTrigger(triggerKey);
             if (!jobKeys.contains(jobKey)) {
                 return null;
             }
@@ -435,7 +622,14 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
                 method = cronMethodRunnable.getMethod();
             }
             String id = QuartzUtils.getIdBySerializeJobKey(jobKey);
-            return customizeCronTaskInfo(new CronTaskInfo(id, expression, runnable, target, method));
+            CronTaskInfo cronTaskInfo = new CronTaskInfo(id, expression, runnable, target, method);
+            long misfireCount = misfireTriggerListener.getMisfireCount(triggerKey);
+            if (getMisfirePolicy() == MisfirePolicy.SKIP_TO_NEXT) {
+                cronTaskInfo.setMisfireCount(misfireCount);
+            } else {
+                cronTaskInfo.setRecoveredMisfireCount(misfireCount);
+            }
+            return customizeCronTaskInfo(cronTaskInfo);
         }
         catch (Exception e) {
             return null;
@@ -449,12 +643,60 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
     public void update(@NotNull String id, @NotNull String newExpression) {
         JobKey jobKey = QuartzUtils.getJobKeyByDeSerializeId(id);
         TriggerKey triggerKey = new TriggerKey(jobKey.getName(), jobKey.getGroup());
+        Runnable spread = spreadRunnables.get(id);
+        long offset = spread != null ? SpreadRunnable.nextOffset(spreadRunnable(newExpression, spread), id) : 0;
         RepositoryUtils.doVoidInvoke(() -> getInitializedScheduler().rescheduleJob(triggerKey,
                 TriggerBuilder.newTrigger()
                 .withIdentity(triggerKey)
                 .startNow()
-                .withSchedule(CronScheduleBuilder.cronSchedule(newExpression))
+                .withSchedule(cronSchedule(newExpression, offset))
                 .build()), ParseException.class);
+        incrementModificationCount();
+    }
+
+    /**
+     * Build the schedule of the given cron expression with the misfire instruction of
+     * the {@link MisfirePolicy} of this repository, its fires delayed by the given offset.
+     *
+     * @param expression the cron expression.
+     * @param offset     the spread offset of the fires, in milliseconds.
+     * @return the schedule of the cron expression.
+     * @since 3.0.1
+     */
+    private ScheduleBuilder<CronTrigger> cronSchedule(String expression, long offset) {
+        CronScheduleBuilder builder = CronScheduleBuilder.cronSchedule(expression);
+        switch (getMisfirePolicy()) {
+            case FIRE_ALL_MISSED:
+                builder = builder.withMisfireHandlingInstructionIgnoreMisfires();
+                break;
+            case SKIP_TO_NEXT:
+                builder = builder.withMisfireHandlingInstructionDoNothing();
+                break;
+            default:
+                builder = builder.withMisfireHandlingInstructionFireAndProceed();
+        }
+        return SpreadCronTriggerImpl.schedule(builder, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The fire times bound the spread offsets by the period of the expression, the
+     * misfires being handled by Quartz.
+     */
+    @Override
+    @Nullable
+    protected LongUnaryOperator getNextFireTimeFunction(String expression) {
+        CronExpression cronExpression;
+        try {
+            cronExpression = new CronExpression(expression);
+        } catch (ParseException e) {
+            // Rejected by the trigger on registration.
+            return null;
+        }
+        return time -> {
+            Date next = cronExpression.getTimeAfter(new Date(time));
+            return next != null ? next.getTime() : -1;
+        };
     }
 
     /**
@@ -462,9 +704,12 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
      */
     @Override
     public void remove(@NotNull String id) {
-        RepositoryUtils.doVoidInvoke(() ->
-                        getInitializedScheduler().deleteJob(QuartzUtils.getJobKeyByDeSerializeId(id)),
-                null);
+        JobKey jobKey = QuartzUtils.getJobKeyByDeSerializeId(id);
+        RepositoryUtils.doVoidInvoke(() -> getInitializedScheduler().deleteJob(jobKey), null);
+        misfireTriggerListener.clear(new TriggerKey(jobKey.getName(), jobKey.getGroup()));
+        spreadRunnables.remove(id);
+        removeTaskStatistics(id);
+        incrementModificationCount();
     }
 
     @Override
@@ -501,6 +746,7 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
         } catch (SchedulerException e) {
             throw new IllegalStateException(e);
         }
+        startAsyncListenerDispatch();
     }
 
     /**
@@ -513,6 +759,7 @@ public class QuartzCronTaskRepository extends AbstractCronTaskRepository impleme
         } catch (SchedulerException e) {
             throw new IllegalStateException(e);
         }
+        stopAsyncListenerDispatch();
     }
 
     /**
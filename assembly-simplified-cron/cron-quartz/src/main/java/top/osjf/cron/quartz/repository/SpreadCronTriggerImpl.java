@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.quartz.repository;
+
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.ScheduleBuilder;
+import org.quartz.impl.triggers.CronTriggerImpl;
+import org.quartz.spi.MutableTrigger;
+import top.osjf.cron.core.repository.SpreadRunnable;
+
+import java.text.ParseException;
+import java.util.Date;
+
+/**
+ * A cron trigger whose fire times are those of its cron expression delayed by a fixed
+ * offset, the Quartz counterpart of the {@link SpreadRunnable} delay of the fires.
+ *
+ * <p>The offset is part of the trigger, so that Quartz computes its misfires against the
+ * delayed fire times and a JDBC job store keeps it: the trigger reports
+ * {@link #hasAdditionalProperties() additional properties} to be stored as a blob rather
+ * than as a plain cron trigger, which would lose the offset.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class SpreadCronTriggerImpl extends CronTriggerImpl {
+
+    private static final long serialVersionUID = 7012584463192835417L;
+
+    /** The delay of the fires, in milliseconds. */
+    private final long offset;
+
+    /**
+     * Creates a {@code SpreadCronTriggerImpl} delaying its fires by the given offset.
+     * @param offset the delay of the fires, in milliseconds.
+     */
+    public SpreadCronTriggerImpl(long offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Spread offset must not be negative");
+        }
+        this.offset = offset;
+    }
+
+    /**
+     * @return the delay of the fires, in milliseconds.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    protected Date getTimeAfter(Date afterTime) {
+        Date time = super.getTimeAfter(new Date(afterTime.getTime() - offset));
+        return time != null ? new Date(time.getTime() + offset) : null;
+    }
+
+    @Override
+    public boolean hasAdditionalProperties() {
+        return true;
+    }
+
+    @Override
+    public ScheduleBuilder<CronTrigger> getScheduleBuilder() {
+        return schedule((CronScheduleBuilder) super.getScheduleBuilder(), offset);
+    }
+
+    /**
+     * Return a schedule building the triggers of the given cron schedule, delayed by the
+     * given offset when positive.
+     * @param cronSchedule the cron schedule.
+     * @param offset       the delay of the fires, in milliseconds.
+     * @return the schedule of the delayed triggers, or the given one.
+     */
+    public static ScheduleBuilder<CronTrigger> schedule(CronScheduleBuilder cronSchedule, long offset) {
+        return offset > 0 ? new SpreadCronScheduleBuilder(cronSchedule, offset) : cronSchedule;
+    }
+
+    /**
+     * The schedule copying the triggers of a cron schedule into delayed triggers.
+     */
+    private static class SpreadCronScheduleBuilder extends ScheduleBuilder<CronTrigger> {
+
+        private final CronScheduleBuilder cronSchedule;
+
+        private final long offset;
+
+        SpreadCronScheduleBuilder(CronScheduleBuilder cronSchedule, long offset) {
+            this.cronSchedule = cronSchedule;
+            this.offset = offset;
+        }
+
+        @Override
+        protected MutableTrigger build() {
+            CronTriggerImpl cronTrigger = (CronTriggerImpl) cronSchedule.build();
+            SpreadCronTriggerImpl trigger = new SpreadCronTriggerImpl(offset);
+            try {
+                trigger.setCronExpression(cronTrigger.getCronExpression());
+            } catch (ParseException e) {
+                // Already parsed by the cron schedule.
+                throw new IllegalStateException(e);
+            }
+            trigger.setTimeZone(cronTrigger.getTimeZone());
+            trigger.setMisfireInstruction(cronTrigger.getMisfireInstruction());
+            return trigger;
+        }
+    }
+}
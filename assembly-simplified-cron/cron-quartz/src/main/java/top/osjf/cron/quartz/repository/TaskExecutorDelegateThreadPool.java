@@ -23,6 +23,7 @@ import org.quartz.spi.ThreadPool;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * The {@code TaskExecutorDelegateThreadPool} class implements Quartz's ThreadPool
@@ -62,10 +63,18 @@ public class TaskExecutorDelegateThreadPool implements ThreadPool {
      * the number of available threads is greater than 0, and all execution issues
      * are handled by the {@link #runInThread} method.
      *
+     * <p>Since 3.0.1, the idle threads of a {@link ThreadPoolExecutor} are reported,
+     * so that Quartz can acquire a batch of triggers up to its
+     * {@code org.quartz.scheduler.batchTriggerAcquisitionMaxCount}.
+     *
      * @return {@inheritDoc}
      */
     @Override
     public int blockForAvailableThreads() {
+        if (taskExecutor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) taskExecutor;
+            return Math.max(1, threadPoolExecutor.getMaximumPoolSize() - threadPoolExecutor.getActiveCount());
+        }
         return 1;
     }
 
@@ -94,6 +103,9 @@ public class TaskExecutorDelegateThreadPool implements ThreadPool {
 
     @Override
     public int getPoolSize() {
+        if (taskExecutor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) taskExecutor).getMaximumPoolSize();
+        }
         return -1;
     }
 
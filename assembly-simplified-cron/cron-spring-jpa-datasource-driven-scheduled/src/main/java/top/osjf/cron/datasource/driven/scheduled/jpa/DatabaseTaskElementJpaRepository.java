@@ -22,6 +22,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import top.osjf.cron.datasource.driven.scheduled.Constants;
 
 import java.util.List;
 
@@ -88,4 +89,30 @@ public interface DatabaseTaskElementJpaRepository extends JpaRepository<Database
      */
     @Query("SELECT e FROM DatabaseTaskElement e WHERE e.updateSign = 1 OR (e.updateSign = 0 AND e.taskId IS NULL)")
     List<DatabaseTaskElement> findElementsByUpdateSignAndTaskId();
+
+    /**
+     * Finds the highest value of the {@link Constants#VERSION_COLUMN} column.
+     * <p>
+     * The column is not mapped by {@link DatabaseTaskElement}, hence the native query.
+     *
+     * @return
+     * The highest version, {@code null} if the table is empty.
+     * @since 3.0.1
+     */
+    @Query(value = "SELECT MAX(" + Constants.VERSION_COLUMN + ") FROM " + Constants.TASK_NAME, nativeQuery = true)
+    Object findLatestVersion();
+
+    /**
+     * Finds elements whose {@link Constants#VERSION_COLUMN} is greater than {@code fromVersion}
+     * and not greater than {@code toVersion}.
+     *
+     * @param fromVersion the exclusive lower bound version.
+     * @param toVersion   the inclusive upper bound version.
+     * @return
+     * List of database task elements changed within the given versions.
+     * @since 3.0.1
+     */
+    @Query(value = "SELECT * FROM " + Constants.TASK_NAME + " WHERE " + Constants.VERSION_COLUMN + " > ?1 AND "
+            + Constants.VERSION_COLUMN + " <= ?2", nativeQuery = true)
+    List<DatabaseTaskElement> findElementsByVersionBetween(Object fromVersion, Object toVersion);
 }
@@ -17,8 +17,10 @@
 
 package top.osjf.cron.datasource.driven.scheduled.jpa;
 
-import top.osjf.cron.datasource.driven.scheduled.DatasourceTaskElementsOperation;
+import top.osjf.cron.datasource.driven.scheduled.Constants;
+import top.osjf.cron.datasource.driven.scheduled.IncrementalDatasourceTaskElementsOperation;
 import top.osjf.cron.datasource.driven.scheduled.TaskElement;
+import top.osjf.cron.datasource.driven.scheduled.WatermarkUtils;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -39,6 +41,8 @@ import java.util.List;
  *     <li>Retrieve all task elements</li>
  *     <li>Clear task elements</li>
  *     <li>Get a single task element by ID</li>
+ *     <li>Incremental runtime checks by {@link Constants#VERSION_COLUMN} once
+ *     {@link #setIncrementalEnabled(boolean) enabled}</li>
  * </ul>
  *
  * <b>Key Methods:</b>
@@ -55,10 +59,15 @@ import java.util.List;
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 3.0.1
  */
-public class JpaDatasourceTaskElementsOperation implements DatasourceTaskElementsOperation {
+public class JpaDatasourceTaskElementsOperation implements IncrementalDatasourceTaskElementsOperation {
 
     private final DatabaseTaskElementJpaRepository jpaRepository;
 
+    private boolean incrementalEnabled;
+
+    /** The latest value read from the version column, to bind watermarks in its type. */
+    private volatile Object latestVersion;
+
     /**
      * Constructs a new {@code JpaDatasourceTaskElementsOperation} and let {@code DatabaseTaskElementJpaRepository}
      * as its task information storage.
@@ -96,6 +105,38 @@ public class JpaDatasourceTaskElementsOperation implements DatasourceTaskElement
         updateBatchElements(runtimeCheckedDatasourceTaskElement);
     }
 
+    @Override
+    public boolean isIncrementalEnabled() {
+        return incrementalEnabled;
+    }
+
+    /**
+     * Set whether runtime checks are incremental, which requires the {@link Constants#VERSION_COLUMN}
+     * column in the task table.
+     *
+     * @param incrementalEnabled {@code true} to enable incremental checks.
+     * @since 3.0.1
+     */
+    public void setIncrementalEnabled(boolean incrementalEnabled) {
+        this.incrementalEnabled = incrementalEnabled;
+    }
+
+    @Override
+    public long getLatestWatermark() {
+        Object version = jpaRepository.findLatestVersion();
+        if (version != null) {
+            latestVersion = version;
+        }
+        return WatermarkUtils.toWatermark(version);
+    }
+
+    @Override
+    public List<TaskElement> getChangedDatasourceTaskElements(long fromWatermark, long toWatermark) {
+        Object sample = latestVersion;
+        return Collections.unmodifiableList(jpaRepository.findElementsByVersionBetween(
+                WatermarkUtils.toColumnValue(fromWatermark, sample), WatermarkUtils.toColumnValue(toWatermark, sample)));
+    }
+
     @Nullable
     @Override
     public TaskElement getElementById(String id) {
@@ -30,6 +30,8 @@ import top.osjf.cron.spring.ObjectProviderUtils;
 import top.osjf.cron.spring.annotation.Cron;
 import top.osjf.cron.spring.annotation.CronRepositoryBean;
 
+import javax.sql.DataSource;
+
 /**
  * {@code @Configuration} class that registers a {@link CronAnnotationPostProcessor}
  * bean capable of processing Spring's @{@link Cron} annotation.
@@ -55,6 +57,7 @@ public class QuartzCronTaskConfiguration extends AbstractCronTaskConfiguration {
                                                              ObjectProvider<SchedulerFactory> schedulerFactoryProvider,
                                                              ObjectProvider<SuperiorProperties> propertiesProvider,
                                                              ObjectProvider<CronExecutorServiceSupplier> executorProvider,
+                                                             ObjectProvider<DataSource> dataSourceProvider,
                                                              SpringMethodLevelJobFactory jobFactory) {
         Scheduler scheduler = ObjectProviderUtils.getPriority(schedulerProvider);
         if (scheduler != null) {
@@ -70,7 +73,13 @@ public class QuartzCronTaskConfiguration extends AbstractCronTaskConfiguration {
         }
         QuartzCronTaskRepository repository = new QuartzCronTaskRepository();
         repository.setJobFactory(jobFactory);
-        repository.setSuperiorProperties(ObjectProviderUtils.getPriority(propertiesProvider));
+        SuperiorProperties superiorProperties = ObjectProviderUtils.getPriority(propertiesProvider);
+        repository.setSuperiorProperties(superiorProperties);
+        // Given as a string by the configuration properties.
+        if (superiorProperties != null && Boolean.parseBoolean(String.valueOf(superiorProperties
+                .getProperty(QuartzCronTaskRepository.PROP_NAME_OF_USE_DATA_SOURCE)))) {
+            repository.setDataSource(ObjectProviderUtils.getPriority(dataSourceProvider));
+        }
         CronExecutorServiceSupplier executorServiceSupplier = ObjectProviderUtils.getPriority(executorProvider);
         if (executorServiceSupplier != null){
             repository.setTaskExecutor(executorServiceSupplier.get());
@@ -29,6 +29,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.util.ClassUtils;
 import top.osjf.cron.quartz.MethodLevelJob;
 import top.osjf.cron.quartz.MethodLevelJobFactory;
+import top.osjf.cron.quartz.QuartzUtils;
 
 import java.lang.reflect.Method;
 
@@ -83,7 +84,7 @@ public class SpringMethodLevelJobFactory
         }
         Class<?> beanClassName = ClassUtils.resolveClassName(declaringClassName, classLoader);
         Object targetBean = applicationContext.getBean(beanClassName);
-        Method method = ClassUtils.getMethod(beanClassName, methodName);
+        Method method = QuartzUtils.resolveMethod(beanClassName, methodName);
         BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(MethodLevelJob.class)
                 .setScope(BeanDefinition.SCOPE_SINGLETON)
                 .addConstructorArgValue(targetBean)
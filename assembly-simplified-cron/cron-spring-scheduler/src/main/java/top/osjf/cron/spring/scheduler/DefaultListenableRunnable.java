@@ -20,9 +20,9 @@ import org.springframework.lang.Nullable;
 import org.springframework.scheduling.Trigger;
 import top.osjf.cron.core.listener.CronListener;
 import top.osjf.cron.core.listener.ListenerContext;
-import top.osjf.cron.core.util.CollectionUtils;
+import top.osjf.cron.core.repository.AbstractCronTaskRepository;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -50,9 +50,10 @@ public class DefaultListenableRunnable implements ListenableRunnable {
      */
     private final Trigger trigger;
     /**
-     * The list of eavesdroppers for the execution of this task.
+     * The list of eavesdroppers for the execution of this task, kept as given so that
+     * a live view also notifies the listeners added after the registration.
      */
-    private final List<CronListener> cronListeners = new ArrayList<>();
+    private final List<CronListener> cronListeners;
     /**
      * The listening context information for this task.
      */
@@ -72,9 +73,7 @@ public class DefaultListenableRunnable implements ListenableRunnable {
         this.id = id;
         this.runnable = runnable;
         this.trigger = trigger;
-        if (CollectionUtils.isNotEmpty(cronListeners)) {
-            this.cronListeners.addAll(cronListeners);
-        }
+        this.cronListeners = cronListeners != null ? cronListeners : Collections.emptyList();
         this.listenerContext = new ListenerContextImpl(this);
     }
 
@@ -104,21 +103,29 @@ public class DefaultListenableRunnable implements ListenableRunnable {
      * This method represents the execution body of a runnable task.
      * It first notifies all registered cron listeners of the start of the task,
      * then executes the main runnable logic, and finally notifies the listeners
-     * of either the success or failure of the task execution.
+     * of either the success or failure of the task execution. A fire skipped by the
+     * misfire handling of the repository is neither run nor notified.
      */
     @Override
     public void run() {
         try {
-            // Notify all cron listeners that the task is about to start
-            cronListeners.forEach(c -> c.start(listenerContext));
-            // Execute the main logic of the runnable
-            runnable.run();
-            // Notify all cron listeners that the task has completed successfully
-            cronListeners.forEach(c -> c.success(listenerContext));
-        } catch (Throwable e) {
-            // If an error occurs during task execution, notify all cron listeners
-            // of the failure, passing the exception context for further handling
-            cronListeners.forEach(c -> c.failed(listenerContext, e));
+            if (AbstractCronTaskRepository.beginFire(runnable)) {
+                return;
+            }
+            try {
+                // Notify all cron listeners that the task is about to start
+                cronListeners.forEach(c -> c.start(listenerContext));
+                // Execute the main logic of the runnable
+                runnable.run();
+                // Notify all cron listeners that the task has completed successfully
+                cronListeners.forEach(c -> c.success(listenerContext));
+            } catch (Throwable e) {
+                // If an error occurs during task execution, notify all cron listeners
+                // of the failure, passing the exception context for further handling
+                cronListeners.forEach(c -> c.failed(listenerContext, e));
+            }
+        } finally {
+            AbstractCronTaskRepository.endFire(runnable);
         }
     }
 }
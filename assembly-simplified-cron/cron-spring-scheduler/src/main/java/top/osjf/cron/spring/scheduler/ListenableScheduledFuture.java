@@ -20,6 +20,7 @@ package top.osjf.cron.spring.scheduler;
 import top.osjf.cron.core.lang.NotNull;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A class that implements the {@code ScheduledFuture<Object>} interface, encapsulating
@@ -40,6 +41,12 @@ public class ListenableScheduledFuture implements ScheduledFuture<Object> {
 
     private final ScheduledFuture<?> scheduledFuture;
 
+    /**
+     * The number of fires of this task not executed by the execution pool.
+     * @since 3.0.1
+     */
+    private final AtomicLong misfireCount;
+
     /**
      * Constructs a new instance of {@link ListenableScheduledFuture} with given
      * {@code ListenableRunnable} and {@code ScheduledFuture}.
@@ -49,8 +56,23 @@ public class ListenableScheduledFuture implements ScheduledFuture<Object> {
      *                           of the task.
      */
     public ListenableScheduledFuture(ListenableRunnable listenableRunnable, ScheduledFuture<?> scheduledFuture) {
+        this(listenableRunnable, scheduledFuture, new AtomicLong());
+    }
+
+    /**
+     * Constructs a new instance of {@link ListenableScheduledFuture} with given
+     * {@code ListenableRunnable}, {@code ScheduledFuture} and misfire counter.
+     *
+     * @param listenableRunnable the listenable task associated with this scheduled task.
+     * @param scheduledFuture    the underlying scheduled task object.
+     * @param misfireCount       the number of fires of this task not executed by the execution pool.
+     * @since 3.0.1
+     */
+    ListenableScheduledFuture(ListenableRunnable listenableRunnable, ScheduledFuture<?> scheduledFuture,
+                              AtomicLong misfireCount) {
         this.listenableRunnable = listenableRunnable;
         this.scheduledFuture = scheduledFuture;
+        this.misfireCount = misfireCount;
     }
 
     /**
@@ -62,6 +84,18 @@ public class ListenableScheduledFuture implements ScheduledFuture<Object> {
         return listenableRunnable;
     }
 
+    /**
+     * Return the number of fires of this task that were not executed, because its
+     * previous execution was still running on the execution pool or the pool rejected
+     * them with {@link RejectionPolicy#DROP}.
+     *
+     * @return the number of fires of this task not executed by the execution pool.
+     * @since 3.0.1
+     */
+    public long getMisfireCount() {
+        return misfireCount.get();
+    }
+
     @Override
     public long getDelay(@NotNull TimeUnit unit) {
         return scheduledFuture.getDelay(unit);
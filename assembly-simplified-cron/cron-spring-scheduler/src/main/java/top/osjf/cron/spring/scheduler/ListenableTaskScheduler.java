@@ -27,7 +27,12 @@ import top.osjf.cron.core.repository.AbstractCronTaskRepository;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -45,6 +50,15 @@ import java.util.function.Function;
  * later. For example, in {@link SpringSchedulerTaskRepository}, the retained task information can
  * be updated and stopped through a unique ID.
  *
+ * <p>Since version 3.0.1, an execution pool can be set by {@link #setTaskExecutor}, the
+ * trigger thread of the wrapped {@link TaskScheduler} then only hands each fire over to
+ * the pool, so that a long execution no longer delays the fires of the other tasks. A
+ * fire arriving while the previous execution of the same task is still running is
+ * skipped, as the executions of one task never overlapped on the trigger thread, and a
+ * fire rejected by the pool is handled according to the {@link RejectionPolicy}; both are
+ * counted in {@link ListenableScheduledFuture#getMisfireCount()}. On {@link #stop()} the
+ * pool is drained, waiting for the running executions up to the termination timeout.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.3
  */
@@ -60,6 +74,50 @@ public abstract class ListenableTaskScheduler extends AbstractCronTaskRepository
      */
     private final Map<String, ListenableScheduledFuture> futureCache = new ConcurrentHashMap<>(16);
 
+    /**
+     * The pool executing the tasks apart from the trigger thread, {@code null} to execute
+     * them on the trigger thread.
+     * @since 3.0.1
+     */
+    @Nullable
+    private volatile ExecutorService taskExecutor;
+
+    /**
+     * The policy applied when {@link #taskExecutor} rejects a fire.
+     * @since 3.0.1
+     */
+    private volatile RejectionPolicy rejectionPolicy = RejectionPolicy.DROP;
+
+    /**
+     * Whether to wait for the running executions when stopping.
+     * @since 3.0.1
+     */
+    private boolean awaitTermination = true;
+
+    /**
+     * The time to wait for the running executions when stopping.
+     * @since 3.0.1
+     */
+    private long awaitTerminationTimeout = 10;
+
+    /**
+     * The time unit of {@link #awaitTerminationTimeout}.
+     * @since 3.0.1
+     */
+    private TimeUnit awaitTerminationTimeoutUnit = TimeUnit.SECONDS;
+
+    /**
+     * The number of fires rejected by {@link #taskExecutor}.
+     * @since 3.0.1
+     */
+    private final AtomicLong rejectedExecutionCount = new AtomicLong();
+
+    /**
+     * The number of rejected fires run on the trigger thread with {@link RejectionPolicy#CALLER_RUNS}.
+     * @since 3.0.1
+     */
+    private final AtomicLong callerRunsCount = new AtomicLong();
+
     /**
      * Constructs a new {@code ListenableTaskScheduler} with the given Spring {@code TaskScheduler}.
      *
@@ -69,6 +127,69 @@ public abstract class ListenableTaskScheduler extends AbstractCronTaskRepository
         this.taskScheduler = taskScheduler;
     }
 
+    /**
+     * Set the pool executing the tasks apart from the trigger thread, shut down together
+     * with this scheduler.
+     *
+     * @param taskExecutor the execution pool, {@code null} to execute the tasks on the trigger thread.
+     * @see top.osjf.cron.core.repository.CronWorkerExecutors
+     * @since 3.0.1
+     */
+    public void setTaskExecutor(@Nullable ExecutorService taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Set the policy applied when the execution pool rejects a fire, {@link RejectionPolicy#DROP}
+     * by default.
+     *
+     * @param rejectionPolicy the policy applied to the rejected fires.
+     * @since 3.0.1
+     */
+    public void setRejectionPolicy(@NotNull RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = Objects.requireNonNull(rejectionPolicy, "rejectionPolicy");
+    }
+
+    /**
+     * @param awaitTermination {@link #awaitTermination}
+     * @since 3.0.1
+     */
+    public void setAwaitTermination(boolean awaitTermination) {
+        this.awaitTermination = awaitTermination;
+    }
+
+    /**
+     * @param awaitTerminationTimeout {@link #awaitTerminationTimeout}
+     * @since 3.0.1
+     */
+    public void setAwaitTerminationTimeout(long awaitTerminationTimeout) {
+        this.awaitTerminationTimeout = awaitTerminationTimeout;
+    }
+
+    /**
+     * @param awaitTerminationTimeoutUnit {@link #awaitTerminationTimeoutUnit}
+     * @since 3.0.1
+     */
+    public void setAwaitTerminationTimeoutUnit(@NotNull TimeUnit awaitTerminationTimeoutUnit) {
+        this.awaitTerminationTimeoutUnit = awaitTerminationTimeoutUnit;
+    }
+
+    /**
+     * @return the number of fires rejected by the execution pool.
+     * @since 3.0.1
+     */
+    public long getRejectedExecutionCount() {
+        return rejectedExecutionCount.get();
+    }
+
+    /**
+     * @return the number of rejected fires run on the trigger thread with {@link RejectionPolicy#CALLER_RUNS}.
+     * @since 3.0.1
+     */
+    public long getCallerRunsCount() {
+        return callerRunsCount.get();
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -150,6 +271,9 @@ public abstract class ListenableTaskScheduler extends AbstractCronTaskRepository
         if (future != null && !future.isCancelled()) {
             future.cancel(true);
         }
+        if (future != null) {
+            incrementModificationCount();
+        }
     }
 
     /**
@@ -169,6 +293,7 @@ public abstract class ListenableTaskScheduler extends AbstractCronTaskRepository
             }
         }
         futureCache.clear();
+        incrementModificationCount();
 
         // Try to close the thread pool.
         if (taskScheduler instanceof CloseableTaskScheduler) {
@@ -180,6 +305,37 @@ public abstract class ListenableTaskScheduler extends AbstractCronTaskRepository
         else if (taskScheduler instanceof ThreadPoolTaskScheduler) {
             ((ThreadPoolTaskScheduler) taskScheduler).getScheduledExecutor().shutdownNow();
         }
+
+        // Drain the execution pool, no fire being handed over any more.
+        ExecutorService executor = taskExecutor;
+        if (executor != null) {
+            drainTaskExecutor(executor);
+        }
+    }
+
+    /**
+     * Shut down the given execution pool, waiting for the running executions up to the
+     * termination timeout when {@link #awaitTermination} is set, and interrupting them
+     * otherwise or when the timeout elapses.
+     *
+     * @param executor the execution pool.
+     */
+    private void drainTaskExecutor(ExecutorService executor) {
+        executor.shutdown();
+        if (!awaitTermination) {
+            executor.shutdownNow();
+            return;
+        }
+        try {
+            if (!executor.awaitTermination(awaitTerminationTimeout, awaitTerminationTimeoutUnit)) {
+                logger.warn("Executions still running after {} {}, interrupting them.",
+                        awaitTerminationTimeout, awaitTerminationTimeoutUnit);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -206,11 +362,78 @@ public abstract class ListenableTaskScheduler extends AbstractCronTaskRepository
     @NotNull
     private ListenableScheduledFuture execute(Function<Runnable, ScheduledFuture<?>> func, Runnable runnable,
                                               Trigger trigger) {
+        registerStatisticsListener();
         ListenableRunnable listenableRunnable = wrapperRunnableToListenable(runnable, trigger);
-        ScheduledFuture<?> scheduledFuture = func.apply(listenableRunnable);
+        DispatchingRunnable dispatchingRunnable = new DispatchingRunnable(listenableRunnable);
+        ScheduledFuture<?> scheduledFuture = func.apply(dispatchingRunnable);
         ListenableScheduledFuture listenableScheduledFuture
-                = new ListenableScheduledFuture(listenableRunnable, scheduledFuture);
+                = new ListenableScheduledFuture(listenableRunnable, scheduledFuture, dispatchingRunnable.misfireCount);
         futureCache.putIfAbsent(listenableRunnable.getId(), listenableScheduledFuture);
+        incrementModificationCount();
         return listenableScheduledFuture;
     }
+
+    /**
+     * The task scheduled on the trigger thread, handing each fire of a {@link ListenableRunnable}
+     * over to {@link #taskExecutor} when one is set.
+     * @since 3.0.1
+     */
+    private class DispatchingRunnable implements Runnable {
+
+        private final ListenableRunnable listenableRunnable;
+
+        /** Whether an execution of the task is running on the execution pool. */
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private final AtomicLong misfireCount = new AtomicLong();
+
+        DispatchingRunnable(ListenableRunnable listenableRunnable) {
+            this.listenableRunnable = listenableRunnable;
+        }
+
+        @Override
+        public void run() {
+            ExecutorService executor = taskExecutor;
+            if (executor == null) {
+                listenableRunnable.run();
+                return;
+            }
+            if (!running.compareAndSet(false, true)) {
+                misfireCount.incrementAndGet();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Task {} misfired, its previous execution is still running",
+                            listenableRunnable.getId());
+                }
+                return;
+            }
+            try {
+                executor.execute(this::execute);
+            } catch (RejectedExecutionException ex) {
+                rejectedExecutionCount.incrementAndGet();
+                if (rejectionPolicy == RejectionPolicy.CALLER_RUNS && !executor.isShutdown()) {
+                    callerRunsCount.incrementAndGet();
+                    execute();
+                    return;
+                }
+                running.set(false);
+                misfireCount.incrementAndGet();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Task {} misfired, rejected by the execution pool", listenableRunnable.getId());
+                }
+            }
+        }
+
+        private void execute() {
+            try {
+                listenableRunnable.run();
+            } finally {
+                running.set(false);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return listenableRunnable.getId();
+        }
+    }
 }
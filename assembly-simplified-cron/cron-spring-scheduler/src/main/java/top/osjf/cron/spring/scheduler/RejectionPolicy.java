@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.spring.scheduler;
+
+/**
+ * The policy applied by a {@link ListenableTaskScheduler} when its execution pool
+ * rejects a fire of a task.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public enum RejectionPolicy {
+
+    /**
+     * Drop the fire and count it as a misfire of the task.
+     */
+    DROP,
+
+    /**
+     * Run the fire on the trigger thread, which delays the other tasks until it completes.
+     */
+    CALLER_RUNS
+}
@@ -22,7 +22,9 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
 import org.springframework.scheduling.concurrent.DefaultManagedTaskScheduler;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.scheduling.support.PeriodicTrigger;
 import org.springframework.scheduling.support.ScheduledMethodRunnable;
@@ -39,9 +41,14 @@ import top.osjf.cron.core.util.GsonUtils;
 
 import javax.annotation.Nonnull;
 import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -63,6 +70,16 @@ import java.util.stream.Collectors;
  * the modification of task states using the {@link top.osjf.cron.core.lifecycle.Lifecycle} supported
  * methods in a multi-thread environment is thread safe.
  *
+ * <p>Since version 3.0.1, the tasks registered through the {@link CronTaskRepository} methods
+ * apply the {@link MisfirePolicy} of the repository, the fire times being computed by
+ * {@link CronExpression}. The {@link CronTrigger} computing its next execution time after the
+ * latest completion, a fire delayed by a starved scheduler is run late and compared with the
+ * fire times it missed. The tasks scheduled directly through the {@link TaskScheduler} methods
+ * are left as they are, their trigger not exposing its time zone.
+ *
+ * <p>Since version 3.0.1, the fires of a task spread by a {@link SpreadRunnable} are
+ * delayed by their offset in its trigger, so that no scheduler thread waits for them.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.3
  * @see CronTaskRepository
@@ -117,6 +134,9 @@ public class SpringSchedulerTaskRepository
     @Override
     protected ListenableRunnable wrapperRunnableToListenable(Runnable runnable, Trigger trigger) {
         String id = idGenerator.generateId().toString();
+        if (trigger instanceof SpreadCronTrigger) {
+            ((SpreadCronTrigger) trigger).taskId = id;
+        }
         return new DefaultListenableRunnable(id, runnable, trigger, getCronListenerCollector().getCronListeners());
     }
 
@@ -125,9 +145,12 @@ public class SpringSchedulerTaskRepository
      */
     @Override
     public String register(@NotNull String expression, @NotNull Runnable runnable) throws CronInternalException {
-        return RepositoryUtils.doRegister(() ->
-                        schedule(runnable, new CronTrigger(expression)).getListenableRunnable().getId(),
-                IllegalArgumentException.class);
+        return RepositoryUtils.doRegister(() -> {
+            Runnable decorated = decorateRunnable(expression, runnable);
+            SpreadRunnable spread = RepositoryUtils.findDelegate(decorated, SpreadRunnable.class);
+            Trigger trigger = spread != null ? new SpreadCronTrigger(expression, spread) : new CronTrigger(expression);
+            return schedule(decorated, trigger).getListenableRunnable().getId();
+        }, IllegalArgumentException.class);
     }
 
     /**
@@ -162,7 +185,7 @@ public class SpringSchedulerTaskRepository
      */
     @Override
     public String register(@NotNull top.osjf.cron.core.repository.CronTask task) {
-        return register(task.getExpression(), task.getRunnable());
+        return register(task.getExpression(), task.getSpreadRunnable());
     }
 
     @Override
@@ -213,19 +236,23 @@ public class SpringSchedulerTaskRepository
             expression = toPeriodicTriggerExpression(periodicTrigger);
         }
         Runnable runnable = listenableRunnable.getRunnable();
+        // The registered task may be decorated by the repository.
+        Runnable registered = RepositoryUtils.unwrapRunnable(runnable);
         Object target = null;
         Method method = null;
-        if (runnable instanceof CronMethodRunnable) {
-            CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) runnable;
+        if (registered instanceof CronMethodRunnable) {
+            CronMethodRunnable cronMethodRunnable = (CronMethodRunnable) registered;
             target = cronMethodRunnable.getTarget();
             method = cronMethodRunnable.getMethod();
         }
-        else if (runnable instanceof ScheduledMethodRunnable) {
-            ScheduledMethodRunnable scheduledMethodRunnable = (ScheduledMethodRunnable) runnable;
+        else if (registered instanceof ScheduledMethodRunnable) {
+            ScheduledMethodRunnable scheduledMethodRunnable = (ScheduledMethodRunnable) registered;
             target = scheduledMethodRunnable.getTarget();
             method = scheduledMethodRunnable.getMethod();
         }
-        return customizeCronTaskInfo(new CronTaskInfo(id, expression, runnable, target, method));
+        CronTaskInfo cronTaskInfo = new CronTaskInfo(id, expression, runnable, target, method);
+        cronTaskInfo.setMisfireCount(future.getMisfireCount());
+        return customizeCronTaskInfo(cronTaskInfo);
     }
 
     /**
@@ -247,7 +274,30 @@ public class SpringSchedulerTaskRepository
         ListenableScheduledFuture future = getFuture(id);
         Assert.notNull(future, "Missing task information according to id " + id);
         cancelFuture(id);
-        register(newExpression, future.getListenableRunnable().getRunnable());
+        Runnable runnable = future.getListenableRunnable().getRunnable();
+        unguardRunnable(runnable);
+        // A task spread with its own window or named keeps it.
+        Runnable registered = RepositoryUtils.findDelegate(runnable, SpreadRunnable.class);
+        if (registered == null) {
+            registered = RepositoryUtils.findDelegate(runnable, NamedRunnable.class);
+        }
+        register(newExpression, registered != null ? registered : RepositoryUtils.unwrapRunnable(runnable));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The fire times are computed by the {@link CronExpression}, in the default time zone
+     * as the {@link CronTrigger} of {@link #register(String, Runnable)}.
+     */
+    @Override
+    @Nullable
+    protected LongUnaryOperator getNextFireTimeFunction(String expression) {
+        CronExpression cronExpression = CronExpression.parse(expression);
+        return time -> {
+            ZonedDateTime next = cronExpression.next(ZonedDateTime.ofInstant(Instant.ofEpochMilli(time),
+                    ZoneId.systemDefault()));
+            return next != null ? next.toInstant().toEpochMilli() : -1;
+        };
     }
 
     /**
@@ -255,11 +305,40 @@ public class SpringSchedulerTaskRepository
      */
     @Override
     public void remove(@NotNull String id) {
+        ListenableScheduledFuture future = getFuture(id);
         cancelFuture(id);
+        if (future != null) {
+            unguardRunnable(future.getListenableRunnable().getRunnable());
+        }
+        removeTaskStatistics(id);
     }
 
     @Override
     public void destroy() {
         super.stop();
     }
+
+    /**
+     * A {@link CronTrigger} delaying each fire of a task by the offset drawn by its
+     * {@link SpreadRunnable}, the next fire being computed by the expression after the
+     * completion of the delayed one.
+     */
+    private static class SpreadCronTrigger extends CronTrigger {
+
+        private final SpreadRunnable spread;
+
+        /** The id of the task, set once its listenable runnable is created. */
+        private volatile String taskId;
+
+        SpreadCronTrigger(String expression, SpreadRunnable spread) {
+            super(expression);
+            this.spread = spread;
+        }
+
+        @Override
+        public Date nextExecutionTime(@NotNull TriggerContext triggerContext) {
+            Date next = super.nextExecutionTime(triggerContext);
+            return next != null ? new Date(next.getTime() + SpreadRunnable.nextOffset(spread, taskId)) : null;
+        }
+    }
 }
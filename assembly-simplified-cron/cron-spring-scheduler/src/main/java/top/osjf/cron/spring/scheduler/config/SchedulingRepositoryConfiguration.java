@@ -28,13 +28,16 @@ import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProc
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import top.osjf.cron.core.lang.Nullable;
 import top.osjf.cron.core.repository.CronTaskRepository;
+import top.osjf.cron.core.repository.CronWorkerExecutors;
 import top.osjf.cron.spring.AbstractCronTaskConfiguration;
 import top.osjf.cron.spring.CronTaskInfoReadableWebMvcHandlerController;
 import top.osjf.cron.spring.auth.AuthenticationPredicate;
 import top.osjf.cron.spring.auth.WebRequestAuthenticationInterceptor;
+import top.osjf.cron.spring.scheduler.RejectionPolicy;
 import top.osjf.cron.spring.scheduler.SpringSchedulerTaskRepository;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link Configuration Configuration} for {@link SpringSchedulerTaskRepository}.
@@ -44,6 +47,9 @@ import java.util.List;
  * with a {@link TaskScheduler} implementation named {@literal taskScheduler},
  * essentially {@link top.osjf.cron.core.repository.CronTaskRepository}.
  *
+ * <p>The execution pool of the repository is configured by the
+ * {@value #PROPERTY_PREFIX}{@code .*} properties.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 3.0.1
  */
@@ -53,14 +59,37 @@ public class SchedulingRepositoryConfiguration extends AbstractCronTaskConfigura
     public static final String TASK_SCHEDULER_INTERNAL_BEAN_NAME
             = "org.springframework.scheduling.concurrent.internalThreadPoolTaskScheduler";
 
+    /**
+     * The prefix of the properties of the execution pool.
+     * @since 3.0.1
+     */
+    public static final String PROPERTY_PREFIX = "spring.schedule.cron.spring-scheduler";
+
     @Bean(ScheduledAnnotationBeanPostProcessor.DEFAULT_TASK_SCHEDULER_BEAN_NAME)
     public SpringSchedulerTaskRepository springSchedulerTaskRepository(
             @Autowired(required = false) @Qualifier(TASK_SCHEDULER_INTERNAL_BEAN_NAME)
-            @Nullable TaskScheduler taskScheduler) {
-        if (taskScheduler != null) {
-            return new SpringSchedulerTaskRepository(taskScheduler);
+            @Nullable TaskScheduler taskScheduler, Environment environment) {
+        SpringSchedulerTaskRepository repository = taskScheduler != null
+                ? new SpringSchedulerTaskRepository(taskScheduler) : new SpringSchedulerTaskRepository();
+        int workerPoolSize = environment.getProperty(PROPERTY_PREFIX + ".worker-pool-size", int.class, 0);
+        int workerQueueCapacity = environment.getProperty(PROPERTY_PREFIX + ".worker-queue-capacity",
+                int.class, 1000);
+        if (environment.getProperty(PROPERTY_PREFIX + ".virtual-threads", boolean.class, false)) {
+            repository.setTaskExecutor(CronWorkerExecutors.newVirtualThreadOrFixedWorkerExecutor(
+                    Math.max(1, workerPoolSize), workerQueueCapacity));
+        } else if (workerPoolSize > 0) {
+            repository.setTaskExecutor(CronWorkerExecutors.newFixedWorkerExecutor(workerPoolSize,
+                    workerQueueCapacity));
         }
-        return new SpringSchedulerTaskRepository();
+        repository.setRejectionPolicy(environment.getProperty(PROPERTY_PREFIX + ".rejection-policy",
+                RejectionPolicy.class, RejectionPolicy.DROP));
+        repository.setAwaitTermination(environment.getProperty(PROPERTY_PREFIX + ".await-termination",
+                boolean.class, true));
+        repository.setAwaitTerminationTimeout(environment.getProperty(PROPERTY_PREFIX
+                + ".await-termination-timeout", long.class, 10L));
+        repository.setAwaitTerminationTimeoutUnit(environment.getProperty(PROPERTY_PREFIX
+                + ".await-termination-timeout-unit", TimeUnit.class, TimeUnit.SECONDS));
+        return repository;
     }
 
     /**
@@ -70,8 +99,9 @@ public class SchedulingRepositoryConfiguration extends AbstractCronTaskConfigura
     @Override
     public CronTaskInfoReadableWebMvcHandlerController cronTaskInfoReadableWebMvcHandlerController
             (CronTaskRepository cronTaskRepository,
-             RequestMappingHandlerMapping requestMappingHandlerMapping) {
-        return super.cronTaskInfoReadableWebMvcHandlerController(cronTaskRepository, requestMappingHandlerMapping);
+             RequestMappingHandlerMapping requestMappingHandlerMapping, Environment environment) {
+        return super.cronTaskInfoReadableWebMvcHandlerController(cronTaskRepository, requestMappingHandlerMapping,
+                environment);
     }
 
     /**
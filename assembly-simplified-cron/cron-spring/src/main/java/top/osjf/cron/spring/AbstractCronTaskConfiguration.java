@@ -93,13 +93,18 @@ public abstract class AbstractCronTaskConfiguration implements ImportAware {
      * Return the {@link CronTaskInfoView} readable controller, which is the HTTP access interface.
      * @param cronTaskRepository            the configured {@link CronTaskRepository}.
      * @param requestMappingHandlerMapping  the configured {@link RequestMappingHandlerMapping}.
+     * @param environment                   the {@link Environment} instance.
      * @return the configured {@link CronTaskInfoView} readable controller.
      */
     @Bean
     public CronTaskInfoReadableWebMvcHandlerController cronTaskInfoReadableWebMvcHandlerController
             (CronTaskRepository cronTaskRepository,
-             RequestMappingHandlerMapping requestMappingHandlerMapping) {
-        return new CronTaskInfoReadableWebMvcHandlerController(cronTaskRepository, requestMappingHandlerMapping);
+             RequestMappingHandlerMapping requestMappingHandlerMapping, Environment environment) {
+        CronTaskInfoReadableWebMvcHandlerController controller
+                = new CronTaskInfoReadableWebMvcHandlerController(cronTaskRepository, requestMappingHandlerMapping);
+        controller.setSnapshotMaxAge(environment.getProperty("spring.schedule.cron.task-list.snapshot-max-age",
+                long.class, CronTaskInfoReadableWebMvcHandlerController.DEFAULT_SNAPSHOT_MAX_AGE));
+        return controller;
     }
 
     /**
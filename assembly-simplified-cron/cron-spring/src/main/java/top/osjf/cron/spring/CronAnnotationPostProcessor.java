@@ -147,7 +147,7 @@ public class CronAnnotationPostProcessor implements ApplicationContextAware,
             } else {
                 // Non-empty set of methods
                 annotatedMethods.forEach((method, cronAnnotations) ->
-                        cronAnnotations.forEach(cron -> processCron(cron, method, bean)));
+                        cronAnnotations.forEach(cron -> processCron(cron, method, bean, beanName)));
                 if (logger.isTraceEnabled()) {
                     logger.trace(annotatedMethods.size() + " @Cron methods processed on bean '" + beanName +
                             "': " + annotatedMethods);
@@ -177,7 +177,23 @@ public class CronAnnotationPostProcessor implements ApplicationContextAware,
      * @since 1.0.3
      */
     protected void processCron(Cron cron, Method method, Object bean) {
+        processCron(cron, method, bean, null);
+    }
+
+    /**
+     * Process the given {@code @Cron} method declaration on the given bean, the task
+     * being named after the bean and the method so that the methods of several beans of
+     * one class are told apart by the cluster locks and the spread of their fires.
+     *
+     * @param cron     the {@code @Cron} annotation
+     * @param method   the method that the annotation has been declared on
+     * @param bean     the target bean instance
+     * @param beanName the name of the bean, {@code null} to name the task after its method
+     * @since 3.0.1
+     */
+    protected void processCron(Cron cron, Method method, Object bean, @Nullable String beanName) {
         CronMethodRunnable runnable = createRunnable(bean, method);
+        String name = beanName != null ? beanName + "#" + method.getName() : null;
         String[] profiles = cron.profiles();
         String expression = cron.expression();
         if (StringUtils.isBlank(expression)) {
@@ -192,7 +208,7 @@ public class CronAnnotationPostProcessor implements ApplicationContextAware,
             // to the current activated environment.
             if (ArrayUtils.isEmpty(profiles) ||
                     Arrays.stream(profiles).anyMatch(activeProfiles::contains)) {
-                CronTask cronTask = new CronTask(expression, runnable);
+                CronTask cronTask = new CronTask(name, expression, runnable, cron.spread(), cron.spreadPolicy());
                 cronTasks.add(cronTask);
             }
         }
@@ -20,6 +20,7 @@ package top.osjf.cron.spring;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
@@ -31,8 +32,10 @@ import top.osjf.cron.core.util.ReflectUtils;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Cron Task Information Readable Web MVC Handler Controller.
@@ -47,6 +50,15 @@ import java.util.stream.Collectors;
  * {@code RequestMappingHandlerMapping}, so that the Spring MVC framework can recognize
  * and handle the corresponding HTTP requests.
  *
+ * <p>Since 3.0.1, the converted views are kept in a snapshot that is reused for as long
+ * as {@link CronTaskRepository#getModificationCount()} is unchanged and the snapshot is
+ * younger than {@link #setSnapshotMaxAge the maximum age}, so that repeated polling does
+ * not rebuild the whole inventory. The list can be filtered by {@code id} and
+ * {@code expression} and paged by {@code page} (0-based) and {@code size}; the total
+ * number of matches is reported in the {@value #TOTAL_COUNT_HEADER} header, and an
+ * {@code ETag} is returned so that clients polling with {@code If-None-Match} receive
+ * {@code 304 Not Modified} while nothing changed.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.3
  */
@@ -56,6 +68,16 @@ public class CronTaskInfoReadableWebMvcHandlerController
      * Retrieve the web mapping path for all registered task information.
      */
     public static final String REQUEST_MAPPING_PATH_OF_GET_CRON_TASK_LIST = "/cronTask/list";
+    /**
+     * The response header that carries the number of tasks matching the filters before paging.
+     * @since 3.0.1
+     */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    /**
+     * The default maximum age in milliseconds of a task list snapshot.
+     * @since 3.0.1
+     */
+    public static final long DEFAULT_SNAPSHOT_MAX_AGE = 5000L;
     /**
      * Query all registered task information for {@link RequestMappingInfo} objects.
      */
@@ -64,7 +86,8 @@ public class CronTaskInfoReadableWebMvcHandlerController
     /**
      * View processing method for querying all registered task information.
      */
-    private final Method getCronTaskListHandlerMethod = ReflectUtils.getMethod(this.getClass(), "get");
+    private final Method getCronTaskListHandlerMethod = ReflectUtils.getMethod(this.getClass(), "list",
+            String.class, String.class, Integer.class, Integer.class);
 
     /**
      * The repository used to access and manipulate the storage of Cron task information.
@@ -76,6 +99,19 @@ public class CronTaskInfoReadableWebMvcHandlerController
      */
     private final RequestMappingHandlerMapping requestMappingHandlerMapping;
 
+    /**
+     * The maximum age in milliseconds of a snapshot, bounding how stale the remaining number
+     * of runs, which changes without a modification, can become.
+     * @since 3.0.1
+     */
+    private long snapshotMaxAge = DEFAULT_SNAPSHOT_MAX_AGE;
+
+    /**
+     * The most recently built task list snapshot.
+     * @since 3.0.1
+     */
+    private volatile Snapshot snapshot;
+
     /**
      * Constructor initializes {@code CronTaskInfoReadableWebMvcHandlerController}, setting the
      * {@code CronTaskRepository} and {@code RequestMappingHandlerMapping}.
@@ -89,6 +125,17 @@ public class CronTaskInfoReadableWebMvcHandlerController
         this.requestMappingHandlerMapping = requestMappingHandlerMapping;
     }
 
+    /**
+     * Set the maximum age in milliseconds of a task list snapshot, a value of {@code 0}
+     * or less rebuilds the list on every request.
+     *
+     * @param snapshotMaxAge the maximum age in milliseconds of a task list snapshot.
+     * @since 3.0.1
+     */
+    public void setSnapshotMaxAge(long snapshotMaxAge) {
+        this.snapshotMaxAge = snapshotMaxAge;
+    }
+
     /**
      * This method adds the path mapping for registering open web access to Spring MVC support.
      */
@@ -111,10 +158,106 @@ public class CronTaskInfoReadableWebMvcHandlerController
     @Override
     @ResponseBody
     public ResponseEntity<List<CronTaskInfoView>> get() {
+        return list(null, null, null, null);
+    }
+
+    /**
+     * Get the list of Cron task information matching the given filters, optionally paged.
+     *
+     * <p>Without {@code size} all matching tasks are returned, as {@link #get()} does.
+     * The returned {@code ETag} identifies both the snapshot content and the query, so
+     * Spring MVC answers {@code 304 Not Modified} to a matching {@code If-None-Match}.
+     *
+     * @param id         the task id to match exactly, or {@code null} for all.
+     * @param expression the cron expression to match exactly, or {@code null} for all.
+     * @param page       the 0-based page index, defaults to {@code 0}.
+     * @param size       the page size, or {@code null} for no paging.
+     * @return A response entity containing the matching Cron task information views.
+     * @see top.osjf.cron.spring.auth.WebRequestAuthenticationInterceptor
+     * @since 3.0.1
+     */
+    @ResponseBody
+    public ResponseEntity<List<CronTaskInfoView>> list(@RequestParam(name = "id", required = false) String id,
+                                                       @RequestParam(name = "expression", required = false)
+                                                       String expression,
+                                                       @RequestParam(name = "page", required = false) Integer page,
+                                                       @RequestParam(name = "size", required = false) Integer size) {
+        Snapshot snapshot = getSnapshot();
+        Stream<CronTaskInfoView> stream = snapshot.views.stream();
+        if (id != null) {
+            stream = stream.filter(view -> id.equals(view.getId()));
+        }
+        if (expression != null) {
+            stream = stream.filter(view -> expression.equals(view.getExpression()));
+        }
+        List<CronTaskInfoView> matched = stream.collect(Collectors.toList());
+        List<CronTaskInfoView> body = matched;
+        if (size != null && size > 0) {
+            long from = (long) Math.max(page != null ? page : 0, 0) * size;
+            body = from >= matched.size() ? Collections.emptyList()
+                    : matched.subList((int) from, (int) Math.min(from + size, matched.size()));
+        }
+        String eTag = "\"" + snapshot.contentHash + "-"
+                + Integer.toHexString(Objects.hash(id, expression, page, size)) + "\"";
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .header(TOTAL_COUNT_HEADER, String.valueOf(matched.size()))
+                .body(body);
+    }
+
+    /**
+     * Return the current snapshot, rebuilding it when the repository has been modified
+     * since it was taken or when it is older than {@link #snapshotMaxAge}.
+     *
+     * @return the current task list snapshot.
+     */
+    private Snapshot getSnapshot() {
+        long modificationCount = cronTaskRepository.getModificationCount();
+        Snapshot current = snapshot;
+        if (current != null && current.isValid(modificationCount, snapshotMaxAge)) {
+            return current;
+        }
         List<CronTaskInfo> cronTaskInfos = cronTaskRepository.getAllCronTaskInfo();
-        if (CollectionUtils.isEmpty(cronTaskInfos)) {
-            return ResponseEntity.ok(Collections.emptyList());
+        List<CronTaskInfoView> views = CollectionUtils.isEmpty(cronTaskInfos) ? Collections.emptyList()
+                : Collections.unmodifiableList(cronTaskInfos.stream()
+                .map(CronTaskInfoView::new).collect(Collectors.toList()));
+        current = new Snapshot(views, modificationCount);
+        snapshot = current;
+        return current;
+    }
+
+    /**
+     * An immutable converted task list together with the state it was taken from.
+     * @since 3.0.1
+     */
+    private static final class Snapshot {
+
+        private final List<CronTaskInfoView> views;
+
+        private final long modificationCount;
+
+        private final long createdAt = System.currentTimeMillis();
+
+        private final String contentHash;
+
+        Snapshot(List<CronTaskInfoView> views, long modificationCount) {
+            this.views = views;
+            this.modificationCount = modificationCount;
+            int hash = 1;
+            for (CronTaskInfoView view : views) {
+                hash = 31 * hash + Objects.hash(view.getId(), view.getExpression(), view.getSourceClassName(),
+                        view.getSourceMethod(), view.getRemainingNumberOfRuns());
+            }
+            this.contentHash = Integer.toHexString(hash);
+        }
+
+        /**
+         * Whether this snapshot still reflects a repository at the given modification count;
+         * a count of {@code -1} means the repository does not track modifications.
+         */
+        boolean isValid(long currentModificationCount, long maxAge) {
+            return currentModificationCount >= 0 && currentModificationCount == modificationCount
+                    && System.currentTimeMillis() - createdAt < maxAge;
         }
-        return ResponseEntity.ok(cronTaskInfos.stream().map(CronTaskInfoView::new).collect(Collectors.toList()));
     }
 }
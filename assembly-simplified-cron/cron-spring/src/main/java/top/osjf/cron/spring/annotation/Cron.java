@@ -17,6 +17,7 @@
 package top.osjf.cron.spring.annotation;
 
 import org.springframework.core.annotation.AliasFor;
+import top.osjf.cron.core.repository.SpreadPolicy;
 import top.osjf.cron.spring.CronAnnotationPostProcessor;
 
 import java.lang.annotation.*;
@@ -146,4 +147,29 @@ public @interface Cron {
      * to specify the environment configuration for task activation.
      */
     String[] profiles() default {};
+
+    /**
+     * Specify the window over which the fires of the task are spread, in milliseconds.
+     *
+     * <p>Each fire of the task is delayed by an offset within this window, chosen by
+     * {@link #spreadPolicy()} and bounded by the period of the expression, so that the
+     * tasks sharing an expression such as {@code 0 * * * * ?} do not all start at the
+     * same instant. The delay is waited on the thread executing the task.
+     *
+     * <p>{@code 0} disables the spread of the task, and the default {@code -1} leaves it
+     * to the spread window of the repository. The spread is not supported by Quartz.
+     *
+     * @return the spread window of the task, in milliseconds.
+     * @since 3.0.1
+     */
+    long spread() default -1;
+
+    /**
+     * Specify the policy choosing the offsets of the spread fires of the task, a fixed
+     * offset derived from the task by default.
+     *
+     * @return the policy choosing the offsets of the spread fires.
+     * @since 3.0.1
+     */
+    SpreadPolicy spreadPolicy() default SpreadPolicy.HASH;
 }
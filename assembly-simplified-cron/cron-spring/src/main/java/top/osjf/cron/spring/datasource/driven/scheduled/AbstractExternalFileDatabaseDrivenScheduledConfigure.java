@@ -44,10 +44,17 @@ public abstract class AbstractExternalFileDatabaseDrivenScheduledConfigure imple
      */
     private String configFileName;
 
+    /**
+     * {@link ExternalFileTaskElementLoader#setWriteCoalescingInterval(long)}
+     */
+    private Long writeCoalescingInterval;
+
     @Override
     public void setEnvironment(Environment environment) {
         baseDir = environment.getProperty("spring.schedule.cron.scheduled-driven.external.base-dir");
         configFileName = environment.getProperty("spring.schedule.cron.scheduled-driven.external.config-file-name");
+        writeCoalescingInterval = environment.getProperty
+                ("spring.schedule.cron.scheduled-driven.external.write-coalescing-interval", Long.class);
     }
 
     /**
@@ -57,6 +64,7 @@ public abstract class AbstractExternalFileDatabaseDrivenScheduledConfigure imple
     protected void configureExternalFileTaskElementLoader(ExternalFileTaskElementLoader<?> loader) {
         notNullAccept(baseDir, loader::setBaseDir);
         notNullAccept(configFileName, loader::setConfigFileName);
+        notNullAccept(writeCoalescingInterval, loader::setWriteCoalescingInterval);
     }
 
     static <T> void notNullAccept(T property, Consumer<T> consumer){
@@ -20,6 +20,7 @@ package top.osjf.cron.spring.datasource.driven.scheduled;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import top.osjf.cron.datasource.driven.scheduled.jpa.DatabaseTaskElementJpaRepository;
 import top.osjf.cron.datasource.driven.scheduled.jpa.JpaDatasourceTaskElementsOperation;
@@ -36,8 +37,11 @@ import top.osjf.cron.datasource.driven.scheduled.jpa.JpaDatasourceTaskElementsOp
 public class JpaDatabaseDrivenScheduledConfiguration {
 
     @Bean
-    public JpaDatasourceTaskElementsOperation jpaDatasourceTaskElementsOperation(DatabaseTaskElementJpaRepository
-                                                                                             jpaRepository) {
-        return new JpaDatasourceTaskElementsOperation(jpaRepository);
+    public JpaDatasourceTaskElementsOperation jpaDatasourceTaskElementsOperation
+            (DatabaseTaskElementJpaRepository jpaRepository, Environment environment) {
+        JpaDatasourceTaskElementsOperation operation = new JpaDatasourceTaskElementsOperation(jpaRepository);
+        operation.setIncrementalEnabled(environment.getProperty
+                ("spring.schedule.cron.scheduled-driven.incremental.enable", boolean.class, false));
+        return operation;
     }
 }
@@ -22,6 +22,7 @@ import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import top.osjf.cron.datasource.driven.scheduled.mp.DatabaseTaskElement;
 import top.osjf.cron.datasource.driven.scheduled.mp.MybatisPlusDatasourceTaskElementsOperation;
 
@@ -38,7 +39,11 @@ public class MybatisPlusDatabaseDrivenScheduledConfiguration {
 
     @Bean
     public MybatisPlusDatasourceTaskElementsOperation mybatisPlusDatasourceTaskElementsOperation
-            (IService<DatabaseTaskElement> taskElementService) {
-        return new MybatisPlusDatasourceTaskElementsOperation(taskElementService);
+            (IService<DatabaseTaskElement> taskElementService, Environment environment) {
+        MybatisPlusDatasourceTaskElementsOperation operation
+                = new MybatisPlusDatasourceTaskElementsOperation(taskElementService);
+        operation.setIncrementalEnabled(environment.getProperty
+                ("spring.schedule.cron.scheduled-driven.incremental.enable", boolean.class, false));
+        return operation;
     }
 }
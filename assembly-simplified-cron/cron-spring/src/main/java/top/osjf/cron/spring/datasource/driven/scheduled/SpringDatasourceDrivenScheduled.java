@@ -27,6 +27,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.env.Environment;
 import org.springframework.expression.Expression;
@@ -41,6 +42,8 @@ import top.osjf.cron.datasource.driven.scheduled.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code SpringDatasourceDrivenScheduled} Extension {@link AbstractDatasourceDrivenScheduled},
@@ -59,6 +62,8 @@ import java.util.List;
  *   <li>Profile-Based Activation: Filters tasks using Spring's active profiles</li>
  *   <li>Expression Caching: Optimizes SpEL expression parsing with concurrent cache</li>
  *   <li>Environment Overrides: Supports configurable logger and main task ID via properties</li>
+ *   <li>Change Notifications: Checks right away on {@link TaskElementsChangedEvent} and on the
+ *       notifications of {@link TaskElementsChangeNotifier} beans</li>
  * </ul>
  *
  * <h2>Lifecycle Management:</h2>
@@ -84,6 +89,9 @@ import java.util.List;
  *
  *   <dt>spring.schedule.cron.datasource.driven.main-task-unique-id</dt>
  *   <dd>Override management task unique ID</dd>
+ *
+ *   <dt>spring.schedule.cron.scheduled-driven.incremental.full-reconcile-interval</dt>
+ *   <dd>Interval in milliseconds between two full checks when checks are incremental</dd>
  * </dl>
  *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
@@ -96,9 +104,11 @@ public class SpringDatasourceDrivenScheduled
 
     private final SpelExpressionParser expressionParser = new SpelExpressionParser();
     private final StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
 
     private Environment environment;
     private final List<String> activeProfiles = new ArrayList<>();
+    private final Map<String, Boolean> profilesMatchCache = new ConcurrentHashMap<>();
     private ApplicationContext applicationContext;
 
     private Logger logger;
@@ -118,6 +128,7 @@ public class SpringDatasourceDrivenScheduled
     @Override
     public void setEnvironment(Environment environment) {
         activeProfiles.addAll(Arrays.asList(environment.getActiveProfiles()));
+        profilesMatchCache.clear();
         this.environment = environment;
     }
 
@@ -125,6 +136,23 @@ public class SpringDatasourceDrivenScheduled
     public void afterPropertiesSet() {
         evaluationContext.setBeanResolver(new BeanFactoryResolver(applicationContext.getAutowireCapableBeanFactory()));
         initLogger();
+        Long fullReconcileInterval = environment.getProperty
+                ("spring.schedule.cron.scheduled-driven.incremental.full-reconcile-interval", Long.class);
+        if (fullReconcileInterval != null) {
+            setFullReconcileInterval(fullReconcileInterval);
+        }
+        Integer reconcileParallelism = environment.getProperty
+                ("spring.schedule.cron.scheduled-driven.reconcile-parallelism", Integer.class);
+        if (reconcileParallelism != null) {
+            setReconcileParallelism(reconcileParallelism);
+        }
+        Integer writeBackBatchSize = environment.getProperty
+                ("spring.schedule.cron.scheduled-driven.write-back-batch-size", Integer.class);
+        if (writeBackBatchSize != null) {
+            setWriteBackBatchSize(writeBackBatchSize);
+        }
+        applicationContext.getBeanProvider(TaskElementsChangeNotifier.class).orderedStream()
+                .forEach(this::addChangeNotifier);
         init();
     }
 
@@ -145,9 +173,11 @@ public class SpringDatasourceDrivenScheduled
      */
     @Override
     protected boolean profilesMatch(String profiles) {
-        return StringUtils.isBlank(profiles)
-                || Arrays.stream(profiles.replace("，", ",").split(","))
-                .anyMatch(s -> activeProfiles.contains(s.trim()));
+        if (StringUtils.isBlank(profiles)) {
+            return true;
+        }
+        return profilesMatchCache.computeIfAbsent(profiles, p -> Arrays.stream(p.replace("，", ",").split(","))
+                .anyMatch(s -> activeProfiles.contains(s.trim())));
     }
 
     /**
@@ -185,10 +215,28 @@ public class SpringDatasourceDrivenScheduled
     @Override
     protected Runnable resolveTaskRunnable(TaskElement element) {
         String taskName = element.getTaskName();
-        Expression expression = expressionParser.parseExpression(taskName);
+        // Parsed once by task name, a changed task name being parsed anew.
+        Expression expression = expressionCache.computeIfAbsent(taskName, expressionParser::parseExpression);
         return () -> expression.getValue(evaluationContext);
     }
 
+    @Override
+    protected void clearResolvedTaskCaches() {
+        super.clearResolvedTaskCaches();
+        expressionCache.clear();
+    }
+
+    /**
+     * Check the task elements right away on a {@link TaskElementsChangedEvent}.
+     *
+     * @param event the {@link TaskElementsChangedEvent}.
+     * @since 3.0.1
+     */
+    @EventListener
+    public void onTaskElementsChangedEvent(TaskElementsChangedEvent event) {
+        onTaskElementsChanged();
+    }
+
     @Override
     public void destroy() {
         stop();
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.cron.spring.datasource.driven.scheduled;
+
+import org.springframework.context.ApplicationEvent;
+import top.osjf.cron.datasource.driven.scheduled.TaskElementsChangeListener;
+
+/**
+ * Application event announcing that the task elements of the driven datasource have changed,
+ * published by the code changing them, for example:
+ * <pre>
+ *     taskElementService.updateById(element);
+ *     applicationEventPublisher.publishEvent(new TaskElementsChangedEvent(this));
+ * </pre>
+ *
+ * <p>On this event {@link SpringDatasourceDrivenScheduled} checks the task elements right away
+ * (see {@link TaskElementsChangeListener#onTaskElementsChanged()}) instead of waiting for the
+ * next scheduled check. When published within a transaction, publish it after the commit,
+ * otherwise the check may not see the changes yet.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class TaskElementsChangedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = -4183921574362045418L;
+
+    /**
+     * Constructs a new {@code TaskElementsChangedEvent}.
+     *
+     * @param source the object that changed the task elements.
+     */
+    public TaskElementsChangedEvent(Object source) {
+        super(source);
+    }
+}
@@ -25,8 +25,8 @@ import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.datasource.driven.scheduled.DataSourceDrivenException;
 import top.osjf.cron.datasource.driven.scheduled.external.file.ExternalFileTaskElementLoader;
 
-import java.io.FileWriter;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.Collections;
 import java.util.List;
@@ -115,7 +115,7 @@ public class YamlTaskElementLoader extends ExternalFileTaskElementLoader<YamlTas
 
     @Override
     protected void refresh() {
-        try (Writer writer = new FileWriter(getConfigFile())) {
+        try (Writer writer = new OutputStreamWriter(openConfigFileOutputStream())) {
             yaml.dump(taskElements, writer);
         }
         catch (Throwable ex) {
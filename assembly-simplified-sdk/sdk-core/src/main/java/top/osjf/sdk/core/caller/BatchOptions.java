@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+import java.lang.annotation.*;
+
+/**
+ * Batch option annotation, used to aggregate concurrent single-item calls of
+ * an SDK method into one bulk {@code Request}.
+ *
+ * <p>Invocations of the annotated method that arrive within the window of
+ * {@link #windowMilliseconds()}, or until {@link #maxBatchSize()} invocations
+ * have been collected, are merged by the {@link RequestAggregator} provided by
+ * {@link #aggregatorClass()} into a single bulk {@code Request}. The bulk
+ * {@code Response} is then split back into one {@code Response} per original
+ * invocation, and each caller receives its own result.
+ *
+ * <p>This annotation works together with {@link CallOptions}: retries and
+ * callbacks configured there are applied to the single-item view of each
+ * caller, and the bulk execution itself is shared.
+ *
+ * <p>Batching only takes effect when the proxy executes through a
+ * {@link RequestCaller}; direct {@code Request#execute} calls are not batched.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ * @see RequestAggregator
+ * @see RequestBatcher
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BatchOptions {
+
+    /**
+     * Get the {@code RequestAggregator} type used to merge single-item
+     * {@code Request} into a bulk {@code Request} and split the bulk
+     * {@code Response}.
+     *
+     * @return the {@code RequestAggregator} type.
+     */
+    Class<? extends RequestAggregator> aggregatorClass();
+
+    /**
+     * Get the maximum number of single-item calls aggregated into one bulk
+     * {@code Request}.
+     *
+     * <p>When the number of collected calls reaches this value, the batch is
+     * sent immediately without waiting for the end of the window. The default
+     * value is 100.
+     *
+     * @return the maximum batch size, must be a positive integer.
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * Get the collection window (in milliseconds) started by the first call
+     * of a batch.
+     *
+     * <p>When the window expires, all calls collected so far are sent as one
+     * bulk {@code Request}. The default value is 10 milliseconds.
+     *
+     * @return the collection window, in milliseconds.
+     */
+    long windowMilliseconds() default 10;
+}
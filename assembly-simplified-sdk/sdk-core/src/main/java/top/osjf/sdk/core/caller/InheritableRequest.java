@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.Request;
+import top.osjf.sdk.core.lang.NotNull;
+
+/**
+ * Implemented by the {@code Request} types that carry per-call settings which a
+ * {@link RequestAggregator} is not aware of, such as the transfer options of
+ * HTTP requests.
+ *
+ * <p>The {@link RequestBatcher} hands the first single-item {@code Request} of a
+ * batch to the bulk {@code Request} built by the aggregator through {@link #inherit},
+ * the requests of a batch all coming from the same method and host.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface InheritableRequest {
+
+    /**
+     * Take over the per-call settings of the given single-item {@code Request}
+     * that are not set on this {@code Request}.
+     *
+     * @param request a single-item {@code Request} aggregated into this one.
+     */
+    void inherit(@NotNull Request<?> request);
+}
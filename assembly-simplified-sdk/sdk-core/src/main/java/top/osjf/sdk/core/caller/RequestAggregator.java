@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.Request;
+import top.osjf.sdk.core.Response;
+import top.osjf.sdk.core.lang.NotNull;
+
+import java.util.List;
+
+/**
+ * The aggregation strategy interface of {@link BatchOptions}, responsible for
+ * merging single-item {@code Request} into a bulk {@code Request} supported by
+ * the remote API and splitting the bulk {@code Response} back to each caller.
+ *
+ * <p>Implementations must be thread-safe, and the same instance is shared by
+ * all batches of the annotated method.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface RequestAggregator {
+
+    /**
+     * Merge the given single-item {@code Request} list into one bulk
+     * {@code Request}.
+     *
+     * @param requests the single-item {@code Request} list in arrival order,
+     *                 never empty.
+     * @return the bulk {@code Request} to execute.
+     */
+    @NotNull
+    Request<?> aggregate(@NotNull List<Request<?>> requests);
+
+    /**
+     * Split the bulk {@code Response} into single-item {@code Response}.
+     *
+     * <p>The returned list must have the same size and order as the given
+     * single-item {@code Request} list, the element at index {@code i} is
+     * handed to the caller of {@code requests.get(i)}.
+     *
+     * @param requests the single-item {@code Request} list in arrival order.
+     * @param response the bulk {@code Response}.
+     * @return the single-item {@code Response} list.
+     */
+    @NotNull
+    List<? extends Response> split(@NotNull List<Request<?>> requests, @NotNull Response response);
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.caller;
+
+import top.osjf.sdk.core.Request;
+import top.osjf.sdk.core.Response;
+import top.osjf.sdk.core.lang.NotNull;
+import top.osjf.sdk.core.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code RequestBatcher} collects concurrent single-item calls of the same
+ * key within a time or size window, executes them as one bulk {@code Request}
+ * and completes the {@code CompletableFuture} of each caller with its own split
+ * {@code Response}.
+ *
+ * <p>A batch is opened by the first call of a key and scheduled to be sent after
+ * the window expires. When the number of collected calls reaches the maximum
+ * size before that, the batch is closed and sent immediately on the thread of
+ * the call that filled it. A batch containing only one call executes the original
+ * {@code Request} directly without aggregation.
+ *
+ * <p>Any exception thrown during aggregation, execution or splitting completes
+ * all futures of the batch exceptionally.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ * @see BatchOptions
+ * @see RequestAggregator
+ */
+public class RequestBatcher {
+
+    /**
+     * Open batches, one per key at most.
+     */
+    private final ConcurrentMap<String, Batch> batches = new ConcurrentHashMap<>();
+
+    /**
+     * The scheduler used to send batches whose window has expired.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a {@code RequestBatcher} using an internal daemon scheduler whose
+     * thread count equals the number of available processors.
+     */
+    public RequestBatcher() {
+        this(newDefaultScheduler());
+    }
+
+    /**
+     * Creates a {@code RequestBatcher} using the given scheduler to send the
+     * batches whose window has expired.
+     *
+     * @param scheduler the scheduler used to send expired batches.
+     * @throws NullPointerException if input scheduler is {@literal null}.
+     */
+    public RequestBatcher(@NotNull ScheduledExecutorService scheduler) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler == null");
+    }
+
+    /**
+     * Submit a single-item {@code Request} to the batch of the given key.
+     *
+     * @param key                the batch key, calls with the same key are aggregated together.
+     * @param request            the single-item {@code Request}.
+     * @param host               the real server hostname.
+     * @param aggregator         the {@code RequestAggregator} of the batch.
+     * @param maxBatchSize       the maximum number of calls in one batch.
+     * @param windowMilliseconds the collection window in milliseconds.
+     * @return the {@code CompletableFuture} completed with the split {@code Response}.
+     * @throws NullPointerException if input key, request or aggregator is {@literal null}.
+     */
+    public CompletableFuture<Response> submit(@NotNull String key,
+                                              @NotNull Request<?> request,
+                                              @Nullable String host,
+                                              @NotNull RequestAggregator aggregator,
+                                              int maxBatchSize,
+                                              long windowMilliseconds) {
+        Objects.requireNonNull(request, "request == null");
+        Objects.requireNonNull(aggregator, "aggregator == null");
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        int max = Math.max(1, maxBatchSize);
+        for (; ; ) {
+            Batch batch = batches.computeIfAbsent(key, k -> new Batch(k, host, aggregator));
+            int size = batch.add(request, future, max);
+            if (size < 0) {
+                //The batch was closed by another thread, take the next one.
+                batches.remove(key, batch);
+                continue;
+            }
+            if (size == 1 && max > 1) {
+                scheduler.schedule(batch::send, Math.max(0, windowMilliseconds), TimeUnit.MILLISECONDS);
+            }
+            if (size >= max) {
+                batch.send();
+            }
+            return future;
+        }
+    }
+
+    /**
+     * Shutdown the scheduler of this {@code RequestBatcher}, batches that are
+     * already scheduled are still sent.
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private static ScheduledExecutorService newDefaultScheduler() {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(Runtime.getRuntime().availableProcessors(), r -> {
+                    Thread thread = new Thread(r, "sdk-request-batcher-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * A batch of single-item calls under the same key.
+     */
+    private class Batch {
+        final String key;
+        @Nullable final String host;
+        final RequestAggregator aggregator;
+        final List<Request<?>> requests = new ArrayList<>();
+        final List<CompletableFuture<Response>> futures = new ArrayList<>();
+        boolean closed;
+
+        Batch(String key, @Nullable String host, RequestAggregator aggregator) {
+            this.key = key;
+            this.host = host;
+            this.aggregator = aggregator;
+        }
+
+        //Return the size after adding, or -1 when the batch was already closed.
+        synchronized int add(Request<?> request, CompletableFuture<Response> future, int max) {
+            if (closed) return -1;
+            requests.add(request);
+            futures.add(future);
+            int size = requests.size();
+            if (size >= max) closed = true;
+            return size;
+        }
+
+        void send() {
+            List<Request<?>> sendRequests;
+            List<CompletableFuture<Response>> sendFutures;
+            synchronized (this) {
+                if (futures.isEmpty()) return;
+                closed = true;
+                sendRequests = new ArrayList<>(requests);
+                sendFutures = new ArrayList<>(futures);
+                requests.clear();
+                futures.clear();
+            }
+            batches.remove(key, this);
+            try {
+                if (sendRequests.size() == 1) {
+                    sendFutures.get(0).complete(sendRequests.get(0).execute(host));
+                    return;
+                }
+                Request<?> aggregated = aggregator.aggregate(sendRequests);
+                if (aggregated instanceof InheritableRequest) {
+                    ((InheritableRequest) aggregated).inherit(sendRequests.get(0));
+                }
+                Response response = aggregated.execute(host);
+                List<? extends Response> responses = aggregator.split(sendRequests, response);
+                if (responses == null || responses.size() != sendRequests.size()) {
+                    throw new SdkCallerException("Aggregator " + aggregator.getClass().getName()
+                            + " split " + (responses == null ? 0 : responses.size()) + " responses for "
+                            + sendRequests.size() + " requests");
+                }
+                for (int i = 0; i < sendFutures.size(); i++) {
+                    sendFutures.get(i).complete(responses.get(i));
+                }
+            } catch (Throwable e) {
+                for (CompletableFuture<Response> future : sendFutures) {
+                    future.completeExceptionally(e);
+                }
+            }
+        }
+    }
+}
@@ -21,6 +21,8 @@ import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.support.LoadOrder;
 import top.osjf.sdk.core.lang.NotNull;
 import top.osjf.sdk.core.lang.Nullable;
+import top.osjf.sdk.core.metrics.SdkMetrics;
+import top.osjf.sdk.core.metrics.SdkMetricsHolder;
 import top.osjf.sdk.core.util.CollectionUtils;
 import top.osjf.sdk.core.util.ReflectUtil;
 import top.osjf.sdk.core.util.SynchronizedWeakHashMap;
@@ -30,6 +32,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 /**
@@ -62,6 +67,11 @@ import java.util.function.Supplier;
  * <p>The class also provides some auxiliary methods for obtaining configured execution option values
  * from the {@code CallOptions} annotation, such as retry times, retry intervals, and so on.
  *
+ * <p>Since 3.0.1, methods annotated with {@link BatchOptions} are executed through a
+ * {@link RequestBatcher}, which aggregates concurrent single-item calls into one bulk
+ * {@code Request}; the {@code CallOptions} configuration is then applied to the
+ * single-item view of each caller.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
@@ -72,6 +82,37 @@ public class RequestCaller {
      */
     private static final Map<String, Object> OBJECT_CACHE = new SynchronizedWeakHashMap<>();
 
+    /**
+     * The {@code RequestBatcher} used by methods annotated with {@link BatchOptions},
+     * lazily uses the shared default instance when not set.
+     *
+     * @since 3.0.1
+     */
+    @Nullable
+    private RequestBatcher requestBatcher;
+
+    /**
+     * Set a {@code RequestBatcher} for methods annotated with {@link BatchOptions}.
+     *
+     * @param requestBatcher a {@code RequestBatcher}.
+     * @since 3.0.1
+     */
+    public void setRequestBatcher(@Nullable RequestBatcher requestBatcher) {
+        this.requestBatcher = requestBatcher;
+    }
+
+    /**
+     * Return the {@code RequestBatcher} for methods annotated with {@link BatchOptions},
+     * if not set, return the shared default instance.
+     *
+     * @return the {@code RequestBatcher} instance.
+     * @since 3.0.1
+     */
+    @NotNull
+    public RequestBatcher getRequestBatcher() {
+        return requestBatcher != null ? requestBatcher : DefaultRequestBatcherHolder.INSTANCE;
+    }
+
     /**
      * Execute the request without {@code CallOptions} and through the given {@code Request} instance
      * object and {@code host} address.
@@ -190,6 +231,15 @@ public class RequestCaller {
                                                      @Nullable ThrowablePredicate providerThrowablePredicate,
                                                      @Nullable AsyncPubSubExecutorProvider providerExecutorProvider) {
         CallOptions callOptions = resolveMethodCallOptions(method);
+        BatchOptions batchOptions = method.getAnnotation(BatchOptions.class);
+        if (batchOptions != null) {
+            Supplier<Response> supplier = () -> executeBatched(request, host, method, batchOptions);
+            if (callOptions == null) {
+                return noCallOptionsToExecute(supplier, request, providerCallbacks);
+            }
+            return resolveRequestExecuteWithOptions(retryRecordingSupplier(supplier, request, host), request,
+                    callOptions, providerCallbacks, providerThrowablePredicate, providerExecutorProvider);
+        }
         if (callOptions == null) {
             return noCallOptionsToExecute(request, host, providerCallbacks);
         }
@@ -219,8 +269,36 @@ public class RequestCaller {
                                                      @Nullable AsyncPubSubExecutorProvider providerExecutorProvider) {
 
         return resolveRequestExecuteWithOptions
-                (() -> request.execute(host), request, callOptions, providerCallbacks, providerThrowablePredicate,
-                        providerExecutorProvider);
+                (retryRecordingSupplier(() -> request.execute(host), request, host), request, callOptions,
+                        providerCallbacks, providerThrowablePredicate, providerExecutorProvider);
+    }
+
+    /**
+     * Wrap the given provider function so that every invocation after the first one is
+     * recorded as a retry to the active {@link SdkMetrics}, returns the given provider
+     * function directly when metrics are disabled.
+     *
+     * @param supplier the provider function of the {@code Response} object.
+     * @param request  input {@code Request} obj.
+     * @param host     the real server hostname.
+     * @return the retry recording provider function.
+     * @since 3.0.1
+     */
+    protected Supplier<Response> retryRecordingSupplier(@NotNull Supplier<Response> supplier,
+                                                        @NotNull Request<?> request,
+                                                        @Nullable String host) {
+        SdkMetrics metrics = SdkMetricsHolder.getSdkMetrics();
+        if (!metrics.isEnabled()) {
+            return supplier;
+        }
+        AtomicBoolean invoked = new AtomicBoolean();
+        return () -> {
+            if (invoked.getAndSet(true)) {
+                metrics.recordRetry(request.matchSdkEnum().name(),
+                        SdkMetricsHolder.hostOf(request.getUrl(host).getUrl()));
+            }
+            return supplier.get();
+        };
     }
 
     /**
@@ -371,6 +449,7 @@ public class RequestCaller {
      * <ul>
      * <li>{@link Method#isAnnotationPresent} is {@code true}</li>
      * <li>{@link Method#getDeclaringClass()} + {@link Class#getDeclaringClass()} is {@code true}</li>
+     * <li>{@link Method#isAnnotationPresent} of {@link BatchOptions} is {@code true}(since 3.0.1)</li>
      * </ul>
      * <p>Used to determine whether a more advanced calling method is suitable for use.
      * @param method the input method.
@@ -381,7 +460,43 @@ public class RequestCaller {
      */
     public static boolean condition(Method method){
         return method.isAnnotationPresent(CallOptions.class)
-                || method.getDeclaringClass().isAnnotationPresent(CallOptions.class);
+                || method.getDeclaringClass().isAnnotationPresent(CallOptions.class)
+                || method.isAnnotationPresent(BatchOptions.class);
+    }
+
+    /**
+     * Submit the single-item {@code Request} to the {@link #getRequestBatcher()} and wait
+     * for its split {@code Response}.
+     *
+     * <p>Calls of the same method and host are aggregated into the same batch.
+     *
+     * @param request      input {@code Request} obj.
+     * @param host         the real server hostname.
+     * @param method       the method object to be executed.
+     * @param batchOptions {@code BatchOptions} annotation.
+     * @return The split {@code Response} of the input {@code Request}.
+     * @throws SdkCallerException if interrupted while waiting or the bulk execution
+     *                            fails with a checked exception.
+     * @since 3.0.1
+     */
+    protected Response executeBatched(@NotNull Request<?> request, @Nullable String host,
+                                      @NotNull Method method, @NotNull BatchOptions batchOptions) {
+        String name = request.matchSdkEnum().name();
+        RequestAggregator aggregator = getRequestAggregatorByOptions(name, batchOptions);
+        CompletableFuture<Response> future = getRequestBatcher()
+                .submit(method.toGenericString() + "@" + host, request, host, aggregator,
+                        batchOptions.maxBatchSize(), batchOptions.windowMilliseconds());
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdkCallerException("Interrupted while waiting for the batch response of " + name, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new SdkCallerException(cause.getMessage(), cause);
+        }
     }
 
     /**
@@ -397,9 +512,27 @@ public class RequestCaller {
     protected Response noCallOptionsToExecute(@NotNull Request<?> request,
                                               String host,
                                               @Nullable List<Callback> callbacks) {
+        return noCallOptionsToExecute(() -> request.execute(host), request, callbacks);
+    }
+
+    /**
+     * The proxy method did not find the execution method for annotation {@code CallOptions},
+     * obtain the {@code Response} from the given provider function.
+     *
+     * @param supplier  the provider function of the {@code Response} object.
+     * @param request   input {@code Request} obj.
+     * @param callbacks the provider {@code Callback} instances.
+     * @return Response result {@code Response} object, returns {@literal null}
+     * in case of exception.
+     * @since 3.0.1
+     */
+    @Nullable
+    protected Response noCallOptionsToExecute(@NotNull Supplier<Response> supplier,
+                                              @NotNull Request<?> request,
+                                              @Nullable List<Callback> callbacks) {
         boolean hasCallbacks = CollectionUtils.isNotEmpty(callbacks);
         try {
-            Response response = request.execute(host);
+            Response response = supplier.get();
             if (response.isSuccess())
                 if (hasCallbacks)
                     callbacks.forEach(c -> c.success(request, response));
@@ -555,6 +688,28 @@ public class RequestCaller {
         return getClassedInstance(name, pubSubExecutorProviderClass);
     }
 
+    /**
+     * Get an Instance {@code RequestAggregator} by annotation {@code BatchOptions}.
+     *
+     * <p>The aggregator is a required option, so when {@link #getClassedInstance} does
+     * not provide one, it is instantiated by reflection and cached.
+     *
+     * @param name         current sdk name.
+     * @param batchOptions {@code BatchOptions} annotation.
+     * @return The Instance {@code RequestAggregator}.
+     * @since 3.0.1
+     */
+    @NotNull
+    protected RequestAggregator getRequestAggregatorByOptions(String name, BatchOptions batchOptions) {
+        Class<? extends RequestAggregator> aggregatorClass = batchOptions.aggregatorClass();
+        RequestAggregator aggregator = getClassedInstance(name, aggregatorClass);
+        if (aggregator == null) {
+            aggregator = (RequestAggregator) OBJECT_CACHE.computeIfAbsent(name + ":" + aggregatorClass.getName(),
+                    s -> ReflectUtil.instantiates(aggregatorClass));
+        }
+        return aggregator;
+    }
+
     /**
      * Return some method options in annotation {@code CallOptions}
      * that return {@code Class}(for example {@link CallOptions#callbackClass()}),
@@ -573,4 +728,11 @@ public class RequestCaller {
         return (T) OBJECT_CACHE
                 .computeIfAbsent(name + ":" + clazz.getName(), s -> ReflectUtil.instantiates(clazz));
     }
+
+    /**
+     * The holder of the shared default {@code RequestBatcher}, created on first use.
+     */
+    private static class DefaultRequestBatcherHolder {
+        static final RequestBatcher INSTANCE = new RequestBatcher();
+    }
 }
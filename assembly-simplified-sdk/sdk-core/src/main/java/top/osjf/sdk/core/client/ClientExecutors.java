@@ -20,6 +20,9 @@ import top.osjf.sdk.core.exception.ClientRequestFailedException;
 import top.osjf.sdk.core.Request;
 import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.URL;
+import top.osjf.sdk.core.metrics.SdkMetrics;
+import top.osjf.sdk.core.metrics.SdkMetricsHolder;
+import top.osjf.sdk.core.metrics.SdkPhase;
 import top.osjf.sdk.core.util.ReflectUtil;
 
 import java.util.function.Supplier;
@@ -95,6 +98,9 @@ public class ClientExecutors {
      * After obtaining the corresponding {@code Client}, it is necessary to bind
      * the two parameters {@code Request} and {@code Url} executed by the current
      * client, and the specific binding strategy is determined by the subclass.
+     * <p>
+     * Since 3.0.1, the elapsed time is recorded as {@link SdkPhase#CLIENT_LOOKUP}
+     * to the active {@link SdkMetrics}.
      *
      * @param url     {@code URL} Object of packaging tags and URL addresses
      *                and updated on version 1.0.2.
@@ -104,10 +110,17 @@ public class ClientExecutors {
      */
     @SuppressWarnings("unchecked")
     protected static <R extends Response> Client<R> getClient(URL url, Request<R> request) {
-        return getClientManager()
+        SdkMetrics metrics = SdkMetricsHolder.getSdkMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+        Client<R> client = getClientManager()
                 .getMaintainedClient(url.getUnique(),
                         (Supplier<Client<R>>) () -> ReflectUtil.instantiates(request.getClientType(), url))
                 .bindRequest(request)
                 .bindUrl(url.getUrl());
+        if (metrics.isEnabled()) {
+            metrics.recordPhase(request.matchSdkEnum().name(), SdkMetricsHolder.hostOf(url.getUrl()),
+                    SdkPhase.CLIENT_LOOKUP, System.nanoTime() - start);
+        }
+        return client;
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.metrics;
+
+import top.osjf.sdk.core.exception.SdkException;
+import top.osjf.sdk.core.lang.NotNull;
+import top.osjf.sdk.core.lang.Nullable;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The error classification of an SDK call.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public enum ErrorCategory {
+
+    /**
+     * The call succeeded.
+     */
+    NONE,
+
+    /**
+     * The call timed out on connect or read.
+     */
+    TIMEOUT,
+
+    /**
+     * The call failed with an I/O error other than timeout.
+     */
+    IO,
+
+    /**
+     * The call failed with an {@link SdkException} raised by the SDK itself,
+     * such as parameter validation or response conversion.
+     */
+    SDK,
+
+    /**
+     * The call failed with an unknown error.
+     */
+    UNKNOWN;
+
+    /**
+     * Classify the given error by walking its cause chain, timeout and I/O
+     * causes take precedence over the wrapping {@code SdkException}.
+     *
+     * @param error the error of the call, {@literal null} if succeeded.
+     * @return the classification of the error.
+     */
+    @NotNull
+    public static ErrorCategory classify(@Nullable Throwable error) {
+        if (error == null) return NONE;
+        ErrorCategory category = UNKNOWN;
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof SocketTimeoutException || t instanceof TimeoutException) {
+                return TIMEOUT;
+            }
+            if (t instanceof IOException) {
+                category = IO;
+            } else if (t instanceof SdkException && category == UNKNOWN) {
+                category = SDK;
+            }
+        }
+        return category;
+    }
+}
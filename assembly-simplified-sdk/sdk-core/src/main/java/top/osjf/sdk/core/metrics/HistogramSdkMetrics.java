@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.metrics;
+
+import top.osjf.sdk.core.lang.NotNull;
+import top.osjf.sdk.core.lang.Nullable;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The built-in {@code SdkMetrics} keeping a {@link LatencyHistogram} per SDK name
+ * and host for the whole call and for each {@link SdkPhase}, together with retry
+ * counts and error counts per {@link ErrorCategory}.
+ *
+ * <p>Enable it by registering it in the SPI configuration file of {@link SdkMetrics},
+ * or by {@link SdkMetricsHolder#setSdkMetrics}, and read the results from
+ * {@link #getMetrics()}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class HistogramSdkMetrics implements SdkMetrics {
+
+    private final Map<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordPhase(@NotNull String name, @Nullable String host, @NotNull SdkPhase phase, long nanos) {
+        getMethodMetrics(name, host).phaseHistograms.get(phase).record(nanos);
+    }
+
+    @Override
+    public void recordCall(@NotNull String name, @Nullable String host, long nanos, @NotNull ErrorCategory category) {
+        MethodMetrics methodMetrics = getMethodMetrics(name, host);
+        methodMetrics.callHistogram.record(nanos);
+        methodMetrics.resultCounts.get(category).increment();
+    }
+
+    @Override
+    public void recordRetry(@NotNull String name, @Nullable String host) {
+        getMethodMetrics(name, host).retryCount.increment();
+    }
+
+    /**
+     * Return the live metrics keyed by {@code name@host}.
+     *
+     * @return the unmodifiable live metrics map.
+     */
+    public Map<String, MethodMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Clear all recorded metrics.
+     */
+    public void reset() {
+        metrics.clear();
+    }
+
+    private MethodMetrics getMethodMetrics(String name, @Nullable String host) {
+        String key = host == null ? name : name + "@" + host;
+        MethodMetrics methodMetrics = metrics.get(key);
+        if (methodMetrics == null) {
+            methodMetrics = metrics.computeIfAbsent(key, k -> new MethodMetrics(name, host));
+        }
+        return methodMetrics;
+    }
+
+    /**
+     * The metrics of one SDK name and host.
+     */
+    public static class MethodMetrics {
+
+        private final String name;
+
+        @Nullable
+        private final String host;
+
+        private final LatencyHistogram callHistogram = new LatencyHistogram();
+
+        private final Map<SdkPhase, LatencyHistogram> phaseHistograms = new EnumMap<>(SdkPhase.class);
+
+        private final Map<ErrorCategory, LongAdder> resultCounts = new EnumMap<>(ErrorCategory.class);
+
+        private final LongAdder retryCount = new LongAdder();
+
+        MethodMetrics(String name, @Nullable String host) {
+            this.name = name;
+            this.host = host;
+            for (SdkPhase phase : SdkPhase.values()) {
+                phaseHistograms.put(phase, new LatencyHistogram());
+            }
+            for (ErrorCategory category : ErrorCategory.values()) {
+                resultCounts.put(category, new LongAdder());
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Nullable
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * Return the histogram of the whole call latency in nanoseconds.
+         *
+         * @return the histogram of the whole call latency.
+         */
+        public LatencyHistogram getCallHistogram() {
+            return callHistogram;
+        }
+
+        /**
+         * Return the histogram of the given phase latency in nanoseconds.
+         *
+         * @param phase the phase of the call.
+         * @return the histogram of the given phase latency.
+         */
+        public LatencyHistogram getPhaseHistogram(SdkPhase phase) {
+            return phaseHistograms.get(phase);
+        }
+
+        /**
+         * Return the number of calls classified as the given category.
+         *
+         * @param category the result classification.
+         * @return the number of calls.
+         */
+        public long getResultCount(ErrorCategory category) {
+            return resultCounts.get(category).sum();
+        }
+
+        /**
+         * Return the number of retries.
+         *
+         * @return the number of retries.
+         */
+        public long getRetryCount() {
+            return retryCount.sum();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.metrics;
+
+/**
+ * The no-op {@code SdkMetrics}, used when no other implementation is provided
+ * by the SPI mechanism.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class NoOpSdkMetrics implements SdkMetrics {
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordPhase(String name, String host, SdkPhase phase, long nanos) {
+    }
+
+    @Override
+    public void recordCall(String name, String host, long nanos, ErrorCategory category) {
+    }
+
+    @Override
+    public void recordRetry(String name, String host) {
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.metrics;
+
+import top.osjf.sdk.core.lang.NotNull;
+import top.osjf.sdk.core.lang.Nullable;
+
+/**
+ * The metrics SPI of the SDK layer, receiving the latency, phase timings, retry
+ * counts and error classification of every SDK call.
+ *
+ * <p>The {@code name} of all methods is the {@link top.osjf.sdk.core.SdkEnum#name()}
+ * of the executed {@code Request}, and the {@code host} is the authority part of the
+ * requested URL resolved by {@link SdkMetricsHolder#hostOf(String)}, which may be
+ * {@literal null} if it cannot be resolved.
+ *
+ * <p>Implementations are called on the request thread and must be thread-safe
+ * and cheap. The active instance is loaded by the SPI mechanism through
+ * {@link SdkMetricsHolder}, and defaults to {@link NoOpSdkMetrics}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ * @see HistogramSdkMetrics
+ */
+public interface SdkMetrics {
+
+    /**
+     * Return whether this metrics instance records anything, when {@code false}
+     * the SDK layer skips taking timestamps entirely.
+     *
+     * @return {@code true} if records are collected, otherwise {@code false}.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Record the elapsed time of a phase of an SDK call.
+     *
+     * @param name  the SDK name.
+     * @param host  the requested host.
+     * @param phase the phase of the call.
+     * @param nanos the elapsed time in nanoseconds.
+     */
+    void recordPhase(@NotNull String name, @Nullable String host, @NotNull SdkPhase phase, long nanos);
+
+    /**
+     * Record the total elapsed time and result classification of an SDK call.
+     *
+     * @param name     the SDK name.
+     * @param host     the requested host.
+     * @param nanos    the elapsed time in nanoseconds.
+     * @param category the error classification, {@link ErrorCategory#NONE} if succeeded.
+     */
+    void recordCall(@NotNull String name, @Nullable String host, long nanos, @NotNull ErrorCategory category);
+
+    /**
+     * Record one retry of an SDK call.
+     *
+     * @param name the SDK name.
+     * @param host the requested host.
+     */
+    void recordRetry(@NotNull String name, @Nullable String host);
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.metrics;
+
+import top.osjf.sdk.core.lang.NotNull;
+import top.osjf.sdk.core.lang.Nullable;
+import top.osjf.sdk.core.support.SdkSupport;
+
+import java.util.Objects;
+
+/**
+ * The holder of the active {@link SdkMetrics} instance.
+ *
+ * <p>The instance is loaded once by the SPI mechanism with the highest priority
+ * provider of {@code SdkMetrics}, falling back to {@link NoOpSdkMetrics}, and can
+ * be replaced at runtime by {@link #setSdkMetrics}.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public final class SdkMetricsHolder {
+
+    private static volatile SdkMetrics sdkMetrics = SdkSupport.loadInstance(SdkMetrics.class,
+            "top.osjf.sdk.core.metrics.NoOpSdkMetrics");
+
+    private SdkMetricsHolder() {
+        throw new AssertionError("No instance for you !");
+    }
+
+    /**
+     * Return the active {@code SdkMetrics} instance.
+     *
+     * @return the active {@code SdkMetrics} instance.
+     */
+    @NotNull
+    public static SdkMetrics getSdkMetrics() {
+        return sdkMetrics;
+    }
+
+    /**
+     * Replace the active {@code SdkMetrics} instance.
+     *
+     * @param sdkMetrics the new {@code SdkMetrics} instance.
+     * @throws NullPointerException if input sdkMetrics is {@literal null}.
+     */
+    public static void setSdkMetrics(@NotNull SdkMetrics sdkMetrics) {
+        SdkMetricsHolder.sdkMetrics = Objects.requireNonNull(sdkMetrics, "sdkMetrics == null");
+    }
+
+    /**
+     * Resolve the host, the authority part between {@code "://"} and the first
+     * following {@code '/'}, {@code '?'} or {@code '#'}, of the given URL without
+     * creating a {@link java.net.URI}.
+     *
+     * @param url the requested URL.
+     * @return the host of the URL, or {@literal null} if it cannot be resolved.
+     */
+    @Nullable
+    public static String hostOf(@Nullable String url) {
+        if (url == null) return null;
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        int end = start;
+        while (end < url.length()) {
+            char c = url.charAt(end);
+            if (c == '/' || c == '?' || c == '#') break;
+            end++;
+        }
+        return end > start ? url.substring(start, end) : null;
+    }
+}
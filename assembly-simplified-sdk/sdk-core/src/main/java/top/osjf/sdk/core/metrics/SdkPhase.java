@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package top.osjf.sdk.core.metrics;
+
+/**
+ * The measured phases of an SDK call.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public enum SdkPhase {
+
+    /**
+     * Resolve method parameters and create the {@code Request}.
+     */
+    REQUEST_BUILD,
+
+    /**
+     * Look up or create the {@code Client} and bind the {@code Request}.
+     */
+    CLIENT_LOOKUP,
+
+    /**
+     * Execute the request I/O by the underlying executor.
+     */
+    EXECUTE,
+
+    /**
+     * Preprocess and convert the response body to {@code Response}.
+     */
+    RESPONSE_CONVERT
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.core.spi;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * An opt-in annotation processor that precomputes the Provider index read by
+ * {@link SpiLoader} into {@value SpiLoader#SPI_INDEX_FILE}.
+ *
+ * <p>The processor collects the interfaces and abstract classes implemented by the
+ * compiled types, and in the final round reads the {@code META-INF/services} file of
+ * each of them from the class output. Every listed Provider is written with the
+ * alias name, order and flags of its {@link Spi} annotation, so that at runtime
+ * {@link SpiLoader} can build its index without loading and reflecting each Provider.
+ *
+ * <p>It is not registered as a service on purpose, a module enables it explicitly
+ * through the {@code annotationProcessorPaths} or {@code -processor} of its compiler
+ * configuration. Classpath roots without the index file keep being scanned as before.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+@SupportedAnnotationTypes("*")
+public class SpiIndexProcessor extends AbstractProcessor {
+
+    private static final String SERVICES_PREFIX = "META-INF/services/";
+
+    private final Set<String> services = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                if (element instanceof TypeElement) {
+                    collectServices((TypeElement) element);
+                }
+            }
+        }
+        // Never claim any annotation, other processors still see them all.
+        return false;
+    }
+
+    private void collectServices(TypeElement type) {
+        List<TypeMirror> supertypes = new ArrayList<>(type.getInterfaces());
+        supertypes.add(type.getSuperclass());
+        for (TypeMirror supertype : supertypes) {
+            if (supertype.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            TypeElement element = (TypeElement) ((DeclaredType) supertype).asElement();
+            if (element.getKind() == ElementKind.INTERFACE || element.getModifiers().contains(Modifier.ABSTRACT)) {
+                if (services.add(element.getQualifiedName().toString())) {
+                    collectServices(element);
+                }
+            }
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement) {
+                collectServices((TypeElement) enclosed);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+        List<String> lines = new ArrayList<>();
+        for (String service : services) {
+            for (String provider : readProviders(filer, service)) {
+                TypeElement element = processingEnv.getElementUtils().getTypeElement(provider);
+                if (element == null) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "SPI provider " + provider + " of " + service + " not found, skipped from the index");
+                    continue;
+                }
+                Spi spi = element.getAnnotation(Spi.class);
+                String aliasName = spi == null || "".equals(spi.value()) ? provider : spi.value();
+                lines.add(service + "=" + provider + "|" + aliasName + "|" + (spi == null ? 0 : spi.order())
+                        + "|" + (spi != null && spi.isDefault()) + "|" + (spi == null || spi.isSingleton()));
+            }
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SpiLoader.SPI_INDEX_FILE);
+            try (Writer writer = index.openWriter()) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + SpiLoader.SPI_INDEX_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private List<String> readProviders(Filer filer, String service) {
+        List<String> providers = new ArrayList<>();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES_PREFIX + service);
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(resource.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    int commentIndex = line.indexOf('#');
+                    if (commentIndex >= 0) {
+                        line = line.substring(0, commentIndex);
+                    }
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        providers.add(line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // No Provider configuration file for this type, it is not a Service here.
+        }
+        return providers;
+    }
+}
@@ -42,7 +42,6 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * NOTE: This file has been copied and slightly modified from {com.alibaba.csp.sentinel.spi}.
@@ -82,6 +81,19 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * <li>Load instance by alias name or provider class.</li>
  * </ul>
  *
+ * <p>Since version 3.0.1, the providers of a Service are discovered once per
+ * {@code ClassLoader} into an immutable, ordered {@code ProviderIndex} that is
+ * published through a concurrent map keyed by that {@code ClassLoader}, so every
+ * lookup after the first one is lock-free and never touches the classpath again,
+ * even when the calling threads alternate context {@code ClassLoader}s. Singleton
+ * instances are held by the index entries themselves.
+ *
+ * <p>The discovery can be precomputed at build time by {@link SpiIndexProcessor},
+ * which writes the alias, order and flags of every provider into
+ * {@value #SPI_INDEX_FILE}. For the classpath roots carrying that file, the
+ * Provider classes are neither loaded nor reflected at startup, only the class of
+ * the instance actually requested is loaded.
+ *
  * @see Spi
  * @see ServiceLoader
  */
@@ -94,36 +106,26 @@ public final class SpiLoader<S> {
     // Default path for the folder of Provider configuration file
     private static final String SPI_FILE_PREFIX = "META-INF/services/";
 
+    /**
+     * The path of the build time generated Provider index file.
+     * @since 3.0.1
+     */
+    public static final String SPI_INDEX_FILE = "META-INF/sdk-spi.index";
+
     // Cache the SpiLoader instances, key: classname of Service, value: SpiLoader instance
     private static final ConcurrentHashMap<String, SpiLoader> SPI_LOADER_MAP = new ConcurrentHashMap<>();
 
-    // Cache the classes of Provider
-    private final List<Class<? extends S>> classList = Collections.synchronizedList(new ArrayList<>());
-
-    // Cache the sorted classes of Provider
-    private final List<Class<? extends S>> sortedClassList = Collections.synchronizedList(new ArrayList<>());
-
     /**
-     * Cache the classes of Provider, key: aliasName, value: class of Provider.
-     * Note: aliasName is the value of {@link Spi} when the Provider class has {@link Spi} annotation and value is not empty,
-     * otherwise use classname of the Provider.
+     * The immutable Provider indexes, key: resolved {@code ClassLoader}, value: its Provider index.
+     * @since 3.0.1
      */
-    private final ConcurrentHashMap<String, Class<? extends S>> classMap = new ConcurrentHashMap<>();
-
-    // Cache the singleton instance of Provider, key: classname of Provider, value: Provider instance
-    private final ConcurrentHashMap<String, S> singletonMap = new ConcurrentHashMap<>();
-
-    // Whether this SpiLoader has been loaded, that is, loaded the Provider configuration file
-    private final AtomicBoolean loaded = new AtomicBoolean(false);
-
-    // Default provider class
-    private Class<? extends S> defaultClass = null;
+    private final ConcurrentHashMap<ClassLoader, ProviderIndex> indexes = new ConcurrentHashMap<>();
 
     // The Service class, must be interface or abstract class
     private final Class<S> service;
 
     //Whether use context classloader via config parameter
-    private boolean shouldUseContextClassloader = false;
+    private volatile boolean shouldUseContextClassloader = false;
 
     /**
      * Create SpiLoader instance via Service class
@@ -135,22 +137,16 @@ public final class SpiLoader<S> {
      */
     public static <T> SpiLoader<T> of(Class<T> service) {
         SdkArgs.notNull(service, "SPI class cannot be null");
-        SdkArgs.isTrue(service.isInterface() || Modifier.isAbstract(service.getModifiers()),
-                "SPI class[" + service.getName() + "] must be interface or abstract class");
 
         String className = service.getName();
         SpiLoader<T> spiLoader = SPI_LOADER_MAP.get(className);
-        if (spiLoader == null) {
-            synchronized (SpiLoader.class) {
-                spiLoader = SPI_LOADER_MAP.get(className);
-                if (spiLoader == null) {
-                    SPI_LOADER_MAP.putIfAbsent(className, new SpiLoader<>(service));
-                    spiLoader = SPI_LOADER_MAP.get(className);
-                }
-            }
+        if (spiLoader != null) {
+            return spiLoader;
         }
 
-        return spiLoader;
+        SdkArgs.isTrue(service.isInterface() || Modifier.isAbstract(service.getModifiers()),
+                "SPI class[" + service.getName() + "] must be interface or abstract class");
+        return SPI_LOADER_MAP.computeIfAbsent(className, name -> new SpiLoader<>(service));
     }
 
     /**
@@ -185,9 +181,7 @@ public final class SpiLoader<S> {
      * @return Provider instances list
      */
     public List<S> loadInstanceList() {
-        load();
-
-        return createInstanceList(classList);
+        return createInstanceList(index().providers);
     }
 
     /**
@@ -196,9 +190,7 @@ public final class SpiLoader<S> {
      * @return Sorted Provider instances list
      */
     public List<S> loadInstanceListSorted() {
-        load();
-
-        return createInstanceList(sortedClassList);
+        return createInstanceList(index().sortedProviders);
     }
 
     /**
@@ -207,14 +199,12 @@ public final class SpiLoader<S> {
      * @return Provider instance of highest order priority
      */
     public S loadHighestPriorityInstance() {
-        load();
-
-        if (sortedClassList.isEmpty()) {
+        List<Provider> sortedProviders = index().sortedProviders;
+        if (sortedProviders.isEmpty()) {
             return null;
         }
 
-        Class<? extends S> highestClass = sortedClassList.get(0);
-        return createInstance(highestClass);
+        return createInstance(sortedProviders.get(0));
     }
 
     /**
@@ -223,14 +213,12 @@ public final class SpiLoader<S> {
      * @return Provider instance of lowest order priority
      */
     public S loadLowestPriorityInstance() {
-        load();
-
-        if (sortedClassList.isEmpty()) {
+        List<Provider> sortedProviders = index().sortedProviders;
+        if (sortedProviders.isEmpty()) {
             return null;
         }
 
-        Class<? extends S> lowestClass = sortedClassList.get(sortedClassList.size() - 1);
-        return createInstance(lowestClass);
+        return createInstance(sortedProviders.get(sortedProviders.size() - 1));
     }
 
     /**
@@ -239,14 +227,12 @@ public final class SpiLoader<S> {
      * @return Provider instance of first-found specific
      */
     public S loadFirstInstance() {
-        load();
-
-        if (classList.isEmpty()) {
+        List<Provider> providers = index().providers;
+        if (providers.isEmpty()) {
             return null;
         }
 
-        Class<? extends S> serviceClass = classList.get(0);
-        return createInstance(serviceClass);
+        return createInstance(providers.get(0));
     }
 
     /**
@@ -255,15 +241,15 @@ public final class SpiLoader<S> {
      * @return Provider instance
      */
     public S loadFirstInstanceOrDefault() {
-        load();
+        ProviderIndex index = index();
 
-        for (Class<? extends S> clazz : classList) {
-            if (defaultClass == null || clazz != defaultClass) {
-                return createInstance(clazz);
+        for (Provider provider : index.providers) {
+            if (provider != index.defaultProvider) {
+                return createInstance(provider);
             }
         }
 
-        return loadDefaultInstance();
+        return index.defaultProvider == null ? null : createInstance(index.defaultProvider);
     }
 
     /**
@@ -273,13 +259,12 @@ public final class SpiLoader<S> {
      * @return default Provider instance
      */
     public S loadDefaultInstance() {
-        load();
-
-        if (defaultClass == null) {
+        Provider defaultProvider = index().defaultProvider;
+        if (defaultProvider == null) {
             return null;
         }
 
-        return createInstance(defaultClass);
+        return createInstance(defaultProvider);
     }
 
     /**
@@ -295,13 +280,12 @@ public final class SpiLoader<S> {
             fail(clazz.getName() + " is not subtype of " + service.getName());
         }
 
-        load();
-
-        if (!classMap.containsValue(clazz)) {
+        Provider provider = index().classNameMap.get(clazz.getName());
+        if (provider == null || provider.getType() != clazz) {
             fail(clazz.getName() + " is not Provider class of " + service.getName() + ",check if it is in the SPI configuration file?");
         }
 
-        return createInstance(clazz);
+        return createInstance(provider);
     }
 
     /**
@@ -313,14 +297,12 @@ public final class SpiLoader<S> {
     public S loadInstance(String aliasName) {
         SdkArgs.hasText(aliasName, "aliasName cannot be empty");
 
-        load();
-
-        Class<? extends S> clazz = classMap.get(aliasName);
-        if (clazz == null) {
+        Provider provider = index().aliasMap.get(aliasName);
+        if (provider == null) {
             fail("no Provider class's aliasName is " + aliasName);
         }
 
-        return createInstance(clazz);
+        return createInstance(provider);
     }
 
     /**
@@ -328,23 +310,40 @@ public final class SpiLoader<S> {
      */
     synchronized void resetAndClear() {
         SPI_LOADER_MAP.remove(service.getName());
-        classList.clear();
-        sortedClassList.clear();
-        classMap.clear();
-        singletonMap.clear();
-        defaultClass = null;
-        loaded.set(false);
+        indexes.clear();
     }
 
     /**
      * Load the Provider class from Provider configuration file
      */
     public void load() {
-        if (!loaded.compareAndSet(false, true)) {
-            return;
+        index();
+    }
+
+    /**
+     * Return the Provider index of the current {@code ClassLoader}, which is built
+     * once and then read without any lock.
+     *
+     * @return the immutable Provider index.
+     * @since 3.0.1
+     */
+    private ProviderIndex index() {
+        ClassLoader classLoader = resolveClassLoader();
+        ProviderIndex index = indexes.get(classLoader);
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            index = indexes.get(classLoader);
+            if (index == null) {
+                index = buildIndex(classLoader);
+                indexes.put(classLoader, index);
+            }
         }
+        return index;
+    }
 
-        String fullFileName = SPI_FILE_PREFIX + service.getName();
+    private ClassLoader resolveClassLoader() {
         ClassLoader classLoader;
         if (shouldUseContextClassloader) {
             classLoader = Thread.currentThread().getContextClassLoader();
@@ -354,6 +353,20 @@ public final class SpiLoader<S> {
         if (classLoader == null) {
             classLoader = ClassLoader.getSystemClassLoader();
         }
+        return classLoader;
+    }
+
+    /**
+     * Build the Provider index of the given {@code ClassLoader} from the Provider
+     * configuration files, preferring the build time generated index of the classpath
+     * root of each file when there is one.
+     *
+     * @param classLoader the {@code ClassLoader} to discover Providers from.
+     * @return the immutable Provider index.
+     * @since 3.0.1
+     */
+    private ProviderIndex buildIndex(ClassLoader classLoader) {
+        String fullFileName = SPI_FILE_PREFIX + service.getName();
         Enumeration<URL> urls = null;
         try {
             urls = classLoader.getResources(fullFileName);
@@ -363,12 +376,147 @@ public final class SpiLoader<S> {
 
         if (urls == null || !urls.hasMoreElements()) {
             LOG.warn("No SPI configuration file, filename=" + fullFileName + ", classloader=" + classLoader);
-            return;
+            return new ProviderIndex(Collections.emptyList());
         }
 
+        Map<String, List<String>> compiledIndexes = readCompiledIndexes(classLoader);
+        List<Provider> providers = new ArrayList<>();
         while (urls.hasMoreElements()) {
             URL url = urls.nextElement();
+            String urlString = url.toString();
+            List<String> compiled = urlString.endsWith(fullFileName) ? compiledIndexes.get(
+                    urlString.substring(0, urlString.length() - fullFileName.length())) : null;
+            if (compiled != null) {
+                for (String line : compiled) {
+                    providers.add(parseCompiledProvider(line, classLoader));
+                }
+            } else {
+                for (String className : readProviderClassNames(url)) {
+                    providers.add(loadProvider(className, classLoader, fullFileName));
+                }
+            }
+        }
+
+        ProviderIndex index = new ProviderIndex(providers);
+        for (Provider provider : providers) {
+            LOG.info("[SpiLoader] Found SPI implementation for SPI {}, provider={}, aliasName={}"
+                            + ", isSingleton={}, isDefault={}, order={}",
+                    service.getName(), provider.className, provider.aliasName
+                    , provider.singleton
+                    , provider.isDefault
+                    , provider.order);
+        }
+        return index;
+    }
+
+    /**
+     * Read the Provider class names listed in a Provider configuration file.
+     *
+     * @param url the url of the Provider configuration file.
+     * @return the Provider class names in file order.
+     */
+    private List<String> readProviderClassNames(URL url) {
+        List<String> classNames = new ArrayList<>();
+        InputStream in = null;
+        BufferedReader br = null;
+        try {
+            in = url.openStream();
+            br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (StringUtils.isBlank(line)) {
+                    // Skip blank line
+                    continue;
+                }
+
+                line = line.trim();
+                int commentIndex = line.indexOf("#");
+                if (commentIndex == 0) {
+                    // Skip comment line
+                    continue;
+                }
+
+                if (commentIndex > 0) {
+                    line = line.substring(0, commentIndex);
+                }
+                classNames.add(line.trim());
+            }
+        } catch (IOException e) {
+            fail("error reading SPI configuration file", e);
+        } finally {
+            closeResources(in, br);
+        }
+        return classNames;
+    }
+
+    /**
+     * Load a Provider class listed in a Provider configuration file and read its
+     * {@link Spi} annotation.
+     */
+    private Provider loadProvider(String className, ClassLoader classLoader, String fullFileName) {
+        Class<S> clazz = null;
+        try {
+            clazz = (Class<S>) Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            fail("class " + className + " not found", e);
+        }
+
+        if (!service.isAssignableFrom(clazz)) {
+            fail("class " + clazz.getName() + "is not subtype of " + service.getName() + ",SPI configuration file=" + fullFileName);
+        }
+
+        Spi spi = clazz.getAnnotation(Spi.class);
+        String aliasName = spi == null || "".equals(spi.value()) ? clazz.getName() : spi.value();
+        return new Provider(clazz.getName(), aliasName, spi == null ? 0 : spi.order(),
+                spi != null && spi.isDefault(), spi == null || spi.isSingleton(), classLoader, clazz);
+    }
+
+    /**
+     * Parse a Provider entry of the build time generated index, the Provider class
+     * itself is loaded lazily on first use.
+     * <p>The entry format is {@code provider|aliasName|order|isDefault|isSingleton}.
+     */
+    private Provider parseCompiledProvider(String line, ClassLoader classLoader) {
+        String[] parts = line.split("\\|", -1);
+        if (parts.length != 5) {
+            fail("Malformed SPI index entry [" + line + "], index file=" + SPI_INDEX_FILE);
+        }
+        int order = 0;
+        try {
+            order = Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            fail("Malformed SPI index order [" + line + "], index file=" + SPI_INDEX_FILE, e);
+        }
+        return new Provider(parts[0], parts[1], order, Boolean.parseBoolean(parts[3]),
+                Boolean.parseBoolean(parts[4]), classLoader, null);
+    }
+
+    /**
+     * Read the entries of this Service from every build time generated index visible
+     * to the given {@code ClassLoader}, keyed by the url of its classpath root.
+     * <p>Each index line has the format {@code service=provider|aliasName|order|isDefault|isSingleton}.
+     */
+    private Map<String, List<String>> readCompiledIndexes(ClassLoader classLoader) {
+        Enumeration<URL> urls;
+        try {
+            urls = classLoader.getResources(SPI_INDEX_FILE);
+        } catch (IOException e) {
+            LOG.warn("Error locating SPI index file, filename=" + SPI_INDEX_FILE + ", classloader=" + classLoader);
+            return Collections.emptyMap();
+        }
+        if (urls == null || !urls.hasMoreElements()) {
+            return Collections.emptyMap();
+        }
 
+        String prefix = service.getName() + "=";
+        Map<String, List<String>> compiledIndexes = new HashMap<>();
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            String urlString = url.toString();
+            if (!urlString.endsWith(SPI_INDEX_FILE)) {
+                continue;
+            }
+            List<String> entries = new ArrayList<>();
             InputStream in = null;
             BufferedReader br = null;
             try {
@@ -376,75 +524,23 @@ public final class SpiLoader<S> {
                 br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
                 String line;
                 while ((line = br.readLine()) != null) {
-                    if (StringUtils.isBlank(line)) {
-                        // Skip blank line
-                        continue;
-                    }
-
                     line = line.trim();
-                    int commentIndex = line.indexOf("#");
-                    if (commentIndex == 0) {
-                        // Skip comment line
-                        continue;
-                    }
-
-                    if (commentIndex > 0) {
-                        line = line.substring(0, commentIndex);
-                    }
-                    line = line.trim();
-
-                    Class<S> clazz = null;
-                    try {
-                        clazz = (Class<S>) Class.forName(line, false, classLoader);
-                    } catch (ClassNotFoundException e) {
-                        fail("class " + line + " not found", e);
-                    }
-
-                    if (!service.isAssignableFrom(clazz)) {
-                        fail("class " + clazz.getName() + "is not subtype of " + service.getName() + ",SPI configuration file=" + fullFileName);
-                    }
-
-                    classList.add(clazz);
-                    Spi spi = clazz.getAnnotation(Spi.class);
-                    String aliasName = spi == null || "".equals(spi.value()) ? clazz.getName() : spi.value();
-                    if (classMap.containsKey(aliasName)) {
-                        Class<? extends S> existClass = classMap.get(aliasName);
-                        fail("Found repeat alias name for " + clazz.getName() + " and "
-                                + existClass.getName() + ",SPI configuration file=" + fullFileName);
-                    }
-                    classMap.put(aliasName, clazz);
-
-                    if (spi != null && spi.isDefault()) {
-                        if (defaultClass != null) {
-                            fail("Found more than one default Provider, SPI configuration file=" + fullFileName);
-                        }
-                        defaultClass = clazz;
+                    if (line.startsWith(prefix)) {
+                        entries.add(line.substring(prefix.length()));
                     }
-
-                    LOG.info("[SpiLoader] Found SPI implementation for SPI {}, provider={}, aliasName={}"
-                                    + ", isSingleton={}, isDefault={}, order={}",
-                            service.getName(), line, aliasName
-                            , spi == null || spi.isSingleton()
-                            , spi != null && spi.isDefault()
-                            , spi == null ? 0 : spi.order());
                 }
             } catch (IOException e) {
-                fail("error reading SPI configuration file", e);
+                fail("error reading SPI index file", e);
             } finally {
                 closeResources(in, br);
             }
+            // An index without entries for this Service still tells that its root
+            // does not declare it, the configuration file is then read as usual.
+            if (!entries.isEmpty()) {
+                compiledIndexes.put(urlString.substring(0, urlString.length() - SPI_INDEX_FILE.length()), entries);
+            }
         }
-
-        sortedClassList.addAll(classList);
-        sortedClassList.sort((o1, o2) -> {
-            Spi spi1 = o1.getAnnotation(Spi.class);
-            int order1 = spi1 == null ? 0 : spi1.order();
-
-            Spi spi2 = o2.getAnnotation(Spi.class);
-            int order2 = spi2 == null ? 0 : spi2.order();
-
-            return Integer.compare(order1, order2);
-        });
+        return compiledIndexes;
     }
 
     @Override
@@ -455,61 +551,49 @@ public final class SpiLoader<S> {
     /**
      * Create Provider instance list
      *
-     * @param clazzList class types of Providers
+     * @param providers Providers
      * @return Provider instance list
      */
-    private List<S> createInstanceList(List<Class<? extends S>> clazzList) {
-        if (clazzList == null || clazzList.isEmpty()) {
+    private List<S> createInstanceList(List<Provider> providers) {
+        if (providers.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<S> instances = new ArrayList<>(clazzList.size());
-        for (Class<? extends S> clazz : clazzList) {
-            S instance = createInstance(clazz);
-            instances.add(instance);
+        List<S> instances = new ArrayList<>(providers.size());
+        for (Provider provider : providers) {
+            instances.add(createInstance(provider));
         }
         return instances;
     }
 
     /**
-     * Create Provider instance
+     * Create Provider instance, a singleton one is created once and then
+     * returned without any lock.
      *
-     * @param clazz class type of Provider
-     * @return Provider class
+     * @param provider Provider
+     * @return Provider instance
      */
-    private S createInstance(Class<? extends S> clazz) {
-        Spi spi = clazz.getAnnotation(Spi.class);
-        boolean singleton = true;
-        if (spi != null) {
-            singleton = spi.isSingleton();
+    private S createInstance(Provider provider) {
+        if (!provider.singleton) {
+            return newInstance(provider.getType());
         }
-        return createInstance(clazz, singleton);
+        S instance = provider.instance;
+        if (instance == null) {
+            synchronized (provider) {
+                instance = provider.instance;
+                if (instance == null) {
+                    instance = newInstance(provider.getType());
+                    provider.instance = instance;
+                }
+            }
+        }
+        return instance;
     }
 
-    /**
-     * Create Provider instance
-     *
-     * @param clazz     class type of Provider
-     * @param singleton if instance is singleton or prototype
-     * @return Provider instance
-     */
-    private S createInstance(Class<? extends S> clazz, boolean singleton) {
+    private S newInstance(Class<? extends S> clazz) {
         S instance = null;
         try {
-            if (singleton) {
-                instance = singletonMap.get(clazz.getName());
-                if (instance == null) {
-                    synchronized (this) {
-                        instance = singletonMap.get(clazz.getName());
-                        if (instance == null) {
-                            instance = service.cast(clazz.newInstance());
-                            singletonMap.put(clazz.getName(), instance);
-                        }
-                    }
-                }
-            } else {
-                instance = service.cast(clazz.newInstance());
-            }
+            instance = service.cast(clazz.newInstance());
         } catch (Throwable e) {
             fail(clazz.getName() + " could not be instantiated");
         }
@@ -560,4 +644,91 @@ public final class SpiLoader<S> {
         LOG.error(msg, e);
         throw new SpiLoaderException("[" + service.getName() + "]" + msg, e);
     }
+
+    /**
+     * A Provider entry of the index, which resolves its class lazily when it comes
+     * from a build time generated index and holds its singleton instance.
+     * @since 3.0.1
+     */
+    private final class Provider {
+        private final String className;
+        private final String aliasName;
+        private final int order;
+        private final boolean isDefault;
+        private final boolean singleton;
+        private final ClassLoader classLoader;
+        private volatile Class<? extends S> type;
+        private volatile S instance;
+
+        Provider(String className, String aliasName, int order, boolean isDefault, boolean singleton,
+                 ClassLoader classLoader, Class<? extends S> type) {
+            this.className = className;
+            this.aliasName = aliasName;
+            this.order = order;
+            this.isDefault = isDefault;
+            this.singleton = singleton;
+            this.classLoader = classLoader;
+            this.type = type;
+        }
+
+        Class<? extends S> getType() {
+            Class<? extends S> type = this.type;
+            if (type == null) {
+                Class<?> clazz = null;
+                try {
+                    clazz = Class.forName(className, false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    fail("class " + className + " not found", e);
+                }
+                if (!service.isAssignableFrom(clazz)) {
+                    fail("class " + className + "is not subtype of " + service.getName() + ",SPI index file=" + SPI_INDEX_FILE);
+                }
+                type = (Class<? extends S>) clazz;
+                this.type = type;
+            }
+            return type;
+        }
+    }
+
+    /**
+     * The immutable Provider index of a {@code ClassLoader}, with the Providers in
+     * discovery order and sorted by order value, and the lookup maps by alias name
+     * and by class name.
+     * @since 3.0.1
+     */
+    private final class ProviderIndex {
+        private final List<Provider> providers;
+        private final List<Provider> sortedProviders;
+        private final Map<String, Provider> aliasMap;
+        private final Map<String, Provider> classNameMap;
+        private final Provider defaultProvider;
+
+        ProviderIndex(List<Provider> providers) {
+            Map<String, Provider> aliasMap = new HashMap<>();
+            Map<String, Provider> classNameMap = new HashMap<>();
+            Provider defaultProvider = null;
+            for (Provider provider : providers) {
+                Provider exist = aliasMap.putIfAbsent(provider.aliasName, provider);
+                if (exist != null) {
+                    fail("Found repeat alias name for " + provider.className + " and "
+                            + exist.className + ",SPI configuration file=" + SPI_FILE_PREFIX + service.getName());
+                }
+                classNameMap.putIfAbsent(provider.className, provider);
+                if (provider.isDefault) {
+                    if (defaultProvider != null) {
+                        fail("Found more than one default Provider, SPI configuration file="
+                                + SPI_FILE_PREFIX + service.getName());
+                    }
+                    defaultProvider = provider;
+                }
+            }
+            List<Provider> sortedProviders = new ArrayList<>(providers);
+            sortedProviders.sort(Comparator.comparingInt(p -> p.order));
+            this.providers = Collections.unmodifiableList(new ArrayList<>(providers));
+            this.sortedProviders = Collections.unmodifiableList(sortedProviders);
+            this.aliasMap = Collections.unmodifiableMap(aliasMap);
+            this.classNameMap = Collections.unmodifiableMap(classNameMap);
+            this.defaultProvider = defaultProvider;
+        }
+    }
 }
@@ -46,6 +46,21 @@ public abstract class JSONUtil {
         return JSON.toJSONString(obj);
     }
 
+    /**
+     * (Comments from {@link JSON})
+     * Serializes the specified object to the json byte array, encoded in UTF-8
+     * without going through an intermediate {@link String}.
+     *
+     * @param <T> Object types.
+     * @param obj the specified object will be serialized
+     * @return {@code byte[]} that is not null
+     * @throws JSONException If a serialization error occurs
+     * @since 3.0.1
+     */
+    public static <T> byte[] toJSONBytes(T obj) {
+        return JSON.toJSONBytes(obj);
+    }
+
     /**
      * (Comments from {@link JSON})
      * Parses the json string as a {@link JSONObject}. Returns {@code null}
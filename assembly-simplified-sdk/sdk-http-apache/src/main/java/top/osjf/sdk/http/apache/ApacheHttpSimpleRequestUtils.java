@@ -21,6 +21,7 @@ import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.*;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
@@ -30,9 +31,14 @@ import org.apache.http.util.EntityUtils;
 import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.ContentCoding;
+import top.osjf.sdk.http.spi.HttpBodyWriter;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -303,7 +309,7 @@ public abstract class ApacheHttpSimpleRequestUtils {
     public static Charset getCharsetByResponse(HttpResponse response) {
         HttpEntity entity = response.getEntity();
         Header contentEncodingHeader = entity.getContentEncoding();
-        if (contentEncodingHeader != null){
+        if (contentEncodingHeader != null && ContentCoding.of(contentEncodingHeader.getValue()) == null){
             return Charset.forName(contentEncodingHeader.getName());
         }
         ContentType contentType = ContentType.get(entity);
@@ -350,6 +356,17 @@ public abstract class ApacheHttpSimpleRequestUtils {
             if (StringUtils.isBlank(contentType)) {
                 contentType = HttpSdkSupport.getContentTypeWithBody(body, charset);
             }
+            if (body instanceof byte[]) {
+                httpEntity = new ByteArrayEntity((byte[]) body,
+                        contentType != null ? ContentType.parse(contentType) : null);
+                ((HttpEntityEnclosingRequestBase) requestBase).setEntity(httpEntity);
+                return;
+            }
+            if (body instanceof HttpBodyWriter) {
+                httpEntity = new BodyWriterEntity((HttpBodyWriter) body, contentType);
+                ((HttpEntityEnclosingRequestBase) requestBase).setEntity(httpEntity);
+                return;
+            }
             String bodyStr = body.toString();
             if (contentType != null) {
                 httpEntity = new StringEntity(bodyStr, ContentType.parse(contentType));
@@ -374,4 +391,43 @@ public abstract class ApacheHttpSimpleRequestUtils {
             }
         }
     }
+
+    /**
+     * A {@link org.apache.http.HttpEntity} adapting a {@link HttpBodyWriter}, which
+     * writes the body straight into the output stream of the connection.
+     * @since 3.0.1
+     */
+    private static final class BodyWriterEntity extends AbstractHttpEntity {
+        private final HttpBodyWriter bodyWriter;
+
+        BodyWriterEntity(HttpBodyWriter bodyWriter, @Nullable String contentType) {
+            this.bodyWriter = bodyWriter;
+            setContentType(contentType);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return bodyWriter.getContentLength();
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new ByteArrayInputStream(bodyWriter.toByteArray());
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            bodyWriter.writeTo(outStream);
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+    }
 }
@@ -21,9 +21,11 @@ import com.google.api.client.http.javanet.NetHttpTransport;
 import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.spi.HttpBodyWriter;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.Map;
 
@@ -287,9 +289,18 @@ public abstract class GoogleHttpSimpleRequestUtils {
             if (StringUtils.isBlank(contentType)) {
                 contentType = HttpSdkSupport.getContentTypeWithBody(body, charset);
             }
-            String bodyStr = body.toString();
-            byte[] array = charset != null ? bodyStr.getBytes(charset) : bodyStr.getBytes();
-            content = new ByteArrayContent(contentType, array);
+            if (body instanceof HttpBodyWriter) {
+                content = new BodyWriterContent(contentType, (HttpBodyWriter) body);
+            } else {
+                byte[] array;
+                if (body instanceof byte[]) {
+                    array = (byte[]) body;
+                } else {
+                    String bodyStr = body.toString();
+                    array = charset != null ? bodyStr.getBytes(charset) : bodyStr.getBytes();
+                }
+                content = new ByteArrayContent(contentType, array);
+            }
         }
         HttpRequest request =
                 requestFactory.buildRequest(methodName, new GenericUrl(url), content);
@@ -302,4 +313,28 @@ public abstract class GoogleHttpSimpleRequestUtils {
         }
         return request.execute();
     }
+
+    /**
+     * A {@link HttpContent} adapting a {@link HttpBodyWriter}, which writes the body
+     * straight into the output stream of the connection.
+     * @since 3.0.1
+     */
+    private static final class BodyWriterContent extends AbstractHttpContent {
+        private final HttpBodyWriter bodyWriter;
+
+        BodyWriterContent(@Nullable String mediaType, HttpBodyWriter bodyWriter) {
+            super(mediaType);
+            this.bodyWriter = bodyWriter;
+        }
+
+        @Override
+        public long getLength() {
+            return bodyWriter.getContentLength();
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            bodyWriter.writeTo(out);
+        }
+    }
 }
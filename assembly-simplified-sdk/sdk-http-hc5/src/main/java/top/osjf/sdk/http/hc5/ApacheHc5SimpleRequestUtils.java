@@ -25,11 +25,14 @@ import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityTemplate;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.ContentCoding;
+import top.osjf.sdk.http.spi.HttpBodyWriter;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import java.io.IOException;
@@ -296,7 +299,7 @@ public abstract class ApacheHc5SimpleRequestUtils {
     public static Charset getCharsetByResponse(ClassicHttpResponse response) {
         HttpEntity entity = response.getEntity();
         String contentEncoding = entity.getContentEncoding();
-        if (StringUtils.isNotBlank(contentEncoding)) {
+        if (StringUtils.isNotBlank(contentEncoding) && ContentCoding.of(contentEncoding) == null) {
             return Charset.forName(contentEncoding);
         }
         ContentType contentType = ContentType.parse(entity.getContentType());
@@ -342,6 +345,19 @@ public abstract class ApacheHc5SimpleRequestUtils {
             if (StringUtils.isBlank(contentType)) {
                 contentType = HttpSdkSupport.getContentTypeWithBody(body, charset);
             }
+            if (body instanceof byte[]) {
+                httpEntity = new ByteArrayEntity((byte[]) body,
+                        contentType != null ? ContentType.parse(contentType) : null);
+                requestBase.setEntity(httpEntity);
+                return;
+            }
+            if (body instanceof HttpBodyWriter) {
+                HttpBodyWriter bodyWriter = (HttpBodyWriter) body;
+                httpEntity = new EntityTemplate(bodyWriter.getContentLength(),
+                        contentType != null ? ContentType.parse(contentType) : null, null, bodyWriter::writeTo);
+                requestBase.setEntity(httpEntity);
+                return;
+            }
             String bodyStr = body.toString();
             if (contentType != null) {
                 httpEntity = new StringEntity(bodyStr, ContentType.parse(contentType));
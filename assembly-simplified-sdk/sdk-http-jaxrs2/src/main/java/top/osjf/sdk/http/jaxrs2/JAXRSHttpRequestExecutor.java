@@ -65,7 +65,7 @@ public class JAXRSHttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
         try (Response response = JAXRSHttpSimpleRequestUtils.getResponse(null, url, methodName, headers, body, charset)) {
             Response.StatusType statusInfo = response.getStatusInfo();
             Charset responseCharset = JAXRSHttpSimpleRequestUtils.getCharsetByResponse(response);
-            String responseBodyString = response.readEntity(String.class);
+            String responseBodyString = JAXRSHttpSimpleRequestUtils.readEntityAsString(response, responseCharset);
             return new DefaultHttpResponse(statusInfo.getStatusCode(),
                     statusInfo.getReasonPhrase(),
                     new HashMap<>(response.getHeaders()),
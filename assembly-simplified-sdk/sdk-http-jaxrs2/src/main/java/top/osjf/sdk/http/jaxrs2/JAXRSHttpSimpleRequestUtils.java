@@ -19,8 +19,12 @@ package top.osjf.sdk.http.jaxrs2;
 import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.ContentCoding;
+import top.osjf.sdk.http.spi.HttpBodyWriter;
 import top.osjf.sdk.http.support.HttpSdkSupport;
+import top.osjf.sdk.http.util.IOUtils;
 
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
@@ -28,7 +32,10 @@ import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Map;
 
@@ -49,6 +56,13 @@ import java.util.Map;
 public abstract class JAXRSHttpSimpleRequestUtils {
     private static final Client DEFAULT = ClientBuilder.newBuilder().build();
 
+    /**
+     * The codings advertised by default, which {@link #readEntityAsString} decodes.
+     * @since 3.0.1
+     */
+    private static final String ACCEPT_ENCODING = ContentCoding.GZIP.getToken() + ", "
+            + ContentCoding.DEFLATE.getToken();
+
     static {
         Runtime.getRuntime().addShutdownHook(new Thread(DEFAULT::close));
     }
@@ -200,7 +214,7 @@ public abstract class JAXRSHttpSimpleRequestUtils {
                                    @Nullable Object body, @Nullable Charset charset) {
         String result;
         try (Response response = getResponse(client, url, methodName, headers, body, charset)) {
-            result = response.readEntity(String.class);
+            result = readEntityAsString(response, getCharsetByResponse(response));
         }
         return result;
     }
@@ -228,9 +242,36 @@ public abstract class JAXRSHttpSimpleRequestUtils {
         Invocation.Builder builder = client.target(UriBuilder.fromUri(url))
                 .request();
         if (headers != null) builder.headers(new MultivaluedHashMap<>(headers));
+        if (headers == null || headers.keySet().stream()
+                .noneMatch(HttpSdkSupport.ACCEPT_ENCODING_NAME::equalsIgnoreCase)) {
+            builder.header(HttpSdkSupport.ACCEPT_ENCODING_NAME, ACCEPT_ENCODING);
+        }
         return builder.method(methodName, toEntity(body, charset, headers));
     }
 
+    /**
+     * Reads the entity of the given response as a string, the JAX-RS client API
+     * does not remove content codings, so a {@code gzip} or {@code deflate} encoded
+     * entity is decoded here before it is converted with the given charset.
+     *
+     * @param response the input JAXRS http response.
+     * @param charset  the charset of the response entity.
+     * @return the response entity as a string.
+     * @throws ProcessingException if the entity cannot be read or decoded.
+     * @since 3.0.1
+     */
+    public static String readEntityAsString(Response response, Charset charset) {
+        ContentCoding coding = ContentCoding.of(response.getHeaderString(HttpSdkSupport.CONTENT_ENCODING_NAME));
+        if (coding == null || coding == ContentCoding.IDENTITY || !response.hasEntity()) {
+            return response.readEntity(String.class);
+        }
+        try (InputStream in = coding.decode(response.readEntity(InputStream.class))) {
+            return new String(IOUtils.readAllBytes(in), charset);
+        } catch (IOException e) {
+            throw new ProcessingException("Failed to decode the " + coding.getToken() + " response entity", e);
+        }
+    }
+
 
     @Nullable
     private static Entity<Object> toEntity(@Nullable Object body, @Nullable Charset charset,
@@ -255,6 +296,11 @@ public abstract class JAXRSHttpSimpleRequestUtils {
             subtype = types[1];
         }
         MediaType mediaType = new MediaType(type, subtype, charsetName);
+        if (body instanceof HttpBodyWriter) {
+            // Written straight into the entity stream of the connection.
+            StreamingOutput output = ((HttpBodyWriter) body)::writeTo;
+            return Entity.entity(output, mediaType);
+        }
         return Entity.entity(body, mediaType);
     }
 
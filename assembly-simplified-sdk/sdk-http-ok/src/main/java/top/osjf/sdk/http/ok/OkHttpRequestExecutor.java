@@ -67,7 +67,8 @@ public class OkHttpRequestExecutor extends AbstractMultiHttpMethodExecutor {
         Response response = null;
         try {
             Request.Builder builder = OkHttpSimpleRequestUtils.getRequestBuilder(url, body, charset, headers, methodName);
-            response = OkHttpSimpleRequestUtils.getResponse(null, builder, headers);
+            response = OkHttpSimpleRequestUtils.getResponse(
+                    OkHttpSimpleRequestUtils.getDefaultClient(currentTransferOptions().isHttp2()), builder, headers);
             Map<String, Object> responseHeaders = new HashMap<>();
             for (String name : response.headers().names()) {
                 responseHeaders.put(name, response.headers(name));
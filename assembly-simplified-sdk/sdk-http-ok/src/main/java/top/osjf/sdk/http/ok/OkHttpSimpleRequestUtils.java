@@ -18,6 +18,7 @@ package top.osjf.sdk.http.ok;
 
 import okhttp3.*;
 import okhttp3.internal.Util;
+import okio.BufferedSink;
 import okio.BufferedSource;
 import top.osjf.sdk.core.lang.NotNull;
 import top.osjf.sdk.core.lang.Nullable;
@@ -25,10 +26,12 @@ import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.Pair;
 import top.osjf.sdk.core.util.StringUtils;
 import top.osjf.sdk.http.exception.ResponseFailedException;
+import top.osjf.sdk.http.spi.HttpBodyWriter;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.Map;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -48,6 +51,14 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public abstract class OkHttpSimpleRequestUtils {
     private static final OkHttpClient DEFAULT = new okhttp3.OkHttpClient().newBuilder().build();
 
+    /**
+     * A client sharing the connection pool and dispatcher of {@link #DEFAULT} that
+     * only speaks HTTP/1.1, used when HTTP/2 negotiation is not wanted.
+     * @since 3.0.1
+     */
+    private static final OkHttpClient HTTP_1_1 = DEFAULT.newBuilder()
+            .protocols(Collections.singletonList(Protocol.HTTP_1_1)).build();
+
     static {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             Dispatcher dispatcher = DEFAULT.dispatcher();
@@ -261,6 +272,18 @@ public abstract class OkHttpSimpleRequestUtils {
         return result;
     }
 
+    /**
+     * Returns the default global client, or a client sharing its connection pool
+     * that only speaks HTTP/1.1 when HTTP/2 negotiation is not wanted.
+     *
+     * @param http2 whether HTTP/2 may be negotiated.
+     * @return the default global client for the given protocol preference.
+     * @since 3.0.1
+     */
+    public static OkHttpClient getDefaultClient(boolean http2) {
+        return http2 ? DEFAULT : HTTP_1_1;
+    }
+
     /**
      * The HTTP request sending method includes the entire lifecycle of HTTP requests.
      *
@@ -332,8 +355,15 @@ public abstract class OkHttpSimpleRequestUtils {
         if (charset != null && mediaType != null) {
             mediaType.charset(charset);
         }
-        String bodyStr = body != null ? body.toString() : "";
-        RequestBody requestBody = RequestBody.create(mediaType, bodyStr);
+        RequestBody requestBody;
+        if (body instanceof byte[]) {
+            requestBody = RequestBody.create(mediaType, (byte[]) body);
+        } else if (body instanceof HttpBodyWriter) {
+            requestBody = new BodyWriterRequestBody(mediaType, (HttpBodyWriter) body);
+        } else {
+            String bodyStr = body != null ? body.toString() : "";
+            requestBody = RequestBody.create(mediaType, bodyStr);
+        }
         switch (method) {
             case "GET":
                 requestBuild = requestBuild.get();
@@ -379,4 +409,34 @@ public abstract class OkHttpSimpleRequestUtils {
             return Pair.create(source.readString(charset), charset);
         }
     }
+
+    /**
+     * A {@link RequestBody} adapting a {@link HttpBodyWriter}, which writes the body
+     * straight into the sink of the connection.
+     * @since 3.0.1
+     */
+    private static final class BodyWriterRequestBody extends RequestBody {
+        private final MediaType mediaType;
+        private final HttpBodyWriter bodyWriter;
+
+        BodyWriterRequestBody(@Nullable MediaType mediaType, HttpBodyWriter bodyWriter) {
+            this.mediaType = mediaType;
+            this.bodyWriter = bodyWriter;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return mediaType;
+        }
+
+        @Override
+        public long contentLength() {
+            return bodyWriter.getContentLength();
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+            bodyWriter.writeTo(sink.outputStream());
+        }
+    }
 }
@@ -17,13 +17,16 @@
 package top.osjf.sdk.http;
 
 import top.osjf.sdk.core.AbstractRequest;
+import top.osjf.sdk.core.Request;
 import top.osjf.sdk.core.URL;
+import top.osjf.sdk.core.caller.InheritableRequest;
 import top.osjf.sdk.core.client.Client;
 import top.osjf.sdk.core.lang.NotNull;
 import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.core.util.MapUtils;
 import top.osjf.sdk.core.util.StringUtils;
 import top.osjf.sdk.http.client.DefaultHttpClient;
+import top.osjf.sdk.http.client.HttpTransferOptions;
 import top.osjf.sdk.http.support.HttpSdkSupport;
 
 import java.lang.reflect.Type;
@@ -54,6 +57,9 @@ import static top.osjf.sdk.http.support.HttpSdkSupport.CONTENT_TYPE_NAME;
  *     <li>Provide the default use of {@link DefaultHttpClient} as the HTTP client.</li>
  *     <li>By rewriting the {@link #isAssignableRequest} method, check if the given
  *     class implements the {@code HttpRequest} interface.</li>
+ *     <li>Since 3.0.1, carry the {@link HttpTransferOptions} of the call, such as the
+ *     ones of an {@code @Sdk} proxy, through {@link #setTransferOptions}, also handed
+ *     to the bulk requests of a batch through {@link #inherit}.</li>
  * </ul>
  *
  * @param <R> Subclass generic type of {@code AbstractHttpResponse}.
@@ -62,10 +68,17 @@ import static top.osjf.sdk.http.support.HttpSdkSupport.CONTENT_TYPE_NAME;
  */
 @SuppressWarnings("rawtypes")
 public abstract class AbstractHttpRequest<R extends AbstractHttpResponse> extends AbstractRequest<R>
-        implements HttpRequest<R> {
+        implements HttpRequest<R>, InheritableRequest {
 
     private static final long serialVersionUID = 7487068349280012103L;
 
+    /**
+     * The transfer settings of this request, {@literal null} for the ones of the client.
+     * @since 3.0.1
+     */
+    @Nullable
+    private transient HttpTransferOptions transferOptions;
+
     /**
      * {@inheritDoc}
      *
@@ -160,6 +173,45 @@ public abstract class AbstractHttpRequest<R extends AbstractHttpResponse> extend
         return HttpRequest.class.isAssignableFrom(clazz);
     }
 
+    /**
+     * Set the transfer settings of this request, which take precedence over the
+     * ones of the client.
+     *
+     * @param transferOptions the transfer settings of this request.
+     * @since 3.0.1
+     */
+    public void setTransferOptions(@Nullable HttpTransferOptions transferOptions) {
+        this.transferOptions = transferOptions;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @since 3.0.1
+     */
+    @Override
+    @Nullable
+    public HttpTransferOptions getTransferOptions() {
+        return transferOptions;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@link HttpTransferOptions} of the given request are taken over when
+     * none is set on this request.
+     *
+     * @param request {@inheritDoc}
+     * @since 3.0.1
+     */
+    @Override
+    public void inherit(@NotNull Request<?> request) {
+        if (transferOptions == null && request instanceof HttpRequest) {
+            transferOptions = ((HttpRequest<?>) request).getTransferOptions();
+        }
+    }
+
     /**
      * Format the actual request address of the SDK and concatenate subsequent URLs.
      *
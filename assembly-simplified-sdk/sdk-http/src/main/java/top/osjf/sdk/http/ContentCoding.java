@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.http;
+
+import top.osjf.sdk.core.lang.Nullable;
+import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.util.IOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * An enumeration of the HTTP content codings that the sdk-http clients can
+ * apply to a request body and remove from a response body.
+ * <p>
+ * Each enumeration instance holds the token used in the {@code Content-Encoding}
+ * and {@code Accept-Encoding} headers and knows how to encode a payload into that
+ * coding and how to wrap an encoded stream for decoding.
+ * <p>
+ * Brotli ({@code br}) is deliberately not listed, the JDK ships no brotli codec
+ * and none of the client modules depends on one.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public enum ContentCoding {
+
+    /**
+     * The {@code gzip} coding, the most widely supported compression.
+     */
+    GZIP("gzip") {
+        @Override
+        protected OutputStream wrap(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out);
+        }
+
+        @Override
+        public InputStream decode(InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+    },
+
+    /**
+     * The {@code deflate} coding, a zlib stream.
+     */
+    DEFLATE("deflate") {
+        @Override
+        protected OutputStream wrap(OutputStream out) {
+            return new DeflaterOutputStream(out);
+        }
+
+        @Override
+        public InputStream decode(InputStream in) {
+            return new InflaterInputStream(in);
+        }
+    },
+
+    /**
+     * The {@code identity} coding, which means no compression at all.
+     */
+    IDENTITY("identity") {
+        @Override
+        public byte[] encode(byte[] data) {
+            return data;
+        }
+
+        @Override
+        protected OutputStream wrap(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        public InputStream decode(InputStream in) {
+            return in;
+        }
+    };
+
+    /**
+     * The token of this coding used in HTTP headers.
+     */
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Gets the token of this coding used in HTTP headers.
+     *
+     * @return The token of this coding, such as "gzip".
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Encodes the given payload into this coding.
+     *
+     * @param data the payload to be encoded.
+     * @return the encoded payload.
+     * @throws IOException if an I/O error occurs while encoding.
+     */
+    public byte[] encode(byte[] data) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(32, data.length / 4));
+        try (OutputStream out = wrap(bos)) {
+            out.write(data);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Decodes the given payload from this coding.
+     *
+     * @param data the encoded payload.
+     * @return the decoded payload.
+     * @throws IOException if an I/O error occurs while decoding.
+     */
+    public byte[] decode(byte[] data) throws IOException {
+        try (InputStream in = decode(new ByteArrayInputStream(data))) {
+            return IOUtils.readAllBytes(in);
+        }
+    }
+
+    /**
+     * Wraps an output stream so that the bytes written to the returned
+     * stream are encoded into this coding.
+     *
+     * @param out the target output stream.
+     * @return the encoding output stream.
+     * @throws IOException if an I/O error occurs while writing the header.
+     */
+    protected abstract OutputStream wrap(OutputStream out) throws IOException;
+
+    /**
+     * Wraps an input stream of this coding so that the bytes read from the
+     * returned stream are decoded.
+     *
+     * @param in the encoded input stream.
+     * @return the decoding input stream.
+     * @throws IOException if an I/O error occurs while reading the header.
+     */
+    public abstract InputStream decode(InputStream in) throws IOException;
+
+    /**
+     * Returns the {@code ContentCoding} matching the value of a {@code Content-Encoding}
+     * header, ignoring case and surrounding whitespace.
+     *
+     * @param headerValue the value of a {@code Content-Encoding} header.
+     * @return the matching {@code ContentCoding}, or {@literal null} if the value
+     * is blank or names an unsupported coding.
+     */
+    @Nullable
+    public static ContentCoding of(@Nullable String headerValue) {
+        if (StringUtils.isBlank(headerValue)) return null;
+        String token = headerValue.trim();
+        for (ContentCoding coding : values()) {
+            if (coding.token.equalsIgnoreCase(token)) return coding;
+        }
+        if ("x-gzip".equalsIgnoreCase(token)) return GZIP;
+        return null;
+    }
+}
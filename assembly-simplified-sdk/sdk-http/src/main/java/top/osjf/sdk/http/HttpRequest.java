@@ -21,6 +21,8 @@ import top.osjf.sdk.core.Request;
 import top.osjf.sdk.core.URL;
 import top.osjf.sdk.core.lang.NotNull;
 import top.osjf.sdk.core.lang.Nullable;
+import top.osjf.sdk.http.client.HttpTransferOptions;
+import top.osjf.sdk.http.spi.HttpBodyWriter;
 
 import java.util.Map;
 
@@ -157,4 +159,37 @@ public interface HttpRequest<R extends HttpResponse> extends Request<R> {
      */
     @Override
     boolean isAssignableRequest(Class<?> clazz);
+
+    /**
+     * Return a {@code HttpBodyWriter} that serializes the body of this request
+     * straight into the output stream of the HTTP client.
+     * <p>When a non-null writer is returned, it is passed to the
+     * {@code HttpRequestExecutor} as the request body in place of
+     * {@link #getRequestParam()}, whose {@code toString()} form is only kept
+     * for the executors that deal with {@code String} bodies.
+     * <p>By default, this method returns {@literal null}, which means the body
+     * is {@link #getRequestParam()}.
+     *
+     * @return a {@code HttpBodyWriter} for the body of this request, or {@literal null}.
+     * @since 3.0.1
+     */
+    @Nullable
+    default HttpBodyWriter getBodyWriter() {
+        return null;
+    }
+
+    /**
+     * Return the transfer settings of the request body coding, the response body
+     * decoding and HTTP/2 negotiation for this request, which take precedence over
+     * {@link top.osjf.sdk.http.client.HttpClient#getTransferOptions()}.
+     * <p>By default, this method returns {@literal null}, which means the settings
+     * of the client are used.
+     *
+     * @return the transfer settings for this request, or {@literal null}.
+     * @since 3.0.1
+     */
+    @Nullable
+    default HttpTransferOptions getTransferOptions() {
+        return null;
+    }
 }
@@ -26,6 +26,10 @@ import top.osjf.sdk.core.client.Client;
 import top.osjf.sdk.core.exception.SdkException;
 import top.osjf.sdk.core.lang.NotNull;
 import top.osjf.sdk.core.lang.Nullable;
+import top.osjf.sdk.core.metrics.ErrorCategory;
+import top.osjf.sdk.core.metrics.SdkMetrics;
+import top.osjf.sdk.core.metrics.SdkMetricsHolder;
+import top.osjf.sdk.core.metrics.SdkPhase;
 import top.osjf.sdk.core.spi.SpiLoader;
 import top.osjf.sdk.core.spi.SpiLoaderException;
 import top.osjf.sdk.core.util.ArrayUtils;
@@ -37,6 +41,7 @@ import top.osjf.sdk.http.AbstractHttpResponse;
 import top.osjf.sdk.http.HttpRequest;
 import top.osjf.sdk.http.HttpResponse;
 import top.osjf.sdk.http.spi.DefaultHttpRequest;
+import top.osjf.sdk.http.spi.HttpBodyWriter;
 import top.osjf.sdk.http.spi.HttpRequestExecutor;
 
 import java.lang.reflect.Method;
@@ -281,6 +286,9 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
      * and {@link ErrorResponse#setErrorMessage}
      * of {@link ErrorResponse} to obtain the relevant
      * content defined in this framework.
+     * <p>
+     * Since 3.0.1, the executor I/O, the response conversion and the whole call
+     * with its {@link ErrorCategory} are recorded to the active {@link SdkMetrics}.
      *
      * @return {@inheritDoc}
      */
@@ -297,22 +305,42 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
 
         //Create a request timer.
         Stopwatch stopwatch = Stopwatch.createStarted();
+        SdkMetrics metrics = SdkMetricsHolder.getSdkMetrics();
+        boolean metricsEnabled = metrics.isEnabled();
+        String name = null;
+        String host = null;
+        long phaseStart = 0L;
         try {
+            if (metricsEnabled) {
+                name = request.matchSdkEnum().name();
+                host = SdkMetricsHolder.hostOf(getUrl());
+            }
+
             //Validation of custom parameters.
             request.validate();
 
             //Execute HTTP components based on encapsulation parameters.
+            if (metricsEnabled) phaseStart = System.nanoTime();
             top.osjf.sdk.http.spi.HttpResponse spiResponse =
-                    getRequestExecutor().execute(new DefaultHttpRequest(request, getUrl(), getOptions()));
+                    getRequestExecutor().execute(new DefaultHttpRequest(request, getUrl(), getOptions(),
+                            resolveTransferOptions(request)));
 
             //Get request body string parameters
             responseStr = spiResponse.getBody();
+            if (metricsEnabled) {
+                long now = System.nanoTime();
+                metrics.recordPhase(name, host, SdkPhase.EXECUTE, now - phaseStart);
+                phaseStart = now;
+            }
 
             //Preprocessing operation for request results.
             responseStr = preResponseStrHandler(request, responseStr);
 
             //The result conversion operation of the request result.
             response = convertToResponse(request, responseStr);
+            if (metricsEnabled) {
+                metrics.recordPhase(name, host, SdkPhase.RESPONSE_CONVERT, System.nanoTime() - phaseStart);
+            }
 
             //Set a spi response to sdk response.
             setSpiResponse(response, spiResponse);
@@ -337,6 +365,11 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
             //Stop timing.
             stopwatch.stop();
 
+            if (metricsEnabled && name != null) {
+                metrics.recordCall(name, host, stopwatch.elapsed(TimeUnit.NANOSECONDS),
+                        ErrorCategory.classify(throwable));
+            }
+
             //Hand over the call information to the final processing project.
             finallyHandler(HttpResultSolver.ExecuteInfoBuild.builder().requestAccess(request)
                     .spend(stopwatch.elapsed(TimeUnit.MILLISECONDS))
@@ -348,6 +381,19 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
         return response;
     }
 
+    /**
+     * Resolve the {@link HttpTransferOptions} used by the given request, the ones
+     * carried by the request take precedence over {@link #getTransferOptions()}.
+     *
+     * @param request the request being executed.
+     * @return the {@link HttpTransferOptions} used by the given request.
+     * @since 3.0.1
+     */
+    protected HttpTransferOptions resolveTransferOptions(HttpRequest<R> request) {
+        HttpTransferOptions transferOptions = request.getTransferOptions();
+        return transferOptions != null ? transferOptions : getTransferOptions();
+    }
+
     /**
      * Set a {@link top.osjf.sdk.http.spi.HttpResponse spiResponse} for sdk response
      * {@link HttpResponse} to support queries important information returned by the
@@ -401,11 +447,24 @@ public abstract class AbstractHttpClient<R extends HttpResponse> extends Abstrac
         getLogger().error(e.getMessage(), e);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Since 3.0.1, nothing is done unless the INFO level is enabled, and the body is
+     * logged from the bytes of {@link HttpRequest#getBodyWriter()} when it has one, so
+     * that the request parameter is not serialized again for the log.
+     *
+     * @param info {@inheritDoc}
+     */
     @Override
     public void finallyHandler(HttpResultSolver.ExecuteInfo info) {
+        if (!getLogger().isInfoEnabled()) {
+            return;
+        }
         HttpRequest<?> httpRequest = info.getHttpRequest();
         String name = httpRequest.matchSdkEnum().name();
-        Object requestParam = httpRequest.getRequestParam();
+        HttpBodyWriter bodyWriter = httpRequest.getBodyWriter();
+        Object requestParam = bodyWriter != null ? bodyWriter : httpRequest.getRequestParam();
         String body = requestParam != null ? requestParam.toString() : "";
         String response = info.getResponse();
         long spendTotalTimeMillis = info.getSpendTotalTimeMillis();
@@ -54,4 +54,18 @@ public interface HttpClient<R extends HttpResponse> extends Client<R>, HttpResul
     default HttpRequestOptions getOptions() {
         return HttpRequestOptions.DEFAULT_OPTIONS;
     }
+
+    /**
+     * Return the transfer settings of the request body coding, the response body
+     * decoding and HTTP/2 negotiation for this {@link Client}.
+     * <p>The {@link HttpTransferOptions} carried by a request, such as the ones
+     * configured for an {@code @Sdk} proxy, take precedence over this value.
+     * <p>By default, this method returns {@link HttpTransferOptions#DEFAULT_OPTIONS}.
+     *
+     * @return the transfer settings for this {@link Client}.
+     * @since 3.0.1
+     */
+    default HttpTransferOptions getTransferOptions() {
+        return HttpTransferOptions.DEFAULT_OPTIONS;
+    }
 }
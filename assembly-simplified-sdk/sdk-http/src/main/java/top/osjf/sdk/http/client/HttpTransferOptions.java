@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.http.client;
+
+import top.osjf.sdk.core.lang.NotNull;
+import top.osjf.sdk.http.ContentCoding;
+
+import java.util.Objects;
+
+/**
+ * A class that encapsulates how an HTTP payload is transferred, independent of
+ * the underlying client.
+ * <p>
+ * It covers the coding applied to request bodies and the minimum body size in bytes
+ * at which compression is worthwhile, whether compressed response bodies are
+ * transparently decoded, and whether HTTP/2 may be negotiated when the underlying
+ * client supports it.
+ * <p>
+ * An instance can be carried by a request through
+ * {@link top.osjf.sdk.http.HttpRequest#getTransferOptions()}, which is how
+ * {@code @Sdk} level configuration reaches the {@link AbstractHttpClient} on
+ * whichever thread the call is executed, otherwise
+ * {@link HttpClient#getTransferOptions()} is used.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public final class HttpTransferOptions {
+
+    /**
+     * A default global {@code HttpTransferOptions} instance.
+     */
+    public static final HttpTransferOptions DEFAULT_OPTIONS = new HttpTransferOptions();
+
+    /**
+     * The coding applied to request bodies, {@link ContentCoding#IDENTITY} means
+     * request bodies are sent as is.
+     */
+    private final ContentCoding requestCoding;
+
+    /**
+     * The minimum size in bytes of a request body to be compressed, smaller bodies
+     * are sent as is because the coding overhead outweighs the savings.
+     */
+    private final int minCompressSize;
+
+    /**
+     * Whether compressed response bodies are transparently decoded, when {@code false}
+     * the client asks the server for the {@code identity} coding.
+     */
+    private final boolean decompressResponse;
+
+    /**
+     * Whether HTTP/2 may be negotiated, only honored by the clients that support it.
+     */
+    private final boolean http2;
+
+    /**
+     * Creates the new {@code HttpTransferOptions} using any default values:
+     *
+     * <ul>
+     *   <li>Request Coding: identity
+     *   <li>Min Compress Size: 1024 bytes
+     *   <li>Decompress Response: true
+     *   <li>HTTP/2: true
+     * </ul>
+     */
+    public HttpTransferOptions() {
+        this(ContentCoding.IDENTITY, 1024, true, true);
+    }
+
+    /**
+     * Creates the new {@code HttpTransferOptions}.
+     *
+     * @param requestCoding      the coding applied to request bodies.
+     * @param minCompressSize    the minimum size in bytes of a request body to be compressed.
+     * @param decompressResponse whether compressed response bodies are transparently decoded.
+     * @param http2              whether HTTP/2 may be negotiated.
+     * @throws NullPointerException     if input requestCoding is {@literal null}.
+     * @throws IllegalArgumentException if input minCompressSize is negative.
+     */
+    public HttpTransferOptions(@NotNull ContentCoding requestCoding,
+                               int minCompressSize,
+                               boolean decompressResponse,
+                               boolean http2) {
+        Objects.requireNonNull(requestCoding, "requestCoding == null");
+        if (minCompressSize < 0) {
+            throw new IllegalArgumentException("minCompressSize < 0");
+        }
+        this.requestCoding = requestCoding;
+        this.minCompressSize = minCompressSize;
+        this.decompressResponse = decompressResponse;
+        this.http2 = http2;
+    }
+
+    /**
+     * Returns whether a request body of the given size should be encoded
+     * with {@link #requestCoding()}.
+     *
+     * @param bodySize the size in bytes of the request body.
+     * @return {@code true} if the body should be compressed, {@code false} otherwise.
+     */
+    public boolean shouldCompress(int bodySize) {
+        return requestCoding != ContentCoding.IDENTITY && bodySize >= minCompressSize;
+    }
+
+    public ContentCoding requestCoding() {
+        return requestCoding;
+    }
+
+    public int minCompressSize() {
+        return minCompressSize;
+    }
+
+    public boolean isDecompressResponse() {
+        return decompressResponse;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    @Override
+    public String toString() {
+        return "HttpTransferOptions{" +
+                "requestCoding=" + requestCoding +
+                ", minCompressSize=" + minCompressSize +
+                ", decompressResponse=" + decompressResponse +
+                ", http2=" + http2 +
+                '}';
+    }
+}
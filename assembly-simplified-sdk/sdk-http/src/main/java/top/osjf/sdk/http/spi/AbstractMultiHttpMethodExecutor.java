@@ -17,9 +17,18 @@
 package top.osjf.sdk.http.spi;
 
 import top.osjf.sdk.core.lang.NotNull;
+import top.osjf.sdk.core.lang.Nullable;
+import top.osjf.sdk.core.util.MapUtils;
+import top.osjf.sdk.http.ContentCoding;
+import top.osjf.sdk.http.client.HttpTransferOptions;
+import top.osjf.sdk.http.support.HttpSdkSupport;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code AbstractMultiHttpMethodExecutor} is an abstract class that implements
@@ -27,19 +36,103 @@ import java.util.Map;
  * obtain the source {@code HttpRequest} and reflects the execution of relevant
  * request methods.
  *
+ * <p>Since version 3.0.1, the {@link HttpRequest#getTransferOptions()} are applied
+ * before the request method is reflected, a request body of at least
+ * {@link HttpTransferOptions#minCompressSize()} bytes is encoded into
+ * {@link HttpTransferOptions#requestCoding()} and passed on as {@code byte[]} with
+ * a {@code Content-Encoding} header, and the {@code identity} response coding is
+ * asked for when {@link HttpTransferOptions#isDecompressResponse()} is {@code false}.
+ * Subclasses can read the options in effect through {@link #currentTransferOptions()}.
+ *
  * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
  * @since 1.0.2
  */
 public abstract class AbstractMultiHttpMethodExecutor implements MultiHttpMethodExecutor {
 
+    /**
+     * The {@code HttpTransferOptions} of the request being executed on the current thread.
+     * @since 3.0.1
+     */
+    private static final ThreadLocal<HttpTransferOptions> CURRENT_TRANSFER_OPTIONS = new ThreadLocal<>();
+
+    /**
+     * The resolved request methods of this executor, key: lower case method name.
+     * @since 3.0.1
+     */
+    private final Map<String, Method> requestMethods = new ConcurrentHashMap<>();
+
     @Override
     public final HttpResponse execute(@NotNull HttpRequest httpRequest) throws Exception {
-        return (HttpResponse) getClass().getMethod(httpRequest.getMethodName().toLowerCase(),
-                String.class,
-                Map.class,
-                Object.class,
-                Charset.class).invoke(this, httpRequest.getUrl(),
-                httpRequest.getHeaders(),
-                httpRequest.getBody(), httpRequest.getCharset());
+        HttpTransferOptions transferOptions = httpRequest.getTransferOptions();
+        Map<String, Object> headers = httpRequest.getHeaders();
+        Object body = httpRequest.getBody();
+        Charset charset = httpRequest.getCharset();
+        if (body != null && transferOptions.requestCoding() != ContentCoding.IDENTITY) {
+            byte[] bodyBytes = toBytes(body, charset);
+            if (transferOptions.shouldCompress(bodyBytes.length)
+                    && !containsHeader(headers, HttpSdkSupport.CONTENT_ENCODING_NAME)) {
+                body = transferOptions.requestCoding().encode(bodyBytes);
+                headers = copyHeaders(headers);
+                headers.put(HttpSdkSupport.CONTENT_ENCODING_NAME, transferOptions.requestCoding().getToken());
+            }
+        }
+        if (!transferOptions.isDecompressResponse() && !containsHeader(headers, HttpSdkSupport.ACCEPT_ENCODING_NAME)) {
+            headers = copyHeaders(headers);
+            headers.put(HttpSdkSupport.ACCEPT_ENCODING_NAME, "identity");
+        }
+        HttpTransferOptions previous = CURRENT_TRANSFER_OPTIONS.get();
+        CURRENT_TRANSFER_OPTIONS.set(transferOptions);
+        try {
+            return (HttpResponse) getRequestMethod(httpRequest.getMethodName())
+                    .invoke(this, httpRequest.getUrl(), headers, body, charset);
+        } finally {
+            if (previous == null) {
+                CURRENT_TRANSFER_OPTIONS.remove();
+            } else {
+                CURRENT_TRANSFER_OPTIONS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code HttpTransferOptions} of the request being executed on the
+     * current thread, only available within the reflected request methods.
+     *
+     * @return the {@code HttpTransferOptions} in effect, never {@literal null}.
+     * @since 3.0.1
+     */
+    @NotNull
+    protected static HttpTransferOptions currentTransferOptions() {
+        HttpTransferOptions transferOptions = CURRENT_TRANSFER_OPTIONS.get();
+        return transferOptions != null ? transferOptions : HttpTransferOptions.DEFAULT_OPTIONS;
+    }
+
+    private Method getRequestMethod(String methodName) throws NoSuchMethodException {
+        String name = methodName.toLowerCase();
+        Method method = requestMethods.get(name);
+        if (method == null) {
+            method = getClass().getMethod(name, String.class, Map.class, Object.class, Charset.class);
+            requestMethods.putIfAbsent(name, method);
+        }
+        return method;
+    }
+
+    private static byte[] toBytes(Object body, @Nullable Charset charset) throws IOException {
+        if (body instanceof byte[]) return (byte[]) body;
+        if (body instanceof HttpBodyWriter) return ((HttpBodyWriter) body).toByteArray();
+        String bodyStr = body.toString();
+        return charset != null ? bodyStr.getBytes(charset) : bodyStr.getBytes();
+    }
+
+    private static boolean containsHeader(@Nullable Map<String, Object> headers, String name) {
+        if (MapUtils.isEmpty(headers)) return false;
+        for (String key : headers.keySet()) {
+            if (name.equalsIgnoreCase(key)) return true;
+        }
+        return false;
+    }
+
+    private static Map<String, Object> copyHeaders(@Nullable Map<String, Object> headers) {
+        return headers != null ? new LinkedHashMap<>(headers) : new LinkedHashMap<>();
     }
 }
@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import top.osjf.sdk.core.lang.NotNull;
 import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.http.client.HttpRequestOptions;
+import top.osjf.sdk.http.client.HttpTransferOptions;
 
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -43,6 +44,7 @@ public class DefaultHttpRequest implements HttpRequest {
     private final String url;
     private final top.osjf.sdk.http.HttpRequest<?> rawHttpRequest;
     private final HttpRequestOptions requestOptions;
+    private final HttpTransferOptions transferOptions;
     /**
      * Creates a new {@code DefaultHttpRequest} by given original http request
      * and access url and a {@code HttpRequestOptions}.
@@ -54,9 +56,27 @@ public class DefaultHttpRequest implements HttpRequest {
      */
     public DefaultHttpRequest(top.osjf.sdk.http.HttpRequest<?> rawHttpRequest,
                               String url, @Nullable HttpRequestOptions requestOptions) {
+        this(rawHttpRequest, url, requestOptions, null);
+    }
+
+    /**
+     * Creates a new {@code DefaultHttpRequest} by given original http request
+     * and access url and a {@code HttpRequestOptions} and a {@code HttpTransferOptions}.
+     *
+     * @param rawHttpRequest  input original http request instance.
+     * @param url             the access url address of this {@code HttpRequest}.
+     * @param requestOptions  the request options for this {@code HttpRequest}.
+     * @param transferOptions the transfer options for this {@code HttpRequest}.
+     * @throws NullPointerException if input {@code HttpRequest} or {@code url} is {@literal null}.
+     * @since 3.0.1
+     */
+    public DefaultHttpRequest(top.osjf.sdk.http.HttpRequest<?> rawHttpRequest,
+                              String url, @Nullable HttpRequestOptions requestOptions,
+                              @Nullable HttpTransferOptions transferOptions) {
         this.rawHttpRequest = rawHttpRequest;
         this.url = url;
         this.requestOptions = requestOptions != null ? requestOptions : HttpRequestOptions.DEFAULT_OPTIONS;
+        this.transferOptions = transferOptions != null ? transferOptions : HttpTransferOptions.DEFAULT_OPTIONS;
     }
     @Override @NotNull public String getUrl() {
         return url;
@@ -65,7 +85,8 @@ public class DefaultHttpRequest implements HttpRequest {
         return rawHttpRequest.matchSdkEnum().getRequestMethod().name();
     }
     @Override @Nullable public Object getBody() {
-        return rawHttpRequest.getRequestParam();
+        HttpBodyWriter bodyWriter = rawHttpRequest.getBodyWriter();
+        return bodyWriter != null ? bodyWriter : rawHttpRequest.getRequestParam();
     }
     @Override @Nullable public <T> T getBody(Class<T> requiredType) {
         return getBody(requiredType, null);
@@ -135,6 +156,9 @@ public class DefaultHttpRequest implements HttpRequest {
     @Override @NotNull public HttpRequestOptions getOptions() {
         return requestOptions;
     }
+    @Override @NotNull public HttpTransferOptions getTransferOptions() {
+        return transferOptions;
+    }
     private <T> T convertValueToRequired(Object value,
                                          Class<T> requiredType,
                                          Function<Object, T> customConversionAfterFailed)
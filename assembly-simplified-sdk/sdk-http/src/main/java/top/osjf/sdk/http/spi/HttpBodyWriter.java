@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.http.spi;
+
+import top.osjf.sdk.core.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@code HttpBodyWriter} is a request body that serializes itself straight into
+ * the output stream handed over by the HTTP client, instead of being turned into
+ * a {@code String} first and re-encoded into bytes by each client.
+ * <p>
+ * The {@link HttpRequestExecutor} implementations adapt it to the native body type
+ * of their client, such as an OkHttp {@code RequestBody} or an Apache {@code HttpEntity},
+ * so the body is written once, directly on the wire.
+ * <p>
+ * Implementations must be repeatable, {@link #writeTo} may be called more than once
+ * when a client retries or follows a redirect, and should return a {@link #toString()}
+ * that is the textual form of the body, which is used by the executors that only deal
+ * with {@code String} bodies.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public interface HttpBodyWriter {
+
+    /**
+     * Returns the media type of this body, such as {@code application/json;charset=UTF-8}.
+     *
+     * @return the media type of this body, or {@literal null} if unknown.
+     */
+    @Nullable
+    String getContentType();
+
+    /**
+     * Returns the number of bytes that {@link #writeTo} writes, or {@code -1} if
+     * the length is unknown and the body is to be streamed.
+     *
+     * @return the number of bytes of this body, or {@code -1} if unknown.
+     */
+    long getContentLength();
+
+    /**
+     * Writes the bytes of this body to the given output stream, which is not closed.
+     *
+     * @param out the output stream of the client.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Returns the bytes of this body as an array, for the clients and codings
+     * that need the whole body at once.
+     *
+     * @return the bytes of this body.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    default byte[] toByteArray() throws IOException {
+        long contentLength = getContentLength();
+        ByteArrayOutputStream out =
+                new ByteArrayOutputStream(contentLength > 0 && contentLength < Integer.MAX_VALUE ?
+                        (int) contentLength : 256);
+        writeTo(out);
+        return out.toByteArray();
+    }
+}
@@ -20,6 +20,7 @@ package top.osjf.sdk.http.spi;
 import top.osjf.sdk.core.lang.NotNull;
 import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.http.client.HttpRequestOptions;
+import top.osjf.sdk.http.client.HttpTransferOptions;
 
 import java.io.Serializable;
 import java.nio.charset.Charset;
@@ -63,6 +64,8 @@ public interface HttpRequest extends Serializable {
      * PUT requests.
      * The type of the returned object depends on the actual request content,
      * which may be a string, JSON object, form data, etc.
+     * <p>Since version 3.0.1, it may also be a {@link HttpBodyWriter} that
+     * writes itself to the output stream of the client.
      *
      * @return The body content of the request.
      */
@@ -227,4 +230,17 @@ public interface HttpRequest extends Serializable {
      * @return The configuration options for the request.
      */
     @NotNull HttpRequestOptions getOptions();
+
+    /**
+     * Get the transfer options for the HTTP request, which describe the coding
+     * of the request body, the decoding of the response body and whether HTTP/2
+     * may be negotiated.
+     *
+     * @return The transfer options for the request.
+     * @since 3.0.1
+     */
+    @NotNull
+    default HttpTransferOptions getTransferOptions() {
+        return HttpTransferOptions.DEFAULT_OPTIONS;
+    }
 }
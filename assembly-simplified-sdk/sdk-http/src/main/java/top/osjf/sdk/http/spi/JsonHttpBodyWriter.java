@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.http.spi;
+
+import top.osjf.sdk.core.lang.NotNull;
+import top.osjf.sdk.core.lang.Nullable;
+import top.osjf.sdk.core.util.JSONUtil;
+import top.osjf.sdk.http.support.HttpSdkSupport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@code JsonHttpBodyWriter} is a {@link HttpBodyWriter} that serializes a request
+ * parameter to JSON bytes directly.
+ * <p>
+ * For the UTF-8 charset, which is the default, the parameter is serialized by
+ * {@link JSONUtil#toJSONBytes(Object)} that encodes into the pooled buffer of the fastjson2
+ * writer and copies out a single exact-size array, skipping the intermediate
+ * {@code String} and its re-encoding. Other charsets fall back to encoding the
+ * JSON string. The bytes are produced once, on first use, and then reused by every
+ * {@link #writeTo} call.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ */
+public class JsonHttpBodyWriter implements HttpBodyWriter {
+
+    /**
+     * The request parameter to be serialized.
+     */
+    private final Object param;
+
+    /**
+     * The charset of the serialized bytes.
+     */
+    private final Charset charset;
+
+    /**
+     * The serialized bytes, produced on first use.
+     */
+    private volatile byte[] bytes;
+
+    /**
+     * Creates a new {@code JsonHttpBodyWriter} by given request parameter and charset.
+     *
+     * @param param   the request parameter to be serialized.
+     * @param charset the charset of the serialized bytes, {@literal null} means UTF-8.
+     * @throws NullPointerException if input param is {@literal null}.
+     */
+    public JsonHttpBodyWriter(@NotNull Object param, @Nullable Charset charset) {
+        this.param = Objects.requireNonNull(param, "param == null");
+        this.charset = charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public String getContentType() {
+        return HttpSdkSupport.appendCharsetToContentType("application/json", charset);
+    }
+
+    @Override
+    public long getContentLength() {
+        return getBytes().length;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(getBytes());
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        return getBytes();
+    }
+
+    private byte[] getBytes() {
+        byte[] bytes = this.bytes;
+        if (bytes == null) {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                bytes = JSONUtil.toJSONBytes(param);
+            } else {
+                bytes = JSONUtil.toJSONString(param).getBytes(charset);
+            }
+            this.bytes = bytes;
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return new String(getBytes(), charset);
+    }
+}
@@ -23,6 +23,7 @@ import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.core.support.SdkSupport;
 import top.osjf.sdk.core.util.JSONUtil;
 import top.osjf.sdk.core.util.StringUtils;
+import top.osjf.sdk.http.spi.HttpBodyWriter;
 import top.osjf.sdk.http.util.UrlUtils;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -63,6 +64,18 @@ public abstract class HttpSdkSupport extends SdkSupport {
 
     public static final String CONTENT_TYPE_NAME = "Content-Type";
 
+    /**
+     * The name of the header describing the coding of a message body.
+     * @since 3.0.1
+     */
+    public static final String CONTENT_ENCODING_NAME = "Content-Encoding";
+
+    /**
+     * The name of the header listing the codings acceptable in a response.
+     * @since 3.0.1
+     */
+    public static final String ACCEPT_ENCODING_NAME = "Accept-Encoding";
+
     static {
         /* init documentBuilder cache */
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
@@ -93,6 +106,8 @@ public abstract class HttpSdkSupport extends SdkSupport {
      * @since 1.0.2
      */
     public static String getContentTypeWithBody(Object body, Charset charset) {
+        if (body instanceof HttpBodyWriter) return ((HttpBodyWriter) body).getContentType();
+        if (body instanceof byte[]) return null;
         if (body == null || StringUtils.isBlank(body.toString())) return null;
         String bodyStr = body.toString();
         for (Map.Entry<BiPredicate<String, Charset>, String> entry : content_type_predicates.entrySet()) {
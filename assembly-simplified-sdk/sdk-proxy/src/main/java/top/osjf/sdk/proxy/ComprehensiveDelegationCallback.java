@@ -23,6 +23,9 @@ import top.osjf.sdk.core.Response;
 import top.osjf.sdk.core.caller.RequestCaller;
 import top.osjf.sdk.core.caller.RequestExecuteMetadata;
 import top.osjf.sdk.core.lang.Nullable;
+import top.osjf.sdk.core.metrics.SdkMetrics;
+import top.osjf.sdk.core.metrics.SdkMetricsHolder;
+import top.osjf.sdk.core.metrics.SdkPhase;
 import top.osjf.sdk.core.support.SdkSupport;
 import top.osjf.sdk.core.util.CollectionUtils;
 
@@ -147,7 +150,8 @@ public class ComprehensiveDelegationCallback implements RequestAttributes, Integ
      * The relevant logic for executing SDK requests includes
      * the following steps:
      * <ul>
-     *     <li>Parse method parameters and create request base class {@code Request}.</li>
+     *     <li>Parse method parameters and create request base class {@code Request}, the
+     *     elapsed time is recorded as {@link SdkPhase#REQUEST_BUILD} (since 3.0.1).</li>
      *     <li>Execute the pre method of the processor and return the enhanced base class
      *     instance {@code Request}.</li>
      *     <li>Execute SDK related requests based on the presence or absence of {@code RequestCaller}
@@ -171,8 +175,14 @@ public class ComprehensiveDelegationCallback implements RequestAttributes, Integ
             case "hashCode": return hashCode();
             case "equals": return equals(args[0]);
         }
+        SdkMetrics metrics = SdkMetricsHolder.getSdkMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
         RequestExecuteMetadata metadata = SdkSupport.createRequest(method, args);
         Request<?> request = metadata.getRequest();
+        if (metrics.isEnabled()) {
+            metrics.recordPhase(request.matchSdkEnum().name(), SdkMetricsHolder.hostOf(request.getUrl(host).getUrl()),
+                    SdkPhase.REQUEST_BUILD, System.nanoTime() - start);
+        }
         if (CollectionUtils.isNotEmpty(postProcessors)) {
             for (HandlerPostProcessor postProcessor : postProcessors) {
                 request = postProcessor.postProcessRequestBeforeHandle(request, method, args, variable);
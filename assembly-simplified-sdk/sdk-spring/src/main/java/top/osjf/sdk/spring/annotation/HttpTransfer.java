@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-? the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.osjf.sdk.spring.annotation;
+
+import top.osjf.sdk.http.ContentCoding;
+import top.osjf.sdk.http.client.HttpTransferOptions;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation level indication of the {@link HttpTransferOptions} used by the HTTP
+ * calls of a proxy annotated with {@link Sdk}, which is declared through
+ * {@link Sdk#transfer()}.
+ *
+ * <p>The request body coding only applies to bodies of at least
+ * {@link #minCompressSize()} bytes, and HTTP/2 is only negotiated by the clients
+ * that support it, such as the OkHttp one.
+ *
+ * @author <a href="mailto:929160069@qq.com">zhangpengfei</a>
+ * @since 3.0.1
+ * @see Sdk
+ * @see HttpTransferOptions
+ */
+@Target({ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HttpTransfer {
+
+    /**
+     * The coding applied to request bodies, which defaults to
+     * {@link ContentCoding#IDENTITY} that sends bodies as is.
+     *
+     * @return The coding applied to request bodies.
+     */
+    ContentCoding requestCoding() default ContentCoding.IDENTITY;
+
+    /**
+     * The minimum size in bytes of a request body to be compressed.
+     *
+     * @return The minimum size in bytes of a request body to be compressed.
+     */
+    int minCompressSize() default 1024;
+
+    /**
+     * Whether compressed response bodies are transparently decoded.
+     *
+     * @return {@code true} to decode compressed response bodies, {@code false}
+     * to ask the server for the {@code identity} coding.
+     */
+    boolean decompressResponse() default true;
+
+    /**
+     * Whether HTTP/2 may be negotiated by the clients that support it.
+     *
+     * @return {@code true} to allow HTTP/2, {@code false} to stick to HTTP/1.1.
+     */
+    boolean http2() default true;
+}
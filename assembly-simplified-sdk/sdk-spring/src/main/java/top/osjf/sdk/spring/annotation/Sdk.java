@@ -144,4 +144,16 @@ public @interface Sdk {
      * @since 1.0.4
      */
     boolean enableExpressionCall() default false;
+
+    /**
+     * The transfer settings of the HTTP calls made by this proxy, covering the
+     * request body coding, the response body decoding and HTTP/2 negotiation.
+     * <p>By default, request bodies are sent as is, compressed responses are
+     * transparently decoded and HTTP/2 is allowed where supported.
+     *
+     * @return The transfer settings in annotation form.
+     * @see SdkProxyFactoryBean#setTransferOptions
+     * @since 3.0.1
+     */
+    HttpTransfer transfer() default @HttpTransfer;
 }
@@ -43,6 +43,7 @@ import top.osjf.sdk.core.util.ReflectUtil;
 import top.osjf.sdk.core.util.StringUtils;
 import top.osjf.sdk.core.util.internal.logging.InternalLogger;
 import top.osjf.sdk.core.util.internal.logging.InternalLoggerFactory;
+import top.osjf.sdk.http.client.HttpTransferOptions;
 import top.osjf.sdk.proxy.ProxyModel;
 import top.osjf.sdk.spring.beans.BeanPropertyUtils;
 import top.osjf.sdk.spring.proxy.SdkProxyBeanUtils;
@@ -421,6 +422,12 @@ public class SdkBeanDefinitionRegistrar implements ImportBeanDefinitionRegistrar
         AnnotationAttributes profileAttributes = annotationAttributes.getAnnotation("profile");
         builder.addPropertyValue("profiles", profileAttributes.getStringArray("value"));
         builder.addPropertyValue("enableExpressionCall", annotationAttributes.getBoolean("enableExpressionCall"));
+        AnnotationAttributes transferAttributes = annotationAttributes.getAnnotation("transfer");
+        builder.addPropertyValue("transferOptions",
+                new HttpTransferOptions(transferAttributes.getEnum("requestCoding"),
+                        transferAttributes.<Integer>getNumber("minCompressSize"),
+                        transferAttributes.getBoolean("decompressResponse"),
+                        transferAttributes.getBoolean("http2")));
         return SdkProxyBeanUtils.createBeanDefinitionHolderDistinguishScope(beanDefinition, beanName, alisaNames,
                 registry);
     }
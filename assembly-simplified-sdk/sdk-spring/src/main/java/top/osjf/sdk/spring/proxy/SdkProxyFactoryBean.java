@@ -28,11 +28,14 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
+import top.osjf.sdk.core.Request;
 import top.osjf.sdk.core.lang.NotNull;
 import top.osjf.sdk.core.lang.Nullable;
 import top.osjf.sdk.core.util.ArrayUtils;
 import top.osjf.sdk.core.util.internal.logging.InternalLogger;
 import top.osjf.sdk.core.util.internal.logging.InternalLoggerFactory;
+import top.osjf.sdk.http.AbstractHttpRequest;
+import top.osjf.sdk.http.client.HttpTransferOptions;
 import top.osjf.sdk.proxy.ComprehensiveDelegationCallback;
 import top.osjf.sdk.proxy.HandlerPostProcessor;
 import top.osjf.sdk.proxy.ProxyModel;
@@ -45,6 +48,7 @@ import top.osjf.sdk.spring.beans.DeterminantType;
 import top.osjf.sdk.spring.runner.SdkExpressRunner;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -155,6 +159,13 @@ public class SdkProxyFactoryBean
      */
     private boolean enableExpressionCall;
 
+    /**
+     * The transfer settings bound to the HTTP calls made by this proxy.
+     * @since 3.0.1
+     */
+    @Nullable
+    private HttpTransferOptions transferOptions;
+
     /**
      * Construct a {@code SdkProxyFactoryBean} instance to create
      * a proxy Bean of the specified type.
@@ -276,6 +287,20 @@ public class SdkProxyFactoryBean
         this.enableExpressionCall = enableExpressionCall;
     }
 
+    /**
+     * Set the transfer settings carried by the HTTP requests made by this proxy,
+     * which take precedence over {@code HttpClient#getTransferOptions()}.
+     * <p>They are set on the requests extending {@link AbstractHttpRequest} after the
+     * other {@code HandlerPostProcessor}s, so that they also reach the calls executed
+     * on another thread, such as batched calls.
+     *
+     * @param transferOptions the transfer settings of this proxy.
+     * @since 3.0.1
+     */
+    public void setTransferOptions(@Nullable HttpTransferOptions transferOptions) {
+        this.transferOptions = transferOptions;
+    }
+
     /**
      * Return the bean with the highest {@link Order} priority
      * after filtering and sorting the subclass beans of {@code DeterminantType}.
@@ -370,6 +395,15 @@ public class SdkProxyFactoryBean
             matchProfiles = environment.acceptsProfiles(Profiles.of(profiles));
         } else matchProfiles = true;
 
+        if (transferOptions != null) {
+            List<HandlerPostProcessor> postProcessors = new ArrayList<>();
+            if (getPostProcessors() != null) {
+                postProcessors.addAll(getPostProcessors());
+            }
+            postProcessors.add(new TransferOptionsPostProcessor(transferOptions));
+            super.setPostProcessors(postProcessors);
+        }
+
         if (initializingBean != null) {
             initializingBean.afterPropertiesSet();
         }
@@ -423,4 +457,32 @@ public class SdkProxyFactoryBean
                 && Objects.equals(getHost(), that.getHost())
                 && proxyModel == that.proxyModel;
     }
+
+    /**
+     * The {@code HandlerPostProcessor} setting the transfer settings of this proxy
+     * on its HTTP requests that carry none.
+     * @since 3.0.1
+     */
+    private static class TransferOptionsPostProcessor implements HandlerPostProcessor {
+
+        private final HttpTransferOptions transferOptions;
+
+        TransferOptionsPostProcessor(HttpTransferOptions transferOptions) {
+            this.transferOptions = transferOptions;
+        }
+
+        @Override
+        @NotNull
+        public Request<?> postProcessRequestBeforeHandle(@NotNull Request<?> request, @NotNull Method proxyMethod,
+                                                         @Nullable Object[] args,
+                                                         @NotNull PeculiarProxyVariable variable) {
+            if (request instanceof AbstractHttpRequest) {
+                AbstractHttpRequest<?> httpRequest = (AbstractHttpRequest<?>) request;
+                if (httpRequest.getTransferOptions() == null) {
+                    httpRequest.setTransferOptions(transferOptions);
+                }
+            }
+            return request;
+        }
+    }
 }
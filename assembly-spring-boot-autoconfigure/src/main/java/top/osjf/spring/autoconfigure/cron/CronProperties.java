@@ -17,13 +17,25 @@
 package top.osjf.spring.autoconfigure.cron;
 
 import com.cronutils.model.CronType;
+import it.sauronsoftware.cron4j.Scheduler;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import top.osjf.cron.core.lifecycle.SuperiorProperties;
+import top.osjf.cron.core.repository.AbstractCronListenerRepository;
+import top.osjf.cron.core.repository.AbstractCronTaskRepository;
+import top.osjf.cron.core.repository.ConcurrencyPolicy;
+import top.osjf.cron.core.repository.MisfirePolicy;
+import top.osjf.cron.core.repository.SpreadPolicy;
 import top.osjf.cron.cron4j.repository.Cron4jCronTaskRepository;
+import top.osjf.cron.datasource.driven.scheduled.AbstractDatasourceDrivenScheduled;
 import top.osjf.cron.datasource.driven.scheduled.Constants;
+import top.osjf.cron.datasource.driven.scheduled.JdbcOutboxChangeNotifier;
+import top.osjf.cron.datasource.driven.scheduled.external.file.ExternalFileTaskElementLoader;
 import top.osjf.cron.hutool.repository.HutoolCronTaskRepository;
+import top.osjf.cron.spring.CronTaskInfoReadableWebMvcHandlerController;
 import top.osjf.cron.spring.datasource.driven.scheduled.DataSource;
 import top.osjf.cron.spring.datasource.driven.scheduled.SpringDatasourceDrivenScheduled;
+import top.osjf.cron.spring.scheduler.RejectionPolicy;
+import top.osjf.cron.spring.scheduler.config.SchedulingRepositoryConfiguration;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -56,6 +68,26 @@ public class CronProperties {
      */
     private final Simple simple = new Simple();
 
+    /**
+     * @since 3.0.1
+     */
+    private final SpringScheduler springScheduler = new SpringScheduler();
+
+    /**
+     * @since 3.0.1
+     */
+    private final Misfire misfire = new Misfire();
+
+    /**
+     * @since 3.0.1
+     */
+    private final Spread spread = new Spread();
+
+    /**
+     * @since 3.0.1
+     */
+    private final Listener listener = new Listener();
+
     /**
      * @since 1.0.4
      */
@@ -70,6 +102,11 @@ public class CronProperties {
      */
     private WebRequestAuthentication webRequestAuthentication = new WebRequestAuthentication();
 
+    /**
+     * @see TaskList
+     */
+    private TaskList taskList = new TaskList();
+
     public void setClientType(ClientType clientType) {
         this.clientType = clientType;
     }
@@ -90,6 +127,22 @@ public class CronProperties {
         return simple;
     }
 
+    public SpringScheduler getSpringScheduler() {
+        return springScheduler;
+    }
+
+    public Misfire getMisfire() {
+        return misfire;
+    }
+
+    public Spread getSpread() {
+        return spread;
+    }
+
+    public Listener getListener() {
+        return listener;
+    }
+
     public ScheduledDriven getScheduledDriven() {
         return scheduledDriven;
     }
@@ -106,6 +159,14 @@ public class CronProperties {
         this.webRequestAuthentication = webRequestAuthentication;
     }
 
+    public TaskList getTaskList() {
+        return taskList;
+    }
+
+    public void setTaskList(TaskList taskList) {
+        this.taskList = taskList;
+    }
+
     /**
      * Hutool client properties.
      */
@@ -198,6 +259,7 @@ public class CronProperties {
          * @see org.quartz.impl.DirectSchedulerFactory
          * @see top.osjf.cron.quartz.repository.QuartzCronTaskRepository#PROP_NAME_OF_FACTORY_CLASS
          * @see top.osjf.cron.quartz.repository.QuartzCronTaskRepository#PROP_NAME_OF_IF_STOP_WAIT_JOB_COMPLETE
+         * @see top.osjf.cron.quartz.repository.QuartzCronTaskRepository#PROP_NAME_OF_USE_DATA_SOURCE
          */
         private final Map<String, String> properties = new HashMap<>();
 
@@ -236,6 +298,21 @@ public class CronProperties {
          */
         private TimeZone timezone = TimeZone.getDefault();
 
+        /**
+         * The size of the pool executing the launched tasks, 0 to spawn a new thread
+         * for every launch.
+         * @since 3.0.1
+         */
+        private int executorPoolSize = Cron4jCronTaskRepository.DEFAULT_EXECUTOR_POOL_SIZE;
+
+        /**
+         * The capacity of the queue of the launches waiting for a pooled thread, the
+         * launches finding it full being rejected as misfires. Only used with a positive
+         * executor pool size.
+         * @since 3.0.1
+         */
+        private int executorQueueCapacity = Scheduler.DEFAULT_EXECUTOR_QUEUE_CAPACITY;
+
         public boolean isDaemon() {
             return daemon;
         }
@@ -252,11 +329,30 @@ public class CronProperties {
             this.timezone = timezone;
         }
 
+        public int getExecutorPoolSize() {
+            return executorPoolSize;
+        }
+
+        public void setExecutorPoolSize(int executorPoolSize) {
+            this.executorPoolSize = executorPoolSize;
+        }
+
+        public int getExecutorQueueCapacity() {
+            return executorQueueCapacity;
+        }
+
+        public void setExecutorQueueCapacity(int executorQueueCapacity) {
+            this.executorQueueCapacity = executorQueueCapacity;
+        }
+
         @Override
         public SuperiorProperties get() {
             SuperiorProperties properties = SuperiorProperties.of();
             properties.addProperty(Cron4jCronTaskRepository.PROPERTY_NAME_OF_TIMEZONE, timezone);
             properties.addProperty(Cron4jCronTaskRepository.PROPERTY_NAME_OF_DAEMON, daemon);
+            properties.addProperty(Cron4jCronTaskRepository.PROPERTY_NAME_OF_EXECUTOR_POOL_SIZE, executorPoolSize);
+            properties.addProperty(Cron4jCronTaskRepository.PROPERTY_NAME_OF_EXECUTOR_QUEUE_CAPACITY,
+                    executorQueueCapacity);
             return properties;
         }
     }
@@ -293,6 +389,65 @@ public class CronProperties {
          */
         private TimeUnit awaitTerminationTimeoutUnit = TimeUnit.SECONDS;
 
+        /**
+         * Whether to schedule the tasks on a hierarchical timing wheel instead of
+         * the delay queue of a {@link java.util.concurrent.ScheduledThreadPoolExecutor},
+         * the tasks then run on {@link #poolCoreSize} threads.
+         * @since 3.0.1
+         */
+        private boolean timingWheel = false;
+
+        /**
+         * The tick duration of the timing wheel.
+         * @since 3.0.1
+         */
+        private long tickDuration = 100;
+
+        /**
+         * The tick duration unit of the timing wheel.
+         * @since 3.0.1
+         */
+        private TimeUnit tickDurationUnit = TimeUnit.MILLISECONDS;
+
+        /**
+         * The number of slots of each timing wheel.
+         * @since 3.0.1
+         */
+        private int ticksPerWheel = 512;
+
+        /**
+         * The number of worker threads executing the tasks apart from the scheduler
+         * threads, {@code 0} executes the tasks on the scheduler threads.
+         * @since 3.0.1
+         */
+        private int workerPoolSize = 0;
+
+        /**
+         * The queue capacity of the worker pool, {@code 0} means unbounded.
+         * @since 3.0.1
+         */
+        private int workerQueueCapacity = 1000;
+
+        /**
+         * Whether the worker pool starts a virtual thread for each execution, when
+         * the JDK supports them.
+         * @since 3.0.1
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * The policy applied when a task fires while its previous execution is running
+         * on the worker pool.
+         * @since 3.0.1
+         */
+        private ConcurrencyPolicy concurrencyPolicy = ConcurrencyPolicy.SKIP_IF_RUNNING;
+
+        /**
+         * The maximum number of fires of one task queued with {@link ConcurrencyPolicy#QUEUE}.
+         * @since 3.0.1
+         */
+        private int maxQueuedRuns = 1;
+
         public int getPoolCoreSize() {
             return poolCoreSize;
         }
@@ -332,6 +487,179 @@ public class CronProperties {
         public void setAwaitTerminationTimeoutUnit(TimeUnit awaitTerminationTimeoutUnit) {
             this.awaitTerminationTimeoutUnit = awaitTerminationTimeoutUnit;
         }
+
+        public boolean isTimingWheel() {
+            return timingWheel;
+        }
+
+        public void setTimingWheel(boolean timingWheel) {
+            this.timingWheel = timingWheel;
+        }
+
+        public long getTickDuration() {
+            return tickDuration;
+        }
+
+        public void setTickDuration(long tickDuration) {
+            this.tickDuration = tickDuration;
+        }
+
+        public TimeUnit getTickDurationUnit() {
+            return tickDurationUnit;
+        }
+
+        public void setTickDurationUnit(TimeUnit tickDurationUnit) {
+            this.tickDurationUnit = tickDurationUnit;
+        }
+
+        public int getTicksPerWheel() {
+            return ticksPerWheel;
+        }
+
+        public void setTicksPerWheel(int ticksPerWheel) {
+            this.ticksPerWheel = ticksPerWheel;
+        }
+
+        public int getWorkerPoolSize() {
+            return workerPoolSize;
+        }
+
+        public void setWorkerPoolSize(int workerPoolSize) {
+            this.workerPoolSize = workerPoolSize;
+        }
+
+        public int getWorkerQueueCapacity() {
+            return workerQueueCapacity;
+        }
+
+        public void setWorkerQueueCapacity(int workerQueueCapacity) {
+            this.workerQueueCapacity = workerQueueCapacity;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public ConcurrencyPolicy getConcurrencyPolicy() {
+            return concurrencyPolicy;
+        }
+
+        public void setConcurrencyPolicy(ConcurrencyPolicy concurrencyPolicy) {
+            this.concurrencyPolicy = concurrencyPolicy;
+        }
+
+        public int getMaxQueuedRuns() {
+            return maxQueuedRuns;
+        }
+
+        public void setMaxQueuedRuns(int maxQueuedRuns) {
+            this.maxQueuedRuns = maxQueuedRuns;
+        }
+    }
+
+    /**
+     * Properties related to the execution pool of spring scheduler client.
+     * @see SchedulingRepositoryConfiguration#PROPERTY_PREFIX
+     * @since 3.0.1
+     */
+    public static class SpringScheduler {
+
+        /**
+         * The number of worker threads executing the tasks apart from the trigger
+         * thread, {@code 0} executes the tasks on the trigger thread.
+         */
+        private int workerPoolSize = 0;
+
+        /**
+         * The queue capacity of the worker pool, {@code 0} means unbounded.
+         */
+        private int workerQueueCapacity = 1000;
+
+        /**
+         * Whether the worker pool starts a virtual thread for each execution, when
+         * the JDK supports them.
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * The policy applied when the worker pool rejects a fire.
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.DROP;
+
+        /**
+         * When stopping, whether to wait for the executions running on the worker pool.
+         */
+        private boolean awaitTermination = true;
+
+        /**
+         * The time waiting for the executions running on the worker pool.
+         */
+        private long awaitTerminationTimeout = 10;
+
+        /**
+         * The time unit waiting for the executions running on the worker pool.
+         */
+        private TimeUnit awaitTerminationTimeoutUnit = TimeUnit.SECONDS;
+
+        public int getWorkerPoolSize() {
+            return workerPoolSize;
+        }
+
+        public void setWorkerPoolSize(int workerPoolSize) {
+            this.workerPoolSize = workerPoolSize;
+        }
+
+        public int getWorkerQueueCapacity() {
+            return workerQueueCapacity;
+        }
+
+        public void setWorkerQueueCapacity(int workerQueueCapacity) {
+            this.workerQueueCapacity = workerQueueCapacity;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+
+        public boolean isAwaitTermination() {
+            return awaitTermination;
+        }
+
+        public void setAwaitTermination(boolean awaitTermination) {
+            this.awaitTermination = awaitTermination;
+        }
+
+        public long getAwaitTerminationTimeout() {
+            return awaitTerminationTimeout;
+        }
+
+        public void setAwaitTerminationTimeout(long awaitTerminationTimeout) {
+            this.awaitTerminationTimeout = awaitTerminationTimeout;
+        }
+
+        public TimeUnit getAwaitTerminationTimeoutUnit() {
+            return awaitTerminationTimeoutUnit;
+        }
+
+        public void setAwaitTerminationTimeoutUnit(TimeUnit awaitTerminationTimeoutUnit) {
+            this.awaitTerminationTimeoutUnit = awaitTerminationTimeoutUnit;
+        }
     }
 
     /**
@@ -382,11 +710,38 @@ public class CronProperties {
          */
         private String defaultMainTaskExpress = Constants.MANAGER_TASK_CHECK_FREQUENCY_CRON;
 
+        /**
+         * The number of task elements of a runtime check that are checked in parallel.
+         * @see AbstractDatasourceDrivenScheduled#setReconcileParallelism(int)
+         * @since 3.0.1
+         */
+        private int reconcileParallelism = 1;
+
+        /**
+         * The maximum number of task elements whose status is written back to the
+         * datasource in one batch.
+         * @see AbstractDatasourceDrivenScheduled#setWriteBackBatchSize(int)
+         * @since 3.0.1
+         */
+        private int writeBackBatchSize = AbstractDatasourceDrivenScheduled.DEFAULT_WRITE_BACK_BATCH_SIZE;
+
         /**
          * @see External
          */
         private External external = new External();
 
+        /**
+         * @see Incremental
+         * @since 3.0.1
+         */
+        private Incremental incremental = new Incremental();
+
+        /**
+         * @see Outbox
+         * @since 3.0.1
+         */
+        private Outbox outbox = new Outbox();
+
         public boolean isEnable() {
             return enable;
         }
@@ -435,6 +790,22 @@ public class CronProperties {
             this.defaultMainTaskExpress = defaultMainTaskExpress;
         }
 
+        public int getReconcileParallelism() {
+            return reconcileParallelism;
+        }
+
+        public void setReconcileParallelism(int reconcileParallelism) {
+            this.reconcileParallelism = reconcileParallelism;
+        }
+
+        public int getWriteBackBatchSize() {
+            return writeBackBatchSize;
+        }
+
+        public void setWriteBackBatchSize(int writeBackBatchSize) {
+            this.writeBackBatchSize = writeBackBatchSize;
+        }
+
         public External getExternal() {
             return external;
         }
@@ -443,6 +814,123 @@ public class CronProperties {
             this.external = external;
         }
 
+        public Incremental getIncremental() {
+            return incremental;
+        }
+
+        public void setIncremental(Incremental incremental) {
+            this.incremental = incremental;
+        }
+
+        public Outbox getOutbox() {
+            return outbox;
+        }
+
+        public void setOutbox(Outbox outbox) {
+            this.outbox = outbox;
+        }
+
+        /**
+         * Configuration items for change notifications through a JDBC outbox table.
+         * @see JdbcOutboxChangeNotifier
+         * @since 3.0.1
+         */
+        public static class Outbox {
+
+            /**
+             * Whether to check the tasks as soon as a row is added to the outbox table.
+             */
+            private boolean enable = false;
+
+            /**
+             * The name of the outbox table.
+             */
+            private String tableName = Constants.CHANGE_TABLE_NAME;
+
+            /**
+             * The interval in milliseconds between two polls of the outbox table.
+             */
+            private long pollInterval = JdbcOutboxChangeNotifier.DEFAULT_POLL_INTERVAL;
+
+            /**
+             * The retention in milliseconds of the rows of the outbox table, zero or negative
+             * to never delete rows.
+             */
+            private long retention = JdbcOutboxChangeNotifier.DEFAULT_RETENTION;
+
+            public boolean isEnable() {
+                return enable;
+            }
+
+            public void setEnable(boolean enable) {
+                this.enable = enable;
+            }
+
+            public String getTableName() {
+                return tableName;
+            }
+
+            public void setTableName(String tableName) {
+                this.tableName = tableName;
+            }
+
+            public long getPollInterval() {
+                return pollInterval;
+            }
+
+            public void setPollInterval(long pollInterval) {
+                this.pollInterval = pollInterval;
+            }
+
+            public long getRetention() {
+                return retention;
+            }
+
+            public void setRetention(long retention) {
+                this.retention = retention;
+            }
+        }
+
+        /**
+         * Configuration items for incremental runtime checks of database driven data sources.
+         * <p>
+         * This configuration is applicable to:
+         * <ul>
+         * <li>{@link DataSource#MY_BATIS_PLUS_ORM_DATABASE}</li>
+         * <li>{@link DataSource#SPRING_JPA_ORM_DATABASE}</li>
+         * </ul>
+         * @since 3.0.1
+         */
+        public static class Incremental {
+
+            /**
+             * Whether runtime checks only query the tasks changed since the previous check,
+             * which requires the {@link Constants#VERSION_COLUMN} column in the task table.
+             */
+            private boolean enable = false;
+
+            /**
+             * The interval in milliseconds between two full checks when checks are incremental.
+             */
+            private long fullReconcileInterval = AbstractDatasourceDrivenScheduled.DEFAULT_FULL_RECONCILE_INTERVAL;
+
+            public boolean isEnable() {
+                return enable;
+            }
+
+            public void setEnable(boolean enable) {
+                this.enable = enable;
+            }
+
+            public long getFullReconcileInterval() {
+                return fullReconcileInterval;
+            }
+
+            public void setFullReconcileInterval(long fullReconcileInterval) {
+                this.fullReconcileInterval = fullReconcileInterval;
+            }
+        }
+
         /**
          * Public configuration items for external configuration driven data sources.
          * <p>
@@ -465,6 +953,14 @@ public class CronProperties {
              */
             private String configFileName;
 
+            /**
+             * The interval in milliseconds to coalesce the status updates of task elements into
+             * one rewrite of the configuration file, {@code 0} to rewrite it on each update.
+             * @see ExternalFileTaskElementLoader#setWriteCoalescingInterval(long)
+             * @since 3.0.1
+             */
+            private long writeCoalescingInterval;
+
             public String getBaseDir() {
                 return baseDir;
             }
@@ -480,6 +976,157 @@ public class CronProperties {
             public void setConfigFileName(String configFileName) {
                 this.configFileName = configFileName;
             }
+
+            public long getWriteCoalescingInterval() {
+                return writeCoalescingInterval;
+            }
+
+            public void setWriteCoalescingInterval(long writeCoalescingInterval) {
+                this.writeCoalescingInterval = writeCoalescingInterval;
+            }
+        }
+    }
+
+    /**
+     * Misfire handling properties, shared by all the clients.
+     * @since 3.0.1
+     */
+    public static class Misfire {
+
+        /**
+         * The policy applied to the misfired tasks.
+         */
+        private MisfirePolicy policy = MisfirePolicy.FIRE_ONCE_NOW;
+
+        /**
+         * The delay after its fire time beyond which a fire is a misfire, in milliseconds.
+         */
+        private long threshold = AbstractCronTaskRepository.DEFAULT_MISFIRE_THRESHOLD;
+
+        /**
+         * The maximum number of runs of a task for one misfire with {@link MisfirePolicy#FIRE_ALL_MISSED}.
+         */
+        private int maxCatchUpRuns = AbstractCronTaskRepository.DEFAULT_MAX_CATCH_UP_RUNS;
+
+        public MisfirePolicy getPolicy() {
+            return policy;
+        }
+
+        public void setPolicy(MisfirePolicy policy) {
+            this.policy = policy;
+        }
+
+        public long getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(long threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getMaxCatchUpRuns() {
+            return maxCatchUpRuns;
+        }
+
+        public void setMaxCatchUpRuns(int maxCatchUpRuns) {
+            this.maxCatchUpRuns = maxCatchUpRuns;
+        }
+
+        /**
+         * Apply these properties to the given repository.
+         * @param repository the repository.
+         */
+        public void applyTo(AbstractCronTaskRepository repository) {
+            repository.setMisfirePolicy(policy);
+            repository.setMisfireThreshold(threshold);
+            repository.setMaxCatchUpRuns(maxCatchUpRuns);
+        }
+    }
+
+    /**
+     * Spread properties of the task fires, shared by all the clients but Quartz.
+     * @since 3.0.1
+     */
+    public static class Spread {
+
+        /**
+         * The window over which the fires of the tasks are spread, in milliseconds, 0 for none.
+         */
+        private long window = 0;
+
+        /**
+         * The policy choosing the offsets of the spread fires.
+         */
+        private SpreadPolicy policy = SpreadPolicy.HASH;
+
+        public long getWindow() {
+            return window;
+        }
+
+        public void setWindow(long window) {
+            this.window = window;
+        }
+
+        public SpreadPolicy getPolicy() {
+            return policy;
+        }
+
+        public void setPolicy(SpreadPolicy policy) {
+            this.policy = policy;
+        }
+
+        /**
+         * Apply these properties to the given repository.
+         * @param repository the repository.
+         */
+        public void applyTo(AbstractCronTaskRepository repository) {
+            repository.setSpreadWindow(window);
+            repository.setSpreadPolicy(policy);
+        }
+    }
+
+    /**
+     * Listener notification properties, shared by all the clients.
+     * @since 3.0.1
+     */
+    public static class Listener {
+
+        /**
+         * The queue capacity of the asynchronous listener dispatch, 0 to notify the
+         * listeners on the task thread.
+         */
+        private int asyncDispatchQueueCapacity = 0;
+
+        /**
+         * The time to wait for the queued listener events when the repository stops, in milliseconds.
+         */
+        private long asyncDrainTimeout = AbstractCronListenerRepository.DEFAULT_ASYNC_LISTENER_DRAIN_TIMEOUT;
+
+        public int getAsyncDispatchQueueCapacity() {
+            return asyncDispatchQueueCapacity;
+        }
+
+        public void setAsyncDispatchQueueCapacity(int asyncDispatchQueueCapacity) {
+            this.asyncDispatchQueueCapacity = asyncDispatchQueueCapacity;
+        }
+
+        public long getAsyncDrainTimeout() {
+            return asyncDrainTimeout;
+        }
+
+        public void setAsyncDrainTimeout(long asyncDrainTimeout) {
+            this.asyncDrainTimeout = asyncDrainTimeout;
+        }
+
+        /**
+         * Apply these properties to the given repository.
+         * @param repository the repository.
+         */
+        public void applyTo(AbstractCronListenerRepository repository) {
+            repository.setAsyncListenerDrainTimeout(asyncDrainTimeout);
+            if (asyncDispatchQueueCapacity > 0) {
+                repository.setAsyncListenerDispatchQueueCapacity(asyncDispatchQueueCapacity);
+            }
         }
     }
 
@@ -516,4 +1163,26 @@ public class CronProperties {
             this.token = token;
         }
     }
+
+    /**
+     * Task list web interface properties.
+     *
+     * @see CronTaskInfoReadableWebMvcHandlerController
+     */
+    public static class TaskList {
+
+        /**
+         * The maximum age in milliseconds for which a built task list is reused while
+         * no task was registered, updated or removed.
+         */
+        private long snapshotMaxAge = CronTaskInfoReadableWebMvcHandlerController.DEFAULT_SNAPSHOT_MAX_AGE;
+
+        public long getSnapshotMaxAge() {
+            return snapshotMaxAge;
+        }
+
+        public void setSnapshotMaxAge(long snapshotMaxAge) {
+            this.snapshotMaxAge = snapshotMaxAge;
+        }
+    }
 }
@@ -18,6 +18,7 @@ package top.osjf.spring.autoconfigure.cron;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -29,6 +30,7 @@ import org.springframework.context.annotation.ImportSelector;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.util.Assert;
 import top.osjf.cron.core.lang.NotNull;
+import top.osjf.cron.core.repository.AbstractCronTaskRepository;
 import top.osjf.cron.core.repository.CronTaskRepository;
 import top.osjf.cron.spring.annotation.Cron;
 import top.osjf.cron.spring.annotation.Crones;
@@ -67,6 +69,18 @@ public class CronTaskAutoConfiguration {
         return new CronTaskRepositorySmartLifecycle(cronTaskRepository);
     }
 
+    /**
+     * Apply the {@link CronProperties.Misfire} properties to the repository before it is
+     * initialized and any task is registered.
+     * @param cronProperties the provider of {@link CronProperties}.
+     * @return the {@code BeanPostProcessor} applying the misfire properties.
+     * @since 3.0.1
+     */
+    @Bean
+    public static CronMisfireBeanPostProcessor cronMisfireBeanPostProcessor(ObjectProvider<CronProperties> cronProperties) {
+        return new CronMisfireBeanPostProcessor(cronProperties);
+    }
+
     /**
      * Bean used to validate that a {@link CronTaskRepository} exists and provide a more meaningful
      * exception.
@@ -112,6 +126,32 @@ public class CronTaskAutoConfiguration {
 
     }
 
+    /**
+     * {@link BeanPostProcessor} applying the {@link CronProperties.Misfire},
+     * {@link CronProperties.Spread} and {@link CronProperties.Listener} properties to the
+     * {@link AbstractCronTaskRepository} beans.
+     * @since 3.0.1
+     */
+    static class CronMisfireBeanPostProcessor implements BeanPostProcessor {
+
+        private final ObjectProvider<CronProperties> cronProperties;
+
+        public CronMisfireBeanPostProcessor(ObjectProvider<CronProperties> cronProperties) {
+            this.cronProperties = cronProperties;
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(@NotNull Object bean, @NotNull String beanName) {
+            if (bean instanceof AbstractCronTaskRepository) {
+                CronProperties properties = cronProperties.getObject();
+                properties.getMisfire().applyTo((AbstractCronTaskRepository) bean);
+                properties.getSpread().applyTo((AbstractCronTaskRepository) bean);
+                properties.getListener().applyTo((AbstractCronTaskRepository) bean);
+            }
+            return bean;
+        }
+    }
+
     /**
      * {@link CronTaskRepository}'s intelligent lifecycle manager.
      * @since 3.0.1
@@ -49,6 +49,10 @@ class QuartzCronConfiguration {
     public SuperiorProperties quartzProperties(ObjectProvider<List<QuartzPropertiesCustomizer>> provider,
                                                CronProperties cronProperties) {
         SuperiorProperties properties = cronProperties.getQuartz().get();
+        if (properties.getProperty(QuartzCronTaskRepository.PROP_MISFIRE_THRESHOLD) == null) {
+            properties.addProperty(QuartzCronTaskRepository.PROP_MISFIRE_THRESHOLD,
+                    Long.toString(cronProperties.getMisfire().getThreshold()));
+        }
         provider.orderedStream()
                 .forEach(customizers -> customizers.forEach(c -> c.customize(properties)));
         return properties;
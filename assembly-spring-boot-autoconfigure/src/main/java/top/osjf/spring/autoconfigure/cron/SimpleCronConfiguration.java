@@ -23,7 +23,9 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import top.osjf.cron.core.repository.CronTaskRepository;
+import top.osjf.cron.core.repository.CronWorkerExecutors;
 import top.osjf.cron.core.repository.SimpleCronTaskRepository;
+import top.osjf.cron.core.repository.TimingWheelScheduledExecutorService;
 import top.osjf.cron.spring.AbstractCronTaskConfiguration;
 import top.osjf.cron.spring.CronTaskConfiguration;
 import top.osjf.cron.spring.annotation.CronRepositoryBean;
@@ -52,6 +54,15 @@ class SimpleCronConfiguration {
         repository.setAwaitTermination(simple.isAwaitTermination());
         repository.setAwaitTerminationTimeout(simple.getAwaitTerminationTimeout());
         repository.setAwaitTerminationTimeoutUnit(simple.getAwaitTerminationTimeoutUnit());
+        if (simple.isVirtualThreads()) {
+            repository.setTaskExecutor(CronWorkerExecutors.newVirtualThreadOrFixedWorkerExecutor(
+                    Math.max(1, simple.getWorkerPoolSize()), simple.getWorkerQueueCapacity()));
+        } else if (simple.getWorkerPoolSize() > 0) {
+            repository.setTaskExecutor(CronWorkerExecutors.newFixedWorkerExecutor(simple.getWorkerPoolSize(),
+                    simple.getWorkerQueueCapacity()));
+        }
+        repository.setConcurrencyPolicy(simple.getConcurrencyPolicy());
+        repository.setMaxQueuedRuns(simple.getMaxQueuedRuns());
         return repository;
     }
 
@@ -59,6 +70,10 @@ class SimpleCronConfiguration {
     @ConditionalOnMissingBean
     public ScheduledExecutorService scheduledExecutorService(CronProperties cronProperties) {
         CronProperties.Simple simple = cronProperties.getSimple();
+        if (simple.isTimingWheel()) {
+            return new TimingWheelScheduledExecutorService(simple.getTickDuration(), simple.getTickDurationUnit(),
+                    simple.getTicksPerWheel(), Executors.newFixedThreadPool(simple.getPoolCoreSize()));
+        }
         return Executors.newScheduledThreadPool(simple.getPoolCoreSize());
     }
 
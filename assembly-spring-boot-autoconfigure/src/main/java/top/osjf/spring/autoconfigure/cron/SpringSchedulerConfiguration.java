@@ -31,6 +31,7 @@ import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProc
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.TaskManagementConfigUtils;
 import top.osjf.cron.core.repository.CronTaskRepository;
+import top.osjf.cron.core.repository.CronWorkerExecutors;
 import top.osjf.cron.spring.AbstractCronTaskConfiguration;
 import top.osjf.cron.spring.scheduler.SpringSchedulerTaskRepository;
 import top.osjf.cron.spring.scheduler.config.EnableScheduling;
@@ -68,8 +69,22 @@ class SpringSchedulerConfiguration {
 
         @Bean(ScheduledAnnotationBeanPostProcessor.DEFAULT_TASK_SCHEDULER_BEAN_NAME)
         public SpringSchedulerTaskRepository springSchedulerTaskRepository(
-                @Qualifier(SchedulingRepositoryConfiguration.TASK_SCHEDULER_INTERNAL_BEAN_NAME) TaskScheduler taskScheduler) {
-            return new SpringSchedulerTaskRepository(taskScheduler);
+                @Qualifier(SchedulingRepositoryConfiguration.TASK_SCHEDULER_INTERNAL_BEAN_NAME) TaskScheduler taskScheduler,
+                CronProperties cronProperties) {
+            CronProperties.SpringScheduler springScheduler = cronProperties.getSpringScheduler();
+            SpringSchedulerTaskRepository repository = new SpringSchedulerTaskRepository(taskScheduler);
+            if (springScheduler.isVirtualThreads()) {
+                repository.setTaskExecutor(CronWorkerExecutors.newVirtualThreadOrFixedWorkerExecutor(
+                        Math.max(1, springScheduler.getWorkerPoolSize()), springScheduler.getWorkerQueueCapacity()));
+            } else if (springScheduler.getWorkerPoolSize() > 0) {
+                repository.setTaskExecutor(CronWorkerExecutors.newFixedWorkerExecutor(
+                        springScheduler.getWorkerPoolSize(), springScheduler.getWorkerQueueCapacity()));
+            }
+            repository.setRejectionPolicy(springScheduler.getRejectionPolicy());
+            repository.setAwaitTermination(springScheduler.isAwaitTermination());
+            repository.setAwaitTerminationTimeout(springScheduler.getAwaitTerminationTimeout());
+            repository.setAwaitTerminationTimeoutUnit(springScheduler.getAwaitTerminationTimeoutUnit());
+            return repository;
         }
     }
 }
@@ -27,10 +27,12 @@ import org.springframework.context.annotation.ImportSelector;
 import org.springframework.core.type.AnnotationMetadata;
 import top.osjf.cron.core.lang.NotNull;
 import top.osjf.cron.datasource.driven.scheduled.DatasourceTaskElementsOperation;
+import top.osjf.cron.datasource.driven.scheduled.JdbcOutboxChangeNotifier;
 import top.osjf.cron.datasource.driven.scheduled.NoOpDatasourceTaskElementsOperation;
 import top.osjf.cron.spring.annotation.DatasourceDrivenScheduledConfiguration;
 import top.osjf.cron.spring.datasource.driven.scheduled.DataSource;
 import top.osjf.cron.spring.datasource.driven.scheduled.SpringDatasourceDrivenScheduled;
+import top.osjf.spring.autoconfigure.cron.CronProperties;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for {@link SpringDatasourceDrivenScheduled}.
@@ -58,6 +60,24 @@ public class DatasourceDrivenScheduledAutoConfiguration {
         return new NoOpDatasourceTaskElementsOperation();
     }
 
+    /**
+     * @param dataSource     the {@code javax.sql.DataSource} of the outbox table.
+     * @param cronProperties the cron properties.
+     * @return A {@link JdbcOutboxChangeNotifier} notifying changes recorded in the outbox table.
+     * @since 3.0.1
+     */
+    @Bean
+    @ConditionalOnMissingBean(JdbcOutboxChangeNotifier.class)
+    @ConditionalOnProperty(prefix = "spring.schedule.cron", name = "scheduled-driven.outbox.enable", havingValue = "true")
+    public JdbcOutboxChangeNotifier jdbcOutboxChangeNotifier(javax.sql.DataSource dataSource,
+                                                             CronProperties cronProperties) {
+        CronProperties.ScheduledDriven.Outbox outbox = cronProperties.getScheduledDriven().getOutbox();
+        JdbcOutboxChangeNotifier notifier = new JdbcOutboxChangeNotifier(dataSource, outbox.getTableName());
+        notifier.setPollInterval(outbox.getPollInterval());
+        notifier.setRetention(outbox.getRetention());
+        return notifier;
+    }
+
     /**
      * {@link ImportSelector} to add {@link DataSource} configuration classes.
      * @since 1.0.4